@@ -122,3 +122,90 @@ REFERENCES authors(`author_id`)
 ON UPDATE RESTRICT
 ON DELETE RESTRICT
 )ENGINE=InnoDB DEFAULT CHAR SET=utf8;
+
+
+CREATE TABLE IF NOT EXISTS `email_outbox`(
+`outbox_id` INT NOT NULL AUTO_INCREMENT,
+`version` INT(11) NOT NULL,
+`announcement_fk_id` INT(11) NOT NULL,
+`status` VARCHAR(16) NOT NULL,
+`attempts` INT(11) NOT NULL,
+`next_attempt_at` DATETIME NOT NULL,
+`created_at` DATETIME NOT NULL,
+`last_error` VARCHAR(255),
+PRIMARY KEY(`outbox_id`),
+INDEX `email_outbox_due_idx` (`status`, `next_attempt_at`)
+)ENGINE=InnoDB DEFAULT CHAR SET=utf8;
+
+
+CREATE INDEX `announcements_publication_date_idx`
+ON `announcements` (`publication_date`, `announcement_id`);
+
+
+CREATE INDEX `announcements_active_idx`
+ON `announcements` (`active`, `announcement_id`);
+
+
+CREATE TABLE IF NOT EXISTS `purge_checkpoints`(
+`job_name` VARCHAR(64) NOT NULL,
+`version` INT(11) NOT NULL,
+`last_id` INT(11) NOT NULL,
+`deleted` BIGINT NOT NULL,
+`started_at` DATETIME,
+`updated_at` DATETIME,
+PRIMARY KEY(`job_name`)
+)ENGINE=InnoDB DEFAULT CHAR SET=utf8;
+
+
+ALTER TABLE `announcements` ADD COLUMN `expires_at` DATETIME;
+
+UPDATE `announcements`
+SET `expires_at` = `publication_date` + INTERVAL 90 DAY
+WHERE `expires_at` IS NULL;
+
+CREATE INDEX `announcements_expires_at_idx`
+ON `announcements` (`expires_at`, `announcement_id`);
+
+
+CREATE TABLE IF NOT EXISTS `announcements_archive`(
+`announcement_id` INT NOT NULL,
+`version` INT(11) NOT NULL,
+`name` VARCHAR(255) NOT NULL,
+`publication_date` DATE,
+`revelation_text` VARCHAR(255) NOT NULL,
+`active` BIT(1) NOT NULL,
+`service_cost` DECIMAL(19,5),
+`heading_fk_id` INT(11),
+`author_fk_id` INT(11),
+`expires_at` DATETIME NOT NULL,
+`archived_at` DATETIME NOT NULL,
+PRIMARY KEY(`announcement_id`, `expires_at`)
+)ENGINE=InnoDB DEFAULT CHAR SET=utf8
+PARTITION BY RANGE (TO_DAYS(`expires_at`)) (
+PARTITION `p_future` VALUES LESS THAN MAXVALUE
+);
+
+
+CREATE TABLE IF NOT EXISTS `job_leases`(
+`job_name` VARCHAR(64) NOT NULL,
+`owner` VARCHAR(255) NOT NULL,
+`locked_until` DATETIME(3) NOT NULL,
+PRIMARY KEY(`job_name`)
+)ENGINE=InnoDB DEFAULT CHAR SET=utf8;
+
+
+CREATE TABLE IF NOT EXISTS `job_runs`(
+`job_run_id` INT(11) NOT NULL AUTO_INCREMENT,
+`job_name` VARCHAR(64) NOT NULL,
+`owner` VARCHAR(255) NOT NULL,
+`status` VARCHAR(255) NOT NULL,
+`started_at` DATETIME NOT NULL,
+`finished_at` DATETIME,
+`duration_ms` BIGINT NOT NULL,
+`rows_affected` BIGINT NOT NULL,
+`error` VARCHAR(255),
+PRIMARY KEY(`job_run_id`)
+)ENGINE=InnoDB DEFAULT CHAR SET=utf8;
+
+CREATE INDEX `job_runs_job_name_idx`
+ON `job_runs` (`job_name`, `job_run_id`);
@@ -0,0 +1,120 @@
+package com.benchmark;
+
+import com.domain.Address;
+import com.domain.Announcement;
+import com.domain.Author;
+import com.domain.Email;
+import com.domain.Heading;
+import com.domain.Phone;
+import com.domain.Role;
+import com.domain.SuitableAd;
+import com.domain.enums.ROLE;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class {@link BenchmarkData} creates entities which are used by
+ * benchmarks, they are filled as real ones and pass validation.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+public final class BenchmarkData {
+
+    /**
+     * This is constant with id of the author.
+     */
+    private static final int AUTHOR_ID = 42;
+
+    /**
+     * This is constant with price of the announcements.
+     */
+    private static final int PRICE = 15000;
+
+    /**
+     * This is private constructor, the class has only static methods.
+     */
+    private BenchmarkData() {
+    }
+
+    /**
+     * This method creates {@link Heading}.
+     *
+     * @return {@link Heading}.
+     */
+    public static Heading heading() {
+        return new Heading(1, 0, "Cars");
+    }
+
+    /**
+     * This method creates active {@link Author} with a role, a phone,
+     * an address and an email.
+     *
+     * @return {@link Author}.
+     */
+    public static Author author() {
+        Author author = new Author();
+        author.setId(AUTHOR_ID);
+        author.setName("Yuriy");
+        author.setLastName("Bahlay");
+        author.setPassword("secret-password");
+        author.setActive(true);
+        author.getRoles().add(new Role(1, ROLE.ROLE_USER));
+        author.getPhones().add(new Phone(1, 0, "+380501234567", author));
+        author.getAddresses().add(new Address(1, 0, "Lviv", author));
+        author.getEmails().add(new Email(1, 0, "yuriy@gmail.com", author));
+        return author;
+    }
+
+    /**
+     * This method creates {@link Announcement} with the id.
+     *
+     * @param id id of the announcement.
+     * @return {@link Announcement}.
+     */
+    public static Announcement announcement(final int id) {
+        return Announcement.builder()
+                .id(id)
+                .name("Volvo XC90")
+                .revelationText("Volvo XC90 2015, one owner, good condition")
+                .publicationDate(LocalDate.now())
+                .active(true)
+                .serviceCost(BigDecimal.valueOf(PRICE))
+                .heading(heading())
+                .author(author())
+                .build();
+    }
+
+    /**
+     * This method creates list of announcements.
+     *
+     * @param size size of the list.
+     * @return {@link List<Announcement>}.
+     */
+    public static List<Announcement> announcements(final int size) {
+        List<Announcement> announcements = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            announcements.add(announcement(i));
+        }
+        return announcements;
+    }
+
+    /**
+     * This method creates {@link SuitableAd}.
+     *
+     * @return {@link SuitableAd}.
+     */
+    public static SuitableAd suitableAd() {
+        return SuitableAd.builder()
+                .id(1)
+                .category("Cars")
+                .title("Volvo")
+                .priceFrom(BigDecimal.ONE)
+                .priceTo(BigDecimal.valueOf(PRICE))
+                .author(author())
+                .build();
+    }
+}
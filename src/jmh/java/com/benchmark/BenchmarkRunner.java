@@ -0,0 +1,43 @@
+package com.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Class {@link BenchmarkRunner} runs benchmarks of src/jmh/java with
+ * {@link GCProfiler}, so every result has allocation rate per operation
+ * (gc.alloc.rate.norm) next to its time. Arguments are regular
+ * expressions of benchmarks to run, all benchmarks are run without them.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * This is private constructor, the class has only main method.
+     */
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * This is main method which runs benchmarks.
+     *
+     * @param args regular expressions of benchmarks.
+     * @throws RunnerException if a benchmark fails.
+     */
+    public static void main(final String[] args) throws RunnerException {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .addProfiler(GCProfiler.class);
+        if (args.length == 0) {
+            options.include("com\\..*Benchmark");
+        }
+        for (String include : args) {
+            options.include(include);
+        }
+        new Runner(options.build()).run();
+    }
+}
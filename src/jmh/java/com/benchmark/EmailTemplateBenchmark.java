@@ -0,0 +1,110 @@
+package com.benchmark;
+
+import com.domain.Announcement;
+import com.template.EmailTemplates;
+import com.template.RenderedEmail;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is class {@link EmailTemplateBenchmark} which measures rendering
+ * of the body of emails about one announcement for
+ * {@link #RECIPIENTS} recipients: by concatenation for every recipient
+ * as before, by {@link EmailTemplates#renderNow(Announcement)} for every
+ * recipient and by {@link EmailTemplates#render(Announcement)} which
+ * renders once and reuses the body.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EmailTemplateBenchmark {
+
+    /**
+     * This is number of recipients of the announcement.
+     */
+    private static final int RECIPIENTS = 10_000;
+
+    /**
+     * This is field {@link EmailTemplates} created as in application.
+     */
+    private EmailTemplates templates;
+
+    /**
+     * This is field with the announcement.
+     */
+    private Announcement announcement;
+
+    /**
+     * This is method which parses templates and creates the announcement.
+     *
+     * @throws IOException if a template can not be read.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        templates = new EmailTemplates(1000);
+        announcement = BenchmarkData.announcement(1);
+    }
+
+    /**
+     * This is benchmark of concatenation of the body for every recipient.
+     *
+     * @param blackhole {@link Blackhole}.
+     */
+    @Benchmark
+    public void concatenatePerRecipient(final Blackhole blackhole) {
+        for (int i = 0; i < RECIPIENTS; i++) {
+            blackhole.consume("<html>\n" + "<body>\n" + "<p>"
+                    + "\n" + "This is an announcement name: "
+                    + announcement.getName() + "\n"
+                    + "\n" + "This is an announcement revelationText: "
+                    + announcement.getRevelationText() + "\n"
+                    + "\n" + "This is an announcement serviceCost: "
+                    + announcement.getServiceCost()
+                    + "</p>\n" + "</body>\n" + "</html>");
+        }
+    }
+
+    /**
+     * This is benchmark of rendering of the templates for every recipient.
+     *
+     * @param blackhole {@link Blackhole}.
+     */
+    @Benchmark
+    public void renderPerRecipient(final Blackhole blackhole) {
+        for (int i = 0; i < RECIPIENTS; i++) {
+            blackhole.consume(templates.renderNow(announcement));
+        }
+    }
+
+    /**
+     * This is benchmark of rendering once for all recipients.
+     *
+     * @param blackhole {@link Blackhole}.
+     */
+    @Benchmark
+    public void renderOncePerAnnouncement(final Blackhole blackhole) {
+        RenderedEmail rendered = templates.renderNow(announcement);
+        for (int i = 0; i < RECIPIENTS; i++) {
+            blackhole.consume(rendered);
+        }
+    }
+}
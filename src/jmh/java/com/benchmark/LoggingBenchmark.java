@@ -0,0 +1,124 @@
+package com.benchmark;
+
+import com.constant.LoggerConstants;
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is class {@link LoggingBenchmark} which measures latency of
+ * a request which logs as controllers and services do: one message of
+ * level INFO and one of level DEBUG. Every mode runs in own JVM, because
+ * logging is set up once when the first logger is created:
+ * async - asynchronous loggers of log4j2.component.properties, sync -
+ * the same appender written by the thread of the request, location - async
+ * with location of the call, off - logging is turned off. The log is
+ * written to a temporary file which is deleted after the run.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LoggingBenchmark {
+
+    /**
+     * This is system property which chooses selector of logger contexts.
+     */
+    private static final String CONTEXT_SELECTOR = "log4j2.contextSelector";
+
+    /**
+     * This is selector of synchronous logger contexts.
+     */
+    private static final String SYNC_SELECTOR = "org.apache.logging.log4j"
+            + ".core.selector.ClassLoaderContextSelector";
+
+    /**
+     * This is mode of logging.
+     */
+    @Param({"async", "sync", "location", "off"})
+    private String mode;
+
+    /**
+     * This is field with file of the log.
+     */
+    private File file;
+
+    /**
+     * This is field {@link Logger} used by the requests.
+     */
+    private Logger logger;
+
+    /**
+     * This is field with id of the found announcement.
+     */
+    private int id;
+
+    /**
+     * This is method which sets up logging of the mode before
+     * the first logger is created.
+     *
+     * @throws IOException if the file of the log can not be created.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        file = File.createTempFile("logging-benchmark", ".log");
+        System.setProperty("log.file", file.getAbsolutePath());
+        if ("sync".equals(mode)) {
+            System.setProperty(CONTEXT_SELECTOR, SYNC_SELECTOR);
+        } else if ("location".equals(mode)) {
+            System.setProperty("log.include_location", "true");
+        } else if ("off".equals(mode)) {
+            System.setProperty("log.level", "OFF");
+        }
+        logger = Logger.getLogger(LoggingBenchmark.class);
+        id = BenchmarkData.announcement(1).getId();
+    }
+
+    /**
+     * This is method which writes the rest of the log and deletes it.
+     */
+    @TearDown
+    public void tearDown() {
+        LogManager.shutdown();
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    /**
+     * This is benchmark of the logging of one request.
+     *
+     * @return id of the announcement.
+     */
+    @Benchmark
+    public int request() {
+        logger.info(LoggerConstants.ANNOUNCEMENT_FOUND + id);
+        if (logger.isDebugEnabled()) {
+            logger.debug(LoggerConstants.ANNOUNCEMENT_FOUND + id);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,259 @@
+package com.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is class {@link ReadLoadTest} which loads a running application
+ * with concurrent GET requests to a read endpoint and prints throughput,
+ * answers by status and latency of every stage and the best throughput
+ * of the stages where almost all requests succeeded. It is run against
+ * the same server with different settings, e.g. {@code async.enabled}
+ * or {@code threads.mode}, to compare them. With virtual threads compare
+ * also JDBC drivers: a driver which does its I/O inside synchronized
+ * blocks, e.g. mysql-connector-java 8.0.18, pins carrier threads and
+ * gives the throughput of platform threads.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+public final class ReadLoadTest {
+
+    /**
+     * This is default numbers of the concurrent clients of the stages.
+     */
+    private static final String CLIENTS = "50,100,200,400,800";
+
+    /**
+     * This is maximum part of failed requests of a sustainable stage.
+     */
+    private static final double MAX_ERROR_RATIO = 0.01;
+
+    /**
+     * This is default duration of a stage in seconds.
+     */
+    private static final int SECONDS = 30;
+
+    /**
+     * This is timeout of connecting and reading in milliseconds.
+     */
+    private static final int TIMEOUT_MS = 30000;
+
+    /**
+     * This is size of the buffer for reading the answer.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * This is status of the answer when request failed with exception.
+     */
+    private static final int IO_ERROR = -1;
+
+    /**
+     * This is private constructor, the class has only main method.
+     */
+    private ReadLoadTest() {
+    }
+
+    /**
+     * This is main method which runs the load test by stages, every stage
+     * with more clients. Clients are {@code load.clients}, comma separated
+     * numbers of the stages, and duration of a stage in seconds is
+     * {@code load.seconds}.
+     *
+     * @param args url of the endpoint.
+     * @throws Exception if the test is interrupted.
+     */
+    public static void main(final String[] args) throws Exception {
+        if (args.length == 0) {
+            System.out.println("Usage: ReadLoadTest <url>");
+            return;
+        }
+        URL url = new URL(args[0]);
+        int seconds = Integer.getInteger("load.seconds", SECONDS);
+        double best = 0;
+        for (String stage : System.getProperty("load.clients", CLIENTS)
+                .split(",")) {
+            int clients = Integer.parseInt(stage.trim());
+            System.out.println("clients: " + clients);
+            double throughput = run(url, clients, seconds);
+            if (throughput > best) {
+                best = throughput;
+            }
+        }
+        System.out.printf("max sustainable throughput: %.1f req/s%n", best);
+    }
+
+    /**
+     * This method runs one stage of the load test and prints its results.
+     *
+     * @param url     url of the endpoint.
+     * @param clients number of the concurrent clients.
+     * @param seconds duration of the stage in seconds.
+     * @return throughput of successful requests per second, it is 0 when
+     * more than {@link #MAX_ERROR_RATIO} of requests failed.
+     * @throws InterruptedException if the stage is interrupted.
+     */
+    private static double run(final URL url, final int clients,
+                              final int seconds)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        List<Client> started = new ArrayList<>();
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        for (int i = 0; i < clients; i++) {
+            Client client = new Client(url, deadline);
+            started.add(client);
+            pool.execute(client);
+        }
+        pool.shutdown();
+        pool.awaitTermination(seconds + TIMEOUT_MS / 1000 + 1,
+                TimeUnit.SECONDS);
+        return report(started, seconds);
+    }
+
+    /**
+     * This method prints the results of all clients of the stage.
+     *
+     * @param clients {@link List<Client>}.
+     * @param seconds duration of the stage in seconds.
+     * @return throughput of successful requests per second, it is 0 when
+     * more than {@link #MAX_ERROR_RATIO} of requests failed.
+     */
+    private static double report(final List<Client> clients,
+                                 final int seconds) {
+        Map<Integer, Integer> statuses = new TreeMap<>();
+        List<Long> latencies = new ArrayList<>();
+        for (Client client : clients) {
+            client.statuses.forEach((status, count) ->
+                    statuses.merge(status, count, Integer::sum));
+            latencies.addAll(client.latencies);
+        }
+        int failed = 0;
+        for (Map.Entry<Integer, Integer> entry : statuses.entrySet()) {
+            int status = entry.getKey();
+            if (status == IO_ERROR
+                    || status >= HttpURLConnection.HTTP_INTERNAL_ERROR) {
+                failed += entry.getValue();
+            }
+        }
+        Collections.sort(latencies);
+        double throughput = (double) (latencies.size() - failed) / seconds;
+        System.out.printf("requests: %d, throughput: %.1f req/s%n",
+                latencies.size(), throughput);
+        System.out.println("statuses: " + statuses);
+        if (!latencies.isEmpty()) {
+            System.out.printf("latency ms: p50 %.1f, p99 %.1f, max %.1f%n",
+                    percentile(latencies, 0.5), percentile(latencies, 0.99),
+                    percentile(latencies, 1));
+        }
+        return failed > latencies.size() * MAX_ERROR_RATIO ? 0 : throughput;
+    }
+
+    /**
+     * This method returns percentile of the sorted latencies.
+     *
+     * @param sorted   sorted latencies in nanoseconds.
+     * @param fraction fraction of the percentile.
+     * @return latency in milliseconds.
+     */
+    private static double percentile(final List<Long> sorted,
+                                     final double fraction) {
+        int index = (int) Math.ceil(fraction * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0)) / 1e6;
+    }
+
+    /**
+     * Class {@link Client} sends requests one after another until
+     * the deadline and remembers their statuses and latencies.
+     */
+    private static final class Client implements Runnable {
+
+        /**
+         * Field with url of the endpoint.
+         */
+        private final URL url;
+
+        /**
+         * Field with deadline by {@link System#nanoTime()}.
+         */
+        private final long deadline;
+
+        /**
+         * Field with number of answers by status.
+         */
+        private final Map<Integer, Integer> statuses = new TreeMap<>();
+
+        /**
+         * Field with latencies of requests in nanoseconds.
+         */
+        private final List<Long> latencies = new ArrayList<>();
+
+        /**
+         * This is constructor {@link Client}.
+         *
+         * @param endpoint      url of the endpoint.
+         * @param deadlineNanos deadline by {@link System#nanoTime()}.
+         */
+        private Client(final URL endpoint, final long deadlineNanos) {
+            this.url = endpoint;
+            this.deadline = deadlineNanos;
+        }
+
+        /**
+         * This method sends requests until the deadline.
+         */
+        @Override
+        public void run() {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long start = System.nanoTime();
+            while (start < deadline) {
+                int status = send(buffer);
+                long end = System.nanoTime();
+                statuses.merge(status, 1, Integer::sum);
+                latencies.add(end - start);
+                start = end;
+            }
+        }
+
+        /**
+         * This method sends one request and reads the whole answer,
+         * so the connection is kept alive for the next request.
+         *
+         * @param buffer buffer for reading the answer.
+         * @return status of the answer or {@link #IO_ERROR}.
+         */
+        private int send(final byte[] buffer) {
+            try {
+                HttpURLConnection connection =
+                        (HttpURLConnection) url.openConnection();
+                connection.setConnectTimeout(TIMEOUT_MS);
+                connection.setReadTimeout(TIMEOUT_MS);
+                connection.setInstanceFollowRedirects(false);
+                int status = connection.getResponseCode();
+                InputStream body = status < HttpURLConnection.HTTP_BAD_REQUEST
+                        ? connection.getInputStream()
+                        : connection.getErrorStream();
+                if (body != null) {
+                    try (InputStream in = body) {
+                        while (in.read(buffer) != -1) {
+                            continue;
+                        }
+                    }
+                }
+                return status;
+            } catch (IOException e) {
+                return IO_ERROR;
+            }
+        }
+    }
+}
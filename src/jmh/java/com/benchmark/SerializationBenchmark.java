@@ -0,0 +1,92 @@
+package com.benchmark;
+
+import com.domain.Announcement;
+import com.dto.AnnouncementDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is class {@link SerializationBenchmark} which measures Jackson
+ * serialization of lists of {@link AnnouncementDto} which are returned
+ * by list endpoints of announcements.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SerializationBenchmark {
+
+    /**
+     * This is field with number of announcements in the list.
+     */
+    @Param({"20", "100"})
+    private int size;
+
+    /**
+     * This is field {@link ObjectWriter} of list of announcements.
+     */
+    private ObjectWriter writer;
+
+    /**
+     * This is field with list of announcements.
+     */
+    private List<AnnouncementDto> announcements;
+
+    /**
+     * This is method which creates writer and announcements.
+     */
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule());
+        writer = mapper.writerFor(mapper.getTypeFactory()
+                .constructCollectionType(List.class, AnnouncementDto.class));
+        announcements = new ArrayList<>(size);
+        for (Announcement announcement : BenchmarkData.announcements(size)) {
+            announcements.add(AnnouncementDto.builder()
+                    .id(announcement.getId())
+                    .name(announcement.getName())
+                    .revelationText(announcement.getRevelationText())
+                    .publicationDate(announcement.getPublicationDate())
+                    .active(announcement.isActive())
+                    .serviceCost(announcement.getServiceCost())
+                    .heading(announcement.getHeading())
+                    .author(announcement.getAuthor().getId())
+                    .build());
+        }
+    }
+
+    /**
+     * This is benchmark of serialization of the list to bytes.
+     *
+     * @return JSON bytes.
+     * @throws IOException can throw.
+     */
+    @Benchmark
+    public byte[] serializeList() throws IOException {
+        return writer.writeValueAsBytes(announcements);
+    }
+}
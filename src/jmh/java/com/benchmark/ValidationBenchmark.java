@@ -0,0 +1,102 @@
+package com.benchmark;
+
+import com.config.ValidatorConfig;
+import com.domain.Announcement;
+import com.domain.Author;
+import com.dto.AnnouncementDto;
+import com.dto.AuthorDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is class {@link ValidationBenchmark} which measures
+ * {@link Validator#validate(Object, Class[])} of DTOs which controllers
+ * validate on every POST and PUT.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ValidationBenchmark {
+
+    /**
+     * This is field {@link Validator} created as in application.
+     */
+    private Validator validator;
+
+    /**
+     * This is field with valid announcement.
+     */
+    private AnnouncementDto announcementDto;
+
+    /**
+     * This is field with valid author.
+     */
+    private AuthorDto authorDto;
+
+    /**
+     * This is method which creates validator and DTOs.
+     */
+    @Setup
+    public void setUp() {
+        validator = new ValidatorConfig().validator();
+        Announcement announcement = BenchmarkData.announcement(1);
+        announcementDto = AnnouncementDto.builder()
+                .id(announcement.getId())
+                .name(announcement.getName())
+                .revelationText(announcement.getRevelationText())
+                .publicationDate(announcement.getPublicationDate())
+                .active(announcement.isActive())
+                .serviceCost(announcement.getServiceCost())
+                .heading(announcement.getHeading())
+                .author(announcement.getAuthor().getId())
+                .build();
+        Author author = BenchmarkData.author();
+        authorDto = new AuthorDto(author.getId(), author.getVersion(),
+                author.getName(), author.getLastName(), author.getPassword(),
+                author.isActive(), new ArrayList<>(author.getRoles()),
+                new ArrayList<>(author.getPhones()),
+                new ArrayList<>(author.getAddresses()),
+                new ArrayList<>(author.getEmails()));
+    }
+
+    /**
+     * This is benchmark of validation of {@link AnnouncementDto}.
+     *
+     * @return {@link Set} of violations.
+     */
+    @Benchmark
+    public Set<ConstraintViolation<AnnouncementDto>> validateAnnouncement() {
+        return validator.validate(announcementDto);
+    }
+
+    /**
+     * This is benchmark of validation of {@link AuthorDto}.
+     *
+     * @return {@link Set} of violations.
+     */
+    @Benchmark
+    public Set<ConstraintViolation<AuthorDto>> validateAuthor() {
+        return validator.validate(authorDto);
+    }
+}
@@ -0,0 +1,248 @@
+package com.mapper;
+
+import com.benchmark.BenchmarkData;
+import com.config.ModelMapperConfig;
+import com.domain.Announcement;
+import com.domain.Author;
+import com.domain.Heading;
+import com.domain.SuitableAd;
+import com.dto.AnnouncementDto;
+import com.dto.AuthorDto;
+import com.dto.HeadingDto;
+import com.dto.SuitableAdDto;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is class {@link MapperBenchmark} which measures mapping of every
+ * DTO by {@link ModelMapper} as it is configured in application, by its
+ * converter {@link AnnouncementMapper} and by generated mappers, and
+ * mapping of a page of announcements in a loop and by
+ * {@link AnnouncementMapping#mapAll(List)}.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MapperBenchmark {
+
+    /**
+     * This is field with number of announcements in the page.
+     */
+    @Param({"20", "100"})
+    private int size;
+
+    /**
+     * This is field {@link ModelMapper} configured as in application.
+     */
+    private ModelMapper modelMapper;
+
+    /**
+     * This is field {@link AnnouncementMapper} converter.
+     */
+    private AnnouncementMapper announcementMapper;
+
+    /**
+     * This is field with generated {@link AnnouncementMapping}.
+     */
+    private AnnouncementMapping announcementMapping;
+
+    /**
+     * This is field with generated {@link AuthorMapping}.
+     */
+    private AuthorMapping authorMapping;
+
+    /**
+     * This is field with generated {@link HeadingMapping}.
+     */
+    private HeadingMapping headingMapping;
+
+    /**
+     * This is field with generated {@link SuitableAdMapping}.
+     */
+    private SuitableAdMapping suitableAdMapping;
+
+    /**
+     * This is field with one announcement.
+     */
+    private Announcement announcement;
+
+    /**
+     * This is field with author.
+     */
+    private Author author;
+
+    /**
+     * This is field with heading.
+     */
+    private Heading heading;
+
+    /**
+     * This is field with suitableAd.
+     */
+    private SuitableAd suitableAd;
+
+    /**
+     * This is field with page of announcements.
+     */
+    private List<Announcement> announcements;
+
+    /**
+     * This is method which creates mappers and entities.
+     */
+    @Setup
+    public void setUp() {
+        announcementMapper = new AnnouncementMapper();
+        modelMapper = new ModelMapperConfig().getModelMapper(Arrays.asList(
+                announcementMapper, new AnnouncementDtoMapper(),
+                new SuitableAdToSuitableAdDtoMapper(),
+                new SuitableAdDtoToSuitableAdMapper()));
+        announcementMapping = Mappers.getMapper(AnnouncementMapping.class);
+        authorMapping = Mappers.getMapper(AuthorMapping.class);
+        headingMapping = Mappers.getMapper(HeadingMapping.class);
+        suitableAdMapping = Mappers.getMapper(SuitableAdMapping.class);
+        announcement = BenchmarkData.announcement(1);
+        author = BenchmarkData.author();
+        heading = BenchmarkData.heading();
+        suitableAd = BenchmarkData.suitableAd();
+        announcements = BenchmarkData.announcements(size);
+    }
+
+    /**
+     * This is benchmark of {@link AnnouncementMapper#convert(Announcement)}.
+     *
+     * @return {@link AnnouncementDto}.
+     */
+    @Benchmark
+    public AnnouncementDto announcementConverter() {
+        return announcementMapper.convert(announcement);
+    }
+
+    /**
+     * This is benchmark of mapping announcement by {@link ModelMapper}.
+     *
+     * @return {@link AnnouncementDto}.
+     */
+    @Benchmark
+    public AnnouncementDto announcementModelMapper() {
+        return modelMapper.map(announcement, AnnouncementDto.class);
+    }
+
+    /**
+     * This is benchmark of mapping announcement by generated mapper.
+     *
+     * @return {@link AnnouncementDto}.
+     */
+    @Benchmark
+    public AnnouncementDto announcementGenerated() {
+        return announcementMapping.toDto(announcement);
+    }
+
+    /**
+     * This is benchmark of mapping author by {@link ModelMapper}.
+     *
+     * @return {@link AuthorDto}.
+     */
+    @Benchmark
+    public AuthorDto authorModelMapper() {
+        return modelMapper.map(author, AuthorDto.class);
+    }
+
+    /**
+     * This is benchmark of mapping author by generated mapper.
+     *
+     * @return {@link AuthorDto}.
+     */
+    @Benchmark
+    public AuthorDto authorGenerated() {
+        return authorMapping.toDto(author);
+    }
+
+    /**
+     * This is benchmark of mapping heading by {@link ModelMapper}.
+     *
+     * @return {@link HeadingDto}.
+     */
+    @Benchmark
+    public HeadingDto headingModelMapper() {
+        return modelMapper.map(heading, HeadingDto.class);
+    }
+
+    /**
+     * This is benchmark of mapping heading by generated mapper.
+     *
+     * @return {@link HeadingDto}.
+     */
+    @Benchmark
+    public HeadingDto headingGenerated() {
+        return headingMapping.toDto(heading);
+    }
+
+    /**
+     * This is benchmark of mapping suitableAd by {@link ModelMapper}.
+     *
+     * @return {@link SuitableAdDto}.
+     */
+    @Benchmark
+    public SuitableAdDto suitableAdModelMapper() {
+        return modelMapper.map(suitableAd, SuitableAdDto.class);
+    }
+
+    /**
+     * This is benchmark of mapping suitableAd by generated mapper.
+     *
+     * @return {@link SuitableAdDto}.
+     */
+    @Benchmark
+    public SuitableAdDto suitableAdGenerated() {
+        return suitableAdMapping.toDto(suitableAd);
+    }
+
+    /**
+     * This is benchmark of mapping the page by {@link ModelMapper}
+     * in a loop.
+     *
+     * @return {@link List<AnnouncementDto>}.
+     */
+    @Benchmark
+    public List<AnnouncementDto> pageModelMapperLoop() {
+        List<AnnouncementDto> result = new ArrayList<>();
+        for (final Announcement next : announcements) {
+            result.add(modelMapper.map(next, AnnouncementDto.class));
+        }
+        return result;
+    }
+
+    /**
+     * This is benchmark of mapping the page by generated
+     * {@link AnnouncementMapping#mapAll(List)}.
+     *
+     * @return {@link List<AnnouncementDto>}.
+     */
+    @Benchmark
+    public List<AnnouncementDto> pageGeneratedMapAll() {
+        return announcementMapping.mapAll(announcements);
+    }
+}
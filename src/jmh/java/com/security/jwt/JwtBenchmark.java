@@ -0,0 +1,145 @@
+package com.security.jwt;
+
+import com.domain.Author;
+import com.domain.Role;
+import com.domain.enums.ROLE;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is class {@link JwtBenchmark} which measures cost of issuing json
+ * web token at login and of checking it per request: old way with
+ * parsing the token in every call of {@link JwtProvider}, parsing it
+ * once and parsing it once with cache of verified tokens.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtBenchmark {
+
+    /**
+     * This is constant with secret for signing tokens.
+     */
+    private static final String SECRET =
+            "benchmark-secret-benchmark-secret-benchmark-secret";
+
+    /**
+     * This is constant with id of the author in the token.
+     */
+    private static final int AUTHOR_ID = 42;
+
+    /**
+     * This is field {@link JwtProvider} without cache.
+     */
+    private JwtProvider provider;
+
+    /**
+     * This is field {@link JwtProvider} with cache.
+     */
+    private JwtProvider cachedProvider;
+
+    /**
+     * This is field with token of the author.
+     */
+    private String token;
+
+    /**
+     * This is field with author of the token.
+     */
+    private Author author;
+
+    /**
+     * This is field with details of the author of the token.
+     */
+    private User user;
+
+    /**
+     * This is method which creates providers and token.
+     */
+    @Setup
+    public void setUp() {
+        provider = new JwtProvider(SECRET, 0);
+        cachedProvider = new JwtProvider(SECRET, 1000);
+        author = new Author();
+        author.setId(AUTHOR_ID);
+        author.setName("benchmark");
+        author.setActive(true);
+        author.getRoles().add(new Role(1, ROLE.ROLE_USER));
+        token = provider.generateToken(author);
+        user = new User(author.getName(), "", Collections.emptyList());
+    }
+
+    /**
+     * This is benchmark of signing new token at login.
+     *
+     * @return token.
+     */
+    @Benchmark
+    public String generateToken() {
+        return provider.generateToken(author);
+    }
+
+    /**
+     * This is benchmark of {@link JwtProvider#validateToken}.
+     *
+     * @return true if token is valid.
+     */
+    @Benchmark
+    public boolean validateToken() {
+        return provider.validateToken(token, user);
+    }
+
+    /**
+     * This is benchmark of the old filter which parsed the token
+     * to get name of the author and twice more to validate it.
+     *
+     * @param blackhole {@link Blackhole}.
+     */
+    @Benchmark
+    public void legacyThreeParses(final Blackhole blackhole) {
+        String name = provider.getUsernameFromToken(token);
+        blackhole.consume(provider.validateToken(token,
+                new User(name, "", Collections.emptyList())));
+    }
+
+    /**
+     * This is benchmark of parsing the token once without cache.
+     *
+     * @return {@link ParsedToken}.
+     */
+    @Benchmark
+    public ParsedToken parseOnce() {
+        return provider.parse(token);
+    }
+
+    /**
+     * This is benchmark of parsing the token once with cache of
+     * verified tokens.
+     *
+     * @return {@link ParsedToken}.
+     */
+    @Benchmark
+    public ParsedToken parseOnceCached() {
+        return cachedProvider.parse(token);
+    }
+}
@@ -0,0 +1,166 @@
+package com.config;
+
+import com.constant.ExceptionConstant;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class {@link BoundedExecutor} passes tasks to the executor of
+ * {@link ThreadMode} and limits the number of the tasks which run or
+ * wait by a {@link Semaphore}. A task over the limit is rejected at once
+ * with {@link TaskRejectedException}, so the caller can answer that the
+ * server is busy or claim less work.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+public class BoundedExecutor implements TaskExecutor, DisposableBean {
+
+    /**
+     * This is field with executor which runs the tasks.
+     */
+    private final Executor executor;
+
+    /**
+     * This is field with number of the tasks which run at once.
+     */
+    private final int workers;
+
+    /**
+     * This is field with maximum number of the tasks which run or wait.
+     */
+    private final int limit;
+
+    /**
+     * This is field with time of waiting for running tasks on shutdown.
+     */
+    private final int awaitTerminationSeconds;
+
+    /**
+     * This is field {@link Semaphore} with free places for the tasks.
+     */
+    private final Semaphore permits;
+
+    /**
+     * This is field {@link TaskDecorator} of the tasks or null.
+     */
+    private TaskDecorator taskDecorator;
+
+    /**
+     * This is a constructor of the {@link BoundedExecutor} class.
+     *
+     * @param delegate      executor which runs the tasks.
+     * @param concurrency   number of the tasks which run at once.
+     * @param queueCapacity number of the tasks which wait for a worker.
+     * @param awaitSeconds  time of waiting for running tasks
+     *                      on shutdown.
+     */
+    public BoundedExecutor(final Executor delegate, final int concurrency,
+                           final int queueCapacity, final int awaitSeconds) {
+        this.executor = delegate;
+        this.workers = concurrency;
+        this.limit = concurrency + queueCapacity;
+        this.awaitTerminationSeconds = awaitSeconds;
+        this.permits = new Semaphore(limit);
+    }
+
+    /**
+     * This method sets {@link TaskDecorator} which wraps every task.
+     *
+     * @param decorator {@link TaskDecorator}.
+     */
+    public void setTaskDecorator(final TaskDecorator decorator) {
+        this.taskDecorator = decorator;
+    }
+
+    /**
+     * This method runs the task when there is a free place for it.
+     *
+     * @param task the task.
+     * @throws TaskRejectedException if the executor is full.
+     */
+    @Override
+    public void execute(final Runnable task) {
+        if (!permits.tryAcquire()) {
+            throw new TaskRejectedException(
+                    ExceptionConstant.EXECUTOR_FULL_EXCEPTION + limit);
+        }
+        Runnable decorated = taskDecorator == null
+                ? task : taskDecorator.decorate(task);
+        try {
+            executor.execute(() -> {
+                try {
+                    decorated.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw new TaskRejectedException(
+                    ExceptionConstant.EXECUTOR_FULL_EXCEPTION + limit, e);
+        }
+    }
+
+    /**
+     * This method returns number of the running tasks.
+     *
+     * @return number of the running tasks.
+     */
+    public int getActiveCount() {
+        return Math.min(inFlight(), workers);
+    }
+
+    /**
+     * This method returns number of the tasks waiting for a worker.
+     *
+     * @return number of the waiting tasks.
+     */
+    public int getQueueSize() {
+        return inFlight() - getActiveCount();
+    }
+
+    /**
+     * This method returns number of the tasks which can be passed
+     * to the executor now.
+     *
+     * @return number of free places.
+     */
+    public int getRemainingCapacity() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * This method stops the executor and waits for running tasks.
+     *
+     * @throws Exception if the executor can not be stopped.
+     */
+    @Override
+    public void destroy() throws Exception {
+        if (executor instanceof DisposableBean) {
+            ((DisposableBean) executor).destroy();
+        } else if (executor instanceof ExecutorService) {
+            ExecutorService service = (ExecutorService) executor;
+            service.shutdown();
+            service.awaitTermination(awaitTerminationSeconds,
+                    TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * This method returns number of the tasks which run or wait.
+     *
+     * @return number of the tasks.
+     */
+    private int inFlight() {
+        return limit - permits.availablePermits();
+    }
+}
@@ -0,0 +1,129 @@
+package com.config;
+
+import com.domain.Announcement;
+import com.metrics.CacheRegionMetrics;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URISyntaxException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Class {@link CacheConfig} set up the second-level cache of Hibernate.
+ * Regions with their limits of entries and times to live are configured
+ * in ehcache.xml, entities and collections choose them by
+ * {@link org.hibernate.annotations.Cache}. The regions are local to
+ * every node and are not invalidated by other nodes, so only reference
+ * data is cached by default, {@link Announcement} and its cached queries
+ * are turned on only for a single node.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Configuration
+public class CacheConfig {
+
+    /**
+     * This is constant with location of configuration of the regions.
+     */
+    private static final String CACHE_CONFIG = "/ehcache.xml";
+
+    /**
+     * This is constant with setting of Hibernate which passes
+     * {@link CacheManager} to the region factory.
+     */
+    private static final String CACHE_MANAGER =
+            "hibernate.javax.cache.cache_manager";
+
+    /**
+     * This is constant with setting of Hibernate which tells what to do
+     * when a region is not configured.
+     */
+    private static final String MISSING_CACHE_STRATEGY =
+            "hibernate.javax.cache.missing_cache_strategy";
+
+    /**
+     * This is constant with the usage and the region of the entity cache
+     * of {@link Announcement}.
+     */
+    private static final String ANNOUNCEMENT_CACHE =
+            "read-write,announcement";
+
+    /**
+     * This method creates {@link CacheManager} with the regions from
+     * ehcache.xml and enables their statistics.
+     *
+     * @return {@link CacheManager}.
+     * @throws URISyntaxException if location of the configuration
+     *                            is wrong.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager jcacheManager() throws URISyntaxException {
+        CacheManager manager = Caching.getCachingProvider().getCacheManager(
+                getClass().getResource(CACHE_CONFIG).toURI(),
+                getClass().getClassLoader());
+        for (String name : manager.getCacheNames()) {
+            manager.enableStatistics(name, true);
+        }
+        return manager;
+    }
+
+    /**
+     * This method creates {@link CacheRegionMetrics} which reads
+     * counters of the regions.
+     *
+     * @return {@link CacheRegionMetrics}.
+     * @throws URISyntaxException if location of the configuration
+     *                            is wrong.
+     */
+    @Bean
+    public CacheRegionMetrics cacheRegionMetrics() throws URISyntaxException {
+        return new CacheRegionMetrics(jcacheManager());
+    }
+
+    /**
+     * This method returns properties of Hibernate which turn on
+     * the second-level cache of reference data only, it is safe
+     * for any number of nodes.
+     *
+     * @param manager {@link CacheManager}.
+     * @return {@link Map} of properties.
+     */
+    public static Map<String, Object> hibernateProperties(
+            final CacheManager manager) {
+        return hibernateProperties(manager, false);
+    }
+
+    /**
+     * This method returns properties of Hibernate which turn on
+     * the second-level cache with regions of the manager. A region which
+     * is not in ehcache.xml fails the start instead of being created
+     * without limits. {@link Announcement} and the query cache are
+     * turned on only when the application is run by a single node,
+     * other nodes would read stale announcements from their own regions
+     * until they expire and would fail their updates by the version.
+     *
+     * @param manager    {@link CacheManager}.
+     * @param singleNode whether the application is run by a single node.
+     * @return {@link Map} of properties.
+     */
+    public static Map<String, Object> hibernateProperties(
+            final CacheManager manager, final boolean singleNode) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+        properties.put(AvailableSettings.USE_QUERY_CACHE, singleNode);
+        properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+        properties.put(CACHE_MANAGER, manager);
+        properties.put(MISSING_CACHE_STRATEGY, "fail");
+        if (singleNode) {
+            properties.put(AvailableSettings.CLASS_CACHE_PREFIX + "."
+                    + Announcement.class.getName(), ANNOUNCEMENT_CACHE);
+        }
+        return properties;
+    }
+}
@@ -1,5 +1,13 @@
 package com.config;
 
+import com.metrics.HibernateMetrics;
+import com.metrics.MetricsInterceptor;
+import com.metrics.MetricsRegistry;
+import com.metrics.PoolMetrics;
+import com.metrics.ProfilingDataSource;
+import com.metrics.PurgeMetrics;
+import com.metrics.SqlProfiler;
+import org.hibernate.cfg.AvailableSettings;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -9,7 +17,6 @@ import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.JpaVendorAdapter;
@@ -20,9 +27,12 @@ import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
 
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import javax.cache.CacheManager;
 import javax.persistence.EntityManagerFactory;
 import javax.sql.DataSource;
 
@@ -40,6 +50,7 @@ import javax.sql.DataSource;
         "com.dao",
         "com.controller",
         "com.mapper",
+        "com.index",
         "com.exception.handler",
         "com.security.jwt"})
 @EnableWebMvc
@@ -50,11 +61,20 @@ import javax.sql.DataSource;
         EmailConfig.class,
         ScheduleConfig.class,
         ValidatorConfig.class,
-        EncoderConfig.class})
+        EncoderConfig.class,
+        ExecutorConfig.class,
+        CacheConfig.class})
 @PropertySource("classpath:db.properties")
 public class ConfigApp implements WebMvcConfigurer, EnvironmentAware {
 
 
+    /**
+     * This is default time of waiting for the result of a read
+     * before the request is timed out.
+     */
+    private static final long ASYNC_TIMEOUT_MS = 10000;
+
+
     /**
      * This is class {@link Environment} for load properties from file
      * and use them for get properties from files.
@@ -74,43 +94,162 @@ public class ConfigApp implements WebMvcConfigurer, EnvironmentAware {
     }
 
 
+    /**
+     * This method sets time after which a read of
+     * {@link com.controller.AsyncReads} which is still waiting for
+     * database is answered with 503 Service Unavailable,
+     * it is {@code async.timeout_ms}.
+     *
+     * @param configurer {@link AsyncSupportConfigurer}.
+     */
+    @Override
+    public void configureAsyncSupport(
+            final AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(env.getProperty("async.timeout_ms",
+                Long.class, ASYNC_TIMEOUT_MS));
+    }
+
+
+    /**
+     * This method creates {@link PoolMetrics} which collects live
+     * metrics of the database connection pool.
+     *
+     * @return {@link PoolMetrics}.
+     */
+    @Bean
+    public PoolMetrics poolMetrics() {
+        return new PoolMetrics();
+    }
+
+
+    /**
+     * This method creates {@link MetricsRegistry} which keeps metrics
+     * of requests, of the database connection pool and of the email
+     * outbox.
+     *
+     * @return {@link MetricsRegistry}.
+     */
+    @Bean
+    public MetricsRegistry metricsRegistry() {
+        MetricsRegistry registry = new MetricsRegistry();
+        poolMetrics().bindTo(registry);
+        return registry;
+    }
+
+
+    /**
+     * This method creates {@link SqlProfiler} which collects SQL
+     * statements of the requests by endpoint. Optional settings are
+     * {@code sql.slow_threshold_ms}, {@code sql.slowest_statements}
+     * and {@code sql.max_statements_per_request}.
+     *
+     * @return {@link SqlProfiler}.
+     */
+    @Bean
+    public SqlProfiler sqlProfiler() {
+        return new SqlProfiler(metricsRegistry(),
+                env.getProperty("sql.slow_threshold_ms", Long.class,
+                        SqlProfiler.SLOW_THRESHOLD_MS),
+                env.getProperty("sql.slowest_statements", Integer.class,
+                        SqlProfiler.SLOWEST_LIMIT),
+                env.getProperty("sql.max_statements_per_request",
+                        Integer.class, SqlProfiler.MAX_STATEMENTS));
+    }
+
+
+    /**
+     * This method adds {@link MetricsInterceptor} which records
+     * requests of the controllers and their SQL statements.
+     *
+     * @param registry {@link InterceptorRegistry}.
+     */
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new MetricsInterceptor(metricsRegistry(),
+                sqlProfiler()));
+    }
+
+
+    /**
+     * This method creates {@link PurgeMetrics} which collects metrics
+     * of the purge of inactive announcements.
+     *
+     * @return {@link PurgeMetrics}.
+     */
+    @Bean
+    public PurgeMetrics purgeMetrics() {
+        return new PurgeMetrics();
+    }
+
+
     /**
      * This method sets up a location where data that is being used
-     * originates from.
+     * originates from. It is a pool of connections which are reused
+     * between transactions, the pool is closed with the context.
+     * Statements of the connections are profiled by {@link SqlProfiler}.
      *
      * @return {@link DataSource} is the location where data that is
      * being used originates from.
      */
-    @Bean
+    @Bean(destroyMethod = "close")
     public DataSource dataSource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
-        dataSource.setDriverClassName(env.
-                getRequiredProperty("jdbc.driverClassName"));
-        dataSource.setUrl(env.getRequiredProperty("jdbc.url"));
-        dataSource.setUsername(env.getRequiredProperty("jdbc.username"));
-        dataSource.setPassword(env.getRequiredProperty("jdbc.password"));
-        return dataSource;
+        return new ProfilingDataSource(PooledDataSourceFactory.create(env,
+                "jdbc.url", poolMetrics()), sqlProfiler());
     }
 
 
     /**
-     * This method produces a container-managed {@link EntityManagerFactory}.
+     * This method produces a container-managed {@link EntityManagerFactory}
+     * with the second-level cache of {@link CacheConfig}, announcements
+     * are cached only with {@code cache.announcements.single_node}
+     * since the regions are local to the node. Statistics of
+     * Hibernate are collected with {@code hibernate.generate_statistics},
+     * they are read by {@link HibernateMetrics} and are not logged
+     * for every session.
      *
+     * @param cacheManager {@link CacheManager} of the second-level cache.
      * @return {@link LocalContainerEntityManagerFactoryBean} that
      * supports links to an existing JDBC {@link DataSource},
      * supports both local and global transactions.
      */
     @Bean
-    public LocalContainerEntityManagerFactoryBean entityManagerFactory() {
+    public LocalContainerEntityManagerFactoryBean entityManagerFactory(
+            final CacheManager cacheManager) {
         LocalContainerEntityManagerFactoryBean managerFactory =
                 new LocalContainerEntityManagerFactoryBean();
         managerFactory.setDataSource(dataSource());
         managerFactory.setJpaVendorAdapter(adapter());
         managerFactory.setPackagesToScan("com.domain");
+        managerFactory.getJpaPropertyMap().putAll(
+                CacheConfig.hibernateProperties(cacheManager,
+                        env.getProperty("cache.announcements.single_node",
+                                Boolean.class, false)));
+        managerFactory.getJpaPropertyMap().put(
+                AvailableSettings.GENERATE_STATISTICS, env.getProperty(
+                        "hibernate.generate_statistics", Boolean.class,
+                        false));
+        managerFactory.getJpaPropertyMap().put(
+                AvailableSettings.LOG_SESSION_METRICS, false);
         return managerFactory;
     }
 
 
+    /**
+     * This method creates {@link HibernateMetrics} which reads
+     * statistics of Hibernate.
+     *
+     * @param factory {@link EntityManagerFactory}.
+     * @return {@link HibernateMetrics}.
+     */
+    @Bean
+    public HibernateMetrics hibernateMetrics(
+            final EntityManagerFactory factory) {
+        HibernateMetrics metrics = new HibernateMetrics(factory);
+        metrics.bindTo(metricsRegistry());
+        return metrics;
+    }
+
+
     /**
      * This method allows to plug in vendor-specific behavior into
      * Spring's {@link EntityManagerFactory} creators.
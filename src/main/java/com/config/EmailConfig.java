@@ -7,7 +7,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.core.env.Environment;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.JavaMailSenderImpl;
 
 import java.util.Properties;
 
@@ -24,6 +23,24 @@ import java.util.Properties;
 public class EmailConfig implements EnvironmentAware {
 
 
+    /**
+     * This is default number of idle SMTP connections in the pool.
+     */
+    private static final int POOL_SIZE = 4;
+
+
+    /**
+     * This is default number of messages sent by one SMTP connection.
+     */
+    private static final int MAX_MESSAGES_PER_CONNECTION = 100;
+
+
+    /**
+     * This is default time after which an idle SMTP connection is closed.
+     */
+    private static final long IDLE_TIMEOUT_MS = 60000;
+
+
     /**
      * This is class {@link Environment} for load properties from file and
      * use them in configuration for sending email.
@@ -45,15 +62,22 @@ public class EmailConfig implements EnvironmentAware {
 
 
     /**
-     * This method defines a strategy for sending simple mails.
+     * This method defines a strategy for sending simple mails. SMTP
+     * connections are kept in the pool of {@link PooledJavaMailSender}
+     * and closed with the context.
      *
      * @return {@link JavaMailSender} that used in conjunction with the
      * {@link  org.springframework.mail.javamail.MimeMessageHelper} class
      * for convenient creation ofJavaMailMimeMessages,including attachments.
      */
-    @Bean
+    @Bean(destroyMethod = "close")
     public JavaMailSender mailSender() {
-        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        PooledJavaMailSender mailSender = new PooledJavaMailSender(
+                env.getProperty("mail.pool_size", Integer.class, POOL_SIZE),
+                env.getProperty("mail.max_messages_per_connection",
+                        Integer.class, MAX_MESSAGES_PER_CONNECTION),
+                env.getProperty("mail.idle_timeout_ms", Long.class,
+                        IDLE_TIMEOUT_MS));
         mailSender.setHost(env.getRequiredProperty("host"));
         mailSender.setPort(Integer.parseInt(env.getRequiredProperty("port")));
         mailSender.setUsername(env.getRequiredProperty("user_name"));
@@ -0,0 +1,144 @@
+package com.config;
+
+import com.metrics.SqlProfile;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Class {@link ExecutorConfig} set up bounded pools of threads
+ * which do background work of the application. Workers are platform
+ * or virtual threads by {@code threads.mode}, virtual threads need
+ * Java 21. With virtual threads every task gets own thread and the
+ * number of the tasks is limited by the same sum of workers and queue
+ * capacity as with platform threads.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Configuration
+public class ExecutorConfig implements EnvironmentAware {
+
+    /**
+     * This is default number of the outbox workers.
+     */
+    private static final int OUTBOX_WORKERS = 4;
+
+    /**
+     * This is default capacity of the queue of the outbox workers.
+     */
+    private static final int OUTBOX_QUEUE_CAPACITY = 100;
+
+    /**
+     * This is default number of the read workers, it is the default
+     * size of the pool of database connections, because every read
+     * holds a connection.
+     */
+    private static final int READ_WORKERS = 10;
+
+    /**
+     * This is default capacity of the queue of the read workers.
+     */
+    private static final int READ_QUEUE_CAPACITY = 200;
+
+    /**
+     * This is default number of threads of the scheduled jobs.
+     */
+    private static final int SCHEDULER_THREADS = 4;
+
+    /**
+     * This is time of waiting for running tasks on shutdown.
+     */
+    private static final int AWAIT_TERMINATION_SECONDS = 30;
+
+    /**
+     * This is class {@link Environment} for load properties from file
+     * and use them for get properties from files.
+     */
+    private Environment env;
+
+    /**
+     * This is method for setting {@link Environment}
+     * to the field Environment in this class.
+     *
+     * @param environment {@link Environment}.
+     */
+    @Override
+    public void setEnvironment(final Environment environment) {
+        this.env = environment;
+    }
+
+    /**
+     * This method creates bounded pool of the workers which send
+     * emails of {@link com.domain.EmailOutbox}. The queue is bounded,
+     * so the dispatcher claims only as many rows as the pool can take.
+     *
+     * @return {@link BoundedExecutor}.
+     */
+    @Bean
+    public BoundedExecutor outboxExecutor() {
+        return threadMode().executor("outbox-",
+                env.getProperty("outbox.workers", Integer.class,
+                        OUTBOX_WORKERS),
+                env.getProperty("outbox.queue_capacity", Integer.class,
+                        OUTBOX_QUEUE_CAPACITY),
+                AWAIT_TERMINATION_SECONDS);
+    }
+
+    /**
+     * This method creates bounded pool of the workers which run read
+     * operations of the controllers for {@link com.controller.AsyncReads}.
+     * By default it has as many workers as database has connections in
+     * the pool, so the number of the concurrent reads is limited by
+     * database and not by threads of the servlet container. When the
+     * queue is full new reads are rejected at once. Statements of a read
+     * are added to {@link SqlProfile} of its request.
+     *
+     * @return {@link BoundedExecutor}.
+     */
+    @Bean
+    public BoundedExecutor readExecutor() {
+        BoundedExecutor executor = threadMode().executor("read-",
+                env.getProperty("async.read_workers", Integer.class,
+                        env.getProperty("jdbc.pool.max_size",
+                                Integer.class, READ_WORKERS)),
+                env.getProperty("async.read_queue_capacity",
+                        Integer.class, READ_QUEUE_CAPACITY),
+                AWAIT_TERMINATION_SECONDS);
+        executor.setTaskDecorator(SqlProfile::propagate);
+        return executor;
+    }
+
+    /**
+     * This method creates pool of the threads which run scheduled jobs
+     * and renew leases of {@link com.service.JobCoordinator}, its size
+     * is {@code scheduler.pool_size}. A long job, e.g. the purge, does
+     * not delay other jobs and renewal of its own lease.
+     *
+     * @return {@link ThreadPoolTaskScheduler}.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(env.getProperty("scheduler.pool_size",
+                Integer.class, SCHEDULER_THREADS));
+        scheduler.setThreadNamePrefix("scheduler-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(AWAIT_TERMINATION_SECONDS);
+        return scheduler;
+    }
+
+    /**
+     * This method returns {@link ThreadMode} of the workers,
+     * it is {@code threads.mode}.
+     *
+     * @return {@link ThreadMode}.
+     */
+    private ThreadMode threadMode() {
+        return ThreadMode.of(env.getProperty("threads.mode",
+                ThreadMode.PLATFORM.name()));
+    }
+}
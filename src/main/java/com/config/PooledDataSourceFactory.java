@@ -0,0 +1,134 @@
+package com.config;
+
+import com.metrics.PoolMetrics;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class {@link PooledDataSourceFactory} builds the pooled
+ * {@link DataSource} from the db.properties for {@link ConfigApp}
+ * and for the test configuration. All pool settings are optional
+ * and have defaults.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+final class PooledDataSourceFactory {
+
+    /**
+     * This is default minimum number of idle connections.
+     */
+    private static final int MIN_IDLE = 2;
+
+    /**
+     * This is default maximum size of the pool.
+     */
+    private static final int MAX_SIZE = 10;
+
+    /**
+     * This is default time of waiting for a connection.
+     */
+    private static final long CONNECTION_TIMEOUT =
+            TimeUnit.SECONDS.toMillis(5);
+
+    /**
+     * This is default time after which an idle connection is closed.
+     */
+    private static final long IDLE_TIMEOUT = TimeUnit.MINUTES.toMillis(10);
+
+    /**
+     * This is default maximum lifetime of a connection, it is less than
+     * wait_timeout of MySql.
+     */
+    private static final long MAX_LIFETIME = TimeUnit.MINUTES.toMillis(30);
+
+    /**
+     * This is default time of validation of a connection.
+     */
+    private static final long VALIDATION_TIMEOUT =
+            TimeUnit.SECONDS.toMillis(2);
+
+    /**
+     * This is default time after which not returned connection is logged
+     * as a leak, zero turns leak detection off.
+     */
+    private static final long LEAK_DETECTION_THRESHOLD =
+            TimeUnit.SECONDS.toMillis(30);
+
+    /**
+     * This is default number of prepared statements cached per connection.
+     */
+    private static final int PREP_STMT_CACHE_SIZE = 250;
+
+    /**
+     * This is default maximum length of sql of a cached statement.
+     */
+    private static final int PREP_STMT_CACHE_SQL_LIMIT = 2048;
+
+    /**
+     * This is private constructor.
+     */
+    private PooledDataSourceFactory() {
+    }
+
+    /**
+     * This method builds the pooled {@link DataSource}.
+     *
+     * @param env     {@link Environment} with db.properties.
+     * @param urlKey  name of the property with jdbc url.
+     * @param metrics {@link PoolMetrics} which collects pool metrics.
+     * @return {@link HikariDataSource}.
+     */
+    static HikariDataSource create(final Environment env,
+                                   final String urlKey,
+                                   final PoolMetrics metrics) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(env.getProperty("jdbc.pool.name",
+                "bulletin-board-pool"));
+        config.setDriverClassName(env.
+                getRequiredProperty("jdbc.driverClassName"));
+        config.setJdbcUrl(env.getRequiredProperty(urlKey));
+        config.setUsername(env.getRequiredProperty("jdbc.username"));
+        config.setPassword(env.getRequiredProperty("jdbc.password"));
+
+        config.setMinimumIdle(env.getProperty("jdbc.pool.min_idle",
+                Integer.class, MIN_IDLE));
+        config.setMaximumPoolSize(env.getProperty("jdbc.pool.max_size",
+                Integer.class, MAX_SIZE));
+        config.setConnectionTimeout(env.getProperty(
+                "jdbc.pool.connection_timeout_ms",
+                Long.class, CONNECTION_TIMEOUT));
+        config.setIdleTimeout(env.getProperty("jdbc.pool.idle_timeout_ms",
+                Long.class, IDLE_TIMEOUT));
+        config.setMaxLifetime(env.getProperty("jdbc.pool.max_lifetime_ms",
+                Long.class, MAX_LIFETIME));
+        config.setValidationTimeout(env.getProperty(
+                "jdbc.pool.validation_timeout_ms",
+                Long.class, VALIDATION_TIMEOUT));
+        config.setLeakDetectionThreshold(env.getProperty(
+                "jdbc.pool.leak_detection_threshold_ms",
+                Long.class, LEAK_DETECTION_THRESHOLD));
+
+        config.addDataSourceProperty("cachePrepStmts", "true");
+        config.addDataSourceProperty("useServerPrepStmts", "true");
+        config.addDataSourceProperty("prepStmtCacheSize",
+                env.getProperty("jdbc.pool.prep_stmt_cache_size",
+                        Integer.class, PREP_STMT_CACHE_SIZE));
+        config.addDataSourceProperty("prepStmtCacheSqlLimit",
+                env.getProperty("jdbc.pool.prep_stmt_cache_sql_limit",
+                        Integer.class, PREP_STMT_CACHE_SQL_LIMIT));
+        config.addDataSourceProperty("cacheServerConfiguration", "true");
+        config.addDataSourceProperty("useLocalSessionState", "true");
+        config.addDataSourceProperty("useCursorFetch", "true");
+        config.addDataSourceProperty("rewriteBatchedStatements", "true");
+
+        config.setMetricsTrackerFactory(metrics);
+        config.setRegisterMbeans(true);
+        return new HikariDataSource(config);
+    }
+}
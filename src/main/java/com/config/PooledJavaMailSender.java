@@ -0,0 +1,264 @@
+package com.config;
+
+import org.apache.log4j.Logger;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import javax.mail.Address;
+import javax.mail.AuthenticationFailedException;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+
+/**
+ * Class {@link PooledJavaMailSender} is {@link JavaMailSenderImpl} which
+ * keeps connected SMTP transports in a pool instead of connecting for
+ * every {@link #send(MimeMessage...)}, so the handshake, TLS and login
+ * are paid once per connection. A connection sends at most
+ * {@code maxMessagesPerConnection} messages and is closed when it was
+ * idle longer than {@code idleTimeoutMillis}, because servers drop long
+ * lived and idle connections.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+public class PooledJavaMailSender extends JavaMailSenderImpl {
+
+    /**
+     * This is field of class {@link Logger} returns a logger
+     * for this class.
+     */
+    private static final Logger LOGGER = Logger
+            .getLogger(PooledJavaMailSender.class);
+
+    /**
+     * This is constant with name of header of id of the message.
+     */
+    private static final String HEADER_MESSAGE_ID = "Message-ID";
+
+    /**
+     * This is field with idle connections, the last returned is first.
+     */
+    private final BlockingDeque<PooledTransport> idle;
+
+    /**
+     * This is field with maximum number of messages of one connection.
+     */
+    private final int maxMessagesPerConnection;
+
+    /**
+     * This is field with time after which an idle connection is closed.
+     */
+    private final long idleTimeoutMillis;
+
+    /**
+     * This is constructor {@link PooledJavaMailSender}.
+     *
+     * @param poolSize             maximum number of idle connections.
+     * @param messagesByConnection maximum number of messages of one
+     *                             connection.
+     * @param idleTimeout          time in milliseconds after which
+     *                             an idle connection is closed.
+     */
+    public PooledJavaMailSender(final int poolSize,
+                                final int messagesByConnection,
+                                final long idleTimeout) {
+        this.idle = new LinkedBlockingDeque<>(poolSize);
+        this.maxMessagesPerConnection = messagesByConnection;
+        this.idleTimeoutMillis = idleTimeout;
+    }
+
+    /**
+     * This method sends the messages by pooled connections, a connection
+     * which reached its limit of messages or failed not because of wrong
+     * recipients is replaced by new one. Unlike {@link JavaMailSenderImpl} the
+     * connection is checked only when it is taken from the pool, not
+     * before every message.
+     * Messages which were not sent are reported by
+     * {@link MailSendException} as in {@link JavaMailSenderImpl}.
+     *
+     * @param mimeMessages     messages to send.
+     * @param originalMessages original messages or null.
+     * @throws MailException if any message was not sent.
+     */
+    @Override
+    protected void doSend(final MimeMessage[] mimeMessages,
+                          final Object[] originalMessages)
+            throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        PooledTransport pooled = null;
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                if (pooled != null
+                        && pooled.sent >= maxMessagesPerConnection) {
+                    close(pooled);
+                    pooled = null;
+                }
+                if (pooled == null) {
+                    pooled = borrow(mimeMessages, originalMessages, i,
+                            failedMessages);
+                }
+                MimeMessage mimeMessage = mimeMessages[i];
+                try {
+                    send(pooled, mimeMessage);
+                } catch (SendFailedException e) {
+                    failedMessages.put(originalMessages != null
+                            ? originalMessages[i] : mimeMessage, e);
+                } catch (MessagingException e) {
+                    failedMessages.put(originalMessages != null
+                            ? originalMessages[i] : mimeMessage, e);
+                    close(pooled);
+                    pooled = null;
+                }
+            }
+        } finally {
+            if (pooled != null) {
+                release(pooled);
+            }
+        }
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    /**
+     * This method closes all idle connections, it is called when
+     * the context is closed.
+     */
+    public void close() {
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            close(pooled);
+        }
+    }
+
+    /**
+     * This method takes an idle connection or opens new one. When the
+     * server can not be connected all messages from the index are failed.
+     *
+     * @param mimeMessages     messages to send.
+     * @param originalMessages original messages or null.
+     * @param from             index of the first message to send.
+     * @param failedMessages   failed messages by original message.
+     * @return {@link PooledTransport}.
+     * @throws MailException if the server can not be connected.
+     */
+    private PooledTransport borrow(final MimeMessage[] mimeMessages,
+                                   final Object[] originalMessages,
+                                   final int from,
+                                   final Map<Object, Exception>
+                                           failedMessages)
+            throws MailException {
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            if (System.currentTimeMillis() - pooled.lastUsed
+                    < idleTimeoutMillis && pooled.transport.isConnected()) {
+                return pooled;
+            }
+            close(pooled);
+        }
+        try {
+            return new PooledTransport(connectTransport());
+        } catch (AuthenticationFailedException e) {
+            throw new MailAuthenticationException(e);
+        } catch (MessagingException e) {
+            for (int j = from; j < mimeMessages.length; j++) {
+                failedMessages.put(originalMessages != null
+                        ? originalMessages[j] : mimeMessages[j], e);
+            }
+            throw new MailSendException("Mail server connection failed", e,
+                    failedMessages);
+        }
+    }
+
+    /**
+     * This method sends one message by the connection.
+     *
+     * @param pooled      {@link PooledTransport}.
+     * @param mimeMessage {@link MimeMessage}.
+     * @throws MessagingException if the message was not sent.
+     */
+    private void send(final PooledTransport pooled,
+                      final MimeMessage mimeMessage)
+            throws MessagingException {
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+            mimeMessage.setHeader(HEADER_MESSAGE_ID, messageId);
+        }
+        Address[] addresses = mimeMessage.getAllRecipients();
+        pooled.sent++;
+        pooled.transport.sendMessage(mimeMessage,
+                addresses != null ? addresses : new Address[0]);
+    }
+
+    /**
+     * This method returns the connection to the pool or closes it
+     * when the pool is full or the connection reached its limit.
+     *
+     * @param pooled {@link PooledTransport}.
+     */
+    private void release(final PooledTransport pooled) {
+        pooled.lastUsed = System.currentTimeMillis();
+        if (pooled.sent >= maxMessagesPerConnection
+                || !idle.offerFirst(pooled)) {
+            close(pooled);
+        }
+    }
+
+    /**
+     * This method closes the connection.
+     *
+     * @param pooled {@link PooledTransport}.
+     */
+    private static void close(final PooledTransport pooled) {
+        try {
+            pooled.transport.close();
+        } catch (MessagingException e) {
+            LOGGER.debug(e);
+        }
+    }
+
+    /**
+     * Class {@link PooledTransport} keeps the connection with number
+     * of messages it sent and time it was used last.
+     */
+    private static final class PooledTransport {
+
+        /**
+         * Field with connected {@link Transport}.
+         */
+        private final Transport transport;
+
+        /**
+         * Field with number of messages sent by the connection.
+         */
+        private int sent;
+
+        /**
+         * Field with time when the connection was returned to the pool.
+         */
+        private long lastUsed;
+
+        /**
+         * This is constructor {@link PooledTransport}.
+         *
+         * @param connected connected {@link Transport}.
+         */
+        private PooledTransport(final Transport connected) {
+            this.transport = connected;
+            this.lastUsed = System.currentTimeMillis();
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 
 /**
  * This is the class {@link ScheduleConfig} to configure scheduling.
+ * Scheduled jobs run on the pool {@code taskScheduler} of
+ * {@link ExecutorConfig} instead of the single default thread.
  *
  * @author Yuriy Bahlay.
  * @version 1.1.
@@ -12,5 +18,31 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
 @EnableScheduling
-public class ScheduleConfig {
+public class ScheduleConfig implements SchedulingConfigurer {
+
+    /**
+     * This is field {@link ThreadPoolTaskScheduler} of the jobs.
+     */
+    private final ThreadPoolTaskScheduler taskScheduler;
+
+    /**
+     * This is a constructor that injects the pool of the scheduled jobs
+     * into the {@link ScheduleConfig} class.
+     *
+     * @param scheduler {@link ThreadPoolTaskScheduler}.
+     */
+    @Autowired
+    public ScheduleConfig(final ThreadPoolTaskScheduler scheduler) {
+        this.taskScheduler = scheduler;
+    }
+
+    /**
+     * This method sets the pool which runs the scheduled jobs.
+     *
+     * @param registrar {@link ScheduledTaskRegistrar}.
+     */
+    @Override
+    public void configureTasks(final ScheduledTaskRegistrar registrar) {
+        registrar.setTaskScheduler(taskScheduler);
+    }
 }
@@ -157,6 +157,9 @@ public class SecurityConfig
                 .permitAll()
                 .antMatchers()
                 .authenticated()
+                .antMatchers(HttpMethod.GET,
+                        "/myapp/announcement/announcements/export"
+                ).hasAnyRole(USER, ADMIN, MODERATOR)
                 .antMatchers(HttpMethod.GET,
                         "/myapp/announcement/announcements/{id}",
                         "/myapp/announcement/announcements/"
@@ -164,6 +167,9 @@ public class SecurityConfig
                         "/myapp/announcement/announcements/filter-by",
                         "/myapp/announcements/filter-by-revelation",
                         "/myapp/announcements/announcements/pagination",
+                        "/myapp/announcement/announcements/seek",
+                        "/myapp/announcement/announcements/search",
+                        "/myapp/announcement/announcements/archive/{id}",
                         "/myapp/author/authors/{id}",
                         "/myapp/heading/headings/{id}",
                         "/myapp/heading/headings"
@@ -172,6 +178,7 @@ public class SecurityConfig
                 ).permitAll()
                 .antMatchers(HttpMethod.POST,
                         "/myapp/announcement/announcements",
+                        "/myapp/announcement/announcements/batch",
                         "/myapp/suitableAd/suitable-ads"
                 ).hasAnyRole(USER, ADMIN, MODERATOR)
                 .antMatchers(HttpMethod.PUT,
@@ -189,6 +196,8 @@ public class SecurityConfig
                 ).hasAnyRole(USER, ADMIN, MODERATOR)
                 .antMatchers(HttpMethod.POST, "/myapp/role/roles")
                 .hasAnyRole(ADMIN)
+                .antMatchers("/myapp/internal/**")
+                .hasAnyRole(ADMIN)
                 .and()
                 .formLogin()
                 .defaultSuccessUrl("/myapp/author/authors", true)
@@ -0,0 +1,134 @@
+package com.config;
+
+import com.constant.ExceptionConstant;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * This is enum with kinds of threads of the workers of the application,
+ * it is chosen by {@code threads.mode}:
+ * PLATFORM,
+ * VIRTUAL.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+public enum ThreadMode {
+
+    /**
+     * This is mode with platform threads, one thread of operating system
+     * is held by every worker while it waits for database or SMTP.
+     */
+    PLATFORM {
+        @Override
+        public ThreadFactory factory(final String prefix) {
+            return new CustomizableThreadFactory(prefix);
+        }
+
+        @Override
+        public BoundedExecutor executor(final String prefix,
+                                        final int workers,
+                                        final int queueCapacity,
+                                        final int awaitSeconds) {
+            ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+            pool.setCorePoolSize(workers);
+            pool.setMaxPoolSize(workers);
+            pool.setQueueCapacity(queueCapacity);
+            pool.setThreadFactory(factory(prefix));
+            pool.setWaitForTasksToCompleteOnShutdown(true);
+            pool.setAwaitTerminationSeconds(awaitSeconds);
+            pool.initialize();
+            return new BoundedExecutor(pool, workers, queueCapacity,
+                    awaitSeconds);
+        }
+    },
+
+    /**
+     * This is mode with virtual threads of Java 21, a waiting worker
+     * releases its carrier thread. The application is built for Java 8,
+     * so virtual threads are created by reflection.
+     */
+    VIRTUAL {
+        @Override
+        public ThreadFactory factory(final String prefix) {
+            try {
+                Object builder = Thread.class.getMethod("ofVirtual")
+                        .invoke(null);
+                Class<?> builderClass =
+                        Class.forName("java.lang.Thread$Builder");
+                Method name = builderClass.getMethod("name", String.class,
+                        long.class);
+                return (ThreadFactory) builderClass.getMethod("factory")
+                        .invoke(name.invoke(builder, prefix, 0L));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(ExceptionConstant
+                        .VIRTUAL_THREADS_EXCEPTION
+                        + System.getProperty("java.version"), e);
+            }
+        }
+
+        @Override
+        public BoundedExecutor executor(final String prefix,
+                                        final int workers,
+                                        final int queueCapacity,
+                                        final int awaitSeconds) {
+            try {
+                Executor perTask = (Executor) Executors.class
+                        .getMethod("newThreadPerTaskExecutor",
+                                ThreadFactory.class)
+                        .invoke(null, factory(prefix));
+                return new BoundedExecutor(perTask,
+                        workers + queueCapacity, 0, awaitSeconds);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(ExceptionConstant
+                        .VIRTUAL_THREADS_EXCEPTION
+                        + System.getProperty("java.version"), e);
+            }
+        }
+    };
+
+    /**
+     * This method creates factory of threads of this mode.
+     *
+     * @param prefix prefix of names of the threads.
+     * @return {@link ThreadFactory}.
+     * @throws IllegalStateException if the mode is not supported by JVM.
+     */
+    public abstract ThreadFactory factory(String prefix);
+
+    /**
+     * This method creates executor of the workers of this mode which
+     * takes not more than {@code workers + queueCapacity} tasks. With
+     * platform threads {@code workers} tasks run and others wait in
+     * the queue, with virtual threads every task gets own thread and
+     * all of them run at once.
+     *
+     * @param prefix        prefix of names of the threads.
+     * @param workers       number of the platform threads.
+     * @param queueCapacity number of the tasks waiting for
+     *                      a platform thread.
+     * @param awaitSeconds  time of waiting for running tasks
+     *                      on shutdown.
+     * @return {@link BoundedExecutor}.
+     * @throws IllegalStateException if the mode is not supported by JVM.
+     */
+    public abstract BoundedExecutor executor(String prefix, int workers,
+                                             int queueCapacity,
+                                             int awaitSeconds);
+
+    /**
+     * This method returns the mode by its name in any case.
+     *
+     * @param name name of the mode, platform or virtual.
+     * @return {@link ThreadMode}.
+     */
+    public static ThreadMode of(final String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
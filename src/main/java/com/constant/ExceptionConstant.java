@@ -21,6 +21,12 @@ public final class ExceptionConstant {
     public static final String ANNOUNCEMENT_GET_EXCEPTION =
             "Cannot find announcement by: ";
 
+    /**
+     * This is constant ARCHIVED_ANNOUNCEMENT_GET_EXCEPTION.
+     */
+    public static final String ARCHIVED_ANNOUNCEMENT_GET_EXCEPTION =
+            "Cannot find archived announcement by: ";
+
     /**
      * This is constant ANNOUNCEMENT_GET_ALL_BY_HEADING_ID_EXCEPTION.
      */
@@ -72,4 +78,64 @@ public final class ExceptionConstant {
      */
     public static final String SUITABLE_AD_GET_EXCEPTION =
             "Cannot find SuitableAd by id: ";
+
+    /**
+     * This is constant PAGINATION_CURSOR_EXCEPTION.
+     */
+    public static final String PAGINATION_CURSOR_EXCEPTION =
+            "Broken pagination cursor: ";
+
+    /**
+     * This is constant PAGINATION_ORDER_EXCEPTION.
+     */
+    public static final String PAGINATION_ORDER_EXCEPTION =
+            "Unknown pagination order: ";
+
+    /**
+     * This is constant ANNOUNCEMENT_SEARCH_EXCEPTION.
+     */
+    public static final String ANNOUNCEMENT_SEARCH_EXCEPTION =
+            "Cannot find announcements by query: ";
+
+    /**
+     * This is constant ANNOUNCEMENT_BATCH_SIZE_EXCEPTION.
+     */
+    public static final String ANNOUNCEMENT_BATCH_SIZE_EXCEPTION =
+            "Number of announcements in one batch must be from 1 to ";
+
+    /**
+     * This is constant READ_REJECTED_EXCEPTION.
+     */
+    public static final String READ_REJECTED_EXCEPTION =
+            "Server is busy, try again later";
+
+    /**
+     * This is constant EXECUTOR_FULL_EXCEPTION.
+     */
+    public static final String EXECUTOR_FULL_EXCEPTION =
+            "Executor is full, tasks limit is ";
+
+    /**
+     * This is constant VIRTUAL_THREADS_EXCEPTION.
+     */
+    public static final String VIRTUAL_THREADS_EXCEPTION =
+            "Virtual threads need Java 21 or newer, running on Java ";
+
+    /**
+     * This is constant TEMPLATE_VARIABLE_NOT_CLOSED.
+     */
+    public static final String TEMPLATE_VARIABLE_NOT_CLOSED =
+            "Variable is not closed in email template ";
+
+    /**
+     * This is constant TEMPLATE_UNKNOWN_VARIABLE.
+     */
+    public static final String TEMPLATE_UNKNOWN_VARIABLE =
+            "Unknown variable in email template ";
+
+    /**
+     * This is constant TEMPLATE_NOT_FOUND.
+     */
+    public static final String TEMPLATE_NOT_FOUND =
+            "Email template is not found: ";
 }
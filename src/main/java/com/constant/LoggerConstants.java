@@ -170,11 +170,166 @@ public final class LoggerConstants {
      * This is constant SEND_EMAIL_SOME_AUTHORS.
      */
     public static final String SEND_EMAIL_SOME_AUTHORS =
-            "Email sent some Authors by some announcement";
+            "Emails of the announcement sent to authors: ";
 
     /**
      * This is constant ROLE_SAVED.
      */
     public static final String ROLE_SAVED =
             "Role saved without problem";
+
+    /**
+     * This is constant OUTBOX_REJECTED.
+     */
+    public static final String OUTBOX_REJECTED =
+            "Outbox workers are busy, rows will be claimed again: ";
+
+    /**
+     * This is constant OUTBOX_NO_ANNOUNCEMENT.
+     */
+    public static final String OUTBOX_NO_ANNOUNCEMENT =
+            "Announcement of the outbox row was deleted";
+
+    /**
+     * This is constant OUTBOX_NOT_SENT.
+     */
+    public static final String OUTBOX_NOT_SENT =
+            "Cannot send emails of the outbox row: ";
+
+    /**
+     * This is constant SUITABLE_AD_INDEX_LOADED.
+     */
+    public static final String SUITABLE_AD_INDEX_LOADED =
+            "SuitableAd index loaded, subscriptions: ";
+
+    /**
+     * This is constant SEARCH_INDEX_LOADED.
+     */
+    public static final String SEARCH_INDEX_LOADED =
+            "Announcement search index loaded, announcements: ";
+
+    /**
+     * This is constant SEARCH_ANNOUNCEMENTS_NOT_FOUND.
+     */
+    public static final String SEARCH_ANNOUNCEMENTS_NOT_FOUND =
+            "Cannot find announcements by query: ";
+
+    /**
+     * This is constant SEARCH_ANNOUNCEMENTS_FOUND.
+     */
+    public static final String SEARCH_ANNOUNCEMENTS_FOUND =
+            "Announcements found by query: ";
+
+    /**
+     * This is constant HEADING_CACHE_LOADED.
+     */
+    public static final String HEADING_CACHE_LOADED =
+            "Heading cache loaded, headings: ";
+
+    /**
+     * This is constant ANNOUNCEMENTS_EXPORTED.
+     */
+    public static final String ANNOUNCEMENTS_EXPORTED =
+            "Announcements exported: ";
+
+    /**
+     * This is constant PURGE_BATCH_DELETED.
+     */
+    public static final String PURGE_BATCH_DELETED =
+            "Inactive announcements deleted by batch: ";
+
+    /**
+     * This is constant PURGE_BATCH_MILLIS.
+     */
+    public static final String PURGE_BATCH_MILLIS = ", ms: ";
+
+    /**
+     * This is constant PURGE_FINISHED.
+     */
+    public static final String PURGE_FINISHED =
+            "Purge of inactive announcements finished, deleted: ";
+
+    /**
+     * This is constant ARCHIVE_PARTITION_ADDED.
+     */
+    public static final String ARCHIVE_PARTITION_ADDED =
+            "Partition added to announcements archive for: ";
+
+    /**
+     * This is constant ANNOUNCEMENTS_ARCHIVED.
+     */
+    public static final String ANNOUNCEMENTS_ARCHIVED =
+            "Expired announcements archived: ";
+
+    /**
+     * This is constant ARCHIVED_ANNOUNCEMENT_FOUND.
+     */
+    public static final String ARCHIVED_ANNOUNCEMENT_FOUND =
+            "Archived announcement was found by id: ";
+
+    /**
+     * This is constant ARCHIVED_ANNOUNCEMENT_NOT_FOUND.
+     */
+    public static final String ARCHIVED_ANNOUNCEMENT_NOT_FOUND =
+            "Cannot find archived announcement by id: ";
+
+    /**
+     * This is constant ANNOUNCEMENTS_SAVED.
+     */
+    public static final String ANNOUNCEMENTS_SAVED =
+            "Announcements saved by batch: ";
+
+    /**
+     * This is constant EMAIL_TEMPLATES_LOADED.
+     */
+    public static final String EMAIL_TEMPLATES_LOADED =
+            "Email templates loaded: ";
+
+    /**
+     * This is constant EMAIL_TEMPLATE_SKIPPED.
+     */
+    public static final String EMAIL_TEMPLATE_SKIPPED =
+            "Email template without id of heading is skipped: ";
+
+    /**
+     * This is constant SLOW_SQL_STATEMENT.
+     */
+    public static final String SLOW_SQL_STATEMENT =
+            "Slow SQL statement: ";
+
+    /**
+     * This is constant TOO_MANY_SQL_STATEMENTS.
+     */
+    public static final String TOO_MANY_SQL_STATEMENTS =
+            "Too many SQL statements in one request of ";
+
+    /**
+     * This is constant JOB_LEASE_HELD.
+     */
+    public static final String JOB_LEASE_HELD =
+            "Job is run by other node or trigger: ";
+
+    /**
+     * This is constant JOB_LEASE_LOST.
+     */
+    public static final String JOB_LEASE_LOST =
+            "Lease of the running job was taken by other node: ";
+
+    /**
+     * This is constant JOB_FINISHED.
+     */
+    public static final String JOB_FINISHED =
+            "Job finished: ";
+
+    /**
+     * This is constant JOB_RESUMED.
+     */
+    public static final String JOB_RESUMED =
+            "Resuming job abandoned by other node: ";
+
+    /**
+     * This is constant JOB_RESUME_FAILED.
+     */
+    public static final String JOB_RESUME_FAILED =
+            "Resumed job failed: ";
 }
@@ -39,4 +39,19 @@ public final class SecurityConstant {
      * This is constant ONE_THOUSAND.
      */
     public static final int ONE_THOUSAND = 1000;
+
+    /**
+     * This is constant CLAIM_AUTHOR_ID, name of the claim with author id.
+     */
+    public static final String CLAIM_AUTHOR_ID = "aid";
+
+    /**
+     * This is constant CLAIM_ROLES, name of the claim with roles.
+     */
+    public static final String CLAIM_ROLES = "roles";
+
+    /**
+     * This is constant CLAIM_ACTIVE, name of the claim with active flag.
+     */
+    public static final String CLAIM_ACTIVE = "active";
 }
@@ -293,4 +293,30 @@ public final class ValidationConstants {
      * This is constant MODERATOR.
      */
     public static final String MODERATOR = "MODERATOR";
+
+    /**
+     * This is constant SEEK_PAGE_SIZE_MAX.
+     */
+    public static final int SEEK_PAGE_SIZE_MAX = 100;
+
+    /**
+     * This is constant SEARCH_PAGE_SIZE_MAX.
+     */
+    public static final int SEARCH_PAGE_SIZE_MAX = 100;
+
+    /**
+     * This is constant SEARCH_RESULTS_MAX.
+     */
+    public static final int SEARCH_RESULTS_MAX = 10000;
+
+    /**
+     * This is constant ANNOUNCEMENT_BATCH_SIZE_MAX.
+     */
+    public static final int ANNOUNCEMENT_BATCH_SIZE_MAX = 5000;
+
+    /**
+     * This is constant ANNOUNCEMENT_BATCH_ITEM_NULL.
+     */
+    public static final String ANNOUNCEMENT_BATCH_ITEM_NULL =
+            "announcement must not be null";
 }
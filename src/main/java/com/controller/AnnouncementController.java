@@ -2,8 +2,13 @@ package com.controller;
 
 import com.constant.ExceptionConstant;
 import com.constant.LoggerConstants;
+import com.constant.ValidationConstants;
 import com.dto.AnnouncementDto;
+import com.dto.AnnouncementPageDto;
 import com.exception.custom_exception.AnnouncementException;
+import com.exception.custom_exception.BatchSizeException;
+import com.exception.custom_exception.PaginationCursorException;
+import com.service.AnnouncementArchiveService;
 import com.service.AnnouncementService;
 import org.apache.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,12 +25,17 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import javax.validation.Validator;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Class {@link AnnouncementController} using to perform announcement operations
@@ -48,6 +58,12 @@ public class AnnouncementController {
             getLogger(AnnouncementController.class);
 
 
+    /**
+     * This is constant with content type of newline-delimited JSON.
+     */
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
+
     /**
      * Field {@link AnnouncementService} is object instance of
      * {@link AnnouncementService} interface with {@link AnnouncementDto} type.
@@ -63,6 +79,20 @@ public class AnnouncementController {
     private Validator validator;
 
 
+    /**
+     * Field {@link AsyncReads} runs read operations of this controller
+     * on the pool of read workers.
+     */
+    private AsyncReads asyncReads;
+
+
+    /**
+     * Field {@link AnnouncementArchiveService} reads expired
+     * announcements from the archive.
+     */
+    private AnnouncementArchiveService archiveService;
+
+
     /**
      * This is a constructor that injects the object gain of the
      * {@link AnnouncementService} class into the {@link AnnouncementController}
@@ -76,6 +106,29 @@ public class AnnouncementController {
     }
 
 
+    /**
+     * This is method for injecting {@link AnnouncementArchiveService}.
+     *
+     * @param serviceArchive {@link AnnouncementArchiveService}.
+     */
+    @Autowired
+    public void setArchiveService(
+            final AnnouncementArchiveService serviceArchive) {
+        this.archiveService = serviceArchive;
+    }
+
+
+    /**
+     * This is method for injecting {@link AsyncReads}.
+     *
+     * @param reads {@link AsyncReads}.
+     */
+    @Autowired
+    public void setAsyncReads(final AsyncReads reads) {
+        this.asyncReads = reads;
+    }
+
+
     /**
      * This is method for injecting {@link Validator}.
      * It'll injects class {@link Validator}
@@ -112,26 +165,112 @@ public class AnnouncementController {
     }
 
 
+    /**
+     * This method takes up to {@link ValidationConstants
+     * #ANNOUNCEMENT_BATCH_SIZE_MAX} {@link AnnouncementDto} objects from
+     * the client, validates all of them and passes them in
+     * {@link AnnouncementService#saveAll(List)} for saving at once.
+     *
+     * @param announcementDtos {@link List<AnnouncementDto>}.
+     * @return {@link ResponseEntity} with ids of saved announcements
+     * in order of the list.
+     * @throws BatchSizeException           if the list is empty or
+     *                                      too big.
+     * @throws ConstraintViolationException if any announcement
+     *                                      is null or not valid.
+     */
+    @PostMapping(value = "/announcements/batch",
+            consumes = "application/json")
+    public ResponseEntity<List<Integer>> saveAll(
+            @RequestBody final List<AnnouncementDto> announcementDtos)
+            throws BatchSizeException {
+        if (announcementDtos.isEmpty() || announcementDtos.size()
+                > ValidationConstants.ANNOUNCEMENT_BATCH_SIZE_MAX) {
+            LOGGER.error(ExceptionConstant.ANNOUNCEMENT_BATCH_SIZE_EXCEPTION
+                    + ValidationConstants.ANNOUNCEMENT_BATCH_SIZE_MAX);
+            throw new BatchSizeException(ExceptionConstant
+                    .ANNOUNCEMENT_BATCH_SIZE_EXCEPTION
+                    + ValidationConstants.ANNOUNCEMENT_BATCH_SIZE_MAX);
+        }
+        Set<ConstraintViolation<AnnouncementDto>> violations =
+                new LinkedHashSet<>();
+        StringBuilder message = new StringBuilder();
+        for (int i = 0; i < announcementDtos.size(); i++) {
+            if (announcementDtos.get(i) == null) {
+                message.append('[').append(i).append("]: ")
+                        .append(ValidationConstants
+                                .ANNOUNCEMENT_BATCH_ITEM_NULL)
+                        .append("; ");
+                continue;
+            }
+            for (ConstraintViolation<AnnouncementDto> violation
+                    : validator.validate(announcementDtos.get(i))) {
+                violations.add(violation);
+                message.append('[').append(i).append("].")
+                        .append(violation.getPropertyPath()).append(": ")
+                        .append(violation.getMessage()).append("; ");
+            }
+        }
+        if (message.length() > 0) {
+            LOGGER.error(message);
+            throw new ConstraintViolationException(message.toString(),
+                    violations);
+        }
+        List<Integer> ids = announcementService.saveAll(announcementDtos);
+        LOGGER.info(LoggerConstants.ANNOUNCEMENTS_SAVED + ids.size());
+        return new ResponseEntity<>(ids, HttpStatus.CREATED);
+    }
+
+
     /**
      * This method returns to the client a certain {@link AnnouncementDto}
      * on a certain identifier announcement and passes the identifier to the
      * {@link AnnouncementService#find(int)} method for finding.
      *
      * @param id int announcement id.
-     * @return announcement {@link AnnouncementDto}.
-     * @throws AnnouncementException if announcement could'nt find.
+     * @return announcement {@link AnnouncementDto} in
+     * {@link CompletableFuture}, it completes with
+     * {@link AnnouncementException} if announcement could'nt find.
      */
     @GetMapping(value = "/announcements/{id}")
-    public ResponseEntity<AnnouncementDto> get(
-            @PathVariable("id") final int id) throws AnnouncementException {
-        AnnouncementDto announcementDto = announcementService.find(id);
-        if (announcementDto == null) {
-            LOGGER.error(LoggerConstants.ANNOUNCEMENT_NOT_FOUND + id);
-            throw new AnnouncementException(ExceptionConstant.
-                    ANNOUNCEMENT_GET_EXCEPTION + id);
-        }
-        LOGGER.info(LoggerConstants.ANNOUNCEMENT_FOUND + id);
-        return new ResponseEntity<>(announcementDto, HttpStatus.FOUND);
+    public CompletableFuture<ResponseEntity<AnnouncementDto>> get(
+            @PathVariable("id") final int id) {
+        return asyncReads.submit(() -> {
+            AnnouncementDto announcementDto = announcementService.find(id);
+            if (announcementDto == null) {
+                LOGGER.error(LoggerConstants.ANNOUNCEMENT_NOT_FOUND + id);
+                throw new AnnouncementException(ExceptionConstant.
+                        ANNOUNCEMENT_GET_EXCEPTION + id);
+            }
+            LOGGER.info(LoggerConstants.ANNOUNCEMENT_FOUND + id);
+            return new ResponseEntity<>(announcementDto, HttpStatus.FOUND);
+        });
+    }
+
+
+    /**
+     * This method returns to the client expired {@link AnnouncementDto}
+     * which was moved to the archive by its identifier.
+     *
+     * @param id int announcement id.
+     * @return archived announcement {@link AnnouncementDto} in
+     * {@link CompletableFuture}, it completes with
+     * {@link AnnouncementException} if announcement is not in archive.
+     */
+    @GetMapping(value = "/announcements/archive/{id}")
+    public CompletableFuture<ResponseEntity<AnnouncementDto>> getArchived(
+            @PathVariable("id") final int id) {
+        return asyncReads.submit(() -> {
+            AnnouncementDto announcementDto = archiveService.findArchived(id);
+            if (announcementDto == null) {
+                LOGGER.error(LoggerConstants
+                        .ARCHIVED_ANNOUNCEMENT_NOT_FOUND + id);
+                throw new AnnouncementException(ExceptionConstant.
+                        ARCHIVED_ANNOUNCEMENT_GET_EXCEPTION + id);
+            }
+            LOGGER.info(LoggerConstants.ARCHIVED_ANNOUNCEMENT_FOUND + id);
+            return new ResponseEntity<>(announcementDto, HttpStatus.FOUND);
+        });
     }
 
 
@@ -190,23 +329,27 @@ public class AnnouncementController {
      * {@link AnnouncementService#getAllByHeadingId(int)} for finding.
      *
      * @param id int heading id.
-     * @return {@link List<AnnouncementDto>}.
-     * @throws AnnouncementException if List<announcementDto> could'nt find.
+     * @return {@link List<AnnouncementDto>} in {@link CompletableFuture}, it
+     * completes with {@link AnnouncementException} if List<announcementDto>
+     * could'nt find.
      */
     @GetMapping(value = "/announcements/{id}/get-by-heading-id")
-    public ResponseEntity<List<AnnouncementDto>> getAllAnnouncementByHeadingId(
-            @PathVariable("id") final int id)
-            throws AnnouncementException {
-        List<AnnouncementDto> allByHeadingId = announcementService
-                .getAllByHeadingId(id);
-        if (allByHeadingId.isEmpty()) {
-            LOGGER.error(LoggerConstants.
-                    ALL_ANNOUNCEMENTS_BY_HEADING_ID_NOT_FIND + id);
-            throw new AnnouncementException(ExceptionConstant.
-                    ANNOUNCEMENT_GET_ALL_BY_HEADING_ID_EXCEPTION + id);
-        }
-        LOGGER.info(LoggerConstants.ALL_ANNOUNCEMENTS_BY_HEADING_ID_FOUND + id);
-        return new ResponseEntity<>(allByHeadingId, HttpStatus.FOUND);
+    public CompletableFuture<ResponseEntity<List<AnnouncementDto>>>
+    getAllAnnouncementByHeadingId(
+            @PathVariable("id") final int id) {
+        return asyncReads.submit(() -> {
+            List<AnnouncementDto> allByHeadingId = announcementService
+                    .getAllByHeadingId(id);
+            if (allByHeadingId.isEmpty()) {
+                LOGGER.error(LoggerConstants.
+                        ALL_ANNOUNCEMENTS_BY_HEADING_ID_NOT_FIND + id);
+                throw new AnnouncementException(ExceptionConstant.
+                        ANNOUNCEMENT_GET_ALL_BY_HEADING_ID_EXCEPTION + id);
+            }
+            LOGGER.info(LoggerConstants
+                    .ALL_ANNOUNCEMENTS_BY_HEADING_ID_FOUND + id);
+            return new ResponseEntity<>(allByHeadingId, HttpStatus.FOUND);
+        });
     }
 
 
@@ -217,24 +360,28 @@ public class AnnouncementController {
      * {@link AnnouncementService#filterAllByDate(LocalDate)} for filtering.
      *
      * @param date {@link LocalDate}.
-     * @return {@link List<AnnouncementDto>}.
-     * @throws AnnouncementException if List<announcement> could'nt find.
+     * @return {@link List<AnnouncementDto>} in {@link CompletableFuture}, it
+     * completes with {@link AnnouncementException} if List<announcement>
+     * could'nt find.
      */
     @GetMapping(value = "/announcements/filter-by")
-    public ResponseEntity<List<AnnouncementDto>> filterAllAnnounceByDate(
+    public CompletableFuture<ResponseEntity<List<AnnouncementDto>>>
+    filterAllAnnounceByDate(
             @RequestParam("date")
-            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate date)
-            throws AnnouncementException {
-        List<AnnouncementDto> filtersByDateAll = announcementService.
-                filterAllByDate(date);
-        if (filtersByDateAll.isEmpty()) {
-            LOGGER.error(LoggerConstants.
-                    ALL_ANNOUNCEMENTS_BY_DATE_NOT_FIND + date);
-            throw new AnnouncementException(ExceptionConstant.
-                    ANNOUNCEMENT_GET_ALL_BY_DATE_EXCEPTION + date);
-        }
-        LOGGER.info(LoggerConstants.ALL_ANNOUNCEMENTS_BY_DATE_FOUND + date);
-        return new ResponseEntity<>(filtersByDateAll, HttpStatus.FOUND);
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            final LocalDate date) {
+        return asyncReads.submit(() -> {
+            List<AnnouncementDto> filtersByDateAll = announcementService.
+                    filterAllByDate(date);
+            if (filtersByDateAll.isEmpty()) {
+                LOGGER.error(LoggerConstants.
+                        ALL_ANNOUNCEMENTS_BY_DATE_NOT_FIND + date);
+                throw new AnnouncementException(ExceptionConstant.
+                        ANNOUNCEMENT_GET_ALL_BY_DATE_EXCEPTION + date);
+            }
+            LOGGER.info(LoggerConstants.ALL_ANNOUNCEMENTS_BY_DATE_FOUND + date);
+            return new ResponseEntity<>(filtersByDateAll, HttpStatus.FOUND);
+        });
     }
 
 
@@ -245,29 +392,32 @@ public class AnnouncementController {
      * {@link AnnouncementService#filterAllByRevelationText(String)}.
      *
      * @param revelationText {@link String}.
-     * @return {@link List<AnnouncementDto>}.
-     * @throws AnnouncementException if List<announcement> could'nt find.
+     * @return {@link List<AnnouncementDto>} in {@link CompletableFuture}, it
+     * completes with {@link AnnouncementException} if List<announcement>
+     * could'nt find.
      */
     @GetMapping(value = "/announcements/filter-by-revelation")
-    public ResponseEntity<List<AnnouncementDto>>
+    public CompletableFuture<ResponseEntity<List<AnnouncementDto>>>
     filterAllAnnouncementByRevelationTest(
-            @RequestParam("text") final String revelationText)
-            throws AnnouncementException {
-        List<AnnouncementDto> filterAllByRevelationText = announcementService.
-                filterAllByRevelationText(revelationText);
-        if (filterAllByRevelationText.isEmpty()) {
-            LOGGER.error(LoggerConstants.
-                    ALL_ANNOUNCEMENTS_BY_REVELATION_TEXT_NOT_FIND
-                    + revelationText);
-            throw new AnnouncementException(ExceptionConstant.
-                    ANNOUNCEMENT_GET_ALL_BY_REVELATION_TEXT_EXCEPTION
+            @RequestParam("text") final String revelationText) {
+        return asyncReads.submit(() -> {
+            List<AnnouncementDto> filterAllByRevelationText =
+                    announcementService
+                            .filterAllByRevelationText(revelationText);
+            if (filterAllByRevelationText.isEmpty()) {
+                LOGGER.error(LoggerConstants.
+                        ALL_ANNOUNCEMENTS_BY_REVELATION_TEXT_NOT_FIND
+                        + revelationText);
+                throw new AnnouncementException(ExceptionConstant.
+                        ANNOUNCEMENT_GET_ALL_BY_REVELATION_TEXT_EXCEPTION
+                        + revelationText);
+            }
+            LOGGER.info(LoggerConstants.
+                    ALL_ANNOUNCEMENTS_BY_REVELATION_TEXT_FOUND
                     + revelationText);
-        }
-        LOGGER.info(LoggerConstants.
-                ALL_ANNOUNCEMENTS_BY_REVELATION_TEXT_FOUND
-                + revelationText);
-        return new ResponseEntity<>(
-                filterAllByRevelationText, HttpStatus.FOUND);
+            return new ResponseEntity<>(
+                    filterAllByRevelationText, HttpStatus.FOUND);
+        });
     }
 
 
@@ -278,23 +428,131 @@ public class AnnouncementController {
      *
      * @param page int.
      * @param size int.
-     * @return {@link List<AnnouncementDto>}.
-     * @throws AnnouncementException if List<announcementDto> could'nt find.
+     * @return {@link List<AnnouncementDto>} in {@link CompletableFuture}, it
+     * completes with {@link AnnouncementException} if List<announcementDto>
+     * could'nt find.
      */
     @GetMapping(value = "/announcements/pagination")
-    public ResponseEntity<List<AnnouncementDto>>
+    public CompletableFuture<ResponseEntity<List<AnnouncementDto>>>
     getSomeAnnouncementsPagination(@RequestParam("page") final int page,
-                                   @RequestParam("size") final int size)
-            throws AnnouncementException {
-        List<AnnouncementDto> announcementsPagination = announcementService.
-                showSomeAnnouncementsPagination(page, size);
-        if (announcementsPagination.isEmpty()) {
-            LOGGER.error(LoggerConstants.
-                    PAGINATION_ANNOUNCEMENTS_NOT_FOUND);
-            throw new AnnouncementException(ExceptionConstant
-                    .ANNOUNCEMENT_GET_ALL_BY_PAGINATION_EXCEPTION);
-        }
-        LOGGER.info(LoggerConstants.PAGINATION_ANNOUNCEMENTS_FOUND);
-        return new ResponseEntity<>(announcementsPagination, HttpStatus.FOUND);
+                                   @RequestParam("size") final int size) {
+        return asyncReads.submit(() -> {
+            List<AnnouncementDto> announcementsPagination = announcementService.
+                    showSomeAnnouncementsPagination(page, size);
+            if (announcementsPagination.isEmpty()) {
+                LOGGER.error(LoggerConstants.
+                        PAGINATION_ANNOUNCEMENTS_NOT_FOUND);
+                throw new AnnouncementException(ExceptionConstant
+                        .ANNOUNCEMENT_GET_ALL_BY_PAGINATION_EXCEPTION);
+            }
+            LOGGER.info(LoggerConstants.PAGINATION_ANNOUNCEMENTS_FOUND);
+            return new ResponseEntity<>(announcementsPagination,
+                    HttpStatus.FOUND);
+        });
+    }
+
+
+    /**
+     * This method gets a page of announcements which go after the cursor
+     * and passes the cursor, the size and the order to the
+     * {@link AnnouncementService#seekAnnouncements(String, int, String)}.
+     * Unlike {@link #getSomeAnnouncementsPagination(int, int)} it seeks
+     * by index, so the page N costs the same as the first page.
+     *
+     * @param after opaque cursor from nextCursor of the previous page,
+     *              it is absent for the first page.
+     * @param size  int size of the page.
+     * @param order order of the pages: id (default) or date.
+     * @return {@link AnnouncementPageDto} in {@link CompletableFuture}, it
+     * completes with {@link AnnouncementException} if there are no
+     * announcements or with {@link PaginationCursorException} if the cursor or
+     * order is broken.
+     */
+    @GetMapping(value = "/announcements/seek")
+    public CompletableFuture<ResponseEntity<AnnouncementPageDto>>
+    seekAnnouncements(
+            @RequestParam(value = "after", required = false)
+            final String after,
+            @RequestParam(value = "size", defaultValue = "20") final int size,
+            @RequestParam(value = "order", defaultValue = "id")
+            final String order) {
+        return asyncReads.submit(() -> {
+            AnnouncementPageDto page = announcementService
+                    .seekAnnouncements(after, size, order);
+            if (page.getContent().isEmpty()) {
+                LOGGER.error(LoggerConstants
+                        .PAGINATION_ANNOUNCEMENTS_NOT_FOUND);
+                throw new AnnouncementException(ExceptionConstant
+                        .ANNOUNCEMENT_GET_ALL_BY_PAGINATION_EXCEPTION);
+            }
+            LOGGER.info(LoggerConstants.PAGINATION_ANNOUNCEMENTS_FOUND);
+            return new ResponseEntity<>(page, HttpStatus.FOUND);
+        });
+    }
+
+
+    /**
+     * This method returns to the client a page of announcements found by
+     * words of the name and revelationText, the best announcements go
+     * first. It passes the query, the page and the size to the
+     * {@link AnnouncementService#searchAnnouncements(String, int, int)}.
+     * Unlike {@link #filterAllAnnouncementByRevelationTest(String)} it
+     * finds announcements which contain any of the words.
+     *
+     * @param query words of the query, a word ending with '*' is a prefix.
+     * @param page  int number of the page.
+     * @param size  int size of the page.
+     * @return {@link List<AnnouncementDto>} in {@link CompletableFuture}, it
+     * completes with {@link AnnouncementException} if there are no
+     * announcements.
+     */
+    @GetMapping(value = "/announcements/search")
+    public CompletableFuture<ResponseEntity<List<AnnouncementDto>>>
+    searchAnnouncements(
+            @RequestParam("query") final String query,
+            @RequestParam(value = "page", defaultValue = "0") final int page,
+            @RequestParam(value = "size", defaultValue = "20") final int size) {
+        return asyncReads.submit(() -> {
+            List<AnnouncementDto> found = announcementService
+                    .searchAnnouncements(query, page, size);
+            if (found.isEmpty()) {
+                LOGGER.error(LoggerConstants.SEARCH_ANNOUNCEMENTS_NOT_FOUND
+                        + query);
+                throw new AnnouncementException(ExceptionConstant
+                        .ANNOUNCEMENT_SEARCH_EXCEPTION + query);
+            }
+            LOGGER.info(LoggerConstants.SEARCH_ANNOUNCEMENTS_FOUND + query);
+            return new ResponseEntity<>(found, HttpStatus.FOUND);
+        });
+    }
+
+
+    /**
+     * This method streams to the client announcements of the heading and
+     * the date as newline-delimited JSON, one {@link AnnouncementDto} per
+     * line. Announcements are written as soon as they are read from
+     * database by {@link AnnouncementService#exportAnnouncements(Integer,
+     * LocalDate, java.io.OutputStream)}, so the export of all
+     * announcements needs as much memory as the export of one.
+     *
+     * @param headingId id of the heading, it is absent for all headings.
+     * @param date      publication date, it is absent for all dates.
+     * @param response  {@link HttpServletResponse}.
+     * @throws IOException if the response can not be written.
+     */
+    @GetMapping(value = "/announcements/export",
+            produces = NDJSON_CONTENT_TYPE)
+    public void exportAnnouncements(
+            @RequestParam(value = "headingId", required = false)
+            final Integer headingId,
+            @RequestParam(value = "date", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            final LocalDate date,
+            final HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON_CONTENT_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        int count = announcementService.exportAnnouncements(headingId, date,
+                response.getOutputStream());
+        LOGGER.info(LoggerConstants.ANNOUNCEMENTS_EXPORTED + count);
     }
 }
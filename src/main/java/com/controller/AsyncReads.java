@@ -0,0 +1,97 @@
+package com.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Class {@link AsyncReads} runs read operations of the controllers on
+ * the bounded pool {@code readExecutor}, so a thread of the servlet
+ * container is released while the operation waits for database. When
+ * the pool and its queue are full the operation is rejected at once
+ * with {@link TaskRejectedException}. With {@code async.enabled=false}
+ * operations run in the thread of the request as before.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Component
+public class AsyncReads {
+
+    /**
+     * This is field with {@link Executor} of read operations.
+     */
+    private final Executor executor;
+
+    /**
+     * This is field which is true when operations run on the executor.
+     */
+    private final boolean enabled;
+
+    /**
+     * This is a constructor that injects the executor of read operations
+     * into the {@link AsyncReads} class.
+     *
+     * @param readExecutor {@link Executor} of read operations.
+     * @param asyncEnabled true to run operations on the executor.
+     */
+    @Autowired
+    public AsyncReads(@Qualifier("readExecutor") final Executor readExecutor,
+                      @Value("${async.enabled:true}")
+                      final boolean asyncEnabled) {
+        this.executor = readExecutor;
+        this.enabled = asyncEnabled;
+    }
+
+    /**
+     * This method runs the read operation and returns its result. The
+     * future completes with the exception of the operation itself, so
+     * it is handled by {@link com.exception.handler.CustomExceptionHandler}
+     * as if it was thrown by the controller.
+     *
+     * @param read {@link Read} operation.
+     * @param <T>  type of the result.
+     * @return {@link CompletableFuture} with result of the operation.
+     * @throws TaskRejectedException if the executor is overloaded.
+     */
+    public <T> CompletableFuture<T> submit(final Read<T> read) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                future.complete(read.get());
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        };
+        if (enabled) {
+            executor.execute(task);
+        } else {
+            task.run();
+        }
+        return future;
+    }
+
+    /**
+     * Interface {@link Read} is read operation of a controller which
+     * may throw checked exceptions of the application.
+     *
+     * @param <T> type of the result.
+     */
+    @FunctionalInterface
+    public interface Read<T> {
+
+        /**
+         * This method performs the operation.
+         *
+         * @return result of the operation.
+         * @throws Exception if the operation fails.
+         */
+        T get() throws Exception;
+    }
+}
@@ -23,6 +23,7 @@ import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import javax.validation.Validator;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Class {@link AuthorController} using to perform author operations and
@@ -60,6 +61,13 @@ public class AuthorController {
     private Validator validator;
 
 
+    /**
+     * Field {@link AsyncReads} runs read operations of this controller
+     * on the pool of read workers.
+     */
+    private AsyncReads asyncReads;
+
+
     /**
      * This is a constructor that injects object gain of the
      * {@link AuthorService} into the {@link AuthorController} class.
@@ -73,6 +81,17 @@ public class AuthorController {
     }
 
 
+    /**
+     * This is method for injecting {@link AsyncReads}.
+     *
+     * @param reads {@link AsyncReads}.
+     */
+    @Autowired
+    public void setAsyncReads(final AsyncReads reads) {
+        this.asyncReads = reads;
+    }
+
+
     /**
      * This is method for injecting {@link Validator}.
      * It'll injects class {@link Validator}
@@ -136,20 +155,23 @@ public class AuthorController {
      * {@link AuthorService#find(int)} for finding.
      *
      * @param id int author id.
-     * @return authorDto {@link AuthorDto}.
-     * @throws AuthorException if {@link com.domain.Author} could'nt find.
+     * @return authorDto {@link AuthorDto} in {@link CompletableFuture}, it
+     * completes with {@link AuthorException} if {@link com.domain.Author}
+     * could'nt find.
      */
     @GetMapping(value = "/authors/{id}")
-    public ResponseEntity<AuthorDto> find(
-            @PathVariable("id") final int id) throws AuthorException {
-        AuthorDto authorDto = authorService.find(id);
-        if (authorDto == null) {
-            LOGGER.error(LoggerConstants.AUTHOR_NOT_FOUND + id);
-            throw new AuthorException(ExceptionConstant
-                    .AUTHOR_GET_EXCEPTION + id);
-        }
-        LOGGER.info(LoggerConstants.AUTHOR_FOUND + id);
-        return new ResponseEntity<>(authorDto, HttpStatus.FOUND);
+    public CompletableFuture<ResponseEntity<AuthorDto>> find(
+            @PathVariable("id") final int id) {
+        return asyncReads.submit(() -> {
+            AuthorDto authorDto = authorService.find(id);
+            if (authorDto == null) {
+                LOGGER.error(LoggerConstants.AUTHOR_NOT_FOUND + id);
+                throw new AuthorException(ExceptionConstant
+                        .AUTHOR_GET_EXCEPTION + id);
+            }
+            LOGGER.info(LoggerConstants.AUTHOR_FOUND + id);
+            return new ResponseEntity<>(authorDto, HttpStatus.FOUND);
+        });
     }
 
 
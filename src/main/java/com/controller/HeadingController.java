@@ -30,6 +30,7 @@ import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Class {@link HeadingController} using to perform heading methods
@@ -67,6 +68,13 @@ public class HeadingController {
     private Validator validator;
 
 
+    /**
+     * Field {@link AsyncReads} runs read operations of this controller
+     * on the pool of read workers.
+     */
+    private AsyncReads asyncReads;
+
+
     /**
      * This is a constructor that injects the object gain of the
      * {@link HeadingService} interface into the
@@ -80,6 +88,17 @@ public class HeadingController {
     }
 
 
+    /**
+     * This is method for injecting {@link AsyncReads}.
+     *
+     * @param reads {@link AsyncReads}.
+     */
+    @Autowired
+    public void setAsyncReads(final AsyncReads reads) {
+        this.asyncReads = reads;
+    }
+
+
     /**
      * This is method for injecting {@link Validator}.
      * It'll injects class {@link Validator}
@@ -122,20 +141,22 @@ public class HeadingController {
      * on a certain identifier.
      *
      * @param id int headingDto id.
-     * @return headingDto {@link HeadingDto}.
-     * @throws HeadingException if Heading could'nt find.
+     * @return headingDto {@link HeadingDto} in {@link CompletableFuture}, it
+     * completes with {@link HeadingException} if Heading could'nt find.
      */
     @GetMapping(value = "/headings/{id}")
-    public ResponseEntity<HeadingDto> get(
-            @PathVariable("id") final int id) throws HeadingException {
-        HeadingDto headingDto = headingService.find(id);
-        if (headingDto == null) {
-            LOGGER.error(LoggerConstants.HEADING_NOT_FOUND + id);
-            throw new HeadingException(ExceptionConstant.
-                    HEADING_GET_EXCEPTION + id);
-        }
-        LOGGER.info(LoggerConstants.HEADING_FOUND + id);
-        return new ResponseEntity<>(headingDto, HttpStatus.FOUND);
+    public CompletableFuture<ResponseEntity<HeadingDto>> get(
+            @PathVariable("id") final int id) {
+        return asyncReads.submit(() -> {
+            HeadingDto headingDto = headingService.find(id);
+            if (headingDto == null) {
+                LOGGER.error(LoggerConstants.HEADING_NOT_FOUND + id);
+                throw new HeadingException(ExceptionConstant.
+                        HEADING_GET_EXCEPTION + id);
+            }
+            LOGGER.info(LoggerConstants.HEADING_FOUND + id);
+            return new ResponseEntity<>(headingDto, HttpStatus.FOUND);
+        });
     }
 
 
@@ -196,14 +217,28 @@ public class HeadingController {
      * {@link HeadingService#getAnnouncementsFromSomeHeadings(List)}.
      *
      * @param ids List<Integer>.
-     * @return {@link List<Announcement>}.
-     * @throws HeadingException if list of announcements could'nt find.
+     * @return {@link List<Announcement>} in {@link CompletableFuture}, it
+     * completes with {@link HeadingException} if list of announcements could'nt
+     * find.
      */
     @GetMapping(value = "/headings/get-announce-from-some-headings")
-    public List<Announcement> getAnnouncementsFromHeadings(
+    public CompletableFuture<List<Announcement>> getAnnouncementsFromHeadings(
             @RequestParam("param")
-            @Valid @NotEmpty final List<@NotNull Integer> ids)
-            throws HeadingException {
+            @Valid @NotEmpty final List<@NotNull Integer> ids) {
+        return asyncReads.submit(() -> findAnnouncementsFromHeadings(ids));
+    }
+
+
+    /**
+     * This method finds all announcements from certain headings
+     * for {@link #getAnnouncementsFromHeadings(List)}.
+     *
+     * @param ids List<Integer>.
+     * @return {@link List<Announcement>}.
+     * @throws HeadingException if list of announcements could'nt find.
+     */
+    private List<Announcement> findAnnouncementsFromHeadings(
+            final List<Integer> ids) throws HeadingException {
         List<Announcement> announcementsFromSomeHeadings = headingService.
                 getAnnouncementsFromSomeHeadings(ids);
         if (announcementsFromSomeHeadings.isEmpty()) {
@@ -0,0 +1,233 @@
+package com.controller;
+
+import com.dao.HeadingCache;
+import com.dto.CacheRegionStatsDto;
+import com.dto.CacheStatsDto;
+import com.dto.HibernateStatsDto;
+import com.dto.PoolMetricsDto;
+import com.dto.PurgeStatsDto;
+import com.dto.SqlProfileDto;
+import com.metrics.CacheRegionMetrics;
+import com.metrics.HibernateMetrics;
+import com.metrics.MetricsRegistry;
+import com.metrics.PoolMetrics;
+import com.metrics.PurgeMetrics;
+import com.metrics.SqlProfiler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Class {@link InternalController} using to perform internal operations
+ * for administrators like: getPoolMetrics, getHeadingCacheStats,
+ * getPurgeStats, getCacheRegionStats, getMetrics, getSqlProfiles,
+ * getHibernateStats, setHibernateStatsEnabled, resetHibernateStats.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@RestController
+@RequestMapping("internal")
+public class InternalController {
+
+    /**
+     * This is content type of the Prometheus text format.
+     */
+    private static final String METRICS_CONTENT_TYPE =
+            "text/plain; version=0.0.4; charset=utf-8";
+
+    /**
+     * Field {@link PoolMetrics} collects live metrics
+     * of the database connection pool.
+     */
+    private final PoolMetrics poolMetrics;
+
+    /**
+     * Field {@link HeadingCache} keeps all headings in memory.
+     */
+    private final HeadingCache headingCache;
+
+    /**
+     * Field {@link PurgeMetrics} collects metrics of the purge
+     * of inactive announcements.
+     */
+    private final PurgeMetrics purgeMetrics;
+
+    /**
+     * Field {@link CacheRegionMetrics} reads counters of the regions
+     * of the second-level cache.
+     */
+    private final CacheRegionMetrics cacheRegionMetrics;
+
+    /**
+     * Field {@link MetricsRegistry} keeps metrics of requests, of
+     * the database connection pool and of the email outbox.
+     */
+    private final MetricsRegistry metricsRegistry;
+
+    /**
+     * Field {@link SqlProfiler} collects SQL statements of requests
+     * by endpoint.
+     */
+    private final SqlProfiler sqlProfiler;
+
+    /**
+     * Field {@link HibernateMetrics} reads statistics of Hibernate.
+     */
+    private final HibernateMetrics hibernateMetrics;
+
+    /**
+     * This is a constructor that injects objects gain of the
+     * {@link PoolMetrics}, {@link HeadingCache}, {@link PurgeMetrics},
+     * {@link CacheRegionMetrics}, {@link MetricsRegistry},
+     * {@link SqlProfiler} and {@link HibernateMetrics} into
+     * the {@link InternalController} class.
+     *
+     * @param metricsPool        {@link PoolMetrics}.
+     * @param cacheHeading       {@link HeadingCache}.
+     * @param metricsPurge       {@link PurgeMetrics}.
+     * @param metricsCacheRegion {@link CacheRegionMetrics}.
+     * @param registry           {@link MetricsRegistry}.
+     * @param profiler           {@link SqlProfiler}.
+     * @param metricsHibernate   {@link HibernateMetrics}.
+     */
+    @Autowired
+    public InternalController(final PoolMetrics metricsPool,
+                              final HeadingCache cacheHeading,
+                              final PurgeMetrics metricsPurge,
+                              final CacheRegionMetrics metricsCacheRegion,
+                              final MetricsRegistry registry,
+                              final SqlProfiler profiler,
+                              final HibernateMetrics metricsHibernate) {
+        this.poolMetrics = metricsPool;
+        this.headingCache = cacheHeading;
+        this.purgeMetrics = metricsPurge;
+        this.cacheRegionMetrics = metricsCacheRegion;
+        this.metricsRegistry = registry;
+        this.sqlProfiler = profiler;
+        this.hibernateMetrics = metricsHibernate;
+    }
+
+    /**
+     * This is method which returns live metrics of the database
+     * connection pool: active, idle and waiting connections and
+     * histograms of time of getting connections.
+     *
+     * @return {@link ResponseEntity} with {@link PoolMetricsDto}.
+     */
+    @GetMapping(value = "/pool")
+    public ResponseEntity<PoolMetricsDto> getPoolMetrics() {
+        return new ResponseEntity<>(poolMetrics.snapshot(), HttpStatus.OK);
+    }
+
+    /**
+     * This is method which returns counters of the heading cache:
+     * hits, misses, loads from database and evictions.
+     *
+     * @return {@link ResponseEntity} with {@link CacheStatsDto}.
+     */
+    @GetMapping(value = "/heading-cache")
+    public ResponseEntity<CacheStatsDto> getHeadingCacheStats() {
+        return new ResponseEntity<>(headingCache.stats(), HttpStatus.OK);
+    }
+
+    /**
+     * This is method which returns counters of the purge of inactive
+     * announcements: deleted rows and batches and time of batches.
+     *
+     * @return {@link ResponseEntity} with {@link PurgeStatsDto}.
+     */
+    @GetMapping(value = "/purge")
+    public ResponseEntity<PurgeStatsDto> getPurgeStats() {
+        return new ResponseEntity<>(purgeMetrics.snapshot(), HttpStatus.OK);
+    }
+
+    /**
+     * This is method which returns counters of every region of
+     * the second-level cache: hits, misses, puts, removals, evictions
+     * and average time of a lookup.
+     *
+     * @return {@link ResponseEntity} with {@link List} of
+     * {@link CacheRegionStatsDto}.
+     */
+    @GetMapping(value = "/second-level-cache")
+    public ResponseEntity<List<CacheRegionStatsDto>> getCacheRegionStats() {
+        return new ResponseEntity<>(cacheRegionMetrics.snapshot(),
+                HttpStatus.OK);
+    }
+
+    /**
+     * This is method which returns all metrics in the Prometheus text
+     * format: requests, errors and latency of every endpoint, metrics of
+     * the database connection pool and of the email outbox.
+     *
+     * @return {@link ResponseEntity} with metrics.
+     */
+    @GetMapping(value = "/metrics", produces = METRICS_CONTENT_TYPE)
+    public ResponseEntity<String> getMetrics() {
+        return new ResponseEntity<>(metricsRegistry.scrape(), HttpStatus.OK);
+    }
+
+    /**
+     * This is method which returns SQL statements of requests of every
+     * endpoint: statements and their time per request and the slowest
+     * statements with types of their parameters.
+     *
+     * @return {@link ResponseEntity} with {@link List} of
+     * {@link SqlProfileDto}.
+     */
+    @GetMapping(value = "/sql-profile")
+    public ResponseEntity<List<SqlProfileDto>> getSqlProfiles() {
+        return new ResponseEntity<>(sqlProfiler.snapshot(), HttpStatus.OK);
+    }
+
+    /**
+     * This is method which returns statistics of Hibernate since
+     * the start or the last reset: loads and fetches of every entity
+     * and collection, flushes, the second-level cache and the slowest
+     * query.
+     *
+     * @return {@link ResponseEntity} with {@link HibernateStatsDto}.
+     */
+    @GetMapping(value = "/hibernate-statistics")
+    public ResponseEntity<HibernateStatsDto> getHibernateStats() {
+        return new ResponseEntity<>(hibernateMetrics.snapshot(),
+                HttpStatus.OK);
+    }
+
+    /**
+     * This is method which turns collecting of statistics of Hibernate
+     * on or off without restart.
+     *
+     * @param enabled true to collect statistics.
+     * @return {@link ResponseEntity} with {@link HibernateStatsDto}.
+     */
+    @PutMapping(value = "/hibernate-statistics")
+    public ResponseEntity<HibernateStatsDto> setHibernateStatsEnabled(
+            @RequestParam("enabled") final boolean enabled) {
+        hibernateMetrics.setEnabled(enabled);
+        return new ResponseEntity<>(hibernateMetrics.snapshot(),
+                HttpStatus.OK);
+    }
+
+    /**
+     * This is method which clears statistics of Hibernate, so the next
+     * snapshot has only what happened after it.
+     *
+     * @return {@link ResponseEntity} without body.
+     */
+    @DeleteMapping(value = "/hibernate-statistics")
+    public ResponseEntity<Void> resetHibernateStats() {
+        hibernateMetrics.reset();
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+}
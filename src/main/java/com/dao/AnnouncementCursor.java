@@ -0,0 +1,174 @@
+package com.dao;
+
+import com.constant.ExceptionConstant;
+import com.domain.Announcement;
+import com.exception.custom_exception.PaginationCursorException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Class {@link AnnouncementCursor} is position of the last
+ * {@link Announcement} of the page for keyset pagination. Clients get it
+ * as opaque url-safe string and pass it back to get the next page.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Getter
+public final class AnnouncementCursor {
+
+    /**
+     * This is separator of the parts of the cursor.
+     */
+    private static final String SEPARATOR = ":";
+
+    /**
+     * Field order is {@link Order} of the pages.
+     */
+    private final Order order;
+
+    /**
+     * Field publicationDate is date of the last announcement or null
+     * when pages are ordered by id.
+     */
+    private final LocalDate publicationDate;
+
+    /**
+     * Field id is id of the last announcement.
+     */
+    private final int id;
+
+    /**
+     * This is constructor of the cursor.
+     *
+     * @param cursorOrder {@link Order}.
+     * @param date        date of the last announcement or null.
+     * @param lastId      id of the last announcement.
+     */
+    private AnnouncementCursor(final Order cursorOrder,
+                               final LocalDate date, final int lastId) {
+        this.order = cursorOrder;
+        this.publicationDate = date;
+        this.id = lastId;
+    }
+
+    /**
+     * This method makes cursor which points after the announcement.
+     *
+     * @param order        {@link Order}.
+     * @param announcement the last {@link Announcement} of the page.
+     * @return {@link AnnouncementCursor}.
+     */
+    public static AnnouncementCursor after(final Order order,
+                                           final Announcement announcement) {
+        return new AnnouncementCursor(order, order == Order.DATE
+                ? announcement.getPublicationDate() : null,
+                announcement.getId());
+    }
+
+    /**
+     * This method encodes the cursor to opaque url-safe string.
+     *
+     * @return encoded cursor.
+     */
+    public String encode() {
+        String plain = order == Order.DATE
+                ? order.code + SEPARATOR + publicationDate + SEPARATOR + id
+                : order.code + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * This method decodes the cursor which was got from client.
+     *
+     * @param encoded encoded cursor.
+     * @param order   {@link Order} which client asks for.
+     * @return {@link AnnouncementCursor}.
+     * @throws PaginationCursorException if the cursor is broken or
+     *                                   was made for other order.
+     */
+    public static AnnouncementCursor decode(final String encoded,
+                                            final Order order)
+            throws PaginationCursorException {
+        try {
+            String plain = new String(Base64.getUrlDecoder().decode(encoded),
+                    StandardCharsets.UTF_8);
+            String[] parts = plain.split(SEPARATOR);
+            if (!order.code.equals(parts[0])) {
+                throw new PaginationCursorException(
+                        ExceptionConstant.PAGINATION_CURSOR_EXCEPTION
+                                + encoded);
+            }
+            if (order == Order.DATE && parts.length == 3) {
+                return new AnnouncementCursor(order,
+                        LocalDate.parse(parts[1]),
+                        Integer.parseInt(parts[2]));
+            }
+            if (order == Order.ID && parts.length == 2) {
+                return new AnnouncementCursor(order, null,
+                        Integer.parseInt(parts[1]));
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new PaginationCursorException(
+                    ExceptionConstant.PAGINATION_CURSOR_EXCEPTION + encoded);
+        }
+        throw new PaginationCursorException(
+                ExceptionConstant.PAGINATION_CURSOR_EXCEPTION + encoded);
+    }
+
+    /**
+     * This is enum with orders of the pages like:
+     * ID,
+     * DATE.
+     */
+    public enum Order {
+
+        /**
+         * This is order by announcement_id.
+         */
+        ID("i"),
+
+        /**
+         * This is order by publication_date and announcement_id.
+         */
+        DATE("d");
+
+        /**
+         * This is field with short code of the order in the cursor.
+         */
+        private final String code;
+
+        /**
+         * This is constructor of the order.
+         *
+         * @param orderCode short code of the order.
+         */
+        Order(final String orderCode) {
+            this.code = orderCode;
+        }
+
+        /**
+         * This method finds the order by its name from request.
+         *
+         * @param name name of the order: id or date.
+         * @return {@link Order}.
+         * @throws PaginationCursorException if there is no such order.
+         */
+        public static Order of(final String name)
+                throws PaginationCursorException {
+            for (Order order : values()) {
+                if (order.name().equalsIgnoreCase(name)) {
+                    return order;
+                }
+            }
+            throw new PaginationCursorException(
+                    ExceptionConstant.PAGINATION_ORDER_EXCEPTION + name);
+        }
+    }
+}
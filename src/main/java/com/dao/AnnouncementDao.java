@@ -2,7 +2,11 @@ package com.dao;
 
 import com.domain.Announcement;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * {@link AnnouncementDao} interface serves for the data access process for
@@ -49,8 +53,74 @@ public interface AnnouncementDao extends CRUDDao<Announcement> {
     List<Announcement> getSomePagination(int page, int size);
 
     /**
-     * This interface method deletes announcements from database when they
-     * marked as inactive.
+     * This interface method gets announcements which go after the cursor
+     * in the order, without offset and count queries.
+     *
+     * @param order {@link AnnouncementCursor.Order} of the pages.
+     * @param after {@link AnnouncementCursor} or null for the first page.
+     * @param limit maximum number of announcements.
+     * @return {@link List<Announcement>}.
+     */
+    List<Announcement> seek(AnnouncementCursor.Order order,
+                            AnnouncementCursor after, int limit);
+
+    /**
+     * This interface method reads announcements of the heading and
+     * the date by forward-only cursor and passes them one by one to
+     * the consumer, so they are never kept in memory all together.
+     *
+     * @param headingId id of the heading or null for all headings.
+     * @param date      publication date or null for all dates.
+     * @param fetchSize number of rows fetched from database at once,
+     *                  the persistence context is cleared after them.
+     * @param consumer  {@link Consumer} of every announcement.
+     * @return number of announcements.
+     */
+    int scroll(Integer headingId, LocalDate date, int fetchSize,
+               Consumer<Announcement> consumer);
+
+    /**
+     * This interface method saves many announcements and rows of the
+     * email outbox for them in one transaction by JDBC batches, ids
+     * of saved announcements are set to them.
+     *
+     * @param announcements {@link List<Announcement>}.
+     * @param batchSize     maximum number of rows in one JDBC batch.
+     */
+    void saveAll(List<Announcement> announcements, int batchSize);
+
+    /**
+     * This interface method deletes the next batch of announcements which
+     * are marked as inactive after the checkpoint of the job and moves
+     * the checkpoint in the same transaction. When nothing is left the
+     * checkpoint is reset and the next run starts from the beginning.
+     *
+     * @param job       name of the purge job.
+     * @param batchSize maximum number of deleted announcements.
+     * @return {@link List<Integer>} ids of deleted announcements.
+     */
+    List<Integer> deleteNoActiveAnnouncements(String job, int batchSize);
+
+    /**
+     * This interface method moves the next batch of expired announcements
+     * to the archive in one transaction.
+     *
+     * @param now       current time.
+     * @param batchSize maximum number of moved announcements.
+     * @return {@link List<Integer>} ids of moved announcements.
+     */
+    List<Integer> archiveExpiredAnnouncements(LocalDateTime now,
+                                              int batchSize);
+
+    /**
+     * This interface method adds partitions of the months up to
+     * {@code until} to the archive when the archive is partitioned
+     * and has no such partitions.
+     *
+     * @param from  {@link YearMonth} of the first partition when the
+     *              archive has no partitions of months yet.
+     * @param until {@link YearMonth} of the last partition.
+     * @return {@link List<YearMonth>} months of the added partitions.
      */
-    void deleteNoActiveAnnouncements();
+    List<YearMonth> addArchivePartitions(YearMonth from, YearMonth until);
 }
@@ -0,0 +1,234 @@
+package com.dao;
+
+import com.constant.LoggerConstants;
+import com.domain.Heading;
+import com.dto.CacheStatsDto;
+import com.repository.HeadingRepository;
+import org.apache.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class {@link HeadingCache} keeps copies of all {@link Heading} in memory,
+ * so headings are found without database. All headings are loaded at
+ * startup and reloaded with delay {@code heading_cache.reload_ms} to pick
+ * up headings of other instances of the application, a heading which is
+ * not in the cache is loaded by {@link HeadingDao#find(int)}. Changed and
+ * deleted headings are evicted after their transaction is committed.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Component
+public class HeadingCache {
+
+    /**
+     * This is field of class {@link Logger} returns a logger
+     * for this class.
+     */
+    private static final Logger LOGGER = Logger.getLogger(HeadingCache.class);
+
+    /**
+     * This is constant with name of the cache.
+     */
+    private static final String NAME = "headings";
+
+    /**
+     * Field {@link HeadingRepository} helps us to load all headings.
+     */
+    private final HeadingRepository headingRepository;
+
+    /**
+     * Field {@link HeadingDao} helps us to load one heading.
+     */
+    private final HeadingDao headingDao;
+
+    /**
+     * This is field with copies of headings by id.
+     */
+    private final Map<Integer, Heading> headings = new ConcurrentHashMap<>();
+
+    /**
+     * This is field with number of evictions, a heading loaded from
+     * database is cached only when there was no eviction during the load.
+     */
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * This is field with number of hits.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * This is field with number of misses.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * This is field with number of loads from database.
+     */
+    private final LongAdder loads = new LongAdder();
+
+    /**
+     * This is field with total time of loads in nanoseconds.
+     */
+    private final LongAdder loadNanos = new LongAdder();
+
+    /**
+     * This is a constructor that injects objects gain of the
+     * {@link HeadingRepository} and {@link HeadingDao} into the
+     * {@link HeadingCache} class.
+     *
+     * @param repositoryHeading {@link HeadingRepository}.
+     * @param daoHeading        {@link HeadingDao}.
+     */
+    @Autowired
+    public HeadingCache(final HeadingRepository repositoryHeading,
+                        final HeadingDao daoHeading) {
+        this.headingRepository = repositoryHeading;
+        this.headingDao = daoHeading;
+    }
+
+    /**
+     * This method loads all headings from database into the cache.
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${heading_cache.reload_ms:300000}",
+            initialDelayString = "${heading_cache.reload_ms:300000}")
+    public void reload() {
+        long generation = evictions.get();
+        long start = System.nanoTime();
+        List<Heading> all = headingRepository.findAll();
+        record(start);
+        if (generation == evictions.get()) {
+            Set<Integer> ids = new HashSet<>(all.size() * 2);
+            for (Heading heading : all) {
+                headings.put(heading.getId(), copyOf(heading));
+                ids.add(heading.getId());
+            }
+            headings.keySet().retainAll(ids);
+        }
+        LOGGER.info(LoggerConstants.HEADING_CACHE_LOADED + all.size());
+    }
+
+    /**
+     * This method finds the heading in the cache or loads it
+     * from database.
+     *
+     * @param id id of {@link Heading}.
+     * @return cached {@link Heading} which must not be changed or null
+     * when there is no heading.
+     */
+    public Heading find(final int id) {
+        Heading cached = headings.get(id);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        long generation = evictions.get();
+        long start = System.nanoTime();
+        Heading found = headingDao.find(id);
+        record(start);
+        if (found == null) {
+            return null;
+        }
+        Heading copy = copyOf(found);
+        if (generation == evictions.get()) {
+            headings.putIfAbsent(id, copy);
+        }
+        return copy;
+    }
+
+    /**
+     * This method puts saved {@link Heading} into the cache.
+     *
+     * @param heading {@link Heading}.
+     */
+    public void put(final Heading heading) {
+        headings.put(heading.getId(), copyOf(heading));
+    }
+
+    /**
+     * This method evicts the heading after the current transaction
+     * is committed or at once when there is no transaction.
+     *
+     * @param id id of {@link Heading}.
+     */
+    public void evict(final int id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronizationAdapter() {
+                        @Override
+                        public void afterCommit() {
+                            evictNow(id);
+                        }
+                    });
+        } else {
+            evictNow(id);
+        }
+    }
+
+    /**
+     * This method returns counters of the cache.
+     *
+     * @return {@link CacheStatsDto}.
+     */
+    public CacheStatsDto stats() {
+        return CacheStatsDto.builder()
+                .name(NAME)
+                .size(headings.size())
+                .hits(hits.sum())
+                .misses(misses.sum())
+                .loads(loads.sum())
+                .loadMicros(TimeUnit.NANOSECONDS.toMicros(loadNanos.sum()))
+                .evictions(evictions.get())
+                .build();
+    }
+
+    /**
+     * This method removes the heading from the cache.
+     *
+     * @param id id of {@link Heading}.
+     */
+    private void evictNow(final int id) {
+        evictions.incrementAndGet();
+        headings.remove(id);
+    }
+
+    /**
+     * This method counts the load which was started at the time.
+     *
+     * @param start start of the load by {@link System#nanoTime()}.
+     */
+    private void record(final long start) {
+        loads.increment();
+        loadNanos.add(System.nanoTime() - start);
+    }
+
+    /**
+     * This method makes detached copy of the heading, so changes of
+     * the entity do not change the cache.
+     *
+     * @param heading {@link Heading}.
+     * @return copy of {@link Heading}.
+     */
+    private static Heading copyOf(final Heading heading) {
+        return new Heading(heading.getId(), heading.getVersion(),
+                heading.getName());
+    }
+}
@@ -1,19 +1,30 @@
 package com.dao.impl;
 
+import com.dao.AnnouncementCursor;
 import com.dao.AnnouncementDao;
 import com.domain.Announcement;
 import com.domain.Announcement_;
+import com.domain.EmailOutbox;
 import com.domain.Heading_;
+import com.domain.PurgeCheckpoint;
+import com.domain.enums.OutboxStatus;
 import com.repository.AnnouncementRepository;
-import com.service.impl.EmailServiceImpl;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
 import javax.persistence.PersistenceContext;
 import javax.persistence.Query;
 import javax.persistence.TypedQuery;
@@ -22,7 +33,22 @@ import javax.persistence.criteria.CriteriaDelete;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Root;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * {@link AnnouncementDaoImpl} class serves for the data access process for
@@ -37,6 +63,46 @@ import java.util.List;
 @Repository
 public class AnnouncementDaoImpl implements AnnouncementDao {
 
+    /**
+     * This is constant with name of the last partition of the archive,
+     * it keeps announcements which expire after all other partitions.
+     */
+    private static final String ARCHIVE_LAST_PARTITION = "p_future";
+
+    /**
+     * This is constant with name of the table of the archive, native
+     * statements which change it invalidate only cached queries of it.
+     */
+    private static final String ARCHIVE_TABLE = "announcements_archive";
+
+
+    /**
+     * This is constant with format of month in names of partitions
+     * of the archive.
+     */
+    private static final DateTimeFormatter ARCHIVE_PARTITION_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMM");
+
+
+    /**
+     * This is constant with insert of one announcement for JDBC batches.
+     */
+    private static final String INSERT_ANNOUNCEMENT =
+            "INSERT INTO announcements (active, name, publication_date, "
+                    + " revelation_text, service_cost, version, "
+                    + " author_fk_id, heading_fk_id, expires_at) "
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+
+    /**
+     * This is constant with insert of one pending row of the email
+     * outbox for JDBC batches.
+     */
+    private static final String INSERT_OUTBOX =
+            "INSERT INTO email_outbox (version, announcement_fk_id, "
+                    + " status, attempts, next_attempt_at, created_at) "
+                    + " VALUES (0, ?, ?, 0, ?, ?)";
+
 
     /**
      * This is object instance of {@link EntityManager}
@@ -54,13 +120,6 @@ public class AnnouncementDaoImpl implements AnnouncementDao {
     private AnnouncementRepository announcementRepository;
 
 
-    /**
-     * This field is object instance of {@link EmailServiceImpl}
-     * helps us to work with sending email.
-     */
-    private EmailServiceImpl emailServiceImpl;
-
-
     /**
      * This is a constructor for creates object {@link AnnouncementDaoImpl}
      * by default without parameters.
@@ -70,32 +129,173 @@ public class AnnouncementDaoImpl implements AnnouncementDao {
 
 
     /**
-     * This is a constructor {@link AnnouncementDaoImpl} with parameters that
-     * injects two objects gain of the {@link AnnouncementRepository}
-     * and {@link EmailServiceImpl} classes.
+     * This is a constructor {@link AnnouncementDaoImpl} with parameter that
+     * injects object gain of the {@link AnnouncementRepository} class.
      *
      * @param repository {@link AnnouncementRepository}.
-     * @param emailImpl  {@link EmailServiceImpl}.
      */
     @Autowired
-    public AnnouncementDaoImpl(final AnnouncementRepository repository,
-                               final EmailServiceImpl emailImpl) {
+    public AnnouncementDaoImpl(final AnnouncementRepository repository) {
         this.announcementRepository = repository;
-        this.emailServiceImpl = emailImpl;
     }
 
 
     /**
      * This class method stores the {@link Announcement} in a database and
-     * conducts and collaborates with {@link EmailServiceImpl} to find emails
-     * to send mailings.
+     * writes {@link EmailOutbox} row in the same transaction, emails to the
+     * subscribed authors are sent later by
+     * {@link com.service.EmailOutboxService}.
      *
      * @param announcement {@link Announcement}.
      */
     @Override
     public void save(final Announcement announcement) {
         entityManager.persist(announcement);
-        emailServiceImpl.searchEmailsForSendingEmail(announcement);
+        entityManager.persist(new EmailOutbox(announcement.getId(),
+                LocalDateTime.now()));
+    }
+
+
+    /**
+     * This class method saves many announcements and rows of the email
+     * outbox for them by JDBC batches on the connection of current
+     * transaction. Ids of announcements are generated by database, so
+     * Hibernate can not batch their inserts, the driver rewrites every
+     * batch to one multi-row insert and returns generated ids.
+     * Hibernate does not see these inserts, so cached results of
+     * {@link AnnouncementRepository#getAllByHeadingId(int)} are evicted
+     * after commit.
+     *
+     * @param announcements {@link List<Announcement>}.
+     * @param batchSize     maximum number of rows in one JDBC batch.
+     */
+    @Override
+    public void saveAll(final List<Announcement> announcements,
+                        final int batchSize) {
+        Session session = entityManager.unwrap(Session.class);
+        session.doWork(connection -> {
+            insertAnnouncements(connection, announcements, batchSize);
+            insertOutboxRows(connection, announcements, batchSize);
+        });
+        evictAnnouncementsByHeadingAfterCommit(session);
+    }
+
+
+    /**
+     * This method evicts cached results of
+     * {@link AnnouncementRepository#getAllByHeadingId(int)} after commit
+     * of current transaction, so a concurrent query can not cache again
+     * results without the rows which are not committed yet.
+     *
+     * @param session {@link Session} of current transaction.
+     */
+    private static void evictAnnouncementsByHeadingAfterCommit(
+            final Session session) {
+        Runnable evict = () -> session.getSessionFactory().getCache()
+                .evictQueryRegion(
+                        AnnouncementRepository.ANNOUNCEMENTS_BY_HEADING_REGION);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronizationAdapter() {
+                    @Override
+                    public void afterCommit() {
+                        evict.run();
+                    }
+                });
+    }
+
+
+    /**
+     * This method inserts announcements by batches and sets generated
+     * ids to them.
+     *
+     * @param connection    {@link Connection} of current transaction.
+     * @param announcements {@link List<Announcement>}.
+     * @param batchSize     maximum number of rows in one batch.
+     * @throws SQLException if announcements can not be inserted.
+     */
+    private static void insertAnnouncements(
+            final Connection connection,
+            final List<Announcement> announcements,
+            final int batchSize) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                INSERT_ANNOUNCEMENT, Statement.RETURN_GENERATED_KEYS)) {
+            for (int from = 0; from < announcements.size();
+                 from += batchSize) {
+                int to = Math.min(from + batchSize, announcements.size());
+                for (Announcement announcement
+                        : announcements.subList(from, to)) {
+                    int column = 0;
+                    statement.setBoolean(++column, announcement.isActive());
+                    statement.setString(++column, announcement.getName());
+                    statement.setDate(++column,
+                            announcement.getPublicationDate() == null ? null
+                                    : Date.valueOf(
+                                    announcement.getPublicationDate()));
+                    statement.setString(++column,
+                            announcement.getRevelationText());
+                    statement.setBigDecimal(++column,
+                            announcement.getServiceCost());
+                    statement.setInt(++column, announcement.getVersion());
+                    statement.setObject(++column,
+                            announcement.getAuthor() == null ? null
+                                    : announcement.getAuthor().getId(),
+                            Types.INTEGER);
+                    statement.setObject(++column,
+                            announcement.getHeading() == null ? null
+                                    : announcement.getHeading().getId(),
+                            Types.INTEGER);
+                    statement.setTimestamp(++column,
+                            announcement.getExpiresAt() == null ? null
+                                    : Timestamp.valueOf(
+                                    announcement.getExpiresAt()));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    for (int i = from; i < to && keys.next(); i++) {
+                        announcements.get(i).setId(keys.getInt(1));
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * This method inserts pending rows of the email outbox for saved
+     * announcements by batches.
+     *
+     * @param connection    {@link Connection} of current transaction.
+     * @param announcements saved {@link List<Announcement>}.
+     * @param batchSize     maximum number of rows in one batch.
+     * @throws SQLException if rows can not be inserted.
+     */
+    private static void insertOutboxRows(
+            final Connection connection,
+            final List<Announcement> announcements,
+            final int batchSize) throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement statement = connection
+                .prepareStatement(INSERT_OUTBOX)) {
+            int rows = 0;
+            for (Announcement announcement : announcements) {
+                statement.setInt(1, announcement.getId());
+                statement.setString(2, OutboxStatus.PENDING.name());
+                statement.setTimestamp(3, now);
+                statement.setTimestamp(4, now);
+                statement.addBatch();
+                if (++rows % batchSize == 0) {
+                    statement.executeBatch();
+                }
+            }
+            if (rows % batchSize != 0) {
+                statement.executeBatch();
+            }
+        }
     }
 
 
@@ -244,13 +444,271 @@ public class AnnouncementDaoImpl implements AnnouncementDao {
 
 
     /**
-     * This class method delete announcements from database when
-     * they marked as inactive.
+     * This class method gets announcements which go after the cursor.
+     * It seeks by index on announcement_id or on publication_date and
+     * announcement_id, so every page costs the same as the first one.
+     * Heading and author are fetched in the same query.
+     *
+     * @param order {@link AnnouncementCursor.Order} of the pages.
+     * @param after {@link AnnouncementCursor} or null for the first page.
+     * @param limit maximum number of announcements.
+     * @return {@link List<Announcement>}.
      */
     @Override
-    public void deleteNoActiveAnnouncements() {
-        Query query = entityManager.createQuery(
-                "DELETE FROM Announcement a WHERE a.active = false");
-        query.executeUpdate();
+    @Transactional(readOnly = true)
+    public List<Announcement> seek(final AnnouncementCursor.Order order,
+                                   final AnnouncementCursor after,
+                                   final int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT a FROM Announcement a "
+                + " LEFT JOIN FETCH a.heading LEFT JOIN FETCH a.author ");
+        boolean byDate = order == AnnouncementCursor.Order.DATE;
+        if (after != null) {
+            jpql.append(byDate
+                    ? " WHERE a.publicationDate > :date OR "
+                    + " (a.publicationDate = :date AND a.id > :id) "
+                    : " WHERE a.id > :id ");
+        }
+        jpql.append(byDate ? " ORDER BY a.publicationDate, a.id"
+                : " ORDER BY a.id");
+
+        TypedQuery<Announcement> query = entityManager
+                .createQuery(jpql.toString(), Announcement.class);
+        if (after != null) {
+            query.setParameter("id", after.getId());
+            if (byDate) {
+                query.setParameter("date", after.getPublicationDate());
+            }
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+
+    /**
+     * This method reads announcements with their headings and authors by
+     * forward-only read-only cursor of {@link Session}. The persistence
+     * context is cleared after every fetchSize announcements, so memory
+     * does not grow with number of announcements.
+     *
+     * @param headingId id of the heading or null for all headings.
+     * @param date      publication date or null for all dates.
+     * @param fetchSize number of rows fetched from database at once.
+     * @param consumer  {@link Consumer} of every announcement.
+     * @return number of announcements.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public int scroll(final Integer headingId, final LocalDate date,
+                      final int fetchSize,
+                      final Consumer<Announcement> consumer) {
+        StringBuilder jpql = new StringBuilder("SELECT a FROM Announcement a "
+                + " LEFT JOIN FETCH a.heading LEFT JOIN FETCH a.author "
+                + " WHERE 1 = 1 ");
+        if (headingId != null) {
+            jpql.append(" AND a.heading.id = :headingId ");
+        }
+        if (date != null) {
+            jpql.append(" AND a.publicationDate = :date ");
+        }
+        jpql.append(" ORDER BY a.id");
+
+        Session session = entityManager.unwrap(Session.class);
+        org.hibernate.query.Query<Announcement> query = session
+                .createQuery(jpql.toString(), Announcement.class)
+                .setReadOnly(true)
+                .setCacheMode(CacheMode.IGNORE)
+                .setFetchSize(fetchSize);
+        if (headingId != null) {
+            query.setParameter("headingId", headingId);
+        }
+        if (date != null) {
+            query.setParameter("date", date);
+        }
+
+        int count = 0;
+        try (ScrollableResults rows = query.scroll(ScrollMode.FORWARD_ONLY)) {
+            while (rows.next()) {
+                consumer.accept((Announcement) rows.get(0));
+                if (++count % fetchSize == 0) {
+                    session.clear();
+                }
+            }
+        }
+        return count;
+    }
+
+
+    /**
+     * This class method deletes the next batch of inactive announcements
+     * by primary key. The batch is selected after the checkpoint of the
+     * job by index on active and id and is locked for update, so locks
+     * are held only on the rows of the batch and only until the end of
+     * the transaction, the checkpoint is saved in the same transaction.
+     *
+     * @param job       name of the purge job.
+     * @param batchSize maximum number of deleted announcements.
+     * @return {@link List<Integer>} ids of deleted announcements.
+     */
+    @Override
+    public List<Integer> deleteNoActiveAnnouncements(final String job,
+                                                     final int batchSize) {
+        PurgeCheckpoint checkpoint = entityManager.find(
+                PurgeCheckpoint.class, job, LockModeType.PESSIMISTIC_WRITE);
+        if (checkpoint == null) {
+            checkpoint = new PurgeCheckpoint(job);
+            entityManager.persist(checkpoint);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (checkpoint.getLastId() == 0) {
+            checkpoint.setDeleted(0);
+            checkpoint.setStartedAt(now);
+        }
+
+        List<Integer> ids = entityManager.createQuery(
+                "SELECT a.id FROM Announcement a WHERE a.active = false "
+                        + " AND a.id > :lastId ORDER BY a.id", Integer.class)
+                .setParameter("lastId", checkpoint.getLastId())
+                .setMaxResults(batchSize)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        if (!ids.isEmpty()) {
+            entityManager.createQuery(
+                    "DELETE FROM Announcement a WHERE a.id IN :ids")
+                    .setParameter("ids", ids)
+                    .executeUpdate();
+        }
+
+        checkpoint.setLastId(ids.isEmpty() ? 0 : ids.get(ids.size() - 1));
+        checkpoint.setDeleted(checkpoint.getDeleted() + ids.size());
+        checkpoint.setUpdatedAt(now);
+        return ids;
+    }
+
+
+    /**
+     * This class method moves the next batch of expired announcements to
+     * the archive. The batch is selected by index on expires_at and id and
+     * locked for update, then it is copied to the archive and deleted in
+     * the same transaction, so an announcement is never lost or doubled.
+     *
+     * @param now       current time.
+     * @param batchSize maximum number of moved announcements.
+     * @return {@link List<Integer>} ids of moved announcements.
+     */
+    @Override
+    public List<Integer> archiveExpiredAnnouncements(final LocalDateTime now,
+                                                     final int batchSize) {
+        List<Integer> ids = entityManager.createQuery(
+                "SELECT a.id FROM Announcement a WHERE a.expiresAt <= :now "
+                        + " ORDER BY a.expiresAt, a.id", Integer.class)
+                .setParameter("now", now)
+                .setMaxResults(batchSize)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        entityManager.createNativeQuery(
+                "INSERT INTO announcements_archive (announcement_id, version, "
+                        + " name, publication_date, revelation_text, active, "
+                        + " service_cost, heading_fk_id, author_fk_id, "
+                        + " expires_at, archived_at) "
+                        + " SELECT announcement_id, version, name, "
+                        + " publication_date, revelation_text, active, "
+                        + " service_cost, heading_fk_id, author_fk_id, "
+                        + " expires_at, :now FROM announcements "
+                        + " WHERE announcement_id IN (:ids)")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(ARCHIVE_TABLE)
+                .setParameter("now", now)
+                .setParameter("ids", ids)
+                .executeUpdate();
+        entityManager.createQuery(
+                "DELETE FROM Announcement a WHERE a.id IN :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        return ids;
+    }
+
+
+    /**
+     * This class method splits partition {@link #ARCHIVE_LAST_PARTITION}
+     * of the archive into partitions of the months after the last monthly
+     * partition up to the month {@code until}, so expired announcements
+     * of every month get own partition which can be dropped at once.
+     * When the archive has no monthly partitions yet, they are added
+     * from the month of the oldest expiry in the announcements and the
+     * archive, so the history is not kept in one partition. Nothing is
+     * done when the archive is not partitioned, e.g. it is created
+     * by hibernate.
+     *
+     * @param from  {@link YearMonth} of the first partition when there
+     *              are no monthly partitions.
+     * @param until {@link YearMonth} of the last partition.
+     * @return {@link List<YearMonth>} months of the added partitions.
+     */
+    @Override
+    public List<YearMonth> addArchivePartitions(final YearMonth from,
+                                                final YearMonth until) {
+        List<?> partitions = entityManager.createNativeQuery(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                        + " WHERE TABLE_SCHEMA = DATABASE() "
+                        + " AND TABLE_NAME = 'announcements_archive' "
+                        + " AND PARTITION_NAME IS NOT NULL "
+                        + " ORDER BY PARTITION_ORDINAL_POSITION")
+                .getResultList();
+        if (!partitions.contains(ARCHIVE_LAST_PARTITION)) {
+            return Collections.emptyList();
+        }
+        YearMonth month = partitions.size() > 1
+                ? YearMonth.parse(((String) partitions
+                        .get(partitions.size() - 2)).substring(1),
+                ARCHIVE_PARTITION_FORMAT).plusMonths(1)
+                : oldestArchiveMonth(from);
+        List<YearMonth> added = new ArrayList<>();
+        StringBuilder split = new StringBuilder(
+                "ALTER TABLE announcements_archive REORGANIZE PARTITION ")
+                .append(ARCHIVE_LAST_PARTITION).append(" INTO (");
+        for (; !month.isAfter(until); month = month.plusMonths(1)) {
+            added.add(month);
+            split.append("PARTITION p")
+                    .append(month.format(ARCHIVE_PARTITION_FORMAT))
+                    .append(" VALUES LESS THAN (TO_DAYS('")
+                    .append(month.plusMonths(1).atDay(1)).append("')), ");
+        }
+        if (added.isEmpty()) {
+            return added;
+        }
+        split.append("PARTITION ").append(ARCHIVE_LAST_PARTITION)
+                .append(" VALUES LESS THAN MAXVALUE)");
+        entityManager.createNativeQuery(split.toString())
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(ARCHIVE_TABLE)
+                .executeUpdate();
+        return added;
+    }
+
+
+    /**
+     * This class method finds the month of the oldest expiry in the
+     * announcements and the archive.
+     *
+     * @param month {@link YearMonth} returned when it is older or there
+     *              are no announcements.
+     * @return {@link YearMonth} of the oldest expiry.
+     */
+    private YearMonth oldestArchiveMonth(final YearMonth month) {
+        Object oldest = entityManager.createNativeQuery(
+                "SELECT MIN(expires_at) FROM ("
+                        + " SELECT MIN(expires_at) AS expires_at "
+                        + " FROM announcements "
+                        + " UNION ALL SELECT MIN(expires_at) "
+                        + " FROM announcements_archive) oldest")
+                .getSingleResult();
+        if (oldest == null) {
+            return month;
+        }
+        YearMonth expired = YearMonth.from(
+                ((Timestamp) oldest).toLocalDateTime());
+        return expired.isBefore(month) ? expired : month;
     }
 }
@@ -3,6 +3,8 @@ package com.dao.impl;
 import com.dao.AuthorDao;
 import com.domain.Author;
 import com.repository.AuthorRepository;
+import org.hibernate.Hibernate;
+import org.hibernate.jpa.QueryHints;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
@@ -31,6 +33,33 @@ import static java.util.stream.Collectors.toList;
 public class AuthorDaoImpl implements AuthorDao {
 
 
+    /**
+     * This is query which fetches the author with emails.
+     */
+    private static final String FIND_WITH_EMAILS =
+            " SELECT DISTINCT a FROM Author AS a "
+                    + " LEFT JOIN FETCH a.emails "
+                    + " WHERE a.id = :id ";
+
+
+    /**
+     * This is query which fetches phones of the author.
+     */
+    private static final String FIND_WITH_PHONES =
+            " SELECT DISTINCT a FROM Author AS a "
+                    + " LEFT JOIN FETCH a.phones "
+                    + " WHERE a.id = :id ";
+
+
+    /**
+     * This is query which fetches addresses of the author.
+     */
+    private static final String FIND_WITH_ADDRESSES =
+            " SELECT DISTINCT a FROM Author AS a "
+                    + " LEFT JOIN FETCH a.addresses "
+                    + " WHERE a.id = :id ";
+
+
     /**
      * This is object instance of {@link EntityManager}
      * helps us persist data into data base.
@@ -74,25 +103,45 @@ public class AuthorDaoImpl implements AuthorDao {
 
     /**
      * This class method searches the {@link Author} for the author id
-     * in a database.
+     * in a database. Every collection is fetched by own query, so rows
+     * read from database are the sum of sizes of the collections, not
+     * their product as with one query with all fetches. The queries
+     * return the same managed {@link Author}, every of them fills one
+     * collection of it. Roles are taken from the second-level cache
+     * when they are there.
      *
      * @param id int.
-     * @return author {@link Author}.
+     * @return author {@link Author} or null if it is not found.
      */
     @Transactional(readOnly = true)
     @Override
     public Author find(final int id) {
+        final Author author = fetch(FIND_WITH_EMAILS, id);
+        if (author == null) {
+            return null;
+        }
+        fetch(FIND_WITH_PHONES, id);
+        fetch(FIND_WITH_ADDRESSES, id);
+        Hibernate.initialize(author.getRoles());
+        return author;
+    }
+
 
+    /**
+     * This method runs one stage of {@link #find(int)}.
+     *
+     * @param jpql query which fetches the author with a collection.
+     * @param id   id of the author.
+     * @return author {@link Author} or null if it is not found.
+     */
+    private Author fetch(final String jpql, final int id) {
         final TypedQuery<Author> query = entityManager.createQuery(
-                " SELECT a FROM Author AS a "
-                        + " JOIN FETCH a.emails e "
-                        + " JOIN FETCH a.phones p "
-                        + " JOIN FETCH a.roles r "
-                        + " JOIN FETCH a.addresses ad "
-                        + " WHERE a.id = :id ", Author.class);
+                jpql, Author.class);
 
         query.setParameter("id", id);
 
+        query.setHint(QueryHints.HINT_PASS_DISTINCT_THROUGH, false);
+
         return query.getResultStream().findFirst().orElse(null);
     }
 
@@ -12,6 +12,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
@@ -20,11 +21,12 @@ import javax.validation.Valid;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 /**
  * Class {@link Announcement} with parameters:
  * id,version,name,publicationDate,revelationText,active,serviceCost,
- * {@link Heading},{@link Author}.
+ * {@link Heading},{@link Author},expiresAt.
  *
  * @author Yuriy Bahlay.
  * @version 1.1.
@@ -36,7 +38,11 @@ import java.time.LocalDate;
 @Getter
 @Setter
 @EqualsAndHashCode
-@Table(name = "announcements")
+@Table(name = "announcements", indexes = {
+        @Index(name = "announcements_active_idx",
+                columnList = "active, announcement_id"),
+        @Index(name = "announcements_expires_at_idx",
+                columnList = "expires_at, announcement_id")})
 @Builder
 public class Announcement {
 
@@ -111,6 +117,15 @@ public class Announcement {
     private Author author;
 
 
+    /**
+     * Field expiresAt is time after which announcement is moved
+     * to the archive, it is set when announcement is saved.
+     */
+    @EqualsAndHashCode.Exclude
+    @Column(name = "expires_at", updatable = false)
+    private LocalDateTime expiresAt;
+
+
     /**
      * <p>This is a simple description of the constructor
      * {@link Announcement} with parameters<p></>.
@@ -0,0 +1,103 @@
+package com.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Class {@link ArchivedAnnouncement} with parameters:
+ * id,version,name,publicationDate,revelationText,active,serviceCost,
+ * headingId,authorId,expiresAt,archivedAt. It is expired
+ * {@link Announcement} which is moved out of the announcements table,
+ * the archive table is partitioned by month of expiresAt.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Table(name = "announcements_archive")
+public class ArchivedAnnouncement {
+
+    /**
+     * This is field id of archived announcement, it is kept from
+     * {@link Announcement}.
+     */
+    @Id
+    @Column(name = "announcement_id")
+    private int id;
+
+    /**
+     * Field version is number version of transaction in data base.
+     */
+    @Column(nullable = false)
+    private int version;
+
+    /**
+     * Field name is name of announcement.
+     */
+    @Column(nullable = false)
+    private String name;
+
+    /**
+     * Field publicationDate is date when announcement was created.
+     */
+    @Column(name = "publication_date")
+    private LocalDate publicationDate;
+
+    /**
+     * Field revelationText is text(describe) of announcement.
+     */
+    @Column(nullable = false, name = "revelation_text")
+    private String revelationText;
+
+    /**
+     * Field active of announcement when it was archived.
+     */
+    @Column(nullable = false)
+    private boolean active;
+
+    /**
+     * Field serviceCost is price of announcement.
+     */
+    @Column(name = "service_cost")
+    private BigDecimal serviceCost;
+
+    /**
+     * Field headingId is id of {@link Heading} of announcement.
+     */
+    @Column(name = "heading_fk_id")
+    private Integer headingId;
+
+    /**
+     * Field authorId is id of {@link Author} of announcement.
+     */
+    @Column(name = "author_fk_id")
+    private Integer authorId;
+
+    /**
+     * Field expiresAt is time when announcement expired.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * Field archivedAt is time when announcement was archived.
+     */
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
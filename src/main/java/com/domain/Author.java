@@ -7,6 +7,9 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
@@ -46,6 +49,13 @@ import java.util.Set;
 public class Author {
 
 
+    /**
+     * This is number of authors whose collections are loaded by one
+     * query when a collection of one of them is accessed.
+     */
+    private static final int COLLECTION_BATCH_SIZE = 50;
+
+
     /**
      * Field author id.
      */
@@ -94,8 +104,11 @@ public class Author {
      * Field set roles related to appropriate author {@link Role}.
      */
     @ManyToMany(cascade = CascadeType.REFRESH)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE,
+            region = "author-roles")
     @JoinTable(name = "user_role", joinColumns = @JoinColumn(name = "user_id"),
             inverseJoinColumns = @JoinColumn(name = "role_id"))
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @EqualsAndHashCode.Exclude
     private Set<Role> roles = new HashSet<>();
 
@@ -105,6 +118,7 @@ public class Author {
      */
     @OneToMany(cascade = {CascadeType.ALL},
             orphanRemoval = true, fetch = FetchType.LAZY, mappedBy = "author")
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @EqualsAndHashCode.Exclude
     private Set<Phone> phones = new HashSet<>();
 
@@ -115,6 +129,7 @@ public class Author {
      */
     @OneToMany(cascade = {CascadeType.ALL},
             orphanRemoval = true, fetch = FetchType.LAZY, mappedBy = "author")
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @EqualsAndHashCode.Exclude
     private Set<Address> addresses = new HashSet<>();
 
@@ -124,6 +139,7 @@ public class Author {
      */
     @OneToMany(cascade = {CascadeType.ALL},
             fetch = FetchType.LAZY, orphanRemoval = true, mappedBy = "author")
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @EqualsAndHashCode.Exclude
     private Set<Email> emails = new HashSet<>();
 
@@ -0,0 +1,106 @@
+package com.domain;
+
+import com.domain.enums.OutboxStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+import java.time.LocalDateTime;
+
+/**
+ * Class {@link EmailOutbox} with properties <b>id</b>,
+ * <b>version</b>, <b>announcementId</b>, <b>status</b>, <b>attempts</b>,
+ * <b>nextAttemptAt</b>, <b>createdAt</b>, <b>lastError</b>.
+ * It is a row of the outbox which is written in the same transaction
+ * as {@link Announcement} and is sent later by a dispatcher.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Table(name = "email_outbox")
+public class EmailOutbox {
+
+    /**
+     * Field emailOutbox id.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private int id;
+
+    /**
+     * Field version is number version of transaction in database.
+     */
+    @Version
+    private int version;
+
+    /**
+     * Field announcementId is id of the {@link Announcement}
+     * for which emails are sent.
+     */
+    @Column(name = "announcement_fk_id", nullable = false)
+    private int announcementId;
+
+    /**
+     * Field status is {@link OutboxStatus} of the row.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status;
+
+    /**
+     * Field attempts is number of attempts of sending.
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * Field nextAttemptAt is time when the row can be claimed.
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * Field createdAt is time when the row was written.
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Field lastError is message of the last error of sending.
+     */
+    @Column(name = "last_error")
+    private String lastError;
+
+    /**
+     * This is constructor which creates pending row for the
+     * {@link Announcement}.
+     *
+     * @param announcementFkId id of the {@link Announcement}.
+     * @param now              current time.
+     */
+    public EmailOutbox(final int announcementFkId,
+                       final LocalDateTime now) {
+        this.announcementId = announcementFkId;
+        this.status = OutboxStatus.PENDING;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+}
@@ -7,6 +7,8 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 
 import javax.persistence.Column;
@@ -32,6 +34,7 @@ import javax.persistence.Version;
 @EqualsAndHashCode
 @JsonIdentityInfo(generator = ObjectIdGenerators.
         PropertyGenerator.class, property = "id")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "heading")
 @Table(name = "headings")
 public class Heading {
 
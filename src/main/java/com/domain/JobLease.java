@@ -0,0 +1,53 @@
+package com.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Class {@link JobLease} with properties <b>job</b>, <b>owner</b>,
+ * <b>lockedUntil</b>. It is a lease of a scheduled job, only the node
+ * which holds the lease runs the job. A lease which is not renewed
+ * expires and is taken by the next node which runs the job.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Table(name = "job_leases")
+public class JobLease {
+
+    /**
+     * Field job is name of the scheduled job.
+     */
+    @Id
+    @Column(name = "job_name", length = 64)
+    private String job;
+
+    /**
+     * Field owner is id of the run of the node which holds the lease.
+     */
+    @Column(nullable = false)
+    private String owner;
+
+    /**
+     * Field lockedUntil is time of the database when the lease
+     * expires.
+     */
+    @Column(name = "locked_until", nullable = false,
+            columnDefinition = "DATETIME(3)")
+    private LocalDateTime lockedUntil;
+}
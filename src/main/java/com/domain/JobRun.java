@@ -0,0 +1,109 @@
+package com.domain;
+
+import com.domain.enums.JobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Class {@link JobRun} with properties <b>id</b>, <b>job</b>,
+ * <b>owner</b>, <b>status</b>, <b>startedAt</b>, <b>finishedAt</b>,
+ * <b>durationMillis</b>, <b>rows</b>, <b>error</b>. It is a run of
+ * a scheduled job in the history of runs.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Table(name = "job_runs")
+public class JobRun {
+
+    /**
+     * Field jobRun id.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_run_id")
+    private int id;
+
+    /**
+     * Field job is name of the scheduled job.
+     */
+    @Column(name = "job_name", length = 64, nullable = false)
+    private String job;
+
+    /**
+     * Field owner is id of the node which ran the job.
+     */
+    @Column(nullable = false)
+    private String owner;
+
+    /**
+     * Field status is {@link JobStatus} of the run.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobStatus status;
+
+    /**
+     * Field startedAt is time when the run was started.
+     */
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    /**
+     * Field finishedAt is time when the run was finished.
+     */
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    /**
+     * Field durationMillis is duration of the run.
+     */
+    @Column(name = "duration_ms")
+    private long durationMillis;
+
+    /**
+     * Field rows is number of rows affected by the run.
+     */
+    @Column(name = "rows_affected")
+    private long rows;
+
+    /**
+     * Field error is message of the exception which stopped the run.
+     */
+    @Column(name = "error")
+    private String error;
+
+    /**
+     * This is constructor which creates running run of the job.
+     *
+     * @param jobName name of the scheduled job.
+     * @param node    id of the node.
+     * @param now     current time.
+     */
+    public JobRun(final String jobName, final String node,
+                  final LocalDateTime now) {
+        this.job = jobName;
+        this.owner = node;
+        this.status = JobStatus.RUNNING;
+        this.startedAt = now;
+    }
+}
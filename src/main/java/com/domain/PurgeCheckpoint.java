@@ -0,0 +1,82 @@
+package com.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+import java.time.LocalDateTime;
+
+/**
+ * Class {@link PurgeCheckpoint} with properties <b>job</b>,
+ * <b>version</b>, <b>lastId</b>, <b>deleted</b>, <b>startedAt</b>,
+ * <b>updatedAt</b>. It is progress of a purge job which deletes rows
+ * by batches, it is saved in the transaction of every batch, so the job
+ * continues from the last deleted id after a crash.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Table(name = "purge_checkpoints")
+public class PurgeCheckpoint {
+
+    /**
+     * Field job is name of the purge job.
+     */
+    @Id
+    @Column(name = "job_name", length = 64)
+    private String job;
+
+    /**
+     * Field version is number version of transaction in database.
+     */
+    @Version
+    private int version;
+
+    /**
+     * Field lastId is id of the last deleted row of current run,
+     * it is 0 when there is no unfinished run.
+     */
+    @Column(name = "last_id", nullable = false)
+    private int lastId;
+
+    /**
+     * Field deleted is number of rows deleted by current run.
+     */
+    @Column(nullable = false)
+    private long deleted;
+
+    /**
+     * Field startedAt is time when current run was started.
+     */
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    /**
+     * Field updatedAt is time of the last batch.
+     */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * This is constructor which creates checkpoint of the job
+     * without unfinished run.
+     *
+     * @param jobName name of the purge job.
+     */
+    public PurgeCheckpoint(final String jobName) {
+        this.job = jobName;
+    }
+}
@@ -0,0 +1,34 @@
+package com.domain.enums;
+
+/**
+ * This is enum with statuses of {@link com.domain.JobRun} like:
+ * RUNNING,
+ * SUCCEEDED,
+ * FAILED.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+public enum JobStatus {
+
+    /**
+     * This is status of the run which is not finished.
+     */
+    RUNNING,
+
+    /**
+     * This is status of the run which finished.
+     */
+    SUCCEEDED,
+
+    /**
+     * This is status of the run which was stopped by an exception.
+     */
+    FAILED,
+
+    /**
+     * This is status of the run which lost its lease, other node took
+     * the job over.
+     */
+    LOST
+}
@@ -0,0 +1,35 @@
+package com.domain.enums;
+
+/**
+ * This is enum with statuses of {@link com.domain.EmailOutbox} like:
+ * PENDING,
+ * PROCESSING,
+ * SENT,
+ * FAILED.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+public enum OutboxStatus {
+
+    /**
+     * This is status of the row which waits for sending.
+     */
+    PENDING,
+
+    /**
+     * This is status of the row which is claimed by a dispatcher.
+     */
+    PROCESSING,
+
+    /**
+     * This is status of the row which emails were sent.
+     */
+    SENT,
+
+    /**
+     * This is status of the row which emails were not sent
+     * after all attempts.
+     */
+    FAILED
+}
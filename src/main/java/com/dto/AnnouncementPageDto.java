@@ -0,0 +1,34 @@
+package com.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Class {@link AnnouncementPageDto} with parameters: content,nextCursor
+ * it is a page of announcements got by keyset pagination.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class AnnouncementPageDto {
+
+    /**
+     * Field content is {@link List} of {@link AnnouncementDto} of the page.
+     */
+    private List<AnnouncementDto> content;
+
+    /**
+     * Field nextCursor is opaque cursor of the next page,
+     * it is null on the last page.
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,69 @@
+package com.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Class {@link CacheRegionStatsDto} with parameters: name,hits,misses,
+ * hitPercentage,puts,removals,evictions,averageGetMicros it is a snapshot
+ * of counters of a region of the second-level cache.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class CacheRegionStatsDto {
+
+    /**
+     * Field name is name of the region.
+     */
+    private String name;
+
+    /**
+     * Field hits is number of lookups which were found in the region.
+     */
+    private long hits;
+
+    /**
+     * Field misses is number of lookups which were not found
+     * in the region.
+     */
+    private long misses;
+
+    /**
+     * Field hitPercentage is percentage of lookups which were found.
+     */
+    private float hitPercentage;
+
+    /**
+     * Field puts is number of entries put to the region after they
+     * were loaded from database.
+     */
+    private long puts;
+
+    /**
+     * Field removals is number of entries removed because they
+     * were changed.
+     */
+    private long removals;
+
+    /**
+     * Field evictions is number of entries evicted because the region
+     * was full.
+     */
+    private long evictions;
+
+    /**
+     * Field averageGetMicros is average time of a lookup
+     * in microseconds.
+     */
+    private float averageGetMicros;
+}
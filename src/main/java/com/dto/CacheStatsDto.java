@@ -0,0 +1,60 @@
+package com.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Class {@link CacheStatsDto} with parameters: name,size,hits,misses,
+ * loads,loadMicros,evictions it is a snapshot of counters of a cache.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class CacheStatsDto {
+
+    /**
+     * Field name is name of the cache.
+     */
+    private String name;
+
+    /**
+     * Field size is number of entries in the cache.
+     */
+    private long size;
+
+    /**
+     * Field hits is number of lookups which were found in the cache.
+     */
+    private long hits;
+
+    /**
+     * Field misses is number of lookups which were not found
+     * in the cache.
+     */
+    private long misses;
+
+    /**
+     * Field loads is number of loads from database.
+     */
+    private long loads;
+
+    /**
+     * Field loadMicros is total time of loads from database
+     * in microseconds.
+     */
+    private long loadMicros;
+
+    /**
+     * Field evictions is number of evicted entries.
+     */
+    private long evictions;
+}
@@ -0,0 +1,54 @@
+package com.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Class {@link CollectionStatsDto} with parameters: role,loads,fetches,
+ * recreates,updates,removes it is a snapshot of Hibernate statistics
+ * of one collection.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class CollectionStatsDto {
+
+    /**
+     * Field role is entity and name of the collection.
+     */
+    private String role;
+
+    /**
+     * Field loads is number of loaded collections.
+     */
+    private long loads;
+
+    /**
+     * Field fetches is number of collections fetched by own statement.
+     */
+    private long fetches;
+
+    /**
+     * Field recreates is number of recreated collections.
+     */
+    private long recreates;
+
+    /**
+     * Field updates is number of updated collections.
+     */
+    private long updates;
+
+    /**
+     * Field removes is number of removed collections.
+     */
+    private long removes;
+}
@@ -0,0 +1,67 @@
+package com.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Class {@link EntityStatsDto} with parameters: name,loads,fetches,
+ * inserts,updates,deletes,cacheHits,cacheMisses it is a snapshot of
+ * Hibernate statistics of one entity.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class EntityStatsDto {
+
+    /**
+     * Field name is name of the entity.
+     */
+    private String name;
+
+    /**
+     * Field loads is number of loaded entities.
+     */
+    private long loads;
+
+    /**
+     * Field fetches is number of entities fetched by own statement,
+     * e.g. lazy associations.
+     */
+    private long fetches;
+
+    /**
+     * Field inserts is number of inserted entities.
+     */
+    private long inserts;
+
+    /**
+     * Field updates is number of updated entities.
+     */
+    private long updates;
+
+    /**
+     * Field deletes is number of deleted entities.
+     */
+    private long deletes;
+
+    /**
+     * Field cacheHits is number of entities found in
+     * the second-level cache.
+     */
+    private long cacheHits;
+
+    /**
+     * Field cacheMisses is number of entities not found in
+     * the second-level cache.
+     */
+    private long cacheMisses;
+}
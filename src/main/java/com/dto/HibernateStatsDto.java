@@ -0,0 +1,121 @@
+package com.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Class {@link HibernateStatsDto} with parameters: enabled,startTime,
+ * sessions,transactions,flushes,statements,entityLoads,entityFetches,
+ * collectionLoads,collectionFetches,cacheHits,cacheMisses,cachePuts,
+ * queryExecutions,queryMaxMillis,slowestQuery,entities,collections
+ * it is a snapshot of statistics of the Hibernate SessionFactory since
+ * the start or the last reset.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class HibernateStatsDto {
+
+    /**
+     * Field enabled is true when statistics are collected.
+     */
+    private boolean enabled;
+
+    /**
+     * Field startTime is time of the start or of the last reset
+     * in milliseconds since the epoch.
+     */
+    private long startTime;
+
+    /**
+     * Field sessions is number of opened sessions.
+     */
+    private long sessions;
+
+    /**
+     * Field transactions is number of finished transactions.
+     */
+    private long transactions;
+
+    /**
+     * Field flushes is number of flushes of sessions.
+     */
+    private long flushes;
+
+    /**
+     * Field statements is number of prepared statements.
+     */
+    private long statements;
+
+    /**
+     * Field entityLoads is number of loaded entities.
+     */
+    private long entityLoads;
+
+    /**
+     * Field entityFetches is number of entities fetched by own statement.
+     */
+    private long entityFetches;
+
+    /**
+     * Field collectionLoads is number of loaded collections.
+     */
+    private long collectionLoads;
+
+    /**
+     * Field collectionFetches is number of collections fetched
+     * by own statement.
+     */
+    private long collectionFetches;
+
+    /**
+     * Field cacheHits is number of hits of the second-level cache.
+     */
+    private long cacheHits;
+
+    /**
+     * Field cacheMisses is number of misses of the second-level cache.
+     */
+    private long cacheMisses;
+
+    /**
+     * Field cachePuts is number of puts to the second-level cache.
+     */
+    private long cachePuts;
+
+    /**
+     * Field queryExecutions is number of executed queries.
+     */
+    private long queryExecutions;
+
+    /**
+     * Field queryMaxMillis is time of the slowest query.
+     */
+    private long queryMaxMillis;
+
+    /**
+     * Field slowestQuery is the slowest query.
+     */
+    private String slowestQuery;
+
+    /**
+     * Field entities is statistics of every entity.
+     */
+    private List<EntityStatsDto> entities;
+
+    /**
+     * Field collections is statistics of every collection.
+     */
+    private List<CollectionStatsDto> collections;
+}
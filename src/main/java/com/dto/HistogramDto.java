@@ -0,0 +1,64 @@
+package com.dto;
+
+import com.metrics.LatencyHistogram;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Class {@link HistogramDto} with parameters: count,mean,p50,p90,p99,max
+ * it is a snapshot of the {@link LatencyHistogram}.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class HistogramDto {
+
+    /**
+     * Field count is number of the recorded values.
+     */
+    private long count;
+
+    /**
+     * Field mean is mean of the recorded values.
+     */
+    private double mean;
+
+    /**
+     * Field p50 is median of the recorded values.
+     */
+    private long p50;
+
+    /**
+     * Field p90 is 90th percentile of the recorded values.
+     */
+    private long p90;
+
+    /**
+     * Field p99 is 99th percentile of the recorded values.
+     */
+    private long p99;
+
+    /**
+     * Field max is the biggest recorded value.
+     */
+    private long max;
+
+    /**
+     * This method makes snapshot of the {@link LatencyHistogram}.
+     *
+     * @param histogram {@link LatencyHistogram}.
+     * @return {@link HistogramDto}.
+     */
+    public static HistogramDto of(final LatencyHistogram histogram) {
+        return new HistogramDto(histogram.count(), histogram.mean(),
+                histogram.quantile(0.5), histogram.quantile(0.9),
+                histogram.quantile(0.99), histogram.max());
+    }
+}
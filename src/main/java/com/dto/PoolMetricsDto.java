@@ -0,0 +1,79 @@
+package com.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Class {@link PoolMetricsDto} with parameters: poolName,active,idle,
+ * pending,total,min,max,timeouts,acquireMicros,usageMillis,creationMillis
+ * it is a snapshot of the database connection pool.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class PoolMetricsDto {
+
+    /**
+     * Field poolName is name of the connection pool.
+     */
+    private String poolName;
+
+    /**
+     * Field active is number of connections which are in use.
+     */
+    private int active;
+
+    /**
+     * Field idle is number of connections which wait in the pool.
+     */
+    private int idle;
+
+    /**
+     * Field pending is number of threads which wait for a connection.
+     */
+    private int pending;
+
+    /**
+     * Field total is number of opened connections.
+     */
+    private int total;
+
+    /**
+     * Field min is minimum number of idle connections.
+     */
+    private int min;
+
+    /**
+     * Field max is maximum size of the pool.
+     */
+    private int max;
+
+    /**
+     * Field timeouts is number of requests which did not get a connection.
+     */
+    private long timeouts;
+
+    /**
+     * Field acquireMicros is time of getting a connection in microseconds.
+     */
+    private HistogramDto acquireMicros;
+
+    /**
+     * Field usageMillis is time of holding a connection in milliseconds.
+     */
+    private HistogramDto usageMillis;
+
+    /**
+     * Field creationMillis is time of opening a connection in milliseconds.
+     */
+    private HistogramDto creationMillis;
+}
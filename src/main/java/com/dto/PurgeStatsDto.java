@@ -0,0 +1,56 @@
+package com.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Class {@link PurgeStatsDto} with parameters: runs,batches,rowsDeleted,
+ * lastRunRows,lastRunMillis,batchMillis it is a snapshot of counters of
+ * the purge of inactive announcements.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class PurgeStatsDto {
+
+    /**
+     * Field runs is number of finished runs of the purge.
+     */
+    private long runs;
+
+    /**
+     * Field batches is number of deleted batches.
+     */
+    private long batches;
+
+    /**
+     * Field rowsDeleted is number of deleted rows.
+     */
+    private long rowsDeleted;
+
+    /**
+     * Field lastRunRows is number of rows deleted by the last run.
+     */
+    private long lastRunRows;
+
+    /**
+     * Field lastRunMillis is time of the last run in milliseconds,
+     * pauses between batches included.
+     */
+    private long lastRunMillis;
+
+    /**
+     * Field batchMillis is {@link HistogramDto} of time of deleting
+     * one batch in milliseconds.
+     */
+    private HistogramDto batchMillis;
+}
@@ -0,0 +1,58 @@
+package com.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Class {@link SqlProfileDto} with parameters: endpoint,requests,
+ * statements,statementsPerRequest,microsPerRequest,slowest it is
+ * a snapshot of SQL statements of the requests of one endpoint.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class SqlProfileDto {
+
+    /**
+     * Field endpoint is name of the controller and its method.
+     */
+    private String endpoint;
+
+    /**
+     * Field requests is number of the profiled requests.
+     */
+    private long requests;
+
+    /**
+     * Field statements is number of statements of all requests.
+     */
+    private long statements;
+
+    /**
+     * Field statementsPerRequest is histogram of statements
+     * of one request.
+     */
+    private HistogramDto statementsPerRequest;
+
+    /**
+     * Field microsPerRequest is histogram of time of statements
+     * of one request in microseconds.
+     */
+    private HistogramDto microsPerRequest;
+
+    /**
+     * Field slowest is the slowest statements of the endpoint.
+     */
+    private List<SqlStatementDto> slowest;
+}
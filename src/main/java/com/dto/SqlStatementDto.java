@@ -0,0 +1,37 @@
+package com.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Class {@link SqlStatementDto} with parameters: sql,parameters,micros
+ * it is one executed SQL statement with types of its bound parameters.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class SqlStatementDto {
+
+    /**
+     * Field sql is text of the statement.
+     */
+    private String sql;
+
+    /**
+     * Field parameters is types of the bound parameters by index,
+     * values themselves are not kept.
+     */
+    private String parameters;
+
+    /**
+     * Field micros is time of execution in microseconds.
+     */
+    private long micros;
+}
@@ -0,0 +1,22 @@
+package com.exception.custom_exception;
+
+/**
+ * This is custom exception {@link BatchSizeException},
+ * it is thrown when a batch is empty or has too many items.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+public class BatchSizeException extends Exception {
+
+    /**
+     * This is constructor for exception
+     * {@link BatchSizeException}.
+     *
+     * @param message String.
+     */
+    public BatchSizeException(final String message) {
+        super(message);
+    }
+}
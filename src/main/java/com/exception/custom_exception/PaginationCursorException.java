@@ -0,0 +1,22 @@
+package com.exception.custom_exception;
+
+/**
+ * This is custom exception {@link PaginationCursorException},
+ * it is thrown when the cursor of the page is broken.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+public class PaginationCursorException extends Exception {
+
+    /**
+     * This is constructor for exception
+     * {@link PaginationCursorException}.
+     *
+     * @param message String.
+     */
+    public PaginationCursorException(final String message) {
+        super(message);
+    }
+}
@@ -1,10 +1,14 @@
 package com.exception.handler;
 
+import com.constant.ExceptionConstant;
 import com.exception.custom_exception.AnnouncementException;
 import com.exception.custom_exception.AuthorException;
+import com.exception.custom_exception.BatchSizeException;
 import com.exception.custom_exception.DuplicateDataException;
 import com.exception.custom_exception.HeadingException;
+import com.exception.custom_exception.PaginationCursorException;
 import com.exception.custom_exception.SuitableAdException;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -139,4 +143,53 @@ public class CustomExceptionHandler {
             final DuplicateDataException e) {
         return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
     }
+
+
+    /**
+     * This handler only intercepts the exception in the case
+     * of an exception in the method
+     * {@link com.controller.AnnouncementController
+     * #seekAnnouncements(String, int, String)}.
+     *
+     * @param e exception {@link PaginationCursorException}.
+     * @return {@link ResponseEntity} with error message and error status.
+     */
+    @ExceptionHandler(PaginationCursorException.class)
+    public ResponseEntity<String> throwExceptionBrokenCursor(
+            final PaginationCursorException e) {
+        return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+
+    /**
+     * This handler only intercepts the exception in the case
+     * of an exception in the method
+     * {@link com.controller.AnnouncementController#saveAll(java.util.List)}.
+     *
+     * @param e exception {@link BatchSizeException}.
+     * @return {@link ResponseEntity} with error message and error status.
+     */
+    @ExceptionHandler(BatchSizeException.class)
+    public ResponseEntity<String> throwExceptionBatchSize(
+            final BatchSizeException e) {
+        return new ResponseEntity<>(e.getMessage(),
+                HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+
+    /**
+     * This handler intercepts the exception when a read operation of
+     * {@link com.controller.AsyncReads} is rejected, because all read
+     * workers are busy and their queue is full. The client gets the
+     * answer at once instead of waiting in the queue.
+     *
+     * @param e {@link TaskRejectedException}.
+     * @return {@link ResponseEntity} with error message and error status.
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<String> throwExceptionReadRejected(
+            final TaskRejectedException e) {
+        return new ResponseEntity<>(ExceptionConstant.READ_REJECTED_EXCEPTION,
+                HttpStatus.SERVICE_UNAVAILABLE);
+    }
 }
@@ -0,0 +1,221 @@
+package com.index;
+
+import com.constant.LoggerConstants;
+import com.domain.Announcement;
+import com.repository.AnnouncementRepository;
+import org.apache.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class {@link AnnouncementSearchIndex} is full-text index over name and
+ * revelationText of all {@link Announcement}, it finds announcements by
+ * words without database. A word of the query which ends with '*' is
+ * a prefix. The index is loaded at startup by batches, changed by
+ * {@link com.service.impl.AnnouncementServiceImpl} and reloaded
+ * periodically to pick up bulk deletes and changes made by other
+ * instances of the application.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Component
+public class AnnouncementSearchIndex {
+
+    /**
+     * This is field of class {@link Logger} returns a logger
+     * for this class.
+     */
+    private static final Logger LOGGER = Logger.
+            getLogger(AnnouncementSearchIndex.class);
+
+    /**
+     * This is constant with maximum number of terms of the query.
+     */
+    private static final int QUERY_TERMS_MAX = 16;
+
+    /**
+     * This is constant with mark of the prefix in the query.
+     */
+    private static final String PREFIX_MARK = "*";
+
+    /**
+     * Field {@link AnnouncementRepository} helps us to load announcements.
+     */
+    private final AnnouncementRepository announcementRepository;
+
+    /**
+     * This is field with number of announcements loaded by one query.
+     */
+    private final int batchSize;
+
+    /**
+     * This is field with current index.
+     */
+    private volatile InvertedIndex index = new InvertedIndex();
+
+    /**
+     * This is field with changes made during reload, they are applied
+     * to the new index before it replaces current one. It is null when
+     * there is no reload and it is changed only under the lock
+     * of this object.
+     */
+    private List<SearchDocument> changedDuringReload;
+
+    /**
+     * This is a constructor that injects object gain of the
+     * {@link AnnouncementRepository} into the
+     * {@link AnnouncementSearchIndex} class.
+     *
+     * @param repositoryAnnouncement {@link AnnouncementRepository}.
+     * @param sizeOfBatch            number of announcements loaded
+     *                               by one query.
+     */
+    @Autowired
+    public AnnouncementSearchIndex(
+            final AnnouncementRepository repositoryAnnouncement,
+            @Value("${search_index.batch_size:10000}")
+            final int sizeOfBatch) {
+        this.announcementRepository = repositoryAnnouncement;
+        this.batchSize = sizeOfBatch;
+    }
+
+    /**
+     * This method loads all announcements from database into new index
+     * and replaces current one, searches use current index meanwhile.
+     * It is run at startup and with delay {@code search_index.reload_ms}.
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${search_index.reload_ms:3600000}",
+            initialDelayString = "${search_index.reload_ms:3600000}")
+    public void reload() {
+        synchronized (this) {
+            if (changedDuringReload != null) {
+                return;
+            }
+            changedDuringReload = new ArrayList<>();
+        }
+        try {
+            InvertedIndex loaded = new InvertedIndex();
+            int lastId = 0;
+            List<SearchDocument> batch;
+            do {
+                batch = announcementRepository.findSearchDocuments(lastId,
+                        PageRequest.of(0, batchSize));
+                for (SearchDocument document : batch) {
+                    apply(loaded, document);
+                    lastId = document.getId();
+                }
+            } while (batch.size() == batchSize);
+            synchronized (this) {
+                for (SearchDocument document : changedDuringReload) {
+                    apply(loaded, document);
+                }
+                index = loaded;
+            }
+            LOGGER.info(LoggerConstants.SEARCH_INDEX_LOADED + loaded.size());
+        } finally {
+            synchronized (this) {
+                changedDuringReload = null;
+            }
+        }
+    }
+
+    /**
+     * This method finds announcements which contain words of the query,
+     * the announcements which contain more rare words and contain them
+     * in the name go first.
+     *
+     * @param query  words of the query, a word ending with '*'
+     *               is a prefix.
+     * @param offset number of the best announcements to skip.
+     * @param limit  maximum number of announcements.
+     * @return {@link SearchHits}.
+     */
+    public SearchHits search(final String query, final int offset,
+                             final int limit) {
+        Map<String, Boolean> terms = new LinkedHashMap<>();
+        if (query != null) {
+            for (String word : query.trim().split("\\s+")) {
+                List<String> wordTerms = TextTokenizer.tokenize(word);
+                for (int i = 0; i < wordTerms.size()
+                        && terms.size() < QUERY_TERMS_MAX; i++) {
+                    boolean prefix = i == wordTerms.size() - 1
+                            && word.endsWith(PREFIX_MARK);
+                    terms.merge(wordTerms.get(i), prefix, Boolean::logicalOr);
+                }
+            }
+        }
+        return index.search(terms, offset, limit);
+    }
+
+    /**
+     * This method adds new or changed {@link Announcement} to the index.
+     *
+     * @param announcement saved {@link Announcement}.
+     */
+    public synchronized void put(final Announcement announcement) {
+        change(new SearchDocument(announcement.getId(),
+                announcement.getName(), announcement.getRevelationText()));
+    }
+
+    /**
+     * This method removes {@link Announcement} from the index.
+     *
+     * @param id id of {@link Announcement}.
+     */
+    public synchronized void remove(final int id) {
+        change(new SearchDocument(id, null, null));
+    }
+
+    /**
+     * This method returns number of announcements in the index.
+     *
+     * @return number of announcements.
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * This method applies the change to current index and remembers it
+     * when the index is being reloaded. It is called under the lock of
+     * this object.
+     *
+     * @param document {@link SearchDocument}.
+     */
+    private void change(final SearchDocument document) {
+        apply(index, document);
+        if (changedDuringReload != null) {
+            changedDuringReload.add(document);
+        }
+    }
+
+    /**
+     * This method puts the document into the index, the document without
+     * name and text means removed announcement.
+     *
+     * @param target   {@link InvertedIndex}.
+     * @param document {@link SearchDocument}.
+     */
+    private static void apply(final InvertedIndex target,
+                              final SearchDocument document) {
+        if (document.getName() == null
+                && document.getRevelationText() == null) {
+            target.remove(document.getId());
+        } else {
+            target.put(document.getId(), document.getName(),
+                    document.getRevelationText());
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Class {@link InvertedIndex} keeps {@link Postings} of every term of the
+ * documents in sorted map, so terms with a prefix are found by range of
+ * the map. Documents are ranked by BM25, terms of the name are counted
+ * {@link #NAME_WEIGHT} times. Searches run in parallel, changes are made
+ * under the write lock.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+final class InvertedIndex {
+
+    /**
+     * This is constant k1 of BM25, saturation of term frequency.
+     */
+    private static final double K1 = 1.2;
+
+    /**
+     * This is constant b of BM25, normalization by document length.
+     */
+    private static final double B = 0.75;
+
+    /**
+     * This is constant with weight of terms of the name.
+     */
+    private static final int NAME_WEIGHT = 2;
+
+    /**
+     * This is constant with weight of terms which only start
+     * with the prefix of the query.
+     */
+    private static final double PREFIX_WEIGHT = 0.5;
+
+    /**
+     * This is constant with maximum number of terms one prefix
+     * is expanded to.
+     */
+    private static final int PREFIX_TERMS_MAX = 64;
+
+    /**
+     * This is constant with order of the scored documents from
+     * the worst to the best, newer documents win ties.
+     */
+    private static final Comparator<Map.Entry<Integer, Double>> RANK =
+            Map.Entry.<Integer, Double>comparingByValue()
+                    .thenComparing(Map.Entry.comparingByKey());
+
+    /**
+     * This is field with lock of the index.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * This is field with postings by term.
+     */
+    private final NavigableMap<String, Postings> postings = new TreeMap<>();
+
+    /**
+     * This is field with documents by id.
+     */
+    private final Map<Integer, Document> documents = new HashMap<>();
+
+    /**
+     * This is field with sum of lengths of all documents.
+     */
+    private long totalLength;
+
+    /**
+     * This method adds the document or replaces the old one.
+     *
+     * @param id   id of the document.
+     * @param name name of the document.
+     * @param text text of the document.
+     */
+    void put(final int id, final String name, final String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : TextTokenizer.tokenize(name)) {
+            frequencies.merge(term, NAME_WEIGHT, Integer::sum);
+        }
+        for (String term : TextTokenizer.tokenize(text)) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+            String[] terms = new String[frequencies.size()];
+            int length = 0;
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                String term = postings.ceilingKey(entry.getKey());
+                if (!entry.getKey().equals(term)) {
+                    term = entry.getKey();
+                    postings.put(term, new Postings());
+                }
+                postings.get(term).put(id, entry.getValue());
+                terms[i++] = term;
+                length += entry.getValue();
+            }
+            documents.put(id, new Document(terms, length));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * This method removes the document.
+     *
+     * @param id id of the document.
+     */
+    void remove(final int id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * This method returns number of the documents.
+     *
+     * @return number of the documents.
+     */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * This method finds documents which contain any of the terms and
+     * returns the page of the best of them.
+     *
+     * @param query  terms of the query, the value is true when
+     *               the term is a prefix.
+     * @param offset number of the best documents to skip.
+     * @param limit  maximum number of documents of the page.
+     * @return {@link SearchHits}.
+     */
+    SearchHits search(final Map<String, Boolean> query, final int offset,
+                      final int limit) {
+        Map<Integer, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return new SearchHits(Collections.emptyList(), 0);
+            }
+            double averageLength = (double) totalLength / documents.size();
+            for (Map.Entry<String, Boolean> term : query.entrySet()) {
+                if (!term.getValue()) {
+                    Postings found = postings.get(term.getKey());
+                    if (found != null) {
+                        score(found, 1, averageLength, scores);
+                    }
+                    continue;
+                }
+                int expanded = 0;
+                String prefix = term.getKey();
+                for (Map.Entry<String, Postings> found : postings.subMap(
+                        prefix, true, prefix + Character.MAX_VALUE, false)
+                        .entrySet()) {
+                    if (expanded++ == PREFIX_TERMS_MAX) {
+                        break;
+                    }
+                    score(found.getValue(), found.getKey().equals(prefix)
+                            ? 1 : PREFIX_WEIGHT, averageLength, scores);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return top(scores, offset, limit);
+    }
+
+    /**
+     * This method adds scores of the documents of the postings.
+     *
+     * @param found         {@link Postings} of the term.
+     * @param weight        weight of the term.
+     * @param averageLength average length of the documents.
+     * @param scores        scores by id of the document.
+     */
+    private void score(final Postings found, final double weight,
+                       final double averageLength,
+                       final Map<Integer, Double> scores) {
+        double idf = weight * Math.log(1 + (documents.size()
+                - found.size() + 0.5) / (found.size() + 0.5));
+        for (int i = 0; i < found.size(); i++) {
+            int id = found.id(i);
+            double frequency = found.frequency(i);
+            double norm = K1 * (1 - B + B
+                    * documents.get(id).length / averageLength);
+            scores.merge(id, idf * frequency * (K1 + 1)
+                    / (frequency + norm), Double::sum);
+        }
+    }
+
+    /**
+     * This method selects the page of the best documents.
+     *
+     * @param scores scores by id of the document.
+     * @param offset number of the best documents to skip.
+     * @param limit  maximum number of documents of the page.
+     * @return {@link SearchHits}.
+     */
+    private static SearchHits top(final Map<Integer, Double> scores,
+                                  final int offset, final int limit) {
+        int wanted = offset + limit;
+        PriorityQueue<Map.Entry<Integer, Double>> best =
+                new PriorityQueue<>(wanted + 1, RANK);
+        for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+            best.offer(entry);
+            if (best.size() > wanted) {
+                best.poll();
+            }
+        }
+        List<Integer> ids = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            ids.add(best.poll().getKey());
+        }
+        Collections.reverse(ids);
+        return new SearchHits(ids.subList(Math.min(offset, ids.size()),
+                ids.size()), scores.size());
+    }
+
+    /**
+     * This method removes the document, it is called under
+     * the write lock.
+     *
+     * @param id id of the document.
+     */
+    private void removeDocument(final int id) {
+        Document old = documents.remove(id);
+        if (old == null) {
+            return;
+        }
+        totalLength -= old.length;
+        for (String term : old.terms) {
+            Postings found = postings.get(term);
+            found.remove(id);
+            if (found.size() == 0) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    /**
+     * Class {@link Document} keeps terms and length of the document
+     * to remove it from the index.
+     */
+    private static final class Document {
+
+        /**
+         * Field with distinct terms of the document.
+         */
+        private final String[] terms;
+
+        /**
+         * Field with length of the document.
+         */
+        private final int length;
+
+        /**
+         * This is constructor {@link Document}.
+         *
+         * @param documentTerms  distinct terms of the document.
+         * @param documentLength length of the document.
+         */
+        private Document(final String[] documentTerms,
+                         final int documentLength) {
+            this.terms = documentTerms;
+            this.length = documentLength;
+        }
+    }
+}
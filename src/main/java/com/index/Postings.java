@@ -0,0 +1,107 @@
+package com.index;
+
+import java.util.Arrays;
+
+/**
+ * Class {@link Postings} is a list of ids of the documents which contain
+ * a term, with frequency of the term in every document. Ids are kept
+ * sorted in primitive arrays, new announcements get the biggest ids,
+ * so they are appended to the end. It is not thread safe.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+final class Postings {
+
+    /**
+     * This is constant with initial capacity of the arrays.
+     */
+    private static final int INITIAL_CAPACITY = 2;
+
+    /**
+     * This is field with sorted ids of the documents.
+     */
+    private int[] ids = new int[INITIAL_CAPACITY];
+
+    /**
+     * This is field with frequencies of the term in the documents.
+     */
+    private int[] frequencies = new int[INITIAL_CAPACITY];
+
+    /**
+     * This is field with number of the documents.
+     */
+    private int size;
+
+    /**
+     * This method adds the document or changes its frequency.
+     *
+     * @param id        id of the document.
+     * @param frequency frequency of the term in the document.
+     */
+    void put(final int id, final int frequency) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0) {
+            frequencies[position] = frequency;
+            return;
+        }
+        position = -position - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            frequencies = Arrays.copyOf(frequencies, size * 2);
+        }
+        System.arraycopy(ids, position, ids, position + 1, size - position);
+        System.arraycopy(frequencies, position, frequencies, position + 1,
+                size - position);
+        ids[position] = id;
+        frequencies[position] = frequency;
+        size++;
+    }
+
+    /**
+     * This method removes the document.
+     *
+     * @param id id of the document.
+     */
+    void remove(final int id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(ids, position + 1, ids, position,
+                size - position - 1);
+        System.arraycopy(frequencies, position + 1, frequencies, position,
+                size - position - 1);
+        size--;
+    }
+
+    /**
+     * This method returns number of the documents.
+     *
+     * @return number of the documents.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * This method returns id of the document at the position.
+     *
+     * @param position position in the list.
+     * @return id of the document.
+     */
+    int id(final int position) {
+        return ids[position];
+    }
+
+    /**
+     * This method returns frequency of the term in the document
+     * at the position.
+     *
+     * @param position position in the list.
+     * @return frequency of the term.
+     */
+    int frequency(final int position) {
+        return frequencies[position];
+    }
+}
@@ -0,0 +1,226 @@
+package com.index;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Class {@link PriceIntervalTree} is immutable centered interval tree over
+ * [priceFrom, priceTo] of {@link Subscription}. Finding all subscriptions
+ * which contain a price takes O(log n + k). Changes build a new tree,
+ * so readers never wait for writers.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+final class PriceIntervalTree {
+
+    /**
+     * This is empty tree.
+     */
+    static final PriceIntervalTree EMPTY =
+            new PriceIntervalTree(Collections.emptyList());
+
+    /**
+     * This is field with all subscriptions of the tree.
+     */
+    private final List<Subscription> subscriptions;
+
+    /**
+     * This is field with the root of the tree or null.
+     */
+    private final Node root;
+
+    /**
+     * This is constructor which builds the tree.
+     *
+     * @param all {@link List} of valid {@link Subscription}.
+     */
+    private PriceIntervalTree(final List<Subscription> all) {
+        this.subscriptions = Collections.unmodifiableList(all);
+        this.root = build(all);
+    }
+
+    /**
+     * This method returns number of subscriptions in the tree.
+     *
+     * @return number of subscriptions.
+     */
+    int size() {
+        return subscriptions.size();
+    }
+
+    /**
+     * This method returns new tree with the subscription, the old
+     * subscription with the same id is replaced.
+     *
+     * @param subscription {@link Subscription}.
+     * @return new {@link PriceIntervalTree}.
+     */
+    PriceIntervalTree with(final Subscription subscription) {
+        List<Subscription> all = new ArrayList<>(subscriptions.size() + 1);
+        for (Subscription s : subscriptions) {
+            if (s.getId() != subscription.getId()) {
+                all.add(s);
+            }
+        }
+        all.add(subscription);
+        return new PriceIntervalTree(all);
+    }
+
+    /**
+     * This method returns new tree without the subscription.
+     *
+     * @param id id of {@link Subscription}.
+     * @return new {@link PriceIntervalTree}.
+     */
+    PriceIntervalTree without(final int id) {
+        List<Subscription> all = new ArrayList<>(subscriptions.size());
+        for (Subscription s : subscriptions) {
+            if (s.getId() != id) {
+                all.add(s);
+            }
+        }
+        return all.isEmpty() ? EMPTY : new PriceIntervalTree(all);
+    }
+
+    /**
+     * This method builds the tree from many subscriptions at once.
+     *
+     * @param all {@link List} of {@link Subscription}.
+     * @return new {@link PriceIntervalTree}.
+     */
+    static PriceIntervalTree of(final List<Subscription> all) {
+        return all.isEmpty() ? EMPTY
+                : new PriceIntervalTree(new ArrayList<>(all));
+    }
+
+    /**
+     * This method passes every subscription which contains
+     * the price to the consumer.
+     *
+     * @param price    price of {@link com.domain.Announcement}.
+     * @param consumer {@link Consumer} of {@link Subscription}.
+     */
+    void stab(final BigDecimal price, final Consumer<Subscription> consumer) {
+        Node node = root;
+        while (node != null) {
+            int compare = price.compareTo(node.center);
+            if (compare < 0) {
+                for (Subscription s : node.byFrom) {
+                    if (s.getPriceFrom().compareTo(price) > 0) {
+                        break;
+                    }
+                    consumer.accept(s);
+                }
+                node = node.left;
+            } else if (compare > 0) {
+                for (Subscription s : node.byToDesc) {
+                    if (s.getPriceTo().compareTo(price) < 0) {
+                        break;
+                    }
+                    consumer.accept(s);
+                }
+                node = node.right;
+            } else {
+                node.byFrom.forEach(consumer);
+                return;
+            }
+        }
+    }
+
+    /**
+     * This method builds a node of the tree, the center is median of
+     * the bounds, so the tree has O(log n) height.
+     *
+     * @param intervals {@link List} of {@link Subscription}.
+     * @return {@link Node} or null for empty list.
+     */
+    private static Node build(final List<Subscription> intervals) {
+        if (intervals.isEmpty()) {
+            return null;
+        }
+        List<BigDecimal> bounds = new ArrayList<>(intervals.size() * 2);
+        for (Subscription s : intervals) {
+            bounds.add(s.getPriceFrom());
+            bounds.add(s.getPriceTo());
+        }
+        bounds.sort(Comparator.naturalOrder());
+        BigDecimal center = bounds.get(bounds.size() / 2);
+
+        List<Subscription> left = new ArrayList<>();
+        List<Subscription> right = new ArrayList<>();
+        List<Subscription> middle = new ArrayList<>();
+        for (Subscription s : intervals) {
+            if (s.getPriceTo().compareTo(center) < 0) {
+                left.add(s);
+            } else if (s.getPriceFrom().compareTo(center) > 0) {
+                right.add(s);
+            } else {
+                middle.add(s);
+            }
+        }
+        List<Subscription> byFrom = new ArrayList<>(middle);
+        byFrom.sort(Comparator.comparing(Subscription::getPriceFrom));
+        List<Subscription> byToDesc = new ArrayList<>(middle);
+        byToDesc.sort(Comparator.comparing(Subscription::getPriceTo)
+                .reversed());
+        return new Node(center, byFrom, byToDesc, build(left), build(right));
+    }
+
+    /**
+     * Class {@link Node} is node of the tree with subscriptions
+     * which contain the center of the node.
+     */
+    private static final class Node {
+
+        /**
+         * This is field with the center of the node.
+         */
+        private final BigDecimal center;
+
+        /**
+         * This is field with subscriptions sorted by priceFrom.
+         */
+        private final List<Subscription> byFrom;
+
+        /**
+         * This is field with subscriptions sorted by priceTo descending.
+         */
+        private final List<Subscription> byToDesc;
+
+        /**
+         * This is field with node of subscriptions below the center.
+         */
+        private final Node left;
+
+        /**
+         * This is field with node of subscriptions above the center.
+         */
+        private final Node right;
+
+        /**
+         * This is constructor of the node.
+         *
+         * @param nodeCenter   center of the node.
+         * @param sortedFrom   subscriptions sorted by priceFrom.
+         * @param sortedToDesc subscriptions sorted by priceTo descending.
+         * @param leftNode     node below the center.
+         * @param rightNode    node above the center.
+         */
+        private Node(final BigDecimal nodeCenter,
+                     final List<Subscription> sortedFrom,
+                     final List<Subscription> sortedToDesc,
+                     final Node leftNode, final Node rightNode) {
+            this.center = nodeCenter;
+            this.byFrom = sortedFrom;
+            this.byToDesc = sortedToDesc;
+            this.left = leftNode;
+            this.right = rightNode;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Class {@link SearchDocument} is immutable copy of the searchable text
+ * of {@link com.domain.Announcement} which is put into
+ * {@link AnnouncementSearchIndex}.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Getter
+@AllArgsConstructor
+public final class SearchDocument {
+
+    /**
+     * Field id of the {@link com.domain.Announcement}.
+     */
+    private final int id;
+
+    /**
+     * Field name of the {@link com.domain.Announcement}.
+     */
+    private final String name;
+
+    /**
+     * Field revelationText of the {@link com.domain.Announcement}.
+     */
+    private final String revelationText;
+}
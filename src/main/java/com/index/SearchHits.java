@@ -0,0 +1,29 @@
+package com.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Class {@link SearchHits} is a page of ids of the announcements found
+ * by {@link AnnouncementSearchIndex}, the best ones go first.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Getter
+@AllArgsConstructor
+public final class SearchHits {
+
+    /**
+     * Field with ids of the announcements of the page.
+     */
+    private final List<Integer> ids;
+
+    /**
+     * Field with number of all found announcements.
+     */
+    private final int total;
+}
@@ -0,0 +1,50 @@
+package com.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Class {@link Subscription} is immutable copy of the
+ * {@link com.domain.SuitableAd} which is kept in {@link SuitableAdIndex}.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Getter
+@AllArgsConstructor
+public final class Subscription {
+
+    /**
+     * Field id of the {@link com.domain.SuitableAd}.
+     */
+    private final int id;
+
+    /**
+     * Field authorId is id of the {@link com.domain.Author}
+     * who subscribed or null.
+     */
+    private final Integer authorId;
+
+    /**
+     * Field category of the {@link com.domain.SuitableAd}.
+     */
+    private final String category;
+
+    /**
+     * Field title of the {@link com.domain.SuitableAd}.
+     */
+    private final String title;
+
+    /**
+     * Field priceFrom is lower bound of the price, inclusive.
+     */
+    private final BigDecimal priceFrom;
+
+    /**
+     * Field priceTo is upper bound of the price, inclusive.
+     */
+    private final BigDecimal priceTo;
+}
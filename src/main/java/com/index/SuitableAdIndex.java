@@ -0,0 +1,215 @@
+package com.index;
+
+import com.constant.LoggerConstants;
+import com.domain.SuitableAd;
+import com.repository.SuitableRepository;
+import org.apache.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class {@link SuitableAdIndex} keeps all {@link SuitableAd} in memory and
+ * finds authors who are subscribed to an announcement without database.
+ * Subscriptions are grouped by category and title (case insensitive, as
+ * the database collation) and every group is {@link PriceIntervalTree}.
+ * The index is loaded at startup, changed by
+ * {@link com.service.impl.SuitableAdServiceImpl} and reloaded periodically
+ * to pick up changes made by other instances of the application.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Component
+public class SuitableAdIndex {
+
+    /**
+     * This is field of class {@link Logger} returns a logger
+     * for this class.
+     */
+    private static final Logger LOGGER = Logger.
+            getLogger(SuitableAdIndex.class);
+
+    /**
+     * Field {@link SuitableRepository} helps us to load subscriptions.
+     */
+    private final SuitableRepository suitableRepository;
+
+    /**
+     * This is field with trees of the subscriptions by category and title.
+     */
+    private volatile Map<String, PriceIntervalTree> trees =
+            new ConcurrentHashMap<>();
+
+    /**
+     * This is field with subscriptions by id, it is changed only
+     * under the lock of the index.
+     */
+    private Map<Integer, Subscription> byId = new HashMap<>();
+
+    /**
+     * This is a constructor that injects object gain of the
+     * {@link SuitableRepository} into the {@link SuitableAdIndex} class.
+     *
+     * @param repositorySuitable {@link SuitableRepository}.
+     */
+    @Autowired
+    public SuitableAdIndex(final SuitableRepository repositorySuitable) {
+        this.suitableRepository = repositorySuitable;
+    }
+
+    /**
+     * This method loads all subscriptions from database and replaces
+     * the index. It is run at startup and with delay
+     * {@code suitable_index.reload_ms}.
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${suitable_index.reload_ms:600000}",
+            initialDelayString = "${suitable_index.reload_ms:600000}")
+    public synchronized void reload() {
+        List<Subscription> all = suitableRepository.findAllSubscriptions();
+        Map<Integer, Subscription> ids = new HashMap<>(all.size() * 2);
+        Map<String, List<Subscription>> groups = new HashMap<>();
+        for (Subscription subscription : all) {
+            if (isValid(subscription)) {
+                ids.put(subscription.getId(), subscription);
+                groups.computeIfAbsent(keyOf(subscription.getCategory(),
+                        subscription.getTitle()), k -> new ArrayList<>())
+                        .add(subscription);
+            }
+        }
+        Map<String, PriceIntervalTree> newTrees =
+                new ConcurrentHashMap<>(groups.size() * 2);
+        groups.forEach((key, list) ->
+                newTrees.put(key, PriceIntervalTree.of(list)));
+        byId = ids;
+        trees = newTrees;
+        LOGGER.info(LoggerConstants.SUITABLE_AD_INDEX_LOADED + ids.size());
+    }
+
+    /**
+     * This method finds authors who are subscribed to announcements with
+     * the category, the title and the price.
+     *
+     * @param category name of {@link com.domain.Heading}.
+     * @param title    revelationText of {@link com.domain.Announcement}.
+     * @param price    serviceCost of {@link com.domain.Announcement}.
+     * @return {@link Set} of author ids, it can be empty.
+     */
+    public Set<Integer> match(final String category, final String title,
+                              final BigDecimal price) {
+        Set<Integer> authors = new TreeSet<>();
+        if (category == null || title == null || price == null) {
+            return authors;
+        }
+        PriceIntervalTree tree = trees.get(keyOf(category, title));
+        if (tree != null) {
+            tree.stab(price, s -> {
+                if (s.getAuthorId() != null) {
+                    authors.add(s.getAuthorId());
+                }
+            });
+        }
+        return authors;
+    }
+
+    /**
+     * This method adds new or changed {@link SuitableAd} to the index.
+     * The author is kept from the old subscription when the changed one
+     * has no author, as the author of {@link SuitableAd} is not updatable.
+     *
+     * @param suitableAd saved {@link SuitableAd}.
+     */
+    public synchronized void put(final SuitableAd suitableAd) {
+        Subscription old = byId.get(suitableAd.getId());
+        Integer authorId = suitableAd.getAuthor() != null
+                ? Integer.valueOf(suitableAd.getAuthor().getId())
+                : old != null ? old.getAuthorId() : null;
+        Subscription subscription = new Subscription(suitableAd.getId(),
+                authorId, suitableAd.getCategory(), suitableAd.getTitle(),
+                suitableAd.getPriceFrom(), suitableAd.getPriceTo());
+        if (old != null) {
+            removeFromTree(old);
+        }
+        if (isValid(subscription)) {
+            byId.put(subscription.getId(), subscription);
+            trees.compute(keyOf(subscription.getCategory(),
+                    subscription.getTitle()),
+                    (k, tree) -> (tree == null ? PriceIntervalTree.EMPTY
+                            : tree).with(subscription));
+        } else {
+            byId.remove(subscription.getId());
+        }
+    }
+
+    /**
+     * This method removes {@link SuitableAd} from the index.
+     *
+     * @param id id of {@link SuitableAd}.
+     */
+    public synchronized void remove(final int id) {
+        Subscription old = byId.remove(id);
+        if (old != null) {
+            removeFromTree(old);
+        }
+    }
+
+    /**
+     * This method returns number of subscriptions in the index.
+     *
+     * @return number of subscriptions.
+     */
+    public synchronized int size() {
+        return byId.size();
+    }
+
+    /**
+     * This method removes the subscription from its tree.
+     *
+     * @param old {@link Subscription}.
+     */
+    private void removeFromTree(final Subscription old) {
+        trees.computeIfPresent(keyOf(old.getCategory(), old.getTitle()),
+                (k, tree) -> {
+                    PriceIntervalTree rest = tree.without(old.getId());
+                    return rest.size() == 0 ? null : rest;
+                });
+    }
+
+    /**
+     * This method checks that the subscription has all fields
+     * which are needed for matching.
+     *
+     * @param s {@link Subscription}.
+     * @return true when the subscription can be matched.
+     */
+    private static boolean isValid(final Subscription s) {
+        return s.getCategory() != null && s.getTitle() != null
+                && s.getPriceFrom() != null && s.getPriceTo() != null
+                && s.getPriceFrom().compareTo(s.getPriceTo()) <= 0;
+    }
+
+    /**
+     * This method makes key of the tree from the category and the title.
+     *
+     * @param category category.
+     * @param title    title.
+     * @return key of the tree.
+     */
+    private static String keyOf(final String category, final String title) {
+        return category.trim().toLowerCase(Locale.ROOT)
+                + '\u0000' + title.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,54 @@
+package com.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Class {@link TextTokenizer} splits text into lower case terms, a term is
+ * a sequence of letters and digits. Too long terms are skipped.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+final class TextTokenizer {
+
+    /**
+     * This is constant with maximum length of a term.
+     */
+    static final int TERM_LENGTH_MAX = 40;
+
+    /**
+     * This is private constructor, the class has only static methods.
+     */
+    private TextTokenizer() {
+    }
+
+    /**
+     * This method splits the text into terms.
+     *
+     * @param text text, it can be null.
+     * @return {@link List} of terms in order of the text.
+     */
+    static List<String> tokenize(final String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean letter = i < text.length()
+                    && Character.isLetterOrDigit(text.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                if (i - start <= TERM_LENGTH_MAX) {
+                    terms.add(text.substring(start, i)
+                            .toLowerCase(Locale.ROOT));
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,65 @@
+package com.mapper;
+
+import com.domain.Announcement;
+import com.domain.Author;
+import com.dto.AnnouncementDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+/**
+ * This is {@link AnnouncementMapping} interface for mapping between
+ * {@link Announcement} and {@link AnnouncementDto}. Its implementation is
+ * generated at compile time, so it maps the same way as
+ * {@link AnnouncementMapper} and {@link AnnouncementDtoMapper} do,
+ * but without reflection.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Mapper(componentModel = "spring")
+public interface AnnouncementMapping {
+
+    /**
+     * This method maps {@link Announcement} to {@link AnnouncementDto},
+     * the author is mapped to his id.
+     *
+     * @param announcement {@link Announcement}.
+     * @return {@link AnnouncementDto}.
+     */
+    @Mapping(target = "author", source = "author.id")
+    AnnouncementDto toDto(Announcement announcement);
+
+    /**
+     * This method maps {@link AnnouncementDto} to {@link Announcement},
+     * the author is created from his id, expiry is set by the service.
+     *
+     * @param announcementDto {@link AnnouncementDto}.
+     * @return {@link Announcement}.
+     */
+    @Mapping(target = "expiresAt", ignore = true)
+    Announcement toEntity(AnnouncementDto announcementDto);
+
+    /**
+     * This method maps list of {@link Announcement} to list of
+     * {@link AnnouncementDto} which is created with the needed size.
+     *
+     * @param announcements {@link List<Announcement>}.
+     * @return {@link List<AnnouncementDto>}.
+     */
+    List<AnnouncementDto> mapAll(List<Announcement> announcements);
+
+    /**
+     * This method creates {@link Author} with only id.
+     *
+     * @param authorId int.
+     * @return {@link Author}.
+     */
+    default Author authorOf(final int authorId) {
+        final Author author = new Author();
+        author.setId(authorId);
+        return author;
+    }
+}
@@ -0,0 +1,46 @@
+package com.mapper;
+
+import com.domain.Author;
+import com.dto.AuthorDto;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+/**
+ * This is {@link AuthorMapping} interface for mapping between
+ * {@link Author} and {@link AuthorDto}, its implementation is
+ * generated at compile time. Roles, phones, addresses and emails
+ * are copied to new collections, their elements are not copied.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Mapper(componentModel = "spring")
+public interface AuthorMapping {
+
+    /**
+     * This method maps {@link Author} to {@link AuthorDto}.
+     *
+     * @param author {@link Author}.
+     * @return {@link AuthorDto}.
+     */
+    AuthorDto toDto(Author author);
+
+    /**
+     * This method maps {@link AuthorDto} to {@link Author}.
+     *
+     * @param authorDto {@link AuthorDto}.
+     * @return {@link Author}.
+     */
+    Author toEntity(AuthorDto authorDto);
+
+    /**
+     * This method maps list of {@link Author} to list of
+     * {@link AuthorDto} which is created with the needed size.
+     *
+     * @param authors {@link List<Author>}.
+     * @return {@link List<AuthorDto>}.
+     */
+    List<AuthorDto> mapAll(List<Author> authors);
+}
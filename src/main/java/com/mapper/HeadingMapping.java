@@ -0,0 +1,45 @@
+package com.mapper;
+
+import com.domain.Heading;
+import com.dto.HeadingDto;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+/**
+ * This is {@link HeadingMapping} interface for mapping between
+ * {@link Heading} and {@link HeadingDto}, its implementation is
+ * generated at compile time.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Mapper(componentModel = "spring")
+public interface HeadingMapping {
+
+    /**
+     * This method maps {@link Heading} to {@link HeadingDto}.
+     *
+     * @param heading {@link Heading}.
+     * @return {@link HeadingDto}.
+     */
+    HeadingDto toDto(Heading heading);
+
+    /**
+     * This method maps {@link HeadingDto} to {@link Heading}.
+     *
+     * @param headingDto {@link HeadingDto}.
+     * @return {@link Heading}.
+     */
+    Heading toEntity(HeadingDto headingDto);
+
+    /**
+     * This method maps list of {@link Heading} to list of
+     * {@link HeadingDto} which is created with the needed size.
+     *
+     * @param headings {@link List<Heading>}.
+     * @return {@link List<HeadingDto>}.
+     */
+    List<HeadingDto> mapAll(List<Heading> headings);
+}
@@ -0,0 +1,65 @@
+package com.mapper;
+
+import com.domain.Author;
+import com.domain.SuitableAd;
+import com.dto.SuitableAdDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+/**
+ * This is {@link SuitableAdMapping} interface for mapping between
+ * {@link SuitableAd} and {@link SuitableAdDto}. Its implementation is
+ * generated at compile time, so it maps the same way as
+ * {@link SuitableAdToSuitableAdDtoMapper} and
+ * {@link SuitableAdDtoToSuitableAdMapper} do, but without reflection.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Mapper(componentModel = "spring")
+public interface SuitableAdMapping {
+
+    /**
+     * This method maps {@link SuitableAd} to {@link SuitableAdDto},
+     * the author is mapped to his id.
+     *
+     * @param suitableAd {@link SuitableAd}.
+     * @return {@link SuitableAdDto}.
+     */
+    @Mapping(target = "authorFkId", source = "author.id")
+    SuitableAdDto toDto(SuitableAd suitableAd);
+
+    /**
+     * This method maps {@link SuitableAdDto} to {@link SuitableAd},
+     * the author is created from his id.
+     *
+     * @param suitableAdDto {@link SuitableAdDto}.
+     * @return {@link SuitableAd}.
+     */
+    @Mapping(target = "author", source = "authorFkId")
+    SuitableAd toEntity(SuitableAdDto suitableAdDto);
+
+    /**
+     * This method maps list of {@link SuitableAd} to list of
+     * {@link SuitableAdDto} which is created with the needed size.
+     *
+     * @param suitableAds {@link List<SuitableAd>}.
+     * @return {@link List<SuitableAdDto>}.
+     */
+    List<SuitableAdDto> mapAll(List<SuitableAd> suitableAds);
+
+    /**
+     * This method creates {@link Author} with only id.
+     *
+     * @param authorId int.
+     * @return {@link Author}.
+     */
+    default Author authorOf(final int authorId) {
+        final Author author = new Author();
+        author.setId(authorId);
+        return author;
+    }
+}
@@ -0,0 +1,87 @@
+package com.metrics;
+
+import com.dto.CacheRegionStatsDto;
+
+import javax.cache.CacheManager;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Class {@link CacheRegionMetrics} reads counters of the regions of
+ * the second-level cache. They are the standard JCache statistics
+ * which {@link CacheManager} publishes by JMX when statistics of
+ * the cache are enabled.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+public class CacheRegionMetrics {
+
+    /**
+     * This is constant with pattern of names of statistics of caches.
+     */
+    private static final String STATISTICS =
+            "javax.cache:type=CacheStatistics,*";
+
+    /**
+     * This is field with {@link CacheManager} of the regions.
+     */
+    private final CacheManager cacheManager;
+
+    /**
+     * This is constructor {@link CacheRegionMetrics}.
+     *
+     * @param manager {@link CacheManager} of the regions.
+     */
+    public CacheRegionMetrics(final CacheManager manager) {
+        this.cacheManager = manager;
+    }
+
+    /**
+     * This method returns counters of every region ordered by name.
+     *
+     * @return {@link List<CacheRegionStatsDto>}.
+     */
+    public List<CacheRegionStatsDto> snapshot() {
+        Set<String> regions = new HashSet<>();
+        cacheManager.getCacheNames().forEach(regions::add);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        List<CacheRegionStatsDto> result = new ArrayList<>();
+        try {
+            for (ObjectName name : server.queryNames(
+                    new ObjectName(STATISTICS), null)) {
+                String region = name.getKeyProperty("Cache");
+                if (!regions.contains(region)) {
+                    continue;
+                }
+                result.add(CacheRegionStatsDto.builder()
+                        .name(region)
+                        .hits((Long) server.getAttribute(name, "CacheHits"))
+                        .misses((Long) server.getAttribute(name,
+                                "CacheMisses"))
+                        .hitPercentage((Float) server.getAttribute(name,
+                                "CacheHitPercentage"))
+                        .puts((Long) server.getAttribute(name, "CachePuts"))
+                        .removals((Long) server.getAttribute(name,
+                                "CacheRemovals"))
+                        .evictions((Long) server.getAttribute(name,
+                                "CacheEvictions"))
+                        .averageGetMicros((Float) server.getAttribute(name,
+                                "AverageGetTime"))
+                        .build());
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+        result.sort(Comparator.comparing(CacheRegionStatsDto::getName));
+        return result;
+    }
+}
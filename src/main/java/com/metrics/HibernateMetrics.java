@@ -0,0 +1,169 @@
+package com.metrics;
+
+import com.dto.CollectionStatsDto;
+import com.dto.EntityStatsDto;
+import com.dto.HibernateStatsDto;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CollectionStatistics;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Class {@link HibernateMetrics} reads {@link Statistics} of
+ * the Hibernate SessionFactory: loads and fetches of every entity and
+ * collection, flushes, the second-level cache and the slowest query.
+ * Statistics are collected only when they are turned on by
+ * {@code hibernate.generate_statistics} or by
+ * {@link #setEnabled(boolean)}, because every session pays for them.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+public class HibernateMetrics {
+
+    /**
+     * This is field {@link Statistics} of the SessionFactory.
+     */
+    private final Statistics statistics;
+
+    /**
+     * This is constructor {@link HibernateMetrics}.
+     *
+     * @param factory {@link EntityManagerFactory} of Hibernate.
+     */
+    public HibernateMetrics(final EntityManagerFactory factory) {
+        this.statistics = factory.unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    /**
+     * This method turns collecting of statistics on or off.
+     *
+     * @param enabled true to collect statistics.
+     */
+    public void setEnabled(final boolean enabled) {
+        statistics.setStatisticsEnabled(enabled);
+    }
+
+    /**
+     * This method clears statistics, the next snapshot has only
+     * what happened after it.
+     */
+    public void reset() {
+        statistics.clear();
+    }
+
+    /**
+     * This method adds counters of sessions and of the second-level
+     * cache to {@link MetricsRegistry}.
+     *
+     * @param registry {@link MetricsRegistry}.
+     */
+    public void bindTo(final MetricsRegistry registry) {
+        registry.help("hibernate_entity_loads",
+                "Entities loaded since the last reset of statistics.");
+        registry.gauge("hibernate_entity_loads", "",
+                statistics::getEntityLoadCount);
+        registry.help("hibernate_entity_fetches",
+                "Entities fetched by own statement.");
+        registry.gauge("hibernate_entity_fetches", "",
+                statistics::getEntityFetchCount);
+        registry.help("hibernate_collection_fetches",
+                "Collections fetched by own statement.");
+        registry.gauge("hibernate_collection_fetches", "",
+                statistics::getCollectionFetchCount);
+        registry.help("hibernate_flushes", "Flushes of sessions.");
+        registry.gauge("hibernate_flushes", "",
+                statistics::getFlushCount);
+        registry.help("hibernate_second_level_cache",
+                "Lookups of the second-level cache by result.");
+        registry.gauge("hibernate_second_level_cache", MetricsRegistry
+                .labels("result", "hit"),
+                statistics::getSecondLevelCacheHitCount);
+        registry.gauge("hibernate_second_level_cache", MetricsRegistry
+                .labels("result", "miss"),
+                statistics::getSecondLevelCacheMissCount);
+    }
+
+    /**
+     * This method makes snapshot of the statistics, entities and
+     * collections are ordered by name.
+     *
+     * @return {@link HibernateStatsDto}.
+     */
+    public HibernateStatsDto snapshot() {
+        return HibernateStatsDto.builder()
+                .enabled(statistics.isStatisticsEnabled())
+                .startTime(statistics.getStartTime())
+                .sessions(statistics.getSessionOpenCount())
+                .transactions(statistics.getTransactionCount())
+                .flushes(statistics.getFlushCount())
+                .statements(statistics.getPrepareStatementCount())
+                .entityLoads(statistics.getEntityLoadCount())
+                .entityFetches(statistics.getEntityFetchCount())
+                .collectionLoads(statistics.getCollectionLoadCount())
+                .collectionFetches(statistics.getCollectionFetchCount())
+                .cacheHits(statistics.getSecondLevelCacheHitCount())
+                .cacheMisses(statistics.getSecondLevelCacheMissCount())
+                .cachePuts(statistics.getSecondLevelCachePutCount())
+                .queryExecutions(statistics.getQueryExecutionCount())
+                .queryMaxMillis(statistics.getQueryExecutionMaxTime())
+                .slowestQuery(statistics
+                        .getQueryExecutionMaxTimeQueryString())
+                .entities(entities())
+                .collections(collections())
+                .build();
+    }
+
+    /**
+     * This method makes snapshot of every entity.
+     *
+     * @return {@link List<EntityStatsDto>}.
+     */
+    private List<EntityStatsDto> entities() {
+        return Arrays.stream(statistics.getEntityNames()).sorted()
+                .map(name -> {
+                    EntityStatistics entity =
+                            statistics.getEntityStatistics(name);
+                    return EntityStatsDto.builder()
+                            .name(name)
+                            .loads(entity.getLoadCount())
+                            .fetches(entity.getFetchCount())
+                            .inserts(entity.getInsertCount())
+                            .updates(entity.getUpdateCount())
+                            .deletes(entity.getDeleteCount())
+                            .cacheHits(entity.getCacheHitCount())
+                            .cacheMisses(entity.getCacheMissCount())
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * This method makes snapshot of every collection.
+     *
+     * @return {@link List<CollectionStatsDto>}.
+     */
+    private List<CollectionStatsDto> collections() {
+        return Arrays.stream(statistics.getCollectionRoleNames()).sorted()
+                .map(role -> {
+                    CollectionStatistics collection =
+                            statistics.getCollectionStatistics(role);
+                    return CollectionStatsDto.builder()
+                            .role(role)
+                            .loads(collection.getLoadCount())
+                            .fetches(collection.getFetchCount())
+                            .recreates(collection.getRecreateCount())
+                            .updates(collection.getUpdateCount())
+                            .removes(collection.getRemoveCount())
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+}
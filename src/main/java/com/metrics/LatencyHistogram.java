@@ -0,0 +1,163 @@
+package com.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class {@link LatencyHistogram} is a lock-free log-linear histogram
+ * which records non negative values (times) from many threads at once.
+ * Every power of two is split into {@link #SUB_BUCKETS} linear buckets,
+ * so a quantile is reported with a relative error of about six percent.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+public class LatencyHistogram {
+
+    /**
+     * This is number of bits which split every power of two.
+     */
+    private static final int SUB_BITS = 4;
+
+    /**
+     * This is number of linear buckets inside every power of two.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    /**
+     * This is number of buckets which covers all positive long values.
+     */
+    private static final int BUCKETS = (Long.SIZE - SUB_BITS) * SUB_BUCKETS;
+
+    /**
+     * This is field with counts of the values in every bucket.
+     */
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    /**
+     * This is field with number of the recorded values.
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * This is field with sum of the recorded values.
+     */
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * This is field with the biggest recorded value.
+     */
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * This method records one value, negative values are recorded as zero.
+     *
+     * @param value value (time) which we want to record.
+     */
+    public void record(final long value) {
+        long safeValue = Math.max(0L, value);
+        buckets.incrementAndGet(indexOf(safeValue));
+        count.increment();
+        sum.add(safeValue);
+        max.accumulate(safeValue);
+    }
+
+    /**
+     * This method returns number of the recorded values.
+     *
+     * @return number of the recorded values.
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * This method returns sum of the recorded values.
+     *
+     * @return sum of the recorded values.
+     */
+    public long sum() {
+        return sum.sum();
+    }
+
+    /**
+     * This method returns mean of the recorded values.
+     *
+     * @return mean of the recorded values or zero when nothing was recorded.
+     */
+    public double mean() {
+        long recorded = count.sum();
+        return recorded == 0 ? 0 : (double) sum.sum() / recorded;
+    }
+
+    /**
+     * This method returns the biggest recorded value.
+     *
+     * @return the biggest recorded value.
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * This method returns estimate of the quantile, it is the upper bound
+     * of the bucket where the quantile falls.
+     *
+     * @param quantile quantile between 0 and 1, for example 0.99.
+     * @return estimate of the quantile or zero when nothing was recorded.
+     */
+    public long quantile(final double quantile) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * This method calculates index of the bucket for the value.
+     *
+     * @param value non negative value.
+     * @return index of the bucket.
+     */
+    static int indexOf(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BITS;
+        int sub = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * This method calculates the biggest value which falls in the bucket.
+     *
+     * @param index index of the bucket.
+     * @return the biggest value of the bucket.
+     */
+    static long upperBoundOf(final int index) {
+        int block = index / SUB_BUCKETS;
+        long sub = index % SUB_BUCKETS;
+        if (block == 0) {
+            return sub;
+        }
+        long lower = (SUB_BUCKETS + sub) << (block - 1);
+        return lower + (1L << (block - 1)) - 1;
+    }
+}
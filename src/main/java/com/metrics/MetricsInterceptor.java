@@ -0,0 +1,190 @@
+package com.metrics;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class {@link MetricsInterceptor} records requests of every method of
+ * a {@link RestController} into {@link MetricsRegistry}: number of
+ * requests by status, errors by type of the exception and latency.
+ * Exceptions which are handled by
+ * {@link com.exception.handler.CustomExceptionHandler} are taken from
+ * {@link DispatcherServlet#EXCEPTION_ATTRIBUTE}. An asynchronous request
+ * is recorded once, when its result is written. SQL statements of
+ * the request are counted by {@link SqlProfile} which is bound to
+ * the thread of the request and are added to {@link SqlProfiler}.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+public class MetricsInterceptor implements AsyncHandlerInterceptor {
+
+    /**
+     * This is name of the counter of requests.
+     */
+    public static final String REQUESTS = "http_requests_total";
+
+    /**
+     * This is name of the counter of errors.
+     */
+    public static final String ERRORS = "http_request_errors_total";
+
+    /**
+     * This is name of the summary of latency.
+     */
+    public static final String LATENCY = "http_request_duration_seconds";
+
+    /**
+     * This is name of the attribute of the request with its start time.
+     */
+    private static final String START_ATTRIBUTE =
+            MetricsInterceptor.class.getName() + ".START";
+
+    /**
+     * This is name of the attribute of the request with its
+     * {@link SqlProfile}.
+     */
+    private static final String PROFILE_ATTRIBUTE =
+            MetricsInterceptor.class.getName() + ".PROFILE";
+
+    /**
+     * This is field {@link MetricsRegistry} where requests are recorded.
+     */
+    private final MetricsRegistry registry;
+
+    /**
+     * This is field {@link SqlProfiler} where SQL statements of
+     * requests are added.
+     */
+    private final SqlProfiler sqlProfiler;
+
+    /**
+     * This is field with names of the endpoints by method of controller,
+     * it is empty for methods which are not of a {@link RestController}.
+     */
+    private final ConcurrentMap<Method, String> endpoints =
+            new ConcurrentHashMap<>();
+
+    /**
+     * This is constructor {@link MetricsInterceptor}.
+     *
+     * @param metricsRegistry {@link MetricsRegistry}.
+     * @param profiler        {@link SqlProfiler}.
+     */
+    public MetricsInterceptor(final MetricsRegistry metricsRegistry,
+                              final SqlProfiler profiler) {
+        this.registry = metricsRegistry;
+        this.sqlProfiler = profiler;
+        registry.help(REQUESTS, "Requests by endpoint and status.");
+        registry.help(ERRORS, "Failed requests by endpoint and exception.");
+        registry.help(LATENCY, "Time of requests by endpoint.");
+    }
+
+    /**
+     * This method remembers start time of the request and binds its
+     * {@link SqlProfile} to the thread, the second call for
+     * the asynchronous result keeps the first time and profile.
+     *
+     * @param request  {@link HttpServletRequest}.
+     * @param response {@link HttpServletResponse}.
+     * @param handler  handler of the request.
+     * @return true, the request is always handled.
+     */
+    @Override
+    public boolean preHandle(final HttpServletRequest request,
+                             final HttpServletResponse response,
+                             final Object handler) {
+        if (request.getAttribute(START_ATTRIBUTE) == null) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+            request.setAttribute(PROFILE_ATTRIBUTE, sqlProfiler.start());
+        }
+        SqlProfile.bind((SqlProfile) request
+                .getAttribute(PROFILE_ATTRIBUTE));
+        return true;
+    }
+
+    /**
+     * This method unbinds {@link SqlProfile} from the thread which
+     * is released until the asynchronous result is ready.
+     *
+     * @param request  {@link HttpServletRequest}.
+     * @param response {@link HttpServletResponse}.
+     * @param handler  handler of the request.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(
+            final HttpServletRequest request,
+            final HttpServletResponse response, final Object handler) {
+        SqlProfile.bind(null);
+    }
+
+    /**
+     * This method records the finished request.
+     *
+     * @param request  {@link HttpServletRequest}.
+     * @param response {@link HttpServletResponse}.
+     * @param handler  handler of the request.
+     * @param ex       exception which was not handled or null.
+     */
+    @Override
+    public void afterCompletion(final HttpServletRequest request,
+                                final HttpServletResponse response,
+                                final Object handler, final Exception ex) {
+        SqlProfile.bind(null);
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (!(handler instanceof HandlerMethod) || start == null) {
+            return;
+        }
+        String endpoint = endpointOf((HandlerMethod) handler);
+        if (endpoint.isEmpty()) {
+            return;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(
+                System.nanoTime() - (Long) start);
+        Object error = ex != null ? ex
+                : request.getAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE);
+        registry.increment(REQUESTS, MetricsRegistry.labels(
+                "endpoint", endpoint, "method", request.getMethod(),
+                "status", String.valueOf(response.getStatus())));
+        if (error != null) {
+            registry.increment(ERRORS, MetricsRegistry.labels(
+                    "endpoint", endpoint,
+                    "exception", error.getClass().getSimpleName()));
+        }
+        registry.recordMicros(LATENCY,
+                MetricsRegistry.labels("endpoint", endpoint), micros);
+        sqlProfiler.finish(endpoint,
+                (SqlProfile) request.getAttribute(PROFILE_ATTRIBUTE));
+    }
+
+    /**
+     * This method returns name of the endpoint, it is name of
+     * the controller and its method.
+     *
+     * @param handler {@link HandlerMethod}.
+     * @return name of the endpoint or empty string when the controller
+     * is not a {@link RestController}.
+     */
+    private String endpointOf(final HandlerMethod handler) {
+        String endpoint = endpoints.get(handler.getMethod());
+        if (endpoint == null) {
+            endpoint = AnnotatedElementUtils.hasAnnotation(
+                    handler.getBeanType(), RestController.class)
+                    ? handler.getBeanType().getSimpleName() + "."
+                    + handler.getMethod().getName() : "";
+            endpoints.put(handler.getMethod(), endpoint);
+        }
+        return endpoint;
+    }
+}
@@ -0,0 +1,324 @@
+package com.metrics;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Class {@link MetricsRegistry} keeps counters, gauges and summaries of
+ * the application by name and labels and writes them in the Prometheus
+ * text format. Recording does not lock: metrics are found in
+ * {@link ConcurrentHashMap} and are {@link LongAdder} and
+ * {@link LatencyHistogram}, a metric is created only when it is recorded
+ * first time.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+public class MetricsRegistry {
+
+    /**
+     * This is constant with quantiles of the summaries.
+     */
+    private static final double[] QUANTILES = {0.5, 0.99, 0.999};
+
+    /**
+     * This is constant with microseconds in a second.
+     */
+    private static final double MICROS_IN_SECOND = 1e6;
+
+    /**
+     * This is field with counters by name and labels.
+     */
+    private final ConcurrentMap<String, ConcurrentMap<String, LongAdder>>
+            counters = new ConcurrentHashMap<>();
+
+    /**
+     * This is field with gauges by name and labels.
+     */
+    private final ConcurrentMap<String, ConcurrentMap<String, LongSupplier>>
+            gauges = new ConcurrentHashMap<>();
+
+    /**
+     * This is field with summaries by name and labels.
+     */
+    private final ConcurrentMap<String, ConcurrentMap<String, Summary>>
+            summaries = new ConcurrentHashMap<>();
+
+    /**
+     * This is field with descriptions of the metrics by name.
+     */
+    private final ConcurrentMap<String, String> helps =
+            new ConcurrentHashMap<>();
+
+    /**
+     * This method sets description of the metric.
+     *
+     * @param name name of the metric.
+     * @param help description of the metric.
+     */
+    public void help(final String name, final String help) {
+        helps.put(name, help);
+    }
+
+    /**
+     * This method returns the counter, it is created when it is absent.
+     *
+     * @param name   name of the metric.
+     * @param labels labels made by {@link #labels(String...)}.
+     * @return {@link LongAdder}.
+     */
+    public LongAdder counter(final String name, final String labels) {
+        ConcurrentMap<String, LongAdder> family = family(counters, name);
+        LongAdder counter = family.get(labels);
+        return counter != null ? counter
+                : family.computeIfAbsent(labels, l -> new LongAdder());
+    }
+
+    /**
+     * This method adds existing counter.
+     *
+     * @param name    name of the metric.
+     * @param labels  labels made by {@link #labels(String...)}.
+     * @param counter {@link LongAdder}.
+     */
+    public void counter(final String name, final String labels,
+                        final LongAdder counter) {
+        family(counters, name).put(labels, counter);
+    }
+
+    /**
+     * This method adds one to the counter.
+     *
+     * @param name   name of the metric.
+     * @param labels labels made by {@link #labels(String...)}.
+     */
+    public void increment(final String name, final String labels) {
+        counter(name, labels).increment();
+    }
+
+    /**
+     * This method records time in microseconds to the summary,
+     * it is written in seconds.
+     *
+     * @param name   name of the metric.
+     * @param labels labels made by {@link #labels(String...)}.
+     * @param micros time in microseconds.
+     */
+    public void recordMicros(final String name, final String labels,
+                             final long micros) {
+        ConcurrentMap<String, Summary> family = family(summaries, name);
+        Summary summary = family.get(labels);
+        if (summary == null) {
+            summary = family.computeIfAbsent(labels, l -> new Summary(
+                    new LatencyHistogram(), MICROS_IN_SECOND));
+        }
+        summary.histogram.record(micros);
+    }
+
+    /**
+     * This method adds existing histogram as the summary.
+     *
+     * @param name      name of the metric.
+     * @param labels    labels made by {@link #labels(String...)}.
+     * @param histogram     {@link LatencyHistogram}.
+     * @param unitsInSecond units of the histogram in one second.
+     */
+    public void summary(final String name, final String labels,
+                        final LatencyHistogram histogram,
+                        final double unitsInSecond) {
+        family(summaries, name).put(labels,
+                new Summary(histogram, unitsInSecond));
+    }
+
+    /**
+     * This method adds the gauge which value is read when
+     * the metrics are written.
+     *
+     * @param name   name of the metric.
+     * @param labels labels made by {@link #labels(String...)}.
+     * @param value  {@link LongSupplier} of the value.
+     */
+    public void gauge(final String name, final String labels,
+                      final LongSupplier value) {
+        family(gauges, name).put(labels, value);
+    }
+
+    /**
+     * This method writes all metrics in the Prometheus text format
+     * ordered by name.
+     *
+     * @return metrics in the text format.
+     */
+    public String scrape() {
+        StringBuilder out = new StringBuilder();
+        for (Map.Entry<String, SortedMap<String, LongAdder>> family
+                : sorted(counters).entrySet()) {
+            header(out, family.getKey(), "counter");
+            family.getValue().forEach((labels, counter) -> sample(out,
+                    family.getKey(), labels, counter.sum()));
+        }
+        for (Map.Entry<String, SortedMap<String, LongSupplier>> family
+                : sorted(gauges).entrySet()) {
+            header(out, family.getKey(), "gauge");
+            family.getValue().forEach((labels, gauge) -> sample(out,
+                    family.getKey(), labels, gauge.getAsLong()));
+        }
+        for (Map.Entry<String, SortedMap<String, Summary>> family
+                : sorted(summaries).entrySet()) {
+            header(out, family.getKey(), "summary");
+            family.getValue().forEach((labels, summary) ->
+                    summary.write(out, family.getKey(), labels));
+        }
+        return out.toString();
+    }
+
+    /**
+     * This method makes labels of a metric from pairs of name and value.
+     *
+     * @param pairs names and values of the labels one after another.
+     * @return labels in the text format without braces.
+     */
+    public static String labels(final String... pairs) {
+        StringBuilder labels = new StringBuilder();
+        for (int i = 0; i + 1 < pairs.length; i += 2) {
+            if (labels.length() > 0) {
+                labels.append(',');
+            }
+            labels.append(pairs[i]).append("=\"");
+            String value = String.valueOf(pairs[i + 1]);
+            for (int j = 0; j < value.length(); j++) {
+                char c = value.charAt(j);
+                if (c == '\\' || c == '"') {
+                    labels.append('\\').append(c);
+                } else if (c == '\n') {
+                    labels.append("\\n");
+                } else {
+                    labels.append(c);
+                }
+            }
+            labels.append('"');
+        }
+        return labels.toString();
+    }
+
+    /**
+     * This method returns metrics of the name, they are created
+     * when they are absent.
+     *
+     * @param metrics metrics by name and labels.
+     * @param name    name of the metric.
+     * @param <T>     type of the metric.
+     * @return metrics of the name by labels.
+     */
+    private static <T> ConcurrentMap<String, T> family(
+            final ConcurrentMap<String, ConcurrentMap<String, T>> metrics,
+            final String name) {
+        ConcurrentMap<String, T> family = metrics.get(name);
+        return family != null ? family
+                : metrics.computeIfAbsent(name,
+                n -> new ConcurrentHashMap<>());
+    }
+
+    /**
+     * This method copies metrics to sorted maps.
+     *
+     * @param metrics metrics by name and labels.
+     * @param <T>     type of the metric.
+     * @return sorted copy of the metrics.
+     */
+    private static <T> SortedMap<String, SortedMap<String, T>> sorted(
+            final ConcurrentMap<String, ConcurrentMap<String, T>> metrics) {
+        SortedMap<String, SortedMap<String, T>> copy = new TreeMap<>();
+        metrics.forEach((name, family) ->
+                copy.put(name, new TreeMap<>(family)));
+        return copy;
+    }
+
+    /**
+     * This method writes description and type of the metric.
+     *
+     * @param out  {@link StringBuilder} of the result.
+     * @param name name of the metric.
+     * @param type type of the metric.
+     */
+    private void header(final StringBuilder out, final String name,
+                        final String type) {
+        String help = helps.get(name);
+        if (help != null) {
+            out.append("# HELP ").append(name).append(' ')
+                    .append(help).append('\n');
+        }
+        out.append("# TYPE ").append(name).append(' ')
+                .append(type).append('\n');
+    }
+
+    /**
+     * This method writes one sample of the metric.
+     *
+     * @param out    {@link StringBuilder} of the result.
+     * @param name   name of the metric.
+     * @param labels labels of the sample.
+     * @param value  value of the sample.
+     */
+    private static void sample(final StringBuilder out, final String name,
+                               final String labels, final Object value) {
+        out.append(name);
+        if (!labels.isEmpty()) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ').append(value).append('\n');
+    }
+
+    /**
+     * Class {@link Summary} is {@link LatencyHistogram} with unit
+     * of its values.
+     */
+    private static final class Summary {
+
+        /**
+         * Field with {@link LatencyHistogram} of the values.
+         */
+        private final LatencyHistogram histogram;
+
+        /**
+         * Field with units of the values in one second.
+         */
+        private final double unitsInSecond;
+
+        /**
+         * This is constructor {@link Summary}.
+         *
+         * @param values {@link LatencyHistogram} of the values.
+         * @param units  units of the values in one second.
+         */
+        private Summary(final LatencyHistogram values, final double units) {
+            this.histogram = values;
+            this.unitsInSecond = units;
+        }
+
+        /**
+         * This method writes quantiles, sum and count of the summary.
+         *
+         * @param out    {@link StringBuilder} of the result.
+         * @param name   name of the metric.
+         * @param labels labels of the summary.
+         */
+        private void write(final StringBuilder out, final String name,
+                           final String labels) {
+            String prefix = labels.isEmpty() ? "" : labels + ",";
+            for (double quantile : QUANTILES) {
+                sample(out, name, prefix + "quantile=\"" + quantile + "\"",
+                        histogram.quantile(quantile) / unitsInSecond);
+            }
+            sample(out, name + "_sum", labels,
+                    histogram.sum() / unitsInSecond);
+            sample(out, name + "_count", labels, histogram.count());
+        }
+    }
+}
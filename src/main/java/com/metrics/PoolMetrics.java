@@ -0,0 +1,204 @@
+package com.metrics;
+
+import com.dto.HistogramDto;
+import com.dto.PoolMetricsDto;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class {@link PoolMetrics} collects live metrics of the database
+ * connection pool: active, idle and waiting connections, time of
+ * getting, holding and opening connections and number of timeouts.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+public class PoolMetrics implements MetricsTrackerFactory {
+
+    /**
+     * This is constant with microseconds in a second.
+     */
+    private static final double MICROS_IN_SECOND = 1e6;
+
+    /**
+     * This is constant with milliseconds in a second.
+     */
+    private static final double MILLIS_IN_SECOND = 1e3;
+
+    /**
+     * This is field with time of getting a connection in microseconds.
+     */
+    private final LatencyHistogram acquire = new LatencyHistogram();
+
+    /**
+     * This is field with time of holding a connection in milliseconds.
+     */
+    private final LatencyHistogram usage = new LatencyHistogram();
+
+    /**
+     * This is field with time of opening a connection in milliseconds.
+     */
+    private final LatencyHistogram creation = new LatencyHistogram();
+
+    /**
+     * This is field with number of timeouts of getting a connection.
+     */
+    private final LongAdder timeouts = new LongAdder();
+
+    /**
+     * This is field with name of the pool which is tracked.
+     */
+    private volatile String poolName;
+
+    /**
+     * This is field {@link PoolStats} with state of the pool.
+     */
+    private volatile PoolStats poolStats;
+
+    /**
+     * This method is called by the pool when it starts.
+     *
+     * @param name  name of the pool.
+     * @param stats {@link PoolStats}.
+     * @return {@link IMetricsTracker} which records events of the pool.
+     */
+    @Override
+    public IMetricsTracker create(final String name,
+                                  final PoolStats stats) {
+        this.poolName = name;
+        this.poolStats = stats;
+        return new Tracker();
+    }
+
+    /**
+     * This method returns histogram of time of getting a connection.
+     *
+     * @return {@link LatencyHistogram} in microseconds.
+     */
+    public LatencyHistogram getAcquire() {
+        return acquire;
+    }
+
+    /**
+     * This method returns number of timeouts of getting a connection.
+     *
+     * @return number of timeouts.
+     */
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    /**
+     * This method returns state of the pool.
+     *
+     * @return {@link PoolStats} or null when the pool is not started.
+     */
+    public PoolStats getPoolStats() {
+        return poolStats;
+    }
+
+    /**
+     * This method adds the pool metrics to {@link MetricsRegistry}.
+     *
+     * @param registry {@link MetricsRegistry}.
+     */
+    public void bindTo(final MetricsRegistry registry) {
+        registry.help("jdbc_connection_acquire_seconds",
+                "Time of getting a database connection from the pool.");
+        registry.summary("jdbc_connection_acquire_seconds", "", acquire,
+                MICROS_IN_SECOND);
+        registry.help("jdbc_connection_usage_seconds",
+                "Time of holding a database connection.");
+        registry.summary("jdbc_connection_usage_seconds", "", usage,
+                MILLIS_IN_SECOND);
+        registry.help("jdbc_connection_creation_seconds",
+                "Time of opening a database connection.");
+        registry.summary("jdbc_connection_creation_seconds", "", creation,
+                MILLIS_IN_SECOND);
+        registry.counter("jdbc_connection_timeouts_total", "", timeouts);
+        registry.gauge("jdbc_connections", MetricsRegistry.labels(
+                "state", "active"), () -> poolStats == null ? 0
+                : poolStats.getActiveConnections());
+        registry.gauge("jdbc_connections", MetricsRegistry.labels(
+                "state", "idle"), () -> poolStats == null ? 0
+                : poolStats.getIdleConnections());
+        registry.gauge("jdbc_connections_pending", "",
+                () -> poolStats == null ? 0
+                        : poolStats.getPendingThreads());
+    }
+
+    /**
+     * This method makes snapshot of the pool metrics.
+     *
+     * @return {@link PoolMetricsDto}.
+     */
+    public PoolMetricsDto snapshot() {
+        PoolMetricsDto.PoolMetricsDtoBuilder builder =
+                PoolMetricsDto.builder()
+                        .poolName(poolName)
+                        .timeouts(timeouts.sum())
+                        .acquireMicros(HistogramDto.of(acquire))
+                        .usageMillis(HistogramDto.of(usage))
+                        .creationMillis(HistogramDto.of(creation));
+        PoolStats stats = poolStats;
+        if (stats != null) {
+            builder.active(stats.getActiveConnections())
+                    .idle(stats.getIdleConnections())
+                    .pending(stats.getPendingThreads())
+                    .total(stats.getTotalConnections())
+                    .min(stats.getMinConnections())
+                    .max(stats.getMaxConnections());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Class {@link Tracker} records events of the pool
+     * into the histograms of {@link PoolMetrics}.
+     */
+    private class Tracker implements IMetricsTracker {
+
+        /**
+         * This method records time of opening a connection.
+         *
+         * @param millis time in milliseconds.
+         */
+        @Override
+        public void recordConnectionCreatedMillis(final long millis) {
+            creation.record(millis);
+        }
+
+        /**
+         * This method records time of getting a connection.
+         *
+         * @param nanos time in nanoseconds.
+         */
+        @Override
+        public void recordConnectionAcquiredNanos(final long nanos) {
+            acquire.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+        }
+
+        /**
+         * This method records time of holding a connection.
+         *
+         * @param millis time in milliseconds.
+         */
+        @Override
+        public void recordConnectionUsageMillis(final long millis) {
+            usage.record(millis);
+        }
+
+        /**
+         * This method records timeout of getting a connection.
+         */
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+        }
+    }
+}
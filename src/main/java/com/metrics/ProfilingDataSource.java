@@ -0,0 +1,280 @@
+package com.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Class {@link ProfilingDataSource} wraps the pooled {@link DataSource}
+ * and measures every executed statement of its connections for
+ * {@link SqlProfiler}: text of the statement, types of its bound
+ * parameters and time of execution. Values of the parameters are not
+ * kept, so they do not get to the log.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+public class ProfilingDataSource extends DelegatingDataSource
+        implements Closeable {
+
+    /**
+     * This is field {@link SqlProfiler} which gets the statements.
+     */
+    private final SqlProfiler profiler;
+
+    /**
+     * This is constructor {@link ProfilingDataSource}.
+     *
+     * @param target      {@link DataSource} of the connections.
+     * @param sqlProfiler {@link SqlProfiler}.
+     */
+    public ProfilingDataSource(final DataSource target,
+                               final SqlProfiler sqlProfiler) {
+        super(target);
+        this.profiler = sqlProfiler;
+    }
+
+    /**
+     * This method returns profiled connection.
+     *
+     * @return {@link Connection}.
+     * @throws SQLException if the connection can not be got.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    /**
+     * This method returns profiled connection.
+     *
+     * @param username name of the user.
+     * @param password password of the user.
+     * @return {@link Connection}.
+     * @throws SQLException if the connection can not be got.
+     */
+    @Override
+    public Connection getConnection(final String username,
+                                    final String password)
+            throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    /**
+     * This method closes the wrapped pool.
+     *
+     * @throws IOException if the pool can not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (getTargetDataSource() instanceof Closeable) {
+            ((Closeable) getTargetDataSource()).close();
+        }
+    }
+
+    /**
+     * This method wraps the connection, statements created by it
+     * are profiled.
+     *
+     * @param connection {@link Connection}.
+     * @return proxy of the {@link Connection}.
+     */
+    private Connection wrap(final Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = call(proxy, connection, method, args);
+                    if (!(result instanceof Statement)) {
+                        return result;
+                    }
+                    String sql = result instanceof PreparedStatement
+                            ? (String) args[0] : null;
+                    return wrap((Statement) result, sql);
+                });
+    }
+
+    /**
+     * This method wraps the statement.
+     *
+     * @param statement {@link Statement}.
+     * @param sql       text of the prepared statement or null.
+     * @return proxy of the {@link Statement}.
+     */
+    private Statement wrap(final Statement statement, final String sql) {
+        Class<?> type = statement instanceof CallableStatement
+                ? CallableStatement.class
+                : statement instanceof PreparedStatement
+                ? PreparedStatement.class : Statement.class;
+        return (Statement) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[]{type},
+                new StatementHandler(statement, sql, profiler));
+    }
+
+    /**
+     * This method calls the method of the target, equality of the proxy
+     * is its identity.
+     *
+     * @param proxy  proxy of the target.
+     * @param target target of the call.
+     * @param method {@link Method}.
+     * @param args   arguments of the call.
+     * @return result of the call.
+     * @throws Throwable exception of the target.
+     */
+    private static Object call(final Object proxy, final Object target,
+                               final Method method, final Object[] args)
+            throws Throwable {
+        if ("equals".equals(method.getName()) && args.length == 1) {
+            return proxy == args[0];
+        }
+        if ("hashCode".equals(method.getName()) && args == null) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Class {@link StatementHandler} remembers types of the bound
+     * parameters of the statement and measures its executions.
+     */
+    private static final class StatementHandler
+            implements InvocationHandler {
+
+        /**
+         * Field with the target statement.
+         */
+        private final Statement statement;
+
+        /**
+         * Field {@link SqlProfiler} which gets executions.
+         */
+        private final SqlProfiler profiler;
+
+        /**
+         * Field with types of the bound parameters by index.
+         */
+        private final Map<Integer, String> parameters = new TreeMap<>();
+
+        /**
+         * Field with text of the statement.
+         */
+        private String sql;
+
+        /**
+         * Field with number of added batches.
+         */
+        private int batches;
+
+        /**
+         * This is constructor {@link StatementHandler}.
+         *
+         * @param target      target {@link Statement}.
+         * @param prepared    text of the prepared statement or null.
+         * @param sqlProfiler {@link SqlProfiler}.
+         */
+        private StatementHandler(final Statement target,
+                                 final String prepared,
+                                 final SqlProfiler sqlProfiler) {
+            this.statement = target;
+            this.sql = prepared;
+            this.profiler = sqlProfiler;
+        }
+
+        /**
+         * This method calls the statement, executions are measured.
+         *
+         * @param proxy  proxy of the statement.
+         * @param method {@link Method}.
+         * @param args   arguments of the call.
+         * @return result of the call.
+         * @throws Throwable exception of the statement.
+         */
+        @Override
+        public Object invoke(final Object proxy, final Method method,
+                             final Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                remember(name, args);
+                return call(proxy, statement, method, args);
+            }
+            String executed = sql == null && args != null
+                    && args.length > 0 && args[0] instanceof String
+                    ? (String) args[0] : sql;
+            long start = System.nanoTime();
+            try {
+                return call(proxy, statement, method, args);
+            } finally {
+                profiler.record(executed, shape(),
+                        System.nanoTime() - start);
+                if (name.startsWith("executeBatch")
+                        || name.startsWith("executeLargeBatch")) {
+                    batches = 0;
+                }
+            }
+        }
+
+        /**
+         * This method remembers type of a bound parameter and batches.
+         *
+         * @param name name of the called method.
+         * @param args arguments of the call.
+         */
+        private void remember(final String name, final Object[] args) {
+            if (name.startsWith("set") && args != null && args.length > 1
+                    && args[0] instanceof Integer) {
+                parameters.put((Integer) args[0],
+                        "setNull".equals(name) || args[1] == null ? "null"
+                                : args[1].getClass().getSimpleName());
+            } else if ("clearParameters".equals(name)) {
+                parameters.clear();
+            } else if ("addBatch".equals(name)) {
+                batches++;
+                if (args != null) {
+                    sql = (String) args[0];
+                }
+            } else if ("clearBatch".equals(name)) {
+                batches = 0;
+            }
+        }
+
+        /**
+         * This method returns types of the bound parameters.
+         *
+         * @return types of the parameters by index, e.g. [1:Integer],
+         * with number of batches when there are batches.
+         */
+        private String shape() {
+            StringBuilder shape = new StringBuilder();
+            if (batches > 0) {
+                shape.append("batches ").append(batches).append(' ');
+            }
+            shape.append('[');
+            parameters.forEach((index, type) -> {
+                if (shape.charAt(shape.length() - 1) != '[') {
+                    shape.append(", ");
+                }
+                shape.append(index).append(':').append(type);
+            });
+            return shape.append(']').toString();
+        }
+    }
+}
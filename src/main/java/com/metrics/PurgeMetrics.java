@@ -0,0 +1,83 @@
+package com.metrics;
+
+import com.dto.HistogramDto;
+import com.dto.PurgeStatsDto;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class {@link PurgeMetrics} collects metrics of the purge of inactive
+ * announcements: number of deleted rows and batches and time of every
+ * batch and of the last run.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+public class PurgeMetrics {
+
+    /**
+     * This is field with time of deleting a batch in milliseconds.
+     */
+    private final LatencyHistogram batchMillis = new LatencyHistogram();
+
+    /**
+     * This is field with number of deleted rows.
+     */
+    private final LongAdder rowsDeleted = new LongAdder();
+
+    /**
+     * This is field with number of finished runs.
+     */
+    private final LongAdder runs = new LongAdder();
+
+    /**
+     * This is field with number of rows deleted by the last run.
+     */
+    private volatile long lastRunRows;
+
+    /**
+     * This is field with time of the last run in milliseconds.
+     */
+    private volatile long lastRunMillis;
+
+    /**
+     * This method records one deleted batch.
+     *
+     * @param rows  number of deleted rows.
+     * @param nanos time of deleting in nanoseconds.
+     */
+    public void recordBatch(final int rows, final long nanos) {
+        rowsDeleted.add(rows);
+        batchMillis.record(TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+
+    /**
+     * This method records the finished run.
+     *
+     * @param rows  number of rows deleted by the run.
+     * @param nanos time of the run in nanoseconds.
+     */
+    public void recordRun(final long rows, final long nanos) {
+        runs.increment();
+        lastRunRows = rows;
+        lastRunMillis = TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * This method makes snapshot of the purge metrics.
+     *
+     * @return {@link PurgeStatsDto}.
+     */
+    public PurgeStatsDto snapshot() {
+        return PurgeStatsDto.builder()
+                .runs(runs.sum())
+                .batches(batchMillis.count())
+                .rowsDeleted(rowsDeleted.sum())
+                .lastRunRows(lastRunRows)
+                .lastRunMillis(lastRunMillis)
+                .batchMillis(HistogramDto.of(batchMillis))
+                .build();
+    }
+}
@@ -0,0 +1,176 @@
+package com.metrics;
+
+import com.dto.SqlStatementDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class {@link SqlProfile} counts SQL statements of one unit of work,
+ * usually of one request: number of statements, their time and
+ * the slowest of them. The profile is bound to the thread which does
+ * the work, statements of {@link ProfilingDataSource} executed in
+ * the thread are added to it. {@link #propagate(Runnable)} binds it to
+ * the worker which runs a part of the request.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+public final class SqlProfile {
+
+    /**
+     * This is field with the profile bound to the current thread.
+     */
+    private static final ThreadLocal<SqlProfile> CURRENT =
+            new ThreadLocal<>();
+
+    /**
+     * This is field with number of the slowest statements kept.
+     */
+    private final int slowestLimit;
+
+    /**
+     * This is field with the slowest statements, the slowest is first.
+     */
+    private final List<SqlStatementDto> slowest = new ArrayList<>();
+
+    /**
+     * This is field with number of statements.
+     */
+    private long statements;
+
+    /**
+     * This is field with time of statements in nanoseconds.
+     */
+    private long nanos;
+
+    /**
+     * This is constructor {@link SqlProfile}.
+     *
+     * @param limit number of the slowest statements kept.
+     */
+    SqlProfile(final int limit) {
+        this.slowestLimit = limit;
+    }
+
+    /**
+     * This method returns the profile bound to the current thread.
+     *
+     * @return {@link SqlProfile} or null if nothing is profiled.
+     */
+    public static SqlProfile current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * This method binds the profile to the current thread.
+     *
+     * @param profile {@link SqlProfile} or null to unbind.
+     */
+    public static void bind(final SqlProfile profile) {
+        if (profile == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(profile);
+        }
+    }
+
+    /**
+     * This method makes the task record its statements to the profile
+     * of the thread which submits it, it is
+     * {@link org.springframework.core.task.TaskDecorator} of executors.
+     *
+     * @param task {@link Runnable}.
+     * @return task which runs with the profile.
+     */
+    public static Runnable propagate(final Runnable task) {
+        SqlProfile profile = CURRENT.get();
+        if (profile == null) {
+            return task;
+        }
+        return () -> {
+            SqlProfile previous = CURRENT.get();
+            bind(profile);
+            try {
+                task.run();
+            } finally {
+                bind(previous);
+            }
+        };
+    }
+
+    /**
+     * This method adds executed statement.
+     *
+     * @param sql             text of the statement.
+     * @param parameters      types of the bound parameters.
+     * @param statementNanos  time of the statement in nanoseconds.
+     */
+    synchronized void record(final String sql, final String parameters,
+                             final long statementNanos) {
+        statements++;
+        nanos += statementNanos;
+        addSlowest(new SqlStatementDto(sql, parameters,
+                TimeUnit.NANOSECONDS.toMicros(statementNanos)));
+    }
+
+    /**
+     * This method adds statements of other profile.
+     *
+     * @param other {@link SqlProfile}.
+     */
+    synchronized void merge(final SqlProfile other) {
+        statements += other.getStatements();
+        nanos += TimeUnit.MICROSECONDS.toNanos(other.getMicros());
+        other.getSlowest().forEach(this::addSlowest);
+    }
+
+    /**
+     * This method returns number of statements.
+     *
+     * @return number of statements.
+     */
+    public synchronized long getStatements() {
+        return statements;
+    }
+
+    /**
+     * This method returns time of statements.
+     *
+     * @return time in microseconds.
+     */
+    public synchronized long getMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    /**
+     * This method returns the slowest statements.
+     *
+     * @return {@link List} of {@link SqlStatementDto}, the slowest
+     * is first.
+     */
+    public synchronized List<SqlStatementDto> getSlowest() {
+        return new ArrayList<>(slowest);
+    }
+
+    /**
+     * This method keeps the statement if it is one of the slowest.
+     *
+     * @param statement {@link SqlStatementDto}.
+     */
+    private void addSlowest(final SqlStatementDto statement) {
+        int index = slowest.size();
+        while (index > 0
+                && slowest.get(index - 1).getMicros() < statement.getMicros()) {
+            index--;
+        }
+        if (index < slowestLimit) {
+            slowest.add(index, statement);
+            if (slowest.size() > slowestLimit) {
+                slowest.remove(slowestLimit);
+            }
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.metrics;
+
+import com.constant.LoggerConstants;
+import com.dto.HistogramDto;
+import com.dto.SqlProfileDto;
+import org.apache.log4j.Logger;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Class {@link SqlProfiler} collects SQL statements executed by
+ * {@link ProfilingDataSource}. Statements slower than the threshold are
+ * logged with types of their parameters. Profiles of requests are
+ * aggregated by endpoint: statements and time of statements per request
+ * and the slowest statements, they are written to
+ * {@link MetricsRegistry} as well. A request with more statements than
+ * the limit is logged, it is usually a query per row (N+1).
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+public class SqlProfiler {
+
+    /**
+     * This is name of the counter of statements.
+     */
+    public static final String STATEMENTS = "sql_statements_total";
+
+    /**
+     * This is name of the summary of statements of one request.
+     */
+    public static final String STATEMENTS_PER_REQUEST =
+            "sql_statements_per_request";
+
+    /**
+     * This is name of the summary of time of statements of one request.
+     */
+    public static final String DURATION = "sql_request_duration_seconds";
+
+    /**
+     * This is default time after which a statement is logged as slow.
+     */
+    public static final long SLOW_THRESHOLD_MS = 200;
+
+    /**
+     * This is default number of the slowest statements kept.
+     */
+    public static final int SLOWEST_LIMIT = 5;
+
+    /**
+     * This is default number of statements of a request after which
+     * the request is logged.
+     */
+    public static final int MAX_STATEMENTS = 50;
+
+    /**
+     * This is constant with microseconds in a second.
+     */
+    private static final double MICROS_IN_SECOND = 1e6;
+
+    /**
+     * This is object for logging {@link SqlProfiler}.
+     */
+    private static final Logger LOGGER = Logger.getLogger(SqlProfiler.class);
+
+    /**
+     * This is field {@link MetricsRegistry} where endpoints are written.
+     */
+    private final MetricsRegistry registry;
+
+    /**
+     * This is field with time after which a statement is logged.
+     */
+    private final long slowThresholdNanos;
+
+    /**
+     * This is field with number of the slowest statements kept.
+     */
+    private final int slowestLimit;
+
+    /**
+     * This is field with number of statements after which
+     * a request is logged.
+     */
+    private final int maxStatements;
+
+    /**
+     * This is field with profiles of the endpoints by name.
+     */
+    private final ConcurrentMap<String, Endpoint> endpoints =
+            new ConcurrentHashMap<>();
+
+    /**
+     * This is constructor {@link SqlProfiler}.
+     *
+     * @param metricsRegistry {@link MetricsRegistry}.
+     * @param slowThresholdMs time after which a statement is logged.
+     * @param slowest         number of the slowest statements kept.
+     * @param statementsLimit number of statements after which
+     *                        a request is logged.
+     */
+    public SqlProfiler(final MetricsRegistry metricsRegistry,
+                       final long slowThresholdMs, final int slowest,
+                       final int statementsLimit) {
+        this.registry = metricsRegistry;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS
+                .toNanos(slowThresholdMs);
+        this.slowestLimit = slowest;
+        this.maxStatements = statementsLimit;
+        registry.help(STATEMENTS, "SQL statements by endpoint.");
+        registry.help(STATEMENTS_PER_REQUEST,
+                "SQL statements of one request by endpoint.");
+        registry.help(DURATION, "Time of SQL statements of one request "
+                + "by endpoint.");
+    }
+
+    /**
+     * This method creates new profile.
+     *
+     * @return {@link SqlProfile}.
+     */
+    public SqlProfile start() {
+        return new SqlProfile(slowestLimit);
+    }
+
+    /**
+     * This method runs the work with new profile bound to the current
+     * thread, e.g. to count statements of a call in a test.
+     *
+     * @param work {@link Runnable}.
+     * @return {@link SqlProfile} with statements of the work.
+     */
+    public SqlProfile profile(final Runnable work) {
+        SqlProfile profile = start();
+        SqlProfile previous = SqlProfile.current();
+        SqlProfile.bind(profile);
+        try {
+            work.run();
+        } finally {
+            SqlProfile.bind(previous);
+        }
+        return profile;
+    }
+
+    /**
+     * This method adds the statement to the profile of the current
+     * thread and logs it when it is slow.
+     *
+     * @param sql        text of the statement.
+     * @param parameters types of the bound parameters.
+     * @param nanos      time of the statement in nanoseconds.
+     */
+    void record(final String sql, final String parameters,
+                final long nanos) {
+        SqlProfile profile = SqlProfile.current();
+        if (profile != null) {
+            profile.record(sql, parameters, nanos);
+        }
+        if (nanos >= slowThresholdNanos) {
+            LOGGER.warn(LoggerConstants.SLOW_SQL_STATEMENT
+                    + TimeUnit.NANOSECONDS.toMillis(nanos) + " ms, "
+                    + sql + " " + parameters);
+        }
+    }
+
+    /**
+     * This method adds the profile of a finished request
+     * to the endpoint.
+     *
+     * @param endpoint name of the endpoint.
+     * @param profile  {@link SqlProfile} of the request.
+     */
+    public void finish(final String endpoint, final SqlProfile profile) {
+        Endpoint total = endpoints.get(endpoint);
+        if (total == null) {
+            total = endpoints.computeIfAbsent(endpoint, this::register);
+        }
+        long statements = profile.getStatements();
+        total.profile.merge(profile);
+        total.statements.record(statements);
+        total.micros.record(profile.getMicros());
+        registry.counter(STATEMENTS, total.labels).add(statements);
+        if (statements > maxStatements) {
+            LOGGER.warn(LoggerConstants.TOO_MANY_SQL_STATEMENTS
+                    + endpoint + ": " + statements);
+        }
+    }
+
+    /**
+     * This method returns profiles of the endpoints ordered by name.
+     *
+     * @return {@link List} of {@link SqlProfileDto}.
+     */
+    public List<SqlProfileDto> snapshot() {
+        return new TreeMap<>(endpoints).entrySet().stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * This method creates profile of the endpoint and adds its
+     * summaries to {@link MetricsRegistry}.
+     *
+     * @param endpoint name of the endpoint.
+     * @return {@link Endpoint}.
+     */
+    private Endpoint register(final String endpoint) {
+        Endpoint total = new Endpoint(start(),
+                MetricsRegistry.labels("endpoint", endpoint));
+        registry.summary(STATEMENTS_PER_REQUEST, total.labels,
+                total.statements, 1);
+        registry.summary(DURATION, total.labels, total.micros,
+                MICROS_IN_SECOND);
+        return total;
+    }
+
+    /**
+     * This method makes snapshot of the endpoint.
+     *
+     * @param entry name and {@link Endpoint}.
+     * @return {@link SqlProfileDto}.
+     */
+    private SqlProfileDto toDto(final Map.Entry<String, Endpoint> entry) {
+        Endpoint total = entry.getValue();
+        return SqlProfileDto.builder()
+                .endpoint(entry.getKey())
+                .requests(total.statements.count())
+                .statements(total.profile.getStatements())
+                .statementsPerRequest(HistogramDto.of(total.statements))
+                .microsPerRequest(HistogramDto.of(total.micros))
+                .slowest(total.profile.getSlowest())
+                .build();
+    }
+
+    /**
+     * Class {@link Endpoint} is profile of all requests of an endpoint.
+     */
+    private static final class Endpoint {
+
+        /**
+         * Field with statements of all requests.
+         */
+        private final SqlProfile profile;
+
+        /**
+         * Field with labels of the endpoint in {@link MetricsRegistry}.
+         */
+        private final String labels;
+
+        /**
+         * Field with statements of one request.
+         */
+        private final LatencyHistogram statements = new LatencyHistogram();
+
+        /**
+         * Field with time of statements of one request in microseconds.
+         */
+        private final LatencyHistogram micros = new LatencyHistogram();
+
+        /**
+         * This is constructor {@link Endpoint}.
+         *
+         * @param total            {@link SqlProfile} of all requests.
+         * @param labelsOfEndpoint labels of the endpoint.
+         */
+        private Endpoint(final SqlProfile total,
+                         final String labelsOfEndpoint) {
+            this.profile = total;
+            this.labels = labelsOfEndpoint;
+        }
+    }
+}
@@ -1,12 +1,22 @@
 package com.repository;
 
 import com.domain.Announcement;
+import com.index.SearchDocument;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+
 /**
  * {@link AnnouncementRepository} interface serves to simplify the data access
  * process for {@link Announcement} in database,binds database to implementation
@@ -21,6 +31,12 @@ import java.util.List;
 public interface AnnouncementRepository
         extends JpaRepository<Announcement, Integer> {
 
+    /**
+     * This is name of the query cache region of
+     * {@link #getAllByHeadingId(int)}.
+     */
+    String ANNOUNCEMENTS_BY_HEADING_REGION = "announcements-by-heading";
+
     /**
      * This method filter announcements by revelationText from
      * the usage database using Spring Data Jpa.
@@ -42,9 +58,44 @@ public interface AnnouncementRepository
     /**
      * This method returns all announcements of a particular heading
      * from the database by the heading id using Spring Data Jpa.
+     * When the application is run by a single node, ids of the found
+     * announcements are kept in the query cache region
+     * {@link #ANNOUNCEMENTS_BY_HEADING_REGION} until any announcement
+     * is changed, announcements themselves are in the entity cache,
+     * otherwise the hints are ignored.
      *
      * @param id int.
      * @return {@link List<Announcement>}.
      */
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION,
+                    value = ANNOUNCEMENTS_BY_HEADING_REGION)})
     List<Announcement> getAllByHeadingId(int id);
+
+    /**
+     * This method loads text of announcements with id bigger than
+     * the given one as {@link SearchDocument}, ordered by id.
+     *
+     * @param id       id of the last loaded announcement.
+     * @param pageable size of the batch.
+     * @return {@link List<SearchDocument>}.
+     */
+    @Query("SELECT new com.index.SearchDocument(a.id, a.name, "
+            + " a.revelationText) FROM Announcement a "
+            + " WHERE a.id > :id ORDER BY a.id")
+    List<SearchDocument> findSearchDocuments(@Param("id") int id,
+                                             Pageable pageable);
+
+    /**
+     * This method finds announcements by ids with their headings
+     * and authors in one query.
+     *
+     * @param ids {@link Collection<Integer>}.
+     * @return {@link List<Announcement>} in any order.
+     */
+    @Query("SELECT a FROM Announcement a LEFT JOIN FETCH a.heading "
+            + " LEFT JOIN FETCH a.author WHERE a.id IN :ids")
+    List<Announcement> findAllWithHeadingByIds(
+            @Param("ids") Collection<Integer> ids);
 }
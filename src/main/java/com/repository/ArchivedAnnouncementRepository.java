@@ -0,0 +1,20 @@
+package com.repository;
+
+import com.domain.ArchivedAnnouncement;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * {@link ArchivedAnnouncementRepository} interface serves to simplify
+ * reading of {@link ArchivedAnnouncement} from the archive, rows are
+ * written to the archive only by
+ * {@link com.dao.AnnouncementDao#archiveExpiredAnnouncements}.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Repository
+public interface ArchivedAnnouncementRepository
+        extends JpaRepository<ArchivedAnnouncement, Integer> {
+}
@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * {@link AuthorRepository} interface serves to simplify the data
  * access process for {@link Author} in database, binds database to
@@ -40,4 +42,13 @@ public interface AuthorRepository extends JpaRepository<Author, Integer> {
             nativeQuery = true)
     @Modifying
     void deleteFromUserRole(@Param(value = "id") int id);
+
+    /**
+     * This is method for getting ids of all active authors,
+     * it is used to check tokens without loading authors.
+     *
+     * @return {@link List<Integer>} ids of active authors.
+     */
+    @Query("SELECT a.id FROM Author a WHERE a.active = true")
+    List<Integer> findActiveIds();
 }
@@ -0,0 +1,102 @@
+package com.repository;
+
+import com.domain.EmailOutbox;
+import com.domain.enums.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link EmailOutboxRepository} interface serves to simplify the data
+ * access process for {@link EmailOutbox} in database. All state changes
+ * are conditional updates, so several dispatchers never send the
+ * same row at the same time.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Repository
+public interface EmailOutboxRepository
+        extends JpaRepository<EmailOutbox, Integer> {
+
+    /**
+     * This method finds ids of the rows which can be claimed.
+     *
+     * @param statuses {@link Collection} of {@link OutboxStatus}.
+     * @param now      current time.
+     * @param pageable {@link Pageable} limits number of the rows.
+     * @return {@link List<Integer>} ids of the rows.
+     */
+    @Query("SELECT o.id FROM EmailOutbox o "
+            + " WHERE o.status IN :statuses "
+            + " AND o.nextAttemptAt <= :now "
+            + " ORDER BY o.nextAttemptAt")
+    List<Integer> findDueIds(
+            @Param("statuses") Collection<OutboxStatus> statuses,
+            @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    /**
+     * This method claims the row for the dispatcher until the lease ends.
+     * When the dispatcher dies the row is claimed again after the lease.
+     *
+     * @param id         id of the row.
+     * @param statuses   {@link Collection} of {@link OutboxStatus}
+     *                   which can be claimed.
+     * @param processing {@link OutboxStatus#PROCESSING}.
+     * @param now        current time.
+     * @param leaseUntil time when the lease ends.
+     * @return 1 when the row is claimed, 0 when it was claimed by other.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox o SET o.status = :processing, "
+            + " o.attempts = o.attempts + 1, "
+            + " o.nextAttemptAt = :leaseUntil, "
+            + " o.version = o.version + 1 "
+            + " WHERE o.id = :id "
+            + " AND o.status IN :statuses "
+            + " AND o.nextAttemptAt <= :now")
+    int claim(@Param("id") int id,
+              @Param("statuses") Collection<OutboxStatus> statuses,
+              @Param("processing") OutboxStatus processing,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * This method sets new status of the claimed row.
+     *
+     * @param id            id of the row.
+     * @param status        new {@link OutboxStatus}.
+     * @param nextAttemptAt time of the next attempt.
+     * @param lastError     message of the last error or null.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutbox o SET o.status = :status, "
+            + " o.nextAttemptAt = :nextAttemptAt, "
+            + " o.lastError = :lastError, "
+            + " o.version = o.version + 1 "
+            + " WHERE o.id = :id")
+    void updateStatus(@Param("id") int id,
+                      @Param("status") OutboxStatus status,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("lastError") String lastError);
+
+    /**
+     * This method counts rows with the status.
+     *
+     * @param status {@link OutboxStatus}.
+     * @return number of the rows.
+     */
+    long countByStatus(OutboxStatus status);
+}
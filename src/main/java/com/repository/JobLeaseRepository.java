@@ -0,0 +1,114 @@
+package com.repository;
+
+import com.domain.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * {@link JobLeaseRepository} interface serves to simplify the data
+ * access process for {@link JobLease} in database. A lease is taken and
+ * renewed by conditional updates, so only one owner holds it at a time.
+ * Time of leases is taken from the clock of the database, so clocks of
+ * nodes do not decide which node takes the lease.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    /**
+     * This method takes the lease when it has expired.
+     *
+     * @param job    name of the job.
+     * @param owner  id of the owner.
+     * @param millis time of the lease in milliseconds.
+     * @return 1 when the lease is taken, 0 when it is held or there is
+     * no lease of the job.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE job_leases SET owner = :owner, "
+            + " locked_until = DATE_ADD(NOW(3), "
+            + " INTERVAL :millis * 1000 MICROSECOND) "
+            + " WHERE job_name = :job AND locked_until <= NOW(3)",
+            nativeQuery = true)
+    int acquire(@Param("job") String job,
+                @Param("owner") String owner,
+                @Param("millis") long millis);
+
+    /**
+     * This method creates the lease of the job for the owner unless
+     * other owner has created it first.
+     *
+     * @param job    name of the job.
+     * @param owner  id of the owner.
+     * @param millis time of the lease in milliseconds.
+     * @return 1 when the lease is created, 0 when it exists.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO job_leases "
+            + " (job_name, owner, locked_until) "
+            + " VALUES (:job, :owner, DATE_ADD(NOW(3), "
+            + " INTERVAL :millis * 1000 MICROSECOND))", nativeQuery = true)
+    int create(@Param("job") String job,
+               @Param("owner") String owner,
+               @Param("millis") long millis);
+
+    /**
+     * This method prolongs the lease held by the owner unless it has
+     * expired or was freed.
+     *
+     * @param job    name of the job.
+     * @param owner  id of the owner.
+     * @param millis time of the lease in milliseconds.
+     * @return 1 when the lease is prolonged, 0 when it was taken
+     * by other owner or has expired.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE job_leases SET locked_until = DATE_ADD(NOW(3), "
+            + " INTERVAL :millis * 1000 MICROSECOND) "
+            + " WHERE job_name = :job AND owner = :owner "
+            + " AND locked_until > NOW(3)", nativeQuery = true)
+    int renew(@Param("job") String job,
+              @Param("owner") String owner,
+              @Param("millis") long millis);
+
+    /**
+     * This method frees the lease held by the owner, so the next run
+     * of the job takes it at once.
+     *
+     * @param job   name of the job.
+     * @param owner id of the owner.
+     * @return 1 when the lease is freed, 0 when it was taken
+     * by other owner.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE job_leases SET locked_until = NOW(3) "
+            + " WHERE job_name = :job AND owner = :owner",
+            nativeQuery = true)
+    int release(@Param("job") String job,
+                @Param("owner") String owner);
+
+    /**
+     * This method counts the leases of the job which the owner holds
+     * and which have not expired.
+     *
+     * @param job   name of the job.
+     * @param owner id of the owner.
+     * @return 1 when the owner holds the lease, 0 otherwise.
+     */
+    @Query(value = "SELECT COUNT(*) FROM job_leases "
+            + " WHERE job_name = :job AND owner = :owner "
+            + " AND locked_until > NOW(3)", nativeQuery = true)
+    long countHeld(@Param("job") String job,
+                   @Param("owner") String owner);
+}
@@ -0,0 +1,62 @@
+package com.repository;
+
+import com.domain.JobRun;
+import com.domain.enums.JobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * {@link JobRunRepository} interface serves to simplify the data
+ * access process for {@link JobRun} in database.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Repository
+public interface JobRunRepository extends JpaRepository<JobRun, Integer> {
+
+    /**
+     * This method finds the last runs of the job.
+     *
+     * @param job name of the job.
+     * @return {@link List<JobRun>} the last is first.
+     */
+    List<JobRun> findTop20ByJobOrderByIdDesc(String job);
+
+    /**
+     * This method changes status of the runs of the job which have
+     * the given status.
+     *
+     * @param job    name of the job.
+     * @param from   current {@link JobStatus} of the runs.
+     * @param status new {@link JobStatus} of the runs.
+     * @return number of changed runs.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobRun r SET r.status = :status "
+            + " WHERE r.job = :job AND r.status = :from")
+    int updateStatus(@Param("job") String job,
+                     @Param("from") JobStatus from,
+                     @Param("status") JobStatus status);
+
+    /**
+     * This method finds names of the jobs which have a run that is
+     * not finished while the lease of the job has expired, i.e. the
+     * node which ran them died.
+     *
+     * @return {@link List<String>} names of the jobs.
+     */
+    @Query(value = "SELECT DISTINCT r.job_name FROM job_runs r "
+            + " JOIN job_leases l ON l.job_name = r.job_name "
+            + " WHERE r.status = 'RUNNING' "
+            + " AND l.locked_until <= NOW(3)", nativeQuery = true)
+    List<String> findAbandonedJobs();
+}
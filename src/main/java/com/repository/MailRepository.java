@@ -7,7 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -22,26 +22,16 @@ import java.util.List;
 public interface MailRepository extends JpaRepository<Email, Integer> {
 
     /**
-     * Method gets {@link com.domain.Author#emails} from database
-     * for mailing suitable,
-     * {@link com.domain.Announcement} when parameters new created
-     * {@link com.domain.Announcement} match to parameters of
-     * {@link com.domain.SuitableAd}.
+     * Method gets {@link com.domain.Author#emails} of the authors with
+     * id of the author, so emails of the subscribers of many
+     * announcements are loaded by one query.
      *
-     * @param category       {@link String}.
-     * @param price          {@link BigDecimal}.
-     * @param revelationText {@link String}.
-     * @return {@link List<String>} list of found emails or empty list.
+     * @param authorIds {@link Collection} of author ids.
+     * @return {@link List} of pairs of author id and email.
      */
-    @Query("SELECT e.emailAuthor FROM Author a "
+    @Query("SELECT a.id, e.emailAuthor FROM Author a "
             + " JOIN a.emails e "
-            + " JOIN SuitableAd sui "
-            + " ON sui.author = a "
-            + " WHERE sui.category = :heading "
-            + " AND :price BETWEEN sui.priceFrom AND sui.priceTo "
-            + " AND sui.title = :revelationText")
-    List<String> searchAuthorsEmails(
-            @Param("heading") String category,
-            @Param("price") BigDecimal price,
-            @Param("revelationText") String revelationText);
+            + " WHERE a.id IN :authorIds")
+    List<Object[]> findAuthorIdsAndEmails(
+            @Param("authorIds") Collection<Integer> authorIds);
 }
@@ -1,9 +1,13 @@
 package com.repository;
 
 import com.domain.SuitableAd;
+import com.index.Subscription;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * {@link SuitableRepository} interface serves to simplify the data
  * access process for {@link SuitableAd} in database,binds database to
@@ -15,4 +19,15 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface SuitableRepository extends JpaRepository<SuitableAd, Integer> {
+
+    /**
+     * This method loads all {@link SuitableAd} as {@link Subscription}
+     * with one query, without loading their authors.
+     *
+     * @return {@link List<Subscription>}.
+     */
+    @Query("SELECT new com.index.Subscription(s.id, a.id, s.category, "
+            + " s.title, s.priceFrom, s.priceTo) "
+            + " FROM SuitableAd s LEFT JOIN s.author a")
+    List<Subscription> findAllSubscriptions();
 }
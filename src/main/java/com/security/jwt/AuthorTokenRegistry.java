@@ -0,0 +1,105 @@
+package com.security.jwt;
+
+import com.repository.AuthorRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class {@link AuthorTokenRegistry} tells {@link JwtFilter} whether claims
+ * of a token can be trusted without database. It keeps ids of active
+ * authors, which are reloaded periodically, and times when authors were
+ * changed or deleted on this instance. Tokens of unknown, inactive or
+ * changed authors are checked with database as before.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Component
+public class AuthorTokenRegistry {
+
+    /**
+     * This is time after which revocation is not needed, it is
+     * longer than validity of the token.
+     */
+    private static final long REVOCATION_TTL = TimeUnit.HOURS.toMillis(6);
+
+    /**
+     * Field {@link AuthorRepository} helps us to load active authors.
+     */
+    private final AuthorRepository authorRepository;
+
+    /**
+     * This is field with ids of active authors.
+     */
+    private volatile BitSet activeAuthors = new BitSet();
+
+    /**
+     * This is field with times when authors were revoked on this instance.
+     */
+    private final Map<Integer, Long> revokedAt = new ConcurrentHashMap<>();
+
+    /**
+     * This is a constructor that injects object gain of the
+     * {@link AuthorRepository} into the {@link AuthorTokenRegistry} class.
+     *
+     * @param repositoryAuthor {@link AuthorRepository}.
+     */
+    @Autowired
+    public AuthorTokenRegistry(final AuthorRepository repositoryAuthor) {
+        this.authorRepository = repositoryAuthor;
+    }
+
+    /**
+     * This method reloads ids of active authors and forgets old
+     * revocations. It is run at startup and with delay
+     * {@code jwt.registry_refresh_ms}.
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${jwt.registry_refresh_ms:60000}",
+            initialDelayString = "${jwt.registry_refresh_ms:60000}")
+    public void refresh() {
+        long startedAt = System.currentTimeMillis();
+        BitSet active = new BitSet();
+        for (Integer id : authorRepository.findActiveIds()) {
+            active.set(id);
+        }
+        activeAuthors = active;
+        revokedAt.values().removeIf(time ->
+                time < startedAt - REVOCATION_TTL);
+    }
+
+    /**
+     * This method revokes tokens of the author which were issued before
+     * now, it is called when the author is changed or deleted.
+     *
+     * @param authorId id of {@link com.domain.Author}.
+     */
+    public void revoke(final int authorId) {
+        revokedAt.put(authorId, System.currentTimeMillis());
+    }
+
+    /**
+     * This method checks whether claims of the token can be trusted.
+     *
+     * @param authorId id of {@link com.domain.Author} from the token.
+     * @param issuedAt time in milliseconds when the token was issued.
+     * @return true when the author is active and was not changed
+     * after the token was issued.
+     */
+    public boolean isTrusted(final int authorId, final long issuedAt) {
+        if (authorId < 0 || issuedAt < 0
+                || !activeAuthors.get(authorId)) {
+            return false;
+        }
+        Long revoked = revokedAt.get(authorId);
+        return revoked == null || issuedAt > revoked;
+    }
+}
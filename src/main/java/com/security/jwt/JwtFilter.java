@@ -2,10 +2,16 @@ package com.security.jwt;
 
 import com.constant.SecurityConstant;
 import com.service.impl.MyUserDetailsService;
+import io.jsonwebtoken.JwtException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -14,11 +20,16 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * This is class {@link JwtFilter} it helps us to perform some
- * actions with Jwt etc like verify whether token is valid and
- * and get author name from token.
+ * This is class {@link JwtFilter}.
+ * It filters requests and authenticates authors by json web token.
+ * When {@code jwt.claims_authentication} is on, authentication is built
+ * from verified claims of the token without database, tokens without
+ * claims or of authors which are not trusted by {@link AuthorTokenRegistry}
+ * are checked with database.
  *
  * @author Yuriy Bahlay.
  * @version 1.1.
@@ -28,39 +39,62 @@ import java.io.IOException;
 public class JwtFilter extends OncePerRequestFilter {
 
     /**
-     * This is field {@link MyUserDetailsService}.
+     * This is field {@link MyUserDetailsService}
+     * it load's author by name.
      */
     private final MyUserDetailsService service;
 
     /**
-     * This is field {@link JwtProvider}.
+     * This is field {@link JwtProvider}
+     * it performs work with token.
      */
     private final JwtProvider jwtProvider;
 
     /**
-     * This is constructor with parameters which's inject two
-     * objects.
+     * This is field {@link AuthorTokenRegistry}
+     * it tells whether claims of the token can be trusted.
+     */
+    private final AuthorTokenRegistry tokenRegistry;
+
+    /**
+     * This is field which turns on authentication from claims.
+     */
+    private final boolean claimsAuthentication;
+
+    /**
+     * This is constructor {@link JwtFilter}.
+     * It injects classes such as:
+     * {@link MyUserDetailsService},
+     * {@link JwtProvider},
+     * {@link AuthorTokenRegistry}.
      *
      * @param serviceMyUserDetails {@link MyUserDetailsService}.
      * @param providerJwt          {@link JwtProvider}.
+     * @param registry             {@link AuthorTokenRegistry}.
+     * @param fromClaims           turns on authentication from claims.
      */
     @Autowired
     public JwtFilter(final MyUserDetailsService serviceMyUserDetails,
-                     final JwtProvider providerJwt) {
+                     final JwtProvider providerJwt,
+                     final AuthorTokenRegistry registry,
+                     @Value("${jwt.claims_authentication:true}")
+                     final boolean fromClaims) {
         this.service = serviceMyUserDetails;
         this.jwtProvider = providerJwt;
+        this.tokenRegistry = registry;
+        this.claimsAuthentication = fromClaims;
     }
 
     /**
-     * This is method which's get token from header and also
-     * get user name from the data base and verify whether token
-     * is valid and other manipulation.
+     * This is method doFilterInternal.
+     * It takes token from header of the request, verifies it once
+     * and sets authentication of the author.
      *
      * @param request  {@link HttpServletRequest}.
-     * @param response {@link  HttpServletResponse}.
-     * @param chain    {@link  HttpServletResponse}.
-     * @throws ServletException {@link ServletException} can throw.
-     * @throws IOException      {@link IOException} can throw.
+     * @param response {@link HttpServletResponse}.
+     * @param chain    {@link FilterChain}.
+     * @throws ServletException can throw.
+     * @throws IOException      can throw.
      */
     @Override
     protected void doFilterInternal(final HttpServletRequest request,
@@ -69,30 +103,70 @@ public class JwtFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         final String requestTokenHeader = request.
                 getHeader(SecurityConstant.AUTHORIZATION);
-        String username = null;
-        String jwtToken = null;
         if (requestTokenHeader != null && requestTokenHeader.
-                startsWith(SecurityConstant.REQUEST_TOKEN_HEADER)) {
-            jwtToken = requestTokenHeader.
+                startsWith(SecurityConstant.REQUEST_TOKEN_HEADER)
+                && SecurityContextHolder.getContext()
+                .getAuthentication() == null) {
+            String jwtToken = requestTokenHeader.
                     substring(SecurityConstant.NUMBER_SEVEN);
-            username = jwtProvider.getUsernameFromToken(jwtToken);
-        } else {
+            try {
+                authenticate(jwtProvider.parse(jwtToken));
+            } catch (JwtException | IllegalArgumentException
+                    | UsernameNotFoundException e) {
+                logger.warn("JWT Token is not valid: " + e.getMessage());
+            }
+        } else if (requestTokenHeader == null || !requestTokenHeader.
+                startsWith(SecurityConstant.REQUEST_TOKEN_HEADER)) {
             logger.warn("JWT Token does not begin with Bearer String");
         }
-        if (username != null && SecurityContextHolder.getContext()
-                .getAuthentication() == null) {
-            UserDetails userDetails = service.loadUserByUsername(username);
-            final Boolean isValidate = jwtProvider.
-                    validateToken(jwtToken, userDetails);
-            if (isValidate.equals(true)) {
-                UsernamePasswordAuthenticationToken
-                        usernamePasswordAuthenticationToken =
-                        new UsernamePasswordAuthenticationToken(userDetails,
-                                null, userDetails.getAuthorities());
-                SecurityContextHolder.getContext().
-                        setAuthentication(usernamePasswordAuthenticationToken);
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * This method sets authentication of the author from verified claims,
+     * or from database when claims can not be trusted.
+     *
+     * @param token verified {@link ParsedToken}.
+     */
+    private void authenticate(final ParsedToken token) {
+        String username = token.getSubject();
+        if (username == null) {
+            return;
+        }
+        UserDetails userDetails = claimsAuthentication
+                ? fromClaims(token) : null;
+        if (userDetails == null) {
+            userDetails = service.loadUserByUsername(username);
+            if (!userDetails.isEnabled()) {
+                return;
             }
         }
-        chain.doFilter(request, response);
+        UsernamePasswordAuthenticationToken
+                usernamePasswordAuthenticationToken =
+                new UsernamePasswordAuthenticationToken(userDetails,
+                        null, userDetails.getAuthorities());
+        SecurityContextHolder.getContext().
+                setAuthentication(usernamePasswordAuthenticationToken);
+    }
+
+    /**
+     * This method builds author from claims of the token.
+     *
+     * @param token verified {@link ParsedToken}.
+     * @return {@link UserDetails} or null when the token has no claims
+     * or the claims can not be trusted.
+     */
+    private UserDetails fromClaims(final ParsedToken token) {
+        if (!token.hasAuthorClaims() || !token.getActive()
+                || !tokenRegistry.isTrusted(token.getAuthorId(),
+                token.getIssuedAt())) {
+            return null;
+        }
+        List<GrantedAuthority> authorities =
+                new ArrayList<>(token.getRoles().size());
+        for (String role : token.getRoles()) {
+            authorities.add(new SimpleGrantedAuthority(role));
+        }
+        return new User(token.getSubject(), "", authorities);
     }
 }
@@ -1,23 +1,36 @@
 package com.security.jwt;
 
 import com.constant.SecurityConstant;
+import com.domain.Author;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * This is class {@link JwtProvider}.
  * It generate token,validate token and does other operation
- * about json web token.
+ * about json web token. Verified tokens are kept in a bounded cache
+ * by their SHA-256 hash until they expire, so a token which comes
+ * again is not verified and parsed again.
  *
  * @author Yuriy Bahlay.
  * @version 1.1.
@@ -37,12 +50,87 @@ public class JwtProvider {
     /**
      * This is field secret jwt.
      */
-    @Value("${jwt.secret}")
-    private String secret;
+    private final String secret;
+
+
+    /**
+     * This is field with maximum number of cached tokens,
+     * zero turns the cache off.
+     */
+    private final int cacheSize;
+
+
+    /**
+     * This is field with verified tokens by SHA-256 hash of the token.
+     */
+    private final Map<ByteBuffer, ParsedToken> verified =
+            new ConcurrentHashMap<>();
+
+
+    /**
+     * This is field with {@link MessageDigest} of every thread.
+     */
+    private final ThreadLocal<MessageDigest> sha256 =
+            ThreadLocal.withInitial(JwtProvider::newSha256);
+
+
+    /**
+     * This is constructor {@link JwtProvider}.
+     *
+     * @param jwtSecret    secret for signing tokens.
+     * @param sizeOfCache  maximum number of cached verified tokens.
+     */
+    @Autowired
+    public JwtProvider(@Value("${jwt.secret}") final String jwtSecret,
+                       @Value("${jwt.cache_size:10000}")
+                       final int sizeOfCache) {
+        this.secret = jwtSecret;
+        this.cacheSize = sizeOfCache;
+    }
+
+
+    /**
+     * This is method which verifies signature and expiration of
+     * the token and parses it once. The result is cached until
+     * the token expires.
+     *
+     * @param token {@link String}.
+     * @return {@link ParsedToken}.
+     * @throws io.jsonwebtoken.JwtException if the token is not valid.
+     * @throws IllegalArgumentException     if the token is empty.
+     */
+    public ParsedToken parse(final String token) {
+        long now = System.currentTimeMillis();
+        if (cacheSize <= 0) {
+            return new ParsedToken(getAllClaimsFromToken(token));
+        }
+        ByteBuffer key = ByteBuffer.wrap(sha256.get()
+                .digest(token.getBytes(StandardCharsets.UTF_8)));
+        ParsedToken parsed = verified.get(key);
+        if (parsed != null) {
+            if (!parsed.isExpired(now)) {
+                return parsed;
+            }
+            verified.remove(key);
+            throw new ExpiredJwtException(null, null,
+                    "JWT expired at " + new Date(parsed.getExpiration()));
+        }
+        parsed = new ParsedToken(getAllClaimsFromToken(token));
+        if (verified.size() >= cacheSize) {
+            verified.values().removeIf(cached -> cached.isExpired(now));
+            if (verified.size() >= cacheSize) {
+                verified.clear();
+            }
+        }
+        verified.put(key, parsed);
+        return parsed;
+    }
 
 
     /**
      * This is method which's get authorName from token.
+     * It verifies and parses the token, use {@link #parse(String)}
+     * to do it only once.
      *
      * @param token {@link String}.
      * @return userName {@link String}.
@@ -55,7 +143,8 @@ public class JwtProvider {
 
     /**
      * This is method which's validate token
-     * whether it valid or not.
+     * whether it valid or not. It verifies and parses the token
+     * twice, use {@link #parse(String)} to do it only once.
      *
      * @param token       {@link String}.
      * @param userDetails {@link UserDetails}.
@@ -77,7 +166,8 @@ public class JwtProvider {
      * @return string {@link String}.
      */
     public String generateToken(final UserDetails userDetails) {
-        return doGenerateToken(userDetails.getUsername());
+        return doGenerateToken(userDetails.getUsername(),
+                Collections.emptyMap());
     }
 
 
@@ -89,7 +179,28 @@ public class JwtProvider {
      * @return string {@link String}.
      */
     public String generateToken(final String userName) {
-        return doGenerateToken(userName);
+        return doGenerateToken(userName, Collections.emptyMap());
+    }
+
+
+    /**
+     * This is method for generating token with claims of the author:
+     * author id, names of the roles and active flag, so
+     * {@link JwtFilter} can authenticate the author without database.
+     * The roles of the author must be loaded.
+     *
+     * @param author {@link Author}.
+     * @return string {@link String}.
+     */
+    public String generateToken(final Author author) {
+        List<String> roles = author.getRoles().stream()
+                .map(role -> role.getRoleAccount().toString())
+                .collect(Collectors.toList());
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(SecurityConstant.CLAIM_AUTHOR_ID, author.getId());
+        claims.put(SecurityConstant.CLAIM_ROLES, roles);
+        claims.put(SecurityConstant.CLAIM_ACTIVE, author.isActive());
+        return doGenerateToken(author.getName(), claims);
     }
 
 
@@ -101,10 +212,11 @@ public class JwtProvider {
      * signature.
      *
      * @param subject {@link String}.
+     * @param claims  {@link Map} with claims of the token.
      * @return token {@link String}.
      */
-    private String doGenerateToken(final String subject) {
-        Map<String, Object> claims = new HashMap<>();
+    private String doGenerateToken(final String subject,
+                                   final Map<String, Object> claims) {
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
@@ -145,12 +257,13 @@ public class JwtProvider {
 
 
     /**
-     * This is private method which is get all claims from token.
+     * This is method which is get all claims from token,
+     * it verifies signature and expiration of the token.
      *
      * @param token {@link String}.
      * @return {@link Claims} all claims from token.
      */
-    private Claims getAllClaimsFromToken(final String token) {
+    Claims getAllClaimsFromToken(final String token) {
         return Jwts.parser().setSigningKey(secret)
                 .parseClaimsJws(token).getBody();
     }
@@ -167,4 +280,18 @@ public class JwtProvider {
         final Date expiration = getExpirationDateFromToken(token);
         return expiration.before(new Date());
     }
+
+
+    /**
+     * This is method which creates {@link MessageDigest} for SHA-256.
+     *
+     * @return {@link MessageDigest}.
+     */
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
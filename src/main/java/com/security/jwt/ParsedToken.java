@@ -0,0 +1,156 @@
+package com.security.jwt;
+
+import com.constant.SecurityConstant;
+import io.jsonwebtoken.Claims;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Class {@link ParsedToken} is immutable result of verifying and parsing
+ * json web token once: subject, times of the token and claims of
+ * the author. It can be shared between threads and cached until
+ * the token expires.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+public final class ParsedToken {
+
+    /**
+     * This is field with subject (name of the author) of the token.
+     */
+    private final String subject;
+
+    /**
+     * This is field with time when the token was issued in milliseconds
+     * or -1 when the token has no such time.
+     */
+    private final long issuedAt;
+
+    /**
+     * This is field with time when the token expires in milliseconds.
+     */
+    private final long expiration;
+
+    /**
+     * This is field with id of the author or null for old tokens.
+     */
+    private final Integer authorId;
+
+    /**
+     * This is field with names of the roles or null for old tokens.
+     */
+    private final List<String> roles;
+
+    /**
+     * This is field with active flag of the author or null for old tokens.
+     */
+    private final Boolean active;
+
+    /**
+     * This is constructor which copies all needed claims.
+     *
+     * @param claims verified {@link Claims}.
+     */
+    ParsedToken(final Claims claims) {
+        this.subject = claims.getSubject();
+        Date issued = claims.getIssuedAt();
+        this.issuedAt = issued == null ? -1 : issued.getTime();
+        Date expires = claims.getExpiration();
+        this.expiration = expires == null ? Long.MAX_VALUE : expires.getTime();
+        Object id = claims.get(SecurityConstant.CLAIM_AUTHOR_ID);
+        this.authorId = id instanceof Number
+                ? Integer.valueOf(((Number) id).intValue()) : null;
+        Object roleNames = claims.get(SecurityConstant.CLAIM_ROLES);
+        if (roleNames instanceof Collection) {
+            List<String> names = new ArrayList<>();
+            for (Object role : (Collection<?>) roleNames) {
+                names.add(String.valueOf(role));
+            }
+            this.roles = Collections.unmodifiableList(names);
+        } else {
+            this.roles = null;
+        }
+        Object activeFlag = claims.get(SecurityConstant.CLAIM_ACTIVE);
+        this.active = activeFlag instanceof Boolean
+                ? (Boolean) activeFlag : null;
+    }
+
+    /**
+     * This method returns subject (name of the author) of the token.
+     *
+     * @return subject or null.
+     */
+    public String getSubject() {
+        return subject;
+    }
+
+    /**
+     * This method returns time when the token was issued.
+     *
+     * @return time in milliseconds or -1.
+     */
+    public long getIssuedAt() {
+        return issuedAt;
+    }
+
+    /**
+     * This method returns time when the token expires.
+     *
+     * @return time in milliseconds.
+     */
+    public long getExpiration() {
+        return expiration;
+    }
+
+    /**
+     * This method returns id of the author.
+     *
+     * @return id or null for old tokens.
+     */
+    public Integer getAuthorId() {
+        return authorId;
+    }
+
+    /**
+     * This method returns names of the roles of the author.
+     *
+     * @return unmodifiable {@link List} or null for old tokens.
+     */
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    /**
+     * This method returns active flag of the author.
+     *
+     * @return flag or null for old tokens.
+     */
+    public Boolean getActive() {
+        return active;
+    }
+
+    /**
+     * This method checks whether the token carries claims of the author.
+     *
+     * @return true when the token has author id, roles and active flag.
+     */
+    public boolean hasAuthorClaims() {
+        return authorId != null && roles != null && active != null;
+    }
+
+    /**
+     * This method checks whether the token is expired.
+     *
+     * @param now current time in milliseconds.
+     * @return true when the token is expired.
+     */
+    public boolean isExpired(final long now) {
+        return expiration <= now;
+    }
+}
@@ -0,0 +1,31 @@
+package com.service;
+
+import com.dto.AnnouncementDto;
+
+/**
+ * {@link AnnouncementArchiveService} interface serves for moving expired
+ * {@link com.domain.Announcement} to the archive, so the announcements
+ * table keeps only live announcements, and for reading them from it.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+public interface AnnouncementArchiveService {
+
+    /**
+     * This method moves expired announcements to the archive by batches.
+     *
+     * @return number of archived announcements.
+     */
+    long archiveExpiredAnnouncements();
+
+    /**
+     * This method finds archived announcement by id.
+     *
+     * @param id id of the announcement.
+     * @return {@link AnnouncementDto} or null when there is no
+     * such announcement in the archive.
+     */
+    AnnouncementDto findArchived(int id);
+}
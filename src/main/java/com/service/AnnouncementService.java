@@ -1,7 +1,11 @@
 package com.service;
 
 import com.dto.AnnouncementDto;
+import com.dto.AnnouncementPageDto;
+import com.exception.custom_exception.PaginationCursorException;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -64,9 +68,60 @@ public interface AnnouncementService extends CRUDService<AnnouncementDto> {
      */
     List<AnnouncementDto> showSomeAnnouncementsPagination(int page, int size);
 
+    /**
+     * This interface method gets a page of announcements which go after
+     * the cursor, it uses keyset pagination.
+     *
+     * @param after opaque cursor from the previous page or null.
+     * @param size  size of the page.
+     * @param order order of the pages: id or date.
+     * @return {@link AnnouncementPageDto}.
+     * @throws PaginationCursorException if the cursor or order is broken.
+     */
+    AnnouncementPageDto seekAnnouncements(String after, int size,
+                                          String order)
+            throws PaginationCursorException;
+
+    /**
+     * This interface method finds announcements by words of the name
+     * and revelationText, the best announcements go first.
+     *
+     * @param query words of the query, a word ending with '*' is a prefix.
+     * @param page  number of the page.
+     * @param size  size of the page.
+     * @return {@link List<AnnouncementDto>}.
+     */
+    List<AnnouncementDto> searchAnnouncements(String query, int page,
+                                              int size);
+
+    /**
+     * This interface method writes announcements of the heading and
+     * the date to the stream as newline-delimited JSON, one
+     * {@link AnnouncementDto} per line.
+     *
+     * @param headingId id of the heading or null for all headings.
+     * @param date      publication date or null for all dates.
+     * @param out       {@link OutputStream}.
+     * @return number of written announcements.
+     * @throws IOException if the stream can not be written.
+     */
+    int exportAnnouncements(Integer headingId, LocalDate date,
+                            OutputStream out) throws IOException;
+
+    /**
+     * This interface method saves many announcements at once.
+     *
+     * @param announcementDtos {@link List<AnnouncementDto>}.
+     * @return {@link List<Integer>} ids of saved announcements in
+     * order of the list.
+     */
+    List<Integer> saveAll(List<AnnouncementDto> announcementDtos);
+
     /**
      * This interface method deletes announcements from database when they
-     * marked as inactive.
+     * marked as inactive, by batches with pauses between them.
+     *
+     * @return number of deleted announcements.
      */
-    void deleteAnnouncementWhichIsNonActive();
+    long deleteAnnouncementWhichIsNonActive();
 }
@@ -0,0 +1,37 @@
+package com.service;
+
+import java.util.List;
+
+/**
+ * {@link EmailOutboxService} interface serves for dispatching rows of
+ * {@link com.domain.EmailOutbox}, it sends emails in the background
+ * instead of the request which saves {@link com.domain.Announcement}.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+public interface EmailOutboxService {
+
+    /**
+     * This method claims due rows of the outbox and passes
+     * them to the workers which send emails.
+     */
+    void dispatch();
+
+    /**
+     * This method sends emails for one claimed row of the outbox,
+     * marks it as sent or plans the next attempt.
+     *
+     * @param outboxId id of {@link com.domain.EmailOutbox}.
+     */
+    void deliver(int outboxId);
+
+    /**
+     * This method sends emails for claimed rows of the outbox at once,
+     * marks every row as sent or plans its next attempt.
+     *
+     * @param outboxIds ids of {@link com.domain.EmailOutbox}.
+     */
+    void deliverAll(List<Integer> outboxIds);
+}
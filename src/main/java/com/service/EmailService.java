@@ -2,6 +2,10 @@ package com.service;
 
 import com.domain.Announcement;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 /**
  * {@link EmailService} interface serves for mailing suitableAd process,
  * binds realization part with user.
@@ -14,11 +18,32 @@ public interface EmailService {
 
     /**
      * The method of this interface performs a search for authors who are
-     * subscribed to send messages with the appropriate characteristics such as:
-     * {@link com.repository.MailRepository
-     * #searchAuthorsEmails(String, java.math.BigDecimal, String)}.
+     * subscribed to the announcement: matching suitable ads are found by
+     * {@link com.index.SuitableAdIndex} in memory and emails of their
+     * authors are loaded by
+     * {@link com.repository.MailRepository#findAuthorIdsAndEmails}.
      *
      * @param announcement {@link Announcement}.
      */
     void searchEmailsForSendingEmail(Announcement announcement);
+
+    /**
+     * The method of this interface finds emails of the authors who are
+     * subscribed to every of the announcements, emails of all found
+     * authors are loaded by one query.
+     *
+     * @param announcements {@link Collection} of {@link Announcement}.
+     * @return {@link Map} of emails by id of {@link Announcement},
+     * announcements without subscribers are absent.
+     */
+    Map<Integer, List<String>> searchEmailsOfSubscribers(
+            Collection<Announcement> announcements);
+
+    /**
+     * The method of this interface sends the announcement to the emails.
+     *
+     * @param emails       {@link List<String>}.
+     * @param announcement {@link Announcement}.
+     */
+    void sendEmails(List<String> emails, Announcement announcement);
 }
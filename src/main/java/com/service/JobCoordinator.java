@@ -0,0 +1,64 @@
+package com.service;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * {@link JobCoordinator} interface serves for running scheduled jobs
+ * which change shared data on one node of the cluster only. Every node
+ * triggers the job, the node which takes the lease of the job runs it,
+ * other nodes skip it. Runs are written to the history of the job and
+ * a run of a node which died is resumed by other node when its lease
+ * expires.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+public interface JobCoordinator {
+
+    /**
+     * This method registers the job, so it can be run and resumed
+     * by its name.
+     *
+     * @param job  name of the job.
+     * @param work {@link Job}.
+     */
+    void register(String job, Job work);
+
+    /**
+     * This method runs the registered job when this node takes its
+     * lease. The lease is taken only when it is free, so the job is
+     * never run twice at the same time, even on one node.
+     *
+     * @param job name of the job.
+     * @return number of affected rows, 0 when the job is run by
+     * other trigger.
+     */
+    long run(String job);
+
+    /**
+     * This method runs again registered jobs which last run was not
+     * finished and which lease expired, e.g. the node which ran them
+     * died.
+     *
+     * @return number of resumed jobs.
+     */
+    int resumeAbandoned();
+
+    /**
+     * Interface {@link Job} is a scheduled job which does its work by
+     * steps, e.g. batches, and stops when its lease is lost.
+     */
+    @FunctionalInterface
+    interface Job {
+
+        /**
+         * This method does the work of the job.
+         *
+         * @param leaseHeld true while this node holds the lease, the job
+         *                  checks it before every step.
+         * @return number of affected rows.
+         */
+        long run(BooleanSupplier leaseHeld);
+    }
+}
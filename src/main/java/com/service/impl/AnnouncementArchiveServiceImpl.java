@@ -0,0 +1,213 @@
+package com.service.impl;
+
+import com.constant.LoggerConstants;
+import com.dao.AnnouncementDao;
+import com.dao.HeadingCache;
+import com.domain.ArchivedAnnouncement;
+import com.dto.AnnouncementDto;
+import com.index.AnnouncementSearchIndex;
+import com.repository.ArchivedAnnouncementRepository;
+import com.service.AnnouncementArchiveService;
+import com.service.JobCoordinator;
+import org.apache.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * {@link AnnouncementArchiveServiceImpl} class moves expired announcements
+ * to the archive table which is partitioned by month of expiry, so the
+ * announcements table and its indexes stay small enough to be kept in
+ * memory of the database. Announcements are moved by batches in own
+ * transactions with pauses between them, like the purge of inactive
+ * announcements.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Service
+public class AnnouncementArchiveServiceImpl
+        implements AnnouncementArchiveService {
+
+    /**
+     * This is field of class {@link Logger} returns a logger
+     * for this class.
+     */
+    private static final Logger LOGGER = Logger.
+            getLogger(AnnouncementArchiveServiceImpl.class);
+
+    /**
+     * This is constant with name of the job in leases.
+     */
+    private static final String ARCHIVE_JOB = "expired_announcements";
+
+    /**
+     * Field {@link AnnouncementDao} moves announcements to the archive.
+     */
+    private final AnnouncementDao announcementDao;
+
+    /**
+     * Field {@link ArchivedAnnouncementRepository} reads the archive.
+     */
+    private final ArchivedAnnouncementRepository archiveRepository;
+
+    /**
+     * Field {@link AnnouncementSearchIndex} from which archived
+     * announcements are removed.
+     */
+    private final AnnouncementSearchIndex searchIndex;
+
+    /**
+     * Field {@link HeadingCache} gives headings of archived announcements.
+     */
+    private final HeadingCache headingCache;
+
+    /**
+     * This is field with maximum number of announcements moved
+     * by one batch.
+     */
+    private final int batchSize;
+
+    /**
+     * This is field with pause between batches in milliseconds.
+     */
+    private final long pauseMillis;
+
+    /**
+     * This is field with number of months after current one which
+     * get partitions of the archive ahead of time.
+     */
+    private final int partitionsAhead;
+
+    /**
+     * Field {@link JobCoordinator} runs archiving on one node only.
+     */
+    private final JobCoordinator jobCoordinator;
+
+    /**
+     * This is a constructor that injects objects gain of the
+     * {@link AnnouncementDao}, {@link ArchivedAnnouncementRepository},
+     * {@link AnnouncementSearchIndex}, {@link HeadingCache} and
+     * {@link JobCoordinator} into the {@link AnnouncementArchiveServiceImpl}
+     * class.
+     *
+     * @param daoAnnouncement   {@link AnnouncementDao}.
+     * @param repositoryArchive {@link ArchivedAnnouncementRepository}.
+     * @param indexSearch       {@link AnnouncementSearchIndex}.
+     * @param cacheHeading      {@link HeadingCache}.
+     * @param sizeOfBatch       number of announcements moved by one batch.
+     * @param pause             pause between batches in milliseconds.
+     * @param monthsAhead       months after current one which get
+     *                          partitions ahead of time.
+     * @param coordinatorJob    {@link JobCoordinator}.
+     */
+    @Autowired
+    public AnnouncementArchiveServiceImpl(
+            final AnnouncementDao daoAnnouncement,
+            final ArchivedAnnouncementRepository repositoryArchive,
+            final AnnouncementSearchIndex indexSearch,
+            final HeadingCache cacheHeading,
+            @Value("${archive.batch_size:1000}") final int sizeOfBatch,
+            @Value("${archive.pause_ms:200}") final long pause,
+            @Value("${archive.partitions_ahead:3}") final int monthsAhead,
+            final JobCoordinator coordinatorJob) {
+        this.announcementDao = daoAnnouncement;
+        this.archiveRepository = repositoryArchive;
+        this.searchIndex = indexSearch;
+        this.headingCache = cacheHeading;
+        this.batchSize = sizeOfBatch;
+        this.pauseMillis = pause;
+        this.partitionsAhead = monthsAhead;
+        this.jobCoordinator = coordinatorJob;
+        coordinatorJob.register(ARCHIVE_JOB, this::archiveByBatches);
+    }
+
+    /**
+     * This method moves announcements which expired before the start
+     * of the run to the archive. Only the node which takes the lease of
+     * the job of {@link JobCoordinator} moves them.
+     *
+     * @return number of archived announcements, 0 when they are moved
+     * by other node.
+     */
+    @Scheduled(cron = "${archive.cron:0 30 0 * * ?}")
+    @Override
+    public long archiveExpiredAnnouncements() {
+        return jobCoordinator.run(ARCHIVE_JOB);
+    }
+
+    /**
+     * This method moves announcements which expired before the start
+     * of the run to the archive by batches. Partitions of current month
+     * and of {@code archive.partitions_ahead} next months are added to
+     * the archive first, so a month without runs of the job still gets
+     * own partition. Batches stop when this node loses the lease
+     * of the job.
+     *
+     * @param leaseHeld true while this node holds the lease.
+     * @return number of archived announcements.
+     */
+    private long archiveByBatches(final BooleanSupplier leaseHeld) {
+        LocalDateTime now = LocalDateTime.now();
+        YearMonth month = YearMonth.from(now);
+        announcementDao.addArchivePartitions(month,
+                month.plusMonths(partitionsAhead)).forEach(added ->
+                LOGGER.info(LoggerConstants.ARCHIVE_PARTITION_ADDED + added));
+        long total = 0;
+        List<Integer> archived;
+        do {
+            archived = announcementDao.archiveExpiredAnnouncements(now,
+                    batchSize);
+            archived.forEach(searchIndex::remove);
+            total += archived.size();
+        } while (archived.size() == batchSize
+                && BatchPause.pause(pauseMillis)
+                && leaseHeld.getAsBoolean());
+        LOGGER.info(LoggerConstants.ANNOUNCEMENTS_ARCHIVED + total);
+        return total;
+    }
+
+    /**
+     * This method finds archived announcement by id.
+     *
+     * @param id id of the announcement.
+     * @return {@link AnnouncementDto} or null when there is no
+     * such announcement in the archive.
+     */
+    @Override
+    public AnnouncementDto findArchived(final int id) {
+        return archiveRepository.findById(id)
+                .map(this::toDto)
+                .orElse(null);
+    }
+
+    /**
+     * This method maps {@link ArchivedAnnouncement} to
+     * {@link AnnouncementDto}.
+     *
+     * @param archived {@link ArchivedAnnouncement}.
+     * @return {@link AnnouncementDto}.
+     */
+    private AnnouncementDto toDto(final ArchivedAnnouncement archived) {
+        return AnnouncementDto.builder()
+                .id(archived.getId())
+                .version(archived.getVersion())
+                .name(archived.getName())
+                .revelationText(archived.getRevelationText())
+                .publicationDate(archived.getPublicationDate())
+                .active(archived.isActive())
+                .serviceCost(archived.getServiceCost())
+                .heading(archived.getHeadingId() == null ? null
+                        : headingCache.find(archived.getHeadingId()))
+                .author(archived.getAuthorId() == null ? 0
+                        : archived.getAuthorId())
+                .build();
+    }
+}
@@ -1,19 +1,42 @@
 package com.service.impl;
 
+import com.constant.LoggerConstants;
+import com.constant.ValidationConstants;
+import com.dao.AnnouncementCursor;
 import com.dao.AnnouncementDao;
 import com.domain.Announcement;
 import com.dto.AnnouncementDto;
+import com.dto.AnnouncementPageDto;
+import com.exception.custom_exception.PaginationCursorException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.index.AnnouncementSearchIndex;
+import com.index.SearchHits;
+import com.mapper.AnnouncementMapping;
+import com.metrics.PurgeMetrics;
 import com.repository.AnnouncementRepository;
 import com.service.AnnouncementService;
-import org.modelmapper.ModelMapper;
+import com.service.JobCoordinator;
+import org.apache.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
 /**
  * {@link AnnouncementServiceImpl} class binds realization part with user
@@ -26,6 +49,35 @@ import java.util.List;
 @Service
 public class AnnouncementServiceImpl implements AnnouncementService {
 
+    /**
+     * This is field of class {@link Logger} returns a logger
+     * for this class.
+     */
+    private static final Logger LOGGER = Logger.
+            getLogger(AnnouncementServiceImpl.class);
+
+    /**
+     * This is constant {@link ObjectWriter} which writes
+     * {@link AnnouncementDto} to JSON for export, it neither closes
+     * nor flushes the stream after every announcement.
+     */
+    private static final ObjectWriter EXPORT_WRITER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false)
+            .configure(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM, false)
+            .writerFor(AnnouncementDto.class);
+
+    /**
+     * This is constant with separator of announcements in export.
+     */
+    private static final int LINE_SEPARATOR = '\n';
+
+    /**
+     * This is constant with name of the purge job in checkpoints
+     * and leases.
+     */
+    private static final String PURGE_JOB = "inactive_announcements";
+
     /**
      * Field {@link AnnouncementDao} is object instance of
      * {@link AnnouncementDao} interface, it helps us
@@ -44,40 +96,152 @@ public class AnnouncementServiceImpl implements AnnouncementService {
      * This field use for mapped {@link AnnouncementDto}
      * to {@link Announcement}.
      */
-    private final ModelMapper modelMapper;
+    private final AnnouncementMapping announcementMapping;
+
+    /**
+     * Field {@link AnnouncementSearchIndex} keeps text of announcements
+     * in memory, it is changed after every change in database.
+     */
+    private final AnnouncementSearchIndex searchIndex;
+
+    /**
+     * This is field with number of rows fetched from database at once
+     * during export.
+     */
+    private final int exportFetchSize;
+
+    /**
+     * Field {@link PurgeMetrics} collects metrics of the purge
+     * of inactive announcements.
+     */
+    private final PurgeMetrics purgeMetrics;
+
+    /**
+     * This is field with maximum number of announcements deleted
+     * by one batch of the purge.
+     */
+    private final int purgeBatchSize;
+
+    /**
+     * This is field with pause between batches of the purge
+     * in milliseconds.
+     */
+    private final long purgePauseMillis;
+
+    /**
+     * This is field with number of days after publication when
+     * announcement expires and is moved to the archive.
+     */
+    private final long ttlDays;
+
+    /**
+     * This is field with maximum number of announcements inserted
+     * by one JDBC batch.
+     */
+    private final int insertBatchSize;
+
+    /**
+     * Field {@link JobCoordinator} runs the purge on one node only.
+     */
+    private final JobCoordinator jobCoordinator;
 
     /**
      * This is a constructor with parameters {@link AnnouncementServiceImpl}
-     * and that injects three objects gain of the {@link AnnouncementDao}
-     * and {@link AnnouncementRepository} and {@link ModelMapper}.
+     * and that injects objects gain of the {@link AnnouncementDao},
+     * {@link AnnouncementRepository}, {@link AnnouncementMapping},
+     * {@link AnnouncementSearchIndex}, {@link PurgeMetrics} and
+     * {@link JobCoordinator}.
      *
      * @param daoAnnouncement        {@link AnnouncementDao}.
      * @param repositoryAnnouncement {@link AnnouncementRepository}.
-     * @param mapperModel            {@link ModelMapper}.
+     * @param mappingAnnouncement    {@link AnnouncementMapping}.
+     * @param indexSearch            {@link AnnouncementSearchIndex}.
+     * @param fetchSize              number of rows fetched from database
+     *                               at once during export.
+     * @param metricsPurge           {@link PurgeMetrics}.
+     * @param purgeBatch             number of announcements deleted
+     *                               by one batch of the purge.
+     * @param purgePause             pause between batches of the purge
+     *                               in milliseconds.
+     * @param daysToLive             number of days after publication
+     *                               when announcement expires.
+     * @param insertBatch            number of announcements inserted
+     *                               by one JDBC batch.
+     * @param coordinatorJob         {@link JobCoordinator}.
      */
     @Autowired
     public AnnouncementServiceImpl(
             final AnnouncementDao daoAnnouncement,
             final AnnouncementRepository repositoryAnnouncement,
-            final ModelMapper mapperModel) {
+            final AnnouncementMapping mappingAnnouncement,
+            final AnnouncementSearchIndex indexSearch,
+            @Value("${export.fetch_size:500}") final int fetchSize,
+            final PurgeMetrics metricsPurge,
+            @Value("${purge.batch_size:1000}") final int purgeBatch,
+            @Value("${purge.pause_ms:200}") final long purgePause,
+            @Value("${announcement.ttl_days:90}") final long daysToLive,
+            @Value("${announcement.insert_batch_size:500}")
+            final int insertBatch,
+            final JobCoordinator coordinatorJob) {
         this.announcementDao = daoAnnouncement;
         this.announcementRepository = repositoryAnnouncement;
-        this.modelMapper = mapperModel;
+        this.announcementMapping = mappingAnnouncement;
+        this.searchIndex = indexSearch;
+        this.exportFetchSize = fetchSize;
+        this.purgeMetrics = metricsPurge;
+        this.purgeBatchSize = purgeBatch;
+        this.purgePauseMillis = purgePause;
+        this.ttlDays = daysToLive;
+        this.insertBatchSize = insertBatch;
+        this.jobCoordinator = coordinatorJob;
+        coordinatorJob.register(PURGE_JOB, this::purgeInactiveAnnouncements);
     }
 
 
     /**
      * This method takes an {@link AnnouncementDto} and
      * transmits him to the {@link AnnouncementDao#save(Object)}
-     * to save announcement.
+     * to save announcement which expires {@code announcement.ttl_days}
+     * after publication.
      *
      * @param announcementDto {@link AnnouncementDto}.
      */
     @Override
     public void save(final AnnouncementDto announcementDto) {
-        Announcement announcementMapped = modelMapper.
-                map(announcementDto, Announcement.class);
+        Announcement announcementMapped = announcementMapping
+                .toEntity(announcementDto);
+        announcementMapped.setExpiresAt(expiryOf(announcementMapped));
         announcementDao.save(announcementMapped);
+        searchIndex.put(announcementMapped);
+    }
+
+
+    /**
+     * This method maps all {@link AnnouncementDto} and passes them to
+     * the {@link AnnouncementDao#saveAll(List, int)} which saves them by
+     * JDBC batches of {@code announcement.insert_batch_size}.
+     *
+     * @param announcementDtos {@link List<AnnouncementDto>}.
+     * @return {@link List<Integer>} ids of saved announcements in
+     * order of the list.
+     */
+    @Override
+    public List<Integer> saveAll(final List<AnnouncementDto> announcementDtos) {
+        List<Announcement> announcements =
+                new ArrayList<>(announcementDtos.size());
+        for (AnnouncementDto announcementDto : announcementDtos) {
+            Announcement announcement = announcementMapping
+                    .toEntity(announcementDto);
+            announcement.setExpiresAt(expiryOf(announcement));
+            announcements.add(announcement);
+        }
+        announcementDao.saveAll(announcements, insertBatchSize);
+        List<Integer> ids = new ArrayList<>(announcements.size());
+        for (Announcement announcement : announcements) {
+            searchIndex.put(announcement);
+            ids.add(announcement.getId());
+        }
+        return ids;
     }
 
 
@@ -95,7 +259,7 @@ public class AnnouncementServiceImpl implements AnnouncementService {
         if (announcement == null) {
             return null;
         }
-        return modelMapper.map(announcement, AnnouncementDto.class);
+        return announcementMapping.toDto(announcement);
     }
 
 
@@ -108,9 +272,10 @@ public class AnnouncementServiceImpl implements AnnouncementService {
      */
     @Override
     public void update(final AnnouncementDto announcementDto) {
-        Announcement announcementMapped = modelMapper.
-                map(announcementDto, Announcement.class);
+        Announcement announcementMapped = announcementMapping
+                .toEntity(announcementDto);
         announcementDao.update(announcementMapped);
+        searchIndex.put(announcementMapped);
     }
 
 
@@ -123,6 +288,7 @@ public class AnnouncementServiceImpl implements AnnouncementService {
     @Override
     public void delete(final int id) {
         announcementDao.delete(id);
+        searchIndex.remove(id);
     }
 
     /**
@@ -135,6 +301,7 @@ public class AnnouncementServiceImpl implements AnnouncementService {
     @Override
     public void deleteAnnouncementById(final int id) {
         announcementDao.deleteAnnouncementById(id);
+        searchIndex.remove(id);
     }
 
     /**
@@ -150,15 +317,7 @@ public class AnnouncementServiceImpl implements AnnouncementService {
     public List<AnnouncementDto> getAllByHeadingId(final int id) {
         final List<Announcement> allByHeadingId =
                 announcementRepository.getAllByHeadingId(id);
-        if (allByHeadingId.isEmpty()) {
-            return Collections.emptyList();
-        }
-        List<AnnouncementDto> announcementDto = new ArrayList<>();
-        for (final Announcement announcement : allByHeadingId) {
-            announcementDto.add(modelMapper
-                    .map(announcement, AnnouncementDto.class));
-        }
-        return announcementDto;
+        return announcementMapping.mapAll(allByHeadingId);
     }
 
     /**
@@ -174,15 +333,7 @@ public class AnnouncementServiceImpl implements AnnouncementService {
     public List<AnnouncementDto> filterAllByDate(final LocalDate date) {
         final List<Announcement> allByPublicationDate =
                 announcementRepository.findAllByPublicationDate(date);
-        if (allByPublicationDate.isEmpty()) {
-            return Collections.emptyList();
-        }
-        List<AnnouncementDto> announcementDto = new ArrayList<>();
-        for (final Announcement announcement : allByPublicationDate) {
-            announcementDto.add(modelMapper
-                    .map(announcement, AnnouncementDto.class));
-        }
-        return announcementDto;
+        return announcementMapping.mapAll(allByPublicationDate);
     }
 
     /**
@@ -199,15 +350,7 @@ public class AnnouncementServiceImpl implements AnnouncementService {
             final String revelationText) {
         final List<Announcement> allByRevelationText =
                 announcementRepository.findAllByRevelationText(revelationText);
-        if (allByRevelationText.isEmpty()) {
-            return Collections.emptyList();
-        }
-        List<AnnouncementDto> announcementDto = new ArrayList<>();
-        for (final Announcement announcement : allByRevelationText) {
-            announcementDto.add(modelMapper
-                    .map(announcement, AnnouncementDto.class));
-        }
-        return announcementDto;
+        return announcementMapping.mapAll(allByRevelationText);
     }
 
     /**
@@ -225,24 +368,187 @@ public class AnnouncementServiceImpl implements AnnouncementService {
             final int page, final int size) {
         final List<Announcement> somePagination =
                 announcementDao.getSomePagination(page, size);
-        if (somePagination.isEmpty()) {
+        return announcementMapping.mapAll(somePagination);
+    }
+
+    /**
+     * This is method gets a page of announcements which go after the cursor
+     * from {@link AnnouncementDao#seek(AnnouncementCursor.Order,
+     * AnnouncementCursor, int)}. It asks for one announcement more than
+     * the size of the page to know if there is the next page, so there is
+     * no count query. The size is kept between 1 and
+     * {@link ValidationConstants#SEEK_PAGE_SIZE_MAX}.
+     *
+     * @param after opaque cursor from the previous page or null.
+     * @param size  size of the page.
+     * @param order order of the pages: id or date.
+     * @return {@link AnnouncementPageDto}.
+     * @throws PaginationCursorException if the cursor or order is broken.
+     */
+    @Override
+    public AnnouncementPageDto seekAnnouncements(final String after,
+                                                 final int size,
+                                                 final String order)
+            throws PaginationCursorException {
+        AnnouncementCursor.Order seekOrder = AnnouncementCursor.Order
+                .of(order);
+        AnnouncementCursor cursor = after == null || after.isEmpty()
+                ? null : AnnouncementCursor.decode(after, seekOrder);
+        int pageSize = Math.max(1,
+                Math.min(size, ValidationConstants.SEEK_PAGE_SIZE_MAX));
+
+        List<Announcement> found = announcementDao
+                .seek(seekOrder, cursor, pageSize + 1);
+        boolean hasNext = found.size() > pageSize;
+        List<Announcement> page = hasNext
+                ? found.subList(0, pageSize) : found;
+
+        List<AnnouncementDto> content = announcementMapping.mapAll(page);
+        String nextCursor = hasNext ? AnnouncementCursor.after(seekOrder,
+                page.get(page.size() - 1)).encode() : null;
+        return new AnnouncementPageDto(content, nextCursor);
+    }
+
+    /**
+     * This is method finds ids of the best announcements of the page in
+     * {@link AnnouncementSearchIndex} and loads them from database
+     * in that order. Announcements which were deleted from database
+     * but not from the index yet are skipped.
+     *
+     * @param query words of the query, a word ending with '*' is a prefix.
+     * @param page  number of the page.
+     * @param size  size of the page.
+     * @return {@link List<AnnouncementDto>}.
+     */
+    @Override
+    public List<AnnouncementDto> searchAnnouncements(final String query,
+                                                     final int page,
+                                                     final int size) {
+        int pageSize = Math.max(1,
+                Math.min(size, ValidationConstants.SEARCH_PAGE_SIZE_MAX));
+        if (page < 0 || ((long) page + 1) * pageSize
+                > ValidationConstants.SEARCH_RESULTS_MAX) {
+            return Collections.emptyList();
+        }
+        long offset = (long) page * pageSize;
+        SearchHits hits = searchIndex.search(query, (int) offset, pageSize);
+        if (hits.getIds().isEmpty()) {
             return Collections.emptyList();
         }
-        List<AnnouncementDto> announcementDto = new ArrayList<>();
-        for (final Announcement announcement : somePagination) {
-            announcementDto.add(modelMapper
-                    .map(announcement, AnnouncementDto.class));
+        Map<Integer, Announcement> byId = new HashMap<>();
+        for (Announcement announcement : announcementRepository
+                .findAllWithHeadingByIds(hits.getIds())) {
+            byId.put(announcement.getId(), announcement);
+        }
+        List<Announcement> found = new ArrayList<>(byId.size());
+        for (Integer id : hits.getIds()) {
+            Announcement announcement = byId.get(id);
+            if (announcement != null) {
+                found.add(announcement);
+            }
+        }
+        return announcementMapping.mapAll(found);
+    }
+
+    /**
+     * This is method reads announcements by cursor of
+     * {@link AnnouncementDao#scroll(Integer, LocalDate, int,
+     * java.util.function.Consumer)} and writes every one to the stream as
+     * soon as it is read, so memory does not depend on number of
+     * announcements.
+     *
+     * @param headingId id of the heading or null for all headings.
+     * @param date      publication date or null for all dates.
+     * @param out       {@link OutputStream}.
+     * @return number of written announcements.
+     * @throws IOException if the stream can not be written.
+     */
+    @Override
+    public int exportAnnouncements(final Integer headingId,
+                                   final LocalDate date,
+                                   final OutputStream out)
+            throws IOException {
+        try {
+            int count = announcementDao.scroll(headingId, date,
+                    exportFetchSize, announcement -> {
+                        try {
+                            EXPORT_WRITER.writeValue(out,
+                                    announcementMapping.toDto(announcement));
+                            out.write(LINE_SEPARATOR);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+            out.flush();
+            return count;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
-        return announcementDto;
     }
 
     /**
-     * This is method deletes announcements from
-     * database when they marked as inactive.
+     * This is method deletes announcements from database when they
+     * marked as inactive. Announcements are deleted by batches of
+     * {@code purge.batch_size} in own transactions with pause
+     * {@code purge.pause_ms} between them, so concurrent writes are not
+     * stalled by long locks. Progress is saved with every batch and a run
+     * which was interrupted is continued by the next one. Only the node
+     * which takes the lease of the job of {@link JobCoordinator} runs
+     * the purge.
+     *
+     * @return number of deleted announcements, 0 when the purge is run
+     * by other node.
      */
-    @Scheduled(cron = "0 0 0 * * ?")
+    @Scheduled(cron = "${purge.cron:0 0 0 * * ?}")
     @Override
-    public void deleteAnnouncementWhichIsNonActive() {
-        announcementDao.deleteNoActiveAnnouncements();
+    public long deleteAnnouncementWhichIsNonActive() {
+        return jobCoordinator.run(PURGE_JOB);
+    }
+
+    /**
+     * This method deletes inactive announcements by batches while this
+     * node holds the lease of the job.
+     *
+     * @param leaseHeld true while this node holds the lease.
+     * @return number of deleted announcements.
+     */
+    private long purgeInactiveAnnouncements(final BooleanSupplier leaseHeld) {
+        long runStarted = System.nanoTime();
+        long total = 0;
+        List<Integer> deleted;
+        do {
+            long batchStarted = System.nanoTime();
+            deleted = announcementDao.deleteNoActiveAnnouncements(
+                    PURGE_JOB, purgeBatchSize);
+            long batchNanos = System.nanoTime() - batchStarted;
+            if (deleted.isEmpty()) {
+                break;
+            }
+            deleted.forEach(searchIndex::remove);
+            purgeMetrics.recordBatch(deleted.size(), batchNanos);
+            total += deleted.size();
+            LOGGER.info(LoggerConstants.PURGE_BATCH_DELETED + deleted.size()
+                    + LoggerConstants.PURGE_BATCH_MILLIS
+                    + TimeUnit.NANOSECONDS.toMillis(batchNanos));
+        } while (BatchPause.pause(purgePauseMillis)
+                && leaseHeld.getAsBoolean());
+        long runNanos = System.nanoTime() - runStarted;
+        purgeMetrics.recordRun(total, runNanos);
+        LOGGER.info(LoggerConstants.PURGE_FINISHED + total
+                + LoggerConstants.PURGE_BATCH_MILLIS
+                + TimeUnit.NANOSECONDS.toMillis(runNanos));
+        return total;
+    }
+
+    /**
+     * This method calculates time when new announcement expires.
+     *
+     * @param announcement new {@link Announcement}.
+     * @return {@link LocalDateTime} of expiry.
+     */
+    private LocalDateTime expiryOf(final Announcement announcement) {
+        LocalDate published = announcement.getPublicationDate() == null
+                ? LocalDate.now() : announcement.getPublicationDate();
+        return published.plusDays(ttlDays).atStartOfDay();
     }
 }
@@ -5,10 +5,11 @@ import com.domain.Author;
 
 import com.dto.AuthorDto;
 
+import com.mapper.AuthorMapping;
 import com.repository.AuthorRepository;
+import com.security.jwt.AuthorTokenRegistry;
 import com.security.jwt.JwtProvider;
 import com.service.AuthorService;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -34,9 +35,9 @@ public class AuthorServiceImpl implements AuthorService {
 
 
     /**
-     * This is field {@link ModelMapper} for converting objects.
+     * This is field {@link AuthorMapping} for converting objects.
      */
-    private final ModelMapper modelMapper;
+    private final AuthorMapping authorMapping;
 
 
     /**
@@ -59,28 +60,38 @@ public class AuthorServiceImpl implements AuthorService {
     private final JwtProvider jwtProvider;
 
 
+    /**
+     * This is field {@link AuthorTokenRegistry} for revoking tokens
+     * of changed and deleted authors.
+     */
+    private final AuthorTokenRegistry tokenRegistry;
+
+
     /**
      * This is a constructor with parameters {@link AuthorServiceImpl}
      * that injects object gain of the {@link AuthorDao}
      * and others.
      *
      * @param daoAuthor        {@link AuthorDao}.
-     * @param mapperModel      {@link ModelMapper}.
+     * @param mappingAuthor    {@link AuthorMapping}.
      * @param encoder          {@link BCryptPasswordEncoder}.
      * @param repositoryAuthor {@link AuthorRepository}.
      * @param providerJwt      {@link JwtProvider}.
+     * @param registry         {@link AuthorTokenRegistry}.
      */
     @Autowired
     public AuthorServiceImpl(final AuthorDao daoAuthor,
-                             final ModelMapper mapperModel,
+                             final AuthorMapping mappingAuthor,
                              final BCryptPasswordEncoder encoder,
                              final AuthorRepository repositoryAuthor,
-                             final JwtProvider providerJwt) {
+                             final JwtProvider providerJwt,
+                             final AuthorTokenRegistry registry) {
         this.authorDao = daoAuthor;
-        this.modelMapper = mapperModel;
+        this.authorMapping = mappingAuthor;
         this.passwordEncoder = encoder;
         this.authorRepository = repositoryAuthor;
         this.jwtProvider = providerJwt;
+        this.tokenRegistry = registry;
     }
 
 
@@ -92,7 +103,7 @@ public class AuthorServiceImpl implements AuthorService {
      */
     @Override
     public void save(final AuthorDto authorDto) {
-        final Author mappedToAuthor = modelMapper.map(authorDto, Author.class);
+        final Author mappedToAuthor = authorMapping.toEntity(authorDto);
         mappedToAuthor.setPassword(passwordEncoder.
                 encode(authorDto.getPassword()));
         authorDao.save(mappedToAuthor);
@@ -102,14 +113,21 @@ public class AuthorServiceImpl implements AuthorService {
     /**
      * This is method which is take {@link AuthorDto} object and
      * generate token and return it to the controller layer.
+     * The token carries id, roles and active flag of the author,
+     * so requests with it are authenticated without database.
      *
      * @param authorDto {@link AuthorDto}.
      * @return string {@link String}.
      */
     @Override
+    @Transactional(readOnly = true)
     public String authentication(final AuthorDto authorDto) {
-        final Author author = modelMapper.map(authorDto, Author.class);
-        return jwtProvider.generateToken(author.getName());
+        final Author author = authorMapping.toEntity(authorDto);
+        final Author found = authorRepository.findByName(author.getName());
+        if (found == null) {
+            return jwtProvider.generateToken(author.getName());
+        }
+        return jwtProvider.generateToken(found);
     }
 
 
@@ -127,27 +145,29 @@ public class AuthorServiceImpl implements AuthorService {
         if (author == null) {
             return null;
         }
-        return modelMapper.map(author, AuthorDto.class);
+        return authorMapping.toDto(author);
     }
 
 
     /**
      * This is method accepts the {@link AuthorDto}
      * object with the new data and pass it to the {@link AuthorDao
-     * #update(Object)} to update the author.
+     * #update(Object)} to update the author, tokens issued
+     * before the update are checked with database.
      *
      * @param authorDto {@link AuthorDto}.
      */
     @Override
     public void update(final AuthorDto authorDto) {
-        final Author authorMapped = modelMapper.map(authorDto, Author.class);
+        final Author authorMapped = authorMapping.toEntity(authorDto);
         authorDao.update(authorMapped);
+        tokenRegistry.revoke(authorMapped.getId());
     }
 
 
     /**
      * This is method pass author id to the {@link AuthorDao
-     * #delete(int)} to delete the author.
+     * #delete(int)} to delete the author and revokes his tokens.
      *
      * @param id int.
      */
@@ -156,6 +176,7 @@ public class AuthorServiceImpl implements AuthorService {
     public void delete(final int id) {
         authorRepository.deleteFromUserRole(id);
         authorDao.delete(id);
+        tokenRegistry.revoke(id);
     }
 
 
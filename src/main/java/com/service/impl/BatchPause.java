@@ -0,0 +1,39 @@
+package com.service.impl;
+
+/**
+ * Class {@link BatchPause} pauses scheduled jobs between their batches,
+ * so other transactions can take locks of the tables between them.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+final class BatchPause {
+
+    /**
+     * This is private constructor.
+     */
+    private BatchPause() {
+    }
+
+    /**
+     * This method pauses current thread between batches.
+     *
+     * @param millis pause in milliseconds, nothing is done when it is
+     *               not positive.
+     * @return false when the thread is interrupted and the job
+     * should stop.
+     */
+    static boolean pause(final long millis) {
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,396 @@
+package com.service.impl;
+
+import com.config.BoundedExecutor;
+import com.constant.LoggerConstants;
+import com.domain.Announcement;
+import com.domain.EmailOutbox;
+import com.domain.enums.OutboxStatus;
+import com.metrics.MetricsRegistry;
+import com.repository.AnnouncementRepository;
+import com.repository.EmailOutboxRepository;
+import com.service.EmailOutboxService;
+import com.service.EmailService;
+import org.apache.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link EmailOutboxServiceImpl} class drains {@link EmailOutbox} with
+ * a bounded pool of workers. Failed rows are retried with exponential
+ * backoff and are marked as failed after the last attempt. Emails are
+ * sent at least once, a row can be sent again when a worker dies after
+ * sending and before marking the row.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Service
+public class EmailOutboxServiceImpl implements EmailOutboxService {
+
+    /**
+     * This is field of class {@link Logger} returns a logger
+     * for this class.
+     */
+    private static final Logger LOGGER = Logger.
+            getLogger(EmailOutboxServiceImpl.class);
+
+    /**
+     * This is statuses of the rows which can be claimed, rows in
+     * processing are claimed again when their lease ends.
+     */
+    private static final Collection<OutboxStatus> CLAIMABLE =
+            Collections.unmodifiableList(Arrays.asList(
+                    OutboxStatus.PENDING, OutboxStatus.PROCESSING));
+
+    /**
+     * This is maximum length of the saved error message.
+     */
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    /**
+     * This is name of the counter of processed rows by result.
+     */
+    private static final String ROWS = "outbox_rows_total";
+
+    /**
+     * Field {@link EmailOutboxRepository} helps us to claim and
+     * mark rows of the outbox.
+     */
+    private final EmailOutboxRepository outboxRepository;
+
+    /**
+     * Field {@link AnnouncementRepository} helps us to load
+     * {@link Announcement} of the row.
+     */
+    private final AnnouncementRepository announcementRepository;
+
+    /**
+     * Field {@link EmailService} sends emails to the subscribed authors.
+     */
+    private final EmailService emailService;
+
+    /**
+     * Field {@link BoundedExecutor} is bounded pool of the workers.
+     */
+    private final BoundedExecutor executor;
+
+    /**
+     * Field batchSize is maximum number of rows claimed at once.
+     */
+    private final int batchSize;
+
+    /**
+     * Field groupSize is maximum number of rows sent by one worker
+     * at once.
+     */
+    private final int groupSize;
+
+    /**
+     * Field maxAttempts is number of attempts before the row fails.
+     */
+    private final int maxAttempts;
+
+    /**
+     * Field lease is time for which the row is claimed by the worker.
+     */
+    private final Duration lease;
+
+    /**
+     * Field backoff is delay before the second attempt, it doubles
+     * with every next attempt.
+     */
+    private final Duration backoff;
+
+    /**
+     * Field maxBackoff is the biggest delay between attempts.
+     */
+    private final Duration maxBackoff;
+
+    /**
+     * Field {@link MetricsRegistry} records the dispatch of the outbox.
+     */
+    private final MetricsRegistry metrics;
+
+    /**
+     * Field with number of sent rows.
+     */
+    private final LongAdder sentRows;
+
+    /**
+     * Field with number of rows planned for the next attempt.
+     */
+    private final LongAdder retriedRows;
+
+    /**
+     * Field with number of failed rows.
+     */
+    private final LongAdder failedRows;
+
+    /**
+     * Field with number of groups rejected by the full queue.
+     */
+    private final LongAdder rejectedGroups;
+
+    /**
+     * This is a constructor {@link EmailOutboxServiceImpl} with parameters
+     * that injects repositories, {@link EmailService}, the pool of the
+     * workers, {@link MetricsRegistry} and settings of the outbox.
+     *
+     * @param repositoryOutbox       {@link EmailOutboxRepository}.
+     * @param repositoryAnnouncement {@link AnnouncementRepository}.
+     * @param serviceEmail           {@link EmailService}.
+     * @param outboxExecutor         {@link BoundedExecutor}.
+     * @param metricsRegistry        {@link MetricsRegistry}.
+     * @param size                   maximum number of claimed rows.
+     * @param group                  maximum number of rows sent by
+     *                               one worker at once.
+     * @param attempts               number of attempts.
+     * @param leaseMillis            lease of the row in milliseconds.
+     * @param backoffMillis          first backoff in milliseconds.
+     * @param maxBackoffMillis       maximum backoff in milliseconds.
+     */
+    @Autowired
+    public EmailOutboxServiceImpl(
+            final EmailOutboxRepository repositoryOutbox,
+            final AnnouncementRepository repositoryAnnouncement,
+            final EmailService serviceEmail,
+            @Qualifier("outboxExecutor")
+            final BoundedExecutor outboxExecutor,
+            final MetricsRegistry metricsRegistry,
+            @Value("${outbox.batch_size:50}") final int size,
+            @Value("${outbox.group_size:20}") final int group,
+            @Value("${outbox.max_attempts:8}") final int attempts,
+            @Value("${outbox.lease_ms:300000}") final long leaseMillis,
+            @Value("${outbox.backoff_ms:10000}") final long backoffMillis,
+            @Value("${outbox.max_backoff_ms:3600000}")
+            final long maxBackoffMillis) {
+        this.outboxRepository = repositoryOutbox;
+        this.announcementRepository = repositoryAnnouncement;
+        this.emailService = serviceEmail;
+        this.executor = outboxExecutor;
+        this.batchSize = size;
+        this.groupSize = Math.max(1, group);
+        this.maxAttempts = attempts;
+        this.lease = Duration.ofMillis(leaseMillis);
+        this.backoff = Duration.ofMillis(backoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+        this.metrics = metricsRegistry;
+        metrics.help(ROWS, "Rows of the email outbox by result.");
+        this.sentRows = metrics.counter(ROWS,
+                MetricsRegistry.labels("result", "sent"));
+        this.retriedRows = metrics.counter(ROWS,
+                MetricsRegistry.labels("result", "retried"));
+        this.failedRows = metrics.counter(ROWS,
+                MetricsRegistry.labels("result", "failed"));
+        this.rejectedGroups = metrics.counter(
+                "outbox_rejected_groups_total", "");
+        metrics.help("outbox_queue_size",
+                "Groups of rows waiting for a worker.");
+        metrics.gauge("outbox_queue_size", "", executor::getQueueSize);
+        metrics.gauge("outbox_active_workers", "", executor::getActiveCount);
+    }
+
+    /**
+     * This method claims due rows of the outbox, but not more than free
+     * places in the queue of the workers allow, and passes them to the
+     * workers by groups of {@code outbox.group_size}, so subscribers of
+     * the whole group are found at once. It is run with delay
+     * {@code outbox.poll_delay_ms} after the previous run.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${outbox.poll_delay_ms:5000}")
+    public void dispatch() {
+        int free = executor.getRemainingCapacity();
+        if (free <= 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Integer> ids = outboxRepository.findDueIds(CLAIMABLE, now,
+                PageRequest.of(0, (int) Math.min(batchSize,
+                        (long) free * groupSize)));
+        List<Integer> group = new ArrayList<>(groupSize);
+        for (Integer id : ids) {
+            if (outboxRepository.claim(id, CLAIMABLE,
+                    OutboxStatus.PROCESSING, now, now.plus(lease)) == 0) {
+                continue;
+            }
+            group.add(id);
+            if (group.size() == groupSize) {
+                if (!submit(group)) {
+                    return;
+                }
+                group = new ArrayList<>(groupSize);
+            }
+        }
+        if (!group.isEmpty()) {
+            submit(group);
+        }
+    }
+
+    /**
+     * This method sends emails for one claimed row of the outbox.
+     *
+     * @param outboxId id of {@link EmailOutbox}.
+     */
+    @Override
+    public void deliver(final int outboxId) {
+        deliverAll(Collections.singletonList(outboxId));
+    }
+
+    /**
+     * This method sends emails for claimed rows of the outbox, marks
+     * every row as sent or plans its next attempt with backoff.
+     * Announcements of all rows are loaded by one query and their
+     * subscribers are found by one query too.
+     *
+     * @param outboxIds ids of {@link EmailOutbox}.
+     */
+    @Override
+    public void deliverAll(final List<Integer> outboxIds) {
+        long start = System.nanoTime();
+        try {
+            deliverGroup(outboxIds);
+        } finally {
+            metrics.recordMicros("outbox_delivery_duration_seconds", "",
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * This method sends emails for claimed rows of the outbox.
+     *
+     * @param outboxIds ids of {@link EmailOutbox}.
+     */
+    private void deliverGroup(final List<Integer> outboxIds) {
+        List<EmailOutbox> outboxes = outboxRepository.findAllById(outboxIds);
+        if (outboxes.isEmpty()) {
+            return;
+        }
+        Set<Integer> announcementIds = new HashSet<>();
+        outboxes.forEach(o -> announcementIds.add(o.getAnnouncementId()));
+        Map<Integer, Announcement> announcements = new HashMap<>();
+        announcementRepository.findAllWithHeadingByIds(announcementIds)
+                .forEach(a -> announcements.put(a.getId(), a));
+
+        Map<Integer, List<String>> emails;
+        try {
+            emails = emailService.searchEmailsOfSubscribers(
+                    announcements.values());
+        } catch (RuntimeException e) {
+            outboxes.forEach(outbox -> retry(outbox, e));
+            return;
+        }
+        for (EmailOutbox outbox : outboxes) {
+            Announcement announcement = announcements
+                    .get(outbox.getAnnouncementId());
+            if (announcement == null) {
+                outboxRepository.updateStatus(outbox.getId(),
+                        OutboxStatus.FAILED, LocalDateTime.now(),
+                        LoggerConstants.OUTBOX_NO_ANNOUNCEMENT);
+                failedRows.increment();
+                continue;
+            }
+            try {
+                List<String> recipients = emails.get(announcement.getId());
+                if (recipients != null) {
+                    emailService.sendEmails(recipients, announcement);
+                }
+                outboxRepository.updateStatus(outbox.getId(),
+                        OutboxStatus.SENT, LocalDateTime.now(), null);
+                sentRows.increment();
+            } catch (RuntimeException e) {
+                retry(outbox, e);
+            }
+        }
+    }
+
+    /**
+     * This method passes the group of claimed rows to the workers.
+     *
+     * @param group ids of claimed rows.
+     * @return false when the queue of the workers is full, the rows
+     * are claimed again when their lease ends.
+     */
+    private boolean submit(final List<Integer> group) {
+        try {
+            executor.execute(() -> deliverAll(group));
+            return true;
+        } catch (TaskRejectedException e) {
+            LOGGER.warn(LoggerConstants.OUTBOX_REJECTED + group);
+            rejectedGroups.increment();
+            return false;
+        }
+    }
+
+    /**
+     * This method plans the next attempt of the row which was not sent
+     * or marks it as failed after the last attempt.
+     *
+     * @param outbox {@link EmailOutbox}.
+     * @param e      {@link RuntimeException} of sending.
+     */
+    private void retry(final EmailOutbox outbox, final RuntimeException e) {
+        LOGGER.error(LoggerConstants.OUTBOX_NOT_SENT + outbox.getId(), e);
+        if (outbox.getAttempts() >= maxAttempts) {
+            outboxRepository.updateStatus(outbox.getId(), OutboxStatus.FAILED,
+                    LocalDateTime.now(), errorOf(e));
+            failedRows.increment();
+        } else {
+            outboxRepository.updateStatus(outbox.getId(),
+                    OutboxStatus.PENDING, LocalDateTime.now().plus(
+                            backoffOf(outbox.getAttempts())), errorOf(e));
+            retriedRows.increment();
+        }
+    }
+
+    /**
+     * This method calculates delay before the next attempt, the delay
+     * doubles with every attempt and has random jitter up to a quarter.
+     *
+     * @param attempts number of the made attempts.
+     * @return {@link Duration} delay.
+     */
+    private Duration backoffOf(final int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), Integer.SIZE - 2);
+        long delay = Math.min(backoff.toMillis() << shift,
+                maxBackoff.toMillis());
+        if (delay <= 0) {
+            delay = maxBackoff.toMillis();
+        }
+        long jitter = ThreadLocalRandom.current().nextLong(delay / 4 + 1);
+        return Duration.ofMillis(delay + jitter);
+    }
+
+    /**
+     * This method cuts message of the error to the size of the column.
+     *
+     * @param e {@link Exception}.
+     * @return message of the error.
+     */
+    private static String errorOf(final Exception e) {
+        String message = String.valueOf(e.getMessage());
+        return message.length() > MAX_ERROR_LENGTH
+                ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -2,17 +2,30 @@ package com.service.impl;
 
 import com.constant.LoggerConstants;
 import com.domain.Announcement;
+import com.index.SuitableAdIndex;
 import com.repository.MailRepository;
 import com.service.EmailService;
+import com.template.EmailTemplates;
+import com.template.RenderedEmail;
 import org.apache.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
 import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * {@link EmailServiceImpl} class serves for mailing suitableAd process,
@@ -49,27 +62,55 @@ public class EmailServiceImpl implements EmailService {
 
 
     /**
-     * This is a constructor {@link EmailServiceImpl} with two parameters that
-     * injects two objects gain of the {@link JavaMailSender}
-     * and {@link MailRepository}.
+     * Field {@link SuitableAdIndex} finds authors who are subscribed
+     * to the announcement without database.
+     */
+    private final SuitableAdIndex suitableAdIndex;
+
+
+    /**
+     * Field {@link EmailTemplates} renders the body of the email once
+     * for every announcement.
+     */
+    private final EmailTemplates emailTemplates;
+
+
+    /**
+     * This is field with number of messages sent at once.
+     */
+    private final int batchSize;
+
+
+    /**
+     * This is a constructor {@link EmailServiceImpl} that injects objects
+     * gain of the {@link JavaMailSender}, {@link MailRepository},
+     * {@link SuitableAdIndex} and {@link EmailTemplates}.
      *
      * @param javaMailSender {@link JavaMailSender}.
      * @param repositoryMail {@link MailRepository}.
+     * @param index          {@link SuitableAdIndex}.
+     * @param templates      {@link EmailTemplates}.
+     * @param sizeOfBatch    number of messages sent at once.
      */
     @Autowired
     public EmailServiceImpl(
             final JavaMailSender javaMailSender,
-            final MailRepository repositoryMail) {
+            final MailRepository repositoryMail,
+            final SuitableAdIndex index,
+            final EmailTemplates templates,
+            @Value("${mail.batch_size:50}") final int sizeOfBatch) {
         this.mailRepository = repositoryMail;
         this.mailSender = javaMailSender;
+        this.suitableAdIndex = index;
+        this.emailTemplates = templates;
+        this.batchSize = sizeOfBatch;
     }
 
 
     /**
      * The method of this class performs a search for authors who are
-     * subscribed to send messages with the appropriate characteristics such as:
-     * {@link MailRepository
-     * #searchAuthorsEmails(String, java.math.BigDecimal, String)}and also
+     * subscribed to send messages with the appropriate characteristics in
+     * {@link #searchEmailsOfSubscribers(Collection)} and also
      * passes the found emails to the method {@link EmailServiceImpl
      * #sendEmailsSomeAuthors(List, Announcement)} to send messages to the
      * appropriate authors.
@@ -77,12 +118,78 @@ public class EmailServiceImpl implements EmailService {
      * @param announcement {@link Announcement}.
      */
     public void searchEmailsForSendingEmail(final Announcement announcement) {
-        List<String> resultList = mailRepository.
-                searchAuthorsEmails(
-                        announcement.getHeading().getName(),
-                        announcement.getServiceCost(),
-                        announcement.getRevelationText());
-        sendEmailsSomeAuthors(resultList, announcement);
+        List<String> emails = searchEmailsOfSubscribers(
+                Collections.singletonList(announcement))
+                .get(announcement.getId());
+        if (emails != null) {
+            sendEmailsSomeAuthors(emails, announcement);
+        }
+    }
+
+
+    /**
+     * The method of this class finds authors who are subscribed to every
+     * of the announcements in {@link SuitableAdIndex#match(String, String,
+     * java.math.BigDecimal)} and loads emails of all of them by one
+     * {@link MailRepository#findAuthorIdsAndEmails(Collection)}.
+     *
+     * @param announcements {@link Collection} of {@link Announcement}.
+     * @return {@link Map} of emails by id of {@link Announcement},
+     * announcements without subscribers are absent.
+     */
+    @Override
+    public Map<Integer, List<String>> searchEmailsOfSubscribers(
+            final Collection<Announcement> announcements) {
+        Map<Integer, Set<Integer>> subscribers = new HashMap<>();
+        Set<Integer> allAuthorIds = new HashSet<>();
+        for (Announcement announcement : announcements) {
+            if (announcement.getHeading() == null) {
+                continue;
+            }
+            Set<Integer> authorIds = suitableAdIndex.match(
+                    announcement.getHeading().getName(),
+                    announcement.getRevelationText(),
+                    announcement.getServiceCost());
+            if (!authorIds.isEmpty()) {
+                subscribers.put(announcement.getId(), authorIds);
+                allAuthorIds.addAll(authorIds);
+            }
+        }
+        if (allAuthorIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Integer, List<String>> emailsByAuthor = new HashMap<>();
+        for (Object[] row : mailRepository
+                .findAuthorIdsAndEmails(allAuthorIds)) {
+            emailsByAuthor.computeIfAbsent((Integer) row[0],
+                    id -> new ArrayList<>()).add((String) row[1]);
+        }
+        Map<Integer, List<String>> result = new HashMap<>();
+        subscribers.forEach((announcementId, authorIds) -> {
+            Set<String> emails = new LinkedHashSet<>();
+            for (Integer authorId : authorIds) {
+                emails.addAll(emailsByAuthor.getOrDefault(authorId,
+                        Collections.emptyList()));
+            }
+            if (!emails.isEmpty()) {
+                result.put(announcementId, new ArrayList<>(emails));
+            }
+        });
+        return result;
+    }
+
+
+    /**
+     * The method sends the announcement to the emails.
+     *
+     * @param emails       {@link List<String>}.
+     * @param announcement {@link Announcement}.
+     */
+    @Override
+    public void sendEmails(final List<String> emails,
+                           final Announcement announcement) {
+        sendEmailsSomeAuthors(emails, announcement);
     }
 
 
@@ -90,33 +197,51 @@ public class EmailServiceImpl implements EmailService {
      * The method send emails to all author who has inquiry for suitableAd
      * and also accepts the list of authors to whom it is necessary to send
      * the message and the announcement which it is necessary
-     * to send to each author.
+     * to send to each author. The body is rendered by
+     * {@link EmailTemplates#render(Announcement)} once for all authors
+     * as HTML with plain text alternative. Every author gets own message
+     * and messages are passed to {@link JavaMailSender#send(MimeMessage...)}
+     * by batches of {@code mail.batch_size}, so one SMTP connection sends
+     * the whole batch.
      *
      * @param emails       {@link List<String>}.
      * @param announcement {@link Announcement}.
      */
     private void sendEmailsSomeAuthors(final List<String> emails,
                                        final Announcement announcement) {
-        MimeMessage message = mailSender.createMimeMessage();
-
-        emails.forEach(em -> {
+        RenderedEmail rendered = emailTemplates.render(announcement);
+        List<MimeMessage> batch = new ArrayList<>(Math.min(batchSize,
+                emails.size()));
+        for (String em : emails) {
             try {
-                MimeMessageHelper helper = new MimeMessageHelper(message, true);
+                MimeMessage message = mailSender.createMimeMessage();
+                MimeMessageHelper helper = new MimeMessageHelper(message,
+                        true, StandardCharsets.UTF_8.name());
                 helper.setTo(em);
                 helper.setSubject("Announcement for you:");
-                helper.setText("<html>\n" + "<body>\n" + "<p>"
-                        + "\n" + "This is an announcement name: "
-                        + announcement.getName() + "\n"
-                        + "\n" + "This is an announcement revelationText: "
-                        + announcement.getRevelationText() + "\n"
-                        + "\n" + "This is an announcement serviceCost: "
-                        + announcement.getServiceCost()
-                        + "</p>\n" + "</body>\n" + "</html>", true);
-                LOGGER.info(LoggerConstants.SEND_EMAIL_SOME_AUTHORS);
+                helper.setText(rendered.getText(), rendered.getHtml());
+                batch.add(message);
             } catch (MessagingException e) {
                 LOGGER.trace(e);
             }
-            mailSender.send(message);
-        });
+            if (batch.size() == batchSize) {
+                send(batch);
+            }
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+
+    /**
+     * The method sends the batch of messages at once and clears it.
+     *
+     * @param batch {@link List<MimeMessage>}.
+     */
+    private void send(final List<MimeMessage> batch) {
+        mailSender.send(batch.toArray(new MimeMessage[0]));
+        LOGGER.info(LoggerConstants.SEND_EMAIL_SOME_AUTHORS + batch.size());
+        batch.clear();
     }
 }
@@ -1,11 +1,12 @@
 package com.service.impl;
 
+import com.dao.HeadingCache;
 import com.dao.HeadingDao;
 import com.domain.Announcement;
 import com.domain.Heading;
 import com.dto.HeadingDto;
+import com.mapper.HeadingMapping;
 import com.service.HeadingService;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -29,24 +30,33 @@ public class HeadingServiceImpl implements HeadingService {
     private final HeadingDao headingDao;
 
     /**
-     * This is {@link ModelMapper} which's help to convert objects.
+     * This is {@link HeadingMapping} which's help to convert objects.
      */
-    private final ModelMapper modelMapper;
+    private final HeadingMapping headingMapping;
+
+    /**
+     * This is {@link HeadingCache} which keeps all headings in memory.
+     */
+    private final HeadingCache headingCache;
 
     /**
      * This is a constructor {@link HeadingServiceImpl} with parameters that
      * injects objects gain of the
      * {@link HeadingDao}
-     * {@link ModelMapper}.
+     * {@link HeadingMapping}
+     * {@link HeadingCache}.
      *
-     * @param daoHeading  {@link HeadingDao}.
-     * @param mapperModel {@link ModelMapper}.
+     * @param daoHeading     {@link HeadingDao}.
+     * @param mappingHeading {@link HeadingMapping}.
+     * @param cacheHeading   {@link HeadingCache}.
      */
     @Autowired
     public HeadingServiceImpl(final HeadingDao daoHeading,
-                              final ModelMapper mapperModel) {
+                              final HeadingMapping mappingHeading,
+                              final HeadingCache cacheHeading) {
         this.headingDao = daoHeading;
-        this.modelMapper = mapperModel;
+        this.headingMapping = mappingHeading;
+        this.headingCache = cacheHeading;
     }
 
     /**
@@ -57,24 +67,26 @@ public class HeadingServiceImpl implements HeadingService {
      */
     @Override
     public void save(final HeadingDto headingDto) {
-        final Heading heading = modelMapper.map(headingDto, Heading.class);
+        final Heading heading = headingMapping.toEntity(headingDto);
         headingDao.save(heading);
+        headingCache.put(heading);
     }
 
     /**
      * This is method for searching for a heading id and pass id to the
-     * {@link HeadingDao#find(int)} for finding the heading.
+     * {@link HeadingCache#find(int)} for finding the heading, it goes to
+     * {@link HeadingDao#find(int)} only when the heading is not cached.
      *
      * @param id int.
      * @return headingDto {@link HeadingDto}.
      */
     @Override
     public HeadingDto find(final int id) {
-        final Heading heading = headingDao.find(id);
+        final Heading heading = headingCache.find(id);
         if (heading == null) {
             return null;
         }
-        return modelMapper.map(heading, HeadingDto.class);
+        return headingMapping.toDto(heading);
     }
 
     /**
@@ -86,8 +98,9 @@ public class HeadingServiceImpl implements HeadingService {
      */
     @Override
     public void update(final HeadingDto headingDto) {
-        final Heading heading = modelMapper.map(headingDto, Heading.class);
+        final Heading heading = headingMapping.toEntity(headingDto);
         headingDao.update(heading);
+        headingCache.evict(heading.getId());
     }
 
     /**
@@ -99,6 +112,7 @@ public class HeadingServiceImpl implements HeadingService {
     @Override
     public void delete(final int id) {
         headingDao.delete(id);
+        headingCache.evict(id);
     }
 
     /**
@@ -110,6 +124,7 @@ public class HeadingServiceImpl implements HeadingService {
     @Override
     public void deleteHeading(final int id) {
         headingDao.deleteHeading(id);
+        headingCache.evict(id);
     }
 
     /**
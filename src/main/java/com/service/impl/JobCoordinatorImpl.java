@@ -0,0 +1,271 @@
+package com.service.impl;
+
+import com.constant.LoggerConstants;
+import com.domain.JobRun;
+import com.domain.enums.JobStatus;
+import com.repository.JobLeaseRepository;
+import com.repository.JobRunRepository;
+import com.service.JobCoordinator;
+import org.apache.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link JobCoordinatorImpl} class runs scheduled jobs under leases of
+ * {@link com.domain.JobLease}. The lease is taken for
+ * {@code scheduler.lease_ms} only when it has expired, its owner is
+ * the run, not the node, so two triggers of one node never run the job
+ * together. The lease is renewed by the task scheduler while the job
+ * runs and is freed after the run. A run of a node which died loses
+ * the lease when it expires and is resumed by the check of abandoned
+ * jobs every {@code scheduler.catch_up_ms}.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Service
+public class JobCoordinatorImpl implements JobCoordinator {
+
+    /**
+     * This is field of class {@link Logger} returns a logger
+     * for this class.
+     */
+    private static final Logger LOGGER = Logger.
+            getLogger(JobCoordinatorImpl.class);
+
+    /**
+     * This is number of renewals of the lease during its time.
+     */
+    private static final int RENEWALS_PER_LEASE = 3;
+
+    /**
+     * This is maximum length of the error message of a run.
+     */
+    private static final int ERROR_LENGTH = 255;
+
+    /**
+     * This is field {@link JobLeaseRepository}.
+     */
+    private final JobLeaseRepository leaseRepository;
+
+    /**
+     * This is field {@link JobRunRepository}.
+     */
+    private final JobRunRepository runRepository;
+
+    /**
+     * This is field {@link TaskScheduler} which renews leases.
+     */
+    private final TaskScheduler taskScheduler;
+
+    /**
+     * This is field with id of this node.
+     */
+    private final String node;
+
+    /**
+     * This is field with time of the lease in milliseconds.
+     */
+    private final long leaseMillis;
+
+    /**
+     * This is field with registered jobs by their names.
+     */
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * This is a constructor that injects repositories of leases and of
+     * runs and the task scheduler into the {@link JobCoordinatorImpl}
+     * class. Id of the node is {@code scheduler.node_id} or pid@host
+     * of the process.
+     *
+     * @param repositoryLease {@link JobLeaseRepository}.
+     * @param repositoryRun   {@link JobRunRepository}.
+     * @param scheduler       {@link TaskScheduler}.
+     * @param nodeId          id of this node or empty string.
+     * @param lease           time of the lease in milliseconds.
+     */
+    @Autowired
+    public JobCoordinatorImpl(
+            final JobLeaseRepository repositoryLease,
+            final JobRunRepository repositoryRun,
+            final TaskScheduler scheduler,
+            @Value("${scheduler.node_id:}") final String nodeId,
+            @Value("${scheduler.lease_ms:600000}") final long lease) {
+        this.leaseRepository = repositoryLease;
+        this.runRepository = repositoryRun;
+        this.taskScheduler = scheduler;
+        this.node = nodeId.isEmpty()
+                ? ManagementFactory.getRuntimeMXBean().getName() : nodeId;
+        this.leaseMillis = lease;
+    }
+
+    /**
+     * This method registers the job by its name.
+     *
+     * @param job  name of the job.
+     * @param work {@link Job}.
+     */
+    @Override
+    public void register(final String job, final Job work) {
+        jobs.put(job, work);
+    }
+
+    /**
+     * This method runs the job when this node takes its lease.
+     *
+     * @param job name of the job.
+     * @return number of affected rows, 0 when the job is run by
+     * other trigger.
+     */
+    @Override
+    public long run(final String job) {
+        Long rows = runLeased(job);
+        if (rows == null) {
+            LOGGER.info(LoggerConstants.JOB_LEASE_HELD + job);
+            return 0;
+        }
+        return rows;
+    }
+
+    /**
+     * This method runs again registered jobs abandoned by nodes which
+     * died. A job which fails is logged, so other jobs are resumed too.
+     *
+     * @return number of resumed jobs.
+     */
+    @Scheduled(fixedDelayString = "${scheduler.catch_up_ms:60000}",
+            initialDelayString = "${scheduler.catch_up_ms:60000}")
+    @Override
+    public int resumeAbandoned() {
+        int resumed = 0;
+        for (String job : runRepository.findAbandonedJobs()) {
+            if (!jobs.containsKey(job)) {
+                continue;
+            }
+            LOGGER.warn(LoggerConstants.JOB_RESUMED + job);
+            try {
+                if (runLeased(job) != null) {
+                    resumed++;
+                }
+            } catch (RuntimeException e) {
+                LOGGER.error(LoggerConstants.JOB_RESUME_FAILED + job, e);
+            }
+        }
+        return resumed;
+    }
+
+    /**
+     * This method runs the job under its lease and writes the run with
+     * its duration and affected rows to the history. Runs of the job
+     * which were not finished are written as lost. A run which throws
+     * is written as failed, a run which lost its lease is written
+     * as lost.
+     *
+     * @param job name of the job.
+     * @return number of affected rows, null when the lease is held.
+     */
+    private Long runLeased(final String job) {
+        Job work = jobs.get(job);
+        if (work == null) {
+            throw new IllegalArgumentException(job);
+        }
+        String owner = node + "#" + UUID.randomUUID();
+        if (!acquire(job, owner)) {
+            return null;
+        }
+        runRepository.updateStatus(job, JobStatus.RUNNING, JobStatus.LOST);
+        JobRun run = runRepository.save(new JobRun(job, node,
+                LocalDateTime.now()));
+        long started = System.nanoTime();
+        AtomicBoolean lost = new AtomicBoolean();
+        ScheduledFuture<?> renewal = taskScheduler.scheduleAtFixedRate(
+                () -> renew(job, owner, lost),
+                leaseMillis / RENEWALS_PER_LEASE);
+        try {
+            long rows = work.run(() -> !lost.get()
+                    && leaseRepository.countHeld(job, owner) == 1);
+            if (lost.get() || leaseRepository.countHeld(job, owner) == 0) {
+                finish(run, JobStatus.LOST, rows, started,
+                        LoggerConstants.JOB_LEASE_LOST + job);
+            } else {
+                finish(run, JobStatus.SUCCEEDED, rows, started, null);
+            }
+            return rows;
+        } catch (Throwable t) {
+            finish(run, JobStatus.FAILED, 0, started, t.toString());
+            throw t;
+        } finally {
+            renewal.cancel(false);
+            leaseRepository.release(job, owner);
+        }
+    }
+
+    /**
+     * This method takes the lease of the job, it is created when
+     * the job has no lease yet.
+     *
+     * @param job   name of the job.
+     * @param owner id of the run.
+     * @return true when the run holds the lease.
+     */
+    private boolean acquire(final String job, final String owner) {
+        return leaseRepository.acquire(job, owner, leaseMillis) == 1
+                || leaseRepository.create(job, owner, leaseMillis) == 1;
+    }
+
+    /**
+     * This method prolongs the lease of the running job. The run is
+     * marked as lost when other owner has taken the lease.
+     *
+     * @param job   name of the job.
+     * @param owner id of the run.
+     * @param lost  flag of the lost lease.
+     */
+    private void renew(final String job, final String owner,
+                       final AtomicBoolean lost) {
+        if (!lost.get()
+                && leaseRepository.renew(job, owner, leaseMillis) == 0) {
+            lost.set(true);
+            LOGGER.warn(LoggerConstants.JOB_LEASE_LOST + job);
+        }
+    }
+
+    /**
+     * This method writes the result of the run.
+     *
+     * @param run     {@link JobRun}.
+     * @param status  {@link JobStatus} of the run.
+     * @param rows    number of affected rows.
+     * @param started start of the run by {@link System#nanoTime()}.
+     * @param error   message of the exception or null.
+     */
+    private void finish(final JobRun run, final JobStatus status,
+                        final long rows, final long started,
+                        final String error) {
+        run.setStatus(status);
+        run.setRows(rows);
+        run.setFinishedAt(LocalDateTime.now());
+        run.setDurationMillis(TimeUnit.NANOSECONDS.toMillis(
+                System.nanoTime() - started));
+        run.setError(error == null || error.length() <= ERROR_LENGTH
+                ? error : error.substring(0, ERROR_LENGTH));
+        runRepository.save(run);
+        LOGGER.info(LoggerConstants.JOB_FINISHED + run.getJob() + ", "
+                + status + ", rows " + rows + ", ms "
+                + run.getDurationMillis());
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -51,11 +52,15 @@ public class MyUserDetailsService implements UserDetailsService {
      *
      * @param name {@link String}.
      * @return UserDetails.
+     * @throws UsernameNotFoundException if there is no such author.
      */
     @Override
     public UserDetails loadUserByUsername(
             final String name) {
         Author author = authorRepository.findByName(name);
+        if (author == null) {
+            throw new UsernameNotFoundException(name);
+        }
         return buildUserForAuthentication(author);
     }
 
@@ -2,9 +2,10 @@ package com.service.impl;
 
 import com.domain.SuitableAd;
 import com.dto.SuitableAdDto;
+import com.index.SuitableAdIndex;
+import com.mapper.SuitableAdMapping;
 import com.repository.SuitableRepository;
 import com.service.CRUDService;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -29,38 +30,48 @@ public class SuitableAdServiceImpl implements CRUDService<SuitableAdDto> {
 
 
     /**
-     * This is {@link org.modelmapper.ModelMapper} for converting objects.
+     * This is {@link SuitableAdMapping} for converting objects.
      */
-    private final ModelMapper modelMapper;
+    private final SuitableAdMapping suitableAdMapping;
+
+
+    /**
+     * Field {@link SuitableAdIndex} keeps subscriptions in memory,
+     * it is changed after every change in database.
+     */
+    private final SuitableAdIndex suitableAdIndex;
 
 
     /**
      * This is a constructor {@link SuitableAdServiceImpl} with parameter
-     * that injects objects gain of the {@link SuitableRepository}
-     * and {@link ModelMapper}.
+     * that injects objects gain of the {@link SuitableRepository},
+     * {@link SuitableAdMapping} and {@link SuitableAdIndex}.
      *
      * @param repositorySuitable {@link SuitableRepository}.
-     * @param mapperModel        {@link ModelMapper}.
+     * @param mappingSuitableAd  {@link SuitableAdMapping}.
+     * @param index              {@link SuitableAdIndex}.
      */
     @Autowired
     public SuitableAdServiceImpl(final SuitableRepository repositorySuitable,
-                                 final ModelMapper mapperModel) {
+                                 final SuitableAdMapping mappingSuitableAd,
+                                 final SuitableAdIndex index) {
         this.suitableRepository = repositorySuitable;
-        this.modelMapper = mapperModel;
+        this.suitableAdMapping = mappingSuitableAd;
+        this.suitableAdIndex = index;
     }
 
 
     /**
      * This is method takes a {@link SuitableAdDto} object and convert it to the
-     * {@link com.domain.SuitableAd} and save it in the database.
+     * {@link com.domain.SuitableAd} and save it in the database
+     * and in {@link SuitableAdIndex}.
      *
      * @param suitableAdDto {@link SuitableAdDto}.
      */
     @Override
     public void save(final SuitableAdDto suitableAdDto) {
-        final SuitableAd suitableAd = modelMapper.
-                map(suitableAdDto, SuitableAd.class);
-        suitableRepository.save(suitableAd);
+        final SuitableAd suitableAd = suitableAdMapping.toEntity(suitableAdDto);
+        suitableAdIndex.put(suitableRepository.save(suitableAd));
     }
 
 
@@ -80,33 +91,34 @@ public class SuitableAdServiceImpl implements CRUDService<SuitableAdDto> {
         if (suitableAd == null) {
             return null;
         }
-        return modelMapper.map(suitableAd, SuitableAdDto.class);
+        return suitableAdMapping.toDto(suitableAd);
     }
 
 
     /**
      * This is method accepts the {@link SuitableAdDto} object with the new
      * data and pass it to the {@link SuitableRepository#save(Object)}
-     * to update the suitableAd.
+     * to update the suitableAd, {@link SuitableAdIndex} is updated too.
      *
      * @param suitableAdDto {@link SuitableAdDto}.
      */
     @Override
     public void update(final SuitableAdDto suitableAdDto) {
-        final SuitableAd suitableAdUpdate = modelMapper.
-                map(suitableAdDto, SuitableAd.class);
-        suitableRepository.save(suitableAdUpdate);
+        final SuitableAd suitableAdUpdate = suitableAdMapping.toEntity(suitableAdDto);
+        suitableAdIndex.put(suitableRepository.save(suitableAdUpdate));
     }
 
 
     /**
      * This is method takes the id of the {@link SuitableAdDto} object
-     * performs the operation of deleting from a database.
+     * performs the operation of deleting from a database
+     * and from {@link SuitableAdIndex}.
      *
      * @param id int.
      */
     @Override
     public void delete(final int id) {
         suitableRepository.deleteById(id);
+        suitableAdIndex.remove(id);
     }
 }
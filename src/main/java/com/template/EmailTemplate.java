@@ -0,0 +1,154 @@
+package com.template;
+
+import com.constant.ExceptionConstant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Class {@link EmailTemplate} is template of an email which is parsed
+ * once into parts: the text between variables and names of variables
+ * written as ${name}. Rendering only appends the parts, so it costs
+ * as much as copying of the result.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+final class EmailTemplate {
+
+    /**
+     * This is constant with start of a variable.
+     */
+    private static final String VARIABLE_START = "${";
+
+    /**
+     * This is constant with end of a variable.
+     */
+    private static final String VARIABLE_END = "}";
+
+    /**
+     * This is constant with expected length of a value.
+     */
+    private static final int VALUE_LENGTH = 32;
+
+    /**
+     * This is field with text before every variable and after the last
+     * one, it has one element more than {@link #variables}.
+     */
+    private final String[] texts;
+
+    /**
+     * This is field with names of variables.
+     */
+    private final String[] variables;
+
+    /**
+     * This is field which is true when values are escaped for HTML.
+     */
+    private final boolean html;
+
+    /**
+     * This is field with length of the text without variables.
+     */
+    private final int textLength;
+
+    /**
+     * This is constructor {@link EmailTemplate} which parses the source.
+     *
+     * @param name   name of the template for errors.
+     * @param source source of the template.
+     * @param known  names of variables which can be rendered.
+     * @param isHtml true when values are escaped for HTML.
+     * @throws IllegalArgumentException if the template is broken.
+     */
+    EmailTemplate(final String name, final String source,
+                  final Set<String> known, final boolean isHtml) {
+        List<String> textList = new ArrayList<>();
+        List<String> variableList = new ArrayList<>();
+        int length = 0;
+        int from = 0;
+        int start;
+        while ((start = source.indexOf(VARIABLE_START, from)) >= 0) {
+            int end = source.indexOf(VARIABLE_END, start);
+            if (end < 0) {
+                throw new IllegalArgumentException(ExceptionConstant
+                        .TEMPLATE_VARIABLE_NOT_CLOSED + name);
+            }
+            String variable = source.substring(
+                    start + VARIABLE_START.length(), end).trim();
+            if (!known.contains(variable)) {
+                throw new IllegalArgumentException(ExceptionConstant
+                        .TEMPLATE_UNKNOWN_VARIABLE + name + ": " + variable);
+            }
+            textList.add(source.substring(from, start));
+            variableList.add(variable);
+            length += start - from;
+            from = end + VARIABLE_END.length();
+        }
+        textList.add(source.substring(from));
+        length += source.length() - from;
+        this.texts = textList.toArray(new String[0]);
+        this.variables = variableList.toArray(new String[0]);
+        this.html = isHtml;
+        this.textLength = length;
+    }
+
+    /**
+     * This method renders the template with the values of variables.
+     *
+     * @param values values by name of variable, absent values are empty.
+     * @return rendered text.
+     */
+    String render(final Map<String, String> values) {
+        StringBuilder result = new StringBuilder(textLength
+                + variables.length * VALUE_LENGTH);
+        for (int i = 0; i < variables.length; i++) {
+            result.append(texts[i]);
+            String value = values.get(variables[i]);
+            if (value == null) {
+                continue;
+            }
+            if (html) {
+                escape(value, result);
+            } else {
+                result.append(value);
+            }
+        }
+        return result.append(texts[variables.length]).toString();
+    }
+
+    /**
+     * This method appends the value with escaped special characters
+     * of HTML.
+     *
+     * @param value  value of variable.
+     * @param result {@link StringBuilder} of the result.
+     */
+    private static void escape(final String value,
+                               final StringBuilder result) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<':
+                    result.append("&lt;");
+                    break;
+                case '>':
+                    result.append("&gt;");
+                    break;
+                case '&':
+                    result.append("&amp;");
+                    break;
+                case '"':
+                    result.append("&quot;");
+                    break;
+                case '\'':
+                    result.append("&#39;");
+                    break;
+                default:
+                    result.append(c);
+            }
+        }
+    }
+}
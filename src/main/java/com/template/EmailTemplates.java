@@ -0,0 +1,220 @@
+package com.template;
+
+import com.constant.ExceptionConstant;
+import com.constant.LoggerConstants;
+import com.domain.Announcement;
+import com.domain.Heading;
+import org.apache.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Class {@link EmailTemplates} renders emails about announcements by
+ * templates from {@code classpath:templates/email}. Templates are parsed
+ * once at startup: announcement.html and announcement.txt are used for
+ * all headings, announcement-{id}.html and announcement-{id}.txt replace
+ * them for the heading with the id. The rendered email is cached by id
+ * and version of the announcement and of its heading, so it is rendered
+ * once for all recipients and all groups of the outbox.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@Component
+public class EmailTemplates {
+
+    /**
+     * This is field of class {@link Logger} returns a logger
+     * for this class.
+     */
+    private static final Logger LOGGER = Logger.
+            getLogger(EmailTemplates.class);
+
+    /**
+     * This is constant with location of the templates.
+     */
+    private static final String LOCATION = "classpath*:templates/email/";
+
+    /**
+     * This is constant with name of the templates without heading.
+     */
+    private static final String NAME = "announcement";
+
+    /**
+     * This is constant with extension of HTML templates.
+     */
+    private static final String HTML = ".html";
+
+    /**
+     * This is constant with extension of plain text templates.
+     */
+    private static final String TEXT = ".txt";
+
+    /**
+     * This is constant with pattern of the suffix of the template of
+     * a heading, it is the id of the heading after a dash.
+     */
+    private static final String HEADING_SUFFIX = "-\\d{1,9}";
+
+    /**
+     * This is constant with variables of the templates.
+     */
+    private static final Set<String> VARIABLES = new HashSet<>(
+            Arrays.asList("name", "revelationText", "serviceCost",
+                    "publicationDate", "heading"));
+
+    /**
+     * This is field with HTML templates by id of heading,
+     * the key 0 is the template of all headings.
+     */
+    private final Map<Integer, EmailTemplate> htmlTemplates;
+
+    /**
+     * This is field with plain text templates by id of heading,
+     * the key 0 is the template of all headings.
+     */
+    private final Map<Integer, EmailTemplate> textTemplates;
+
+    /**
+     * This is field with rendered emails by id and version of
+     * announcement and of its heading, the least recently used is
+     * removed first.
+     */
+    private final Map<String, RenderedEmail> rendered;
+
+    /**
+     * This is a constructor which parses all templates.
+     *
+     * @param cacheSize number of rendered emails kept in memory.
+     * @throws IOException if a template can not be read.
+     */
+    @Autowired
+    public EmailTemplates(
+            @Value("${mail.template_cache_size:1000}") final int cacheSize)
+            throws IOException {
+        this.htmlTemplates = load(HTML, true);
+        this.textTemplates = load(TEXT, false);
+        this.rendered = new LinkedHashMap<String, RenderedEmail>(
+                16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    final Map.Entry<String, RenderedEmail> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        LOGGER.info(LoggerConstants.EMAIL_TEMPLATES_LOADED
+                + (htmlTemplates.size() + textTemplates.size()));
+    }
+
+    /**
+     * This method returns the email about the announcement, it is
+     * rendered by templates of its heading at the first call.
+     *
+     * @param announcement {@link Announcement}.
+     * @return {@link RenderedEmail}.
+     */
+    public RenderedEmail render(final Announcement announcement) {
+        Heading heading = announcement.getHeading();
+        String key = announcement.getId() + ":" + announcement.getVersion()
+                + (heading == null ? "" : ":" + heading.getId() + ":"
+                + heading.getVersion());
+        synchronized (rendered) {
+            RenderedEmail email = rendered.get(key);
+            if (email != null) {
+                return email;
+            }
+        }
+        RenderedEmail email = renderNow(announcement);
+        synchronized (rendered) {
+            rendered.put(key, email);
+        }
+        return email;
+    }
+
+    /**
+     * This method renders the email about the announcement without cache.
+     *
+     * @param announcement {@link Announcement}.
+     * @return {@link RenderedEmail}.
+     */
+    public RenderedEmail renderNow(final Announcement announcement) {
+        Integer headingId = announcement.getHeading() != null
+                ? announcement.getHeading().getId() : 0;
+        Map<String, String> values = new HashMap<>();
+        values.put("name", announcement.getName());
+        values.put("revelationText", announcement.getRevelationText());
+        if (announcement.getServiceCost() != null) {
+            values.put("serviceCost",
+                    announcement.getServiceCost().toPlainString());
+        }
+        if (announcement.getPublicationDate() != null) {
+            values.put("publicationDate",
+                    announcement.getPublicationDate().toString());
+        }
+        if (announcement.getHeading() != null) {
+            values.put("heading", announcement.getHeading().getName());
+        }
+        return new RenderedEmail(
+                htmlTemplates.getOrDefault(headingId, htmlTemplates.get(0))
+                        .render(values),
+                textTemplates.getOrDefault(headingId, textTemplates.get(0))
+                        .render(values));
+    }
+
+    /**
+     * This method parses all templates with the extension. A template
+     * which suffix is not an id of heading, e.g. announcement-old.html,
+     * is skipped.
+     *
+     * @param extension extension of the templates.
+     * @param html      true when values are escaped for HTML.
+     * @return templates by id of heading.
+     * @throws IOException if a template can not be read.
+     */
+    private static Map<Integer, EmailTemplate> load(final String extension,
+                                                    final boolean html)
+            throws IOException {
+        ResourcePatternResolver resolver =
+                new PathMatchingResourcePatternResolver();
+        Map<Integer, EmailTemplate> templates = new HashMap<>();
+        for (Resource resource : resolver.getResources(
+                LOCATION + NAME + "*" + extension)) {
+            String fileName = resource.getFilename();
+            String suffix = fileName.substring(NAME.length(),
+                    fileName.length() - extension.length());
+            if (!suffix.isEmpty() && !suffix.matches(HEADING_SUFFIX)) {
+                LOGGER.warn(LoggerConstants.EMAIL_TEMPLATE_SKIPPED
+                        + fileName);
+                continue;
+            }
+            int headingId = suffix.isEmpty() ? 0
+                    : Integer.parseInt(suffix.substring(1));
+            try (InputStream in = resource.getInputStream()) {
+                templates.put(headingId, new EmailTemplate(fileName,
+                        StreamUtils.copyToString(in, StandardCharsets.UTF_8),
+                        VARIABLES, html));
+            }
+        }
+        if (!templates.containsKey(0)) {
+            throw new IllegalStateException(ExceptionConstant
+                    .TEMPLATE_NOT_FOUND + NAME + extension);
+        }
+        return templates;
+    }
+}
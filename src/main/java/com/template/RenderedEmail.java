@@ -0,0 +1,26 @@
+package com.template;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Class {@link RenderedEmail} keeps rendered bodies of the email about
+ * one announcement, they are the same for every recipient.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+@Getter
+@AllArgsConstructor
+public final class RenderedEmail {
+
+    /**
+     * Field with HTML body of the email.
+     */
+    private final String html;
+
+    /**
+     * Field with plain text alternative of the email.
+     */
+    private final String text;
+}
@@ -1,5 +1,11 @@
 package com.config;
 
+import com.metrics.HibernateMetrics;
+import com.metrics.MetricsRegistry;
+import com.metrics.PoolMetrics;
+import com.metrics.ProfilingDataSource;
+import com.metrics.PurgeMetrics;
+import com.metrics.SqlProfiler;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -9,7 +15,6 @@ import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.JpaVendorAdapter;
@@ -22,6 +27,7 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import javax.cache.CacheManager;
 import javax.persistence.EntityManagerFactory;
 import javax.sql.DataSource;
 
@@ -40,6 +46,7 @@ import javax.sql.DataSource;
         "com.controller",
         "com.exception.handler",
         "com.mapper",
+        "com.index",
         "com.security"})
 @EnableAspectJAutoProxy(proxyTargetClass = true)
 @EnableTransactionManagement
@@ -48,7 +55,9 @@ import javax.sql.DataSource;
 @Import({EmailConfig.class,
         ModelMapperConfig.class,
         ValidatorConfig.class,
-        EncoderConfig.class})
+        EncoderConfig.class,
+        ExecutorConfig.class,
+        CacheConfig.class})
 @PropertySource("classpath:db.properties")
 public class ConfigAppTest implements
         WebMvcConfigurer, EnvironmentAware {
@@ -101,22 +110,72 @@ public class ConfigAppTest implements
     }
 
 
+    /**
+     * This method creates {@link PoolMetrics} which collects live
+     * metrics of the database connection pool.
+     *
+     * @return {@link PoolMetrics}.
+     */
+    @Bean
+    public PoolMetrics poolMetrics() {
+        return new PoolMetrics();
+    }
+
+
+    /**
+     * This method creates {@link MetricsRegistry} which keeps metrics
+     * of requests, of the database connection pool and of the email
+     * outbox.
+     *
+     * @return {@link MetricsRegistry}.
+     */
+    @Bean
+    public MetricsRegistry metricsRegistry() {
+        MetricsRegistry registry = new MetricsRegistry();
+        poolMetrics().bindTo(registry);
+        return registry;
+    }
+
+
+    /**
+     * This method creates {@link SqlProfiler} which collects SQL
+     * statements, tests count statements of a call by it.
+     *
+     * @return {@link SqlProfiler}.
+     */
+    @Bean
+    public SqlProfiler sqlProfiler() {
+        return new SqlProfiler(metricsRegistry(),
+                SqlProfiler.SLOW_THRESHOLD_MS, SqlProfiler.SLOWEST_LIMIT,
+                SqlProfiler.MAX_STATEMENTS);
+    }
+
+
+    /**
+     * This method creates {@link PurgeMetrics} which collects metrics
+     * of the purge of inactive announcements.
+     *
+     * @return {@link PurgeMetrics}.
+     */
+    @Bean
+    public PurgeMetrics purgeMetrics() {
+        return new PurgeMetrics();
+    }
+
+
     /**
      * This method sets up a location where data that is being used
-     * originates from.
+     * originates from. It is a pool of connections which are reused
+     * between transactions, the pool is closed with the context.
+     * Statements of the connections are profiled by {@link SqlProfiler}.
      *
      * @return {@link DataSource} is the location where data that is
      * being used originates from.
      */
-    @Bean
+    @Bean(destroyMethod = "close")
     public DataSource dataSource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
-        dataSource.setDriverClassName(env.
-                getRequiredProperty("jdbc.driverClassName"));
-        dataSource.setUrl(env.getRequiredProperty("jdbc.url_test"));
-        dataSource.setUsername(env.getRequiredProperty("jdbc.username"));
-        dataSource.setPassword(env.getRequiredProperty("jdbc.password"));
-        return dataSource;
+        return new ProfilingDataSource(PooledDataSourceFactory.create(env,
+                "jdbc.url_test", poolMetrics()), sqlProfiler());
     }
 
 
@@ -126,6 +185,7 @@ public class ConfigAppTest implements
      *
      * @param dataSource       {@link DataSource}
      * @param jpaVendorAdapter {@link JpaVendorAdapter}
+     * @param cacheManager     {@link CacheManager}
      * @return {@link LocalContainerEntityManagerFactoryBean}
      * that supports links to an existing JDBC {@link DataSource},
      * supports both local and global transactions.
@@ -133,16 +193,35 @@ public class ConfigAppTest implements
     @Bean
     public LocalContainerEntityManagerFactoryBean entityManagerFactory(
             final DataSource dataSource,
-            final JpaVendorAdapter jpaVendorAdapter) {
+            final JpaVendorAdapter jpaVendorAdapter,
+            final CacheManager cacheManager) {
         LocalContainerEntityManagerFactoryBean managerFactory =
                 new LocalContainerEntityManagerFactoryBean();
         managerFactory.setDataSource(dataSource);
         managerFactory.setJpaVendorAdapter(jpaVendorAdapter);
         managerFactory.setPackagesToScan("com.domain");
+        managerFactory.getJpaPropertyMap().putAll(
+                CacheConfig.hibernateProperties(cacheManager));
         return managerFactory;
     }
 
 
+    /**
+     * This method creates {@link HibernateMetrics} which reads
+     * statistics of Hibernate.
+     *
+     * @param factory {@link EntityManagerFactory}.
+     * @return {@link HibernateMetrics}.
+     */
+    @Bean
+    public HibernateMetrics hibernateMetrics(
+            final EntityManagerFactory factory) {
+        HibernateMetrics metrics = new HibernateMetrics(factory);
+        metrics.bindTo(metricsRegistry());
+        return metrics;
+    }
+
+
     /**
      * This method allows to plug in vendor-specific behavior into Spring's
      * {@link EntityManagerFactory} creators.
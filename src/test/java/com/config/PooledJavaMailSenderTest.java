@@ -0,0 +1,307 @@
+package com.config;
+
+import com.constant.NumberConstant;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.mail.MailSendException;
+
+import javax.mail.Address;
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Properties;
+
+/**
+ * This is a class for testing the class of the
+ * {@link PooledJavaMailSender} and its methods with mocked
+ * {@link Transport} instead of SMTP server.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+public class PooledJavaMailSenderTest {
+
+
+    /**
+     * This is constant with maximum number of messages of one
+     * connection in the tests.
+     */
+    private static final int MESSAGES_BY_CONNECTION = 2;
+
+
+    /**
+     * This is constant with size of the pool in the tests.
+     */
+    private static final int POOL_SIZE = 2;
+
+
+    /**
+     * This is constant with idle timeout of the tests, connections
+     * do not expire while a test runs.
+     */
+    private static final long IDLE_TIMEOUT = 60000;
+
+
+    /**
+     * Field {@link Session} of the messages.
+     */
+    private final Session session = Session.getInstance(new Properties());
+
+
+    /**
+     * Field {@link TestSender} under test.
+     */
+    private TestSender sender;
+
+
+    /**
+     * This is method which creates the sender before every test.
+     */
+    @Before
+    public void init() {
+        sender = new TestSender();
+    }
+
+
+    /**
+     * This is a test method that tests that a connection is closed
+     * after it sent maximum number of messages and new one is opened
+     * for the next messages.
+     *
+     * @throws MessagingException if a message can not be created.
+     */
+    @Test
+    public void shouldRotateConnectionAfterMaxMessages()
+            throws MessagingException {
+        Transport first = sender.willConnect();
+        Transport second = sender.willConnect();
+        Transport third = sender.willConnect();
+
+        sender.send(message(), message(), message(), message(), message());
+
+        Assert.assertEquals(NumberConstant.THREE_NUMBER, sender.connects);
+        verifySent(first, MESSAGES_BY_CONNECTION);
+        verifySent(second, MESSAGES_BY_CONNECTION);
+        verifySent(third, 1);
+        Mockito.verify(first).close();
+        Mockito.verify(second).close();
+        Mockito.verify(third, Mockito.never()).close();
+    }
+
+
+    /**
+     * This is a test method that tests that an idle connection of
+     * the pool is used by the next send instead of new one and is
+     * closed when it is released with maximum number of messages.
+     *
+     * @throws MessagingException if a message can not be created.
+     */
+    @Test
+    public void shouldReuseReleasedConnection() throws MessagingException {
+        Transport transport = sender.willConnect();
+
+        sender.send(message());
+        Mockito.verify(transport, Mockito.never()).close();
+        sender.send(message());
+
+        Assert.assertEquals(1, sender.connects);
+        verifySent(transport, MESSAGES_BY_CONNECTION);
+        Mockito.verify(transport).close();
+    }
+
+
+    /**
+     * This is a test method that tests that a message with wrong
+     * recipients is failed and the connection is kept for the next
+     * messages.
+     *
+     * @throws MessagingException if a message can not be created.
+     */
+    @Test
+    public void shouldKeepConnectionWhenRecipientsAreRejected()
+            throws MessagingException {
+        Transport transport = sender.willConnect();
+        MimeMessage rejected = message();
+        MimeMessage accepted = message();
+        Mockito.doThrow(new SendFailedException("Invalid address"))
+                .when(transport).sendMessage(Mockito.eq(rejected),
+                Mockito.any(Address[].class));
+
+        MailSendException exception = sendFailing(rejected, accepted);
+
+        Assert.assertEquals(1, exception.getFailedMessages().size());
+        Assert.assertTrue(exception.getFailedMessages()
+                .containsKey(rejected));
+        Assert.assertEquals(1, sender.connects);
+        Mockito.verify(transport).sendMessage(Mockito.eq(accepted),
+                Mockito.any(Address[].class));
+    }
+
+
+    /**
+     * This is a test method that tests that a connection which failed
+     * not because of recipients is replaced and only its message
+     * is failed.
+     *
+     * @throws MessagingException if a message can not be created.
+     */
+    @Test
+    public void shouldReplaceConnectionWhenSendFails()
+            throws MessagingException {
+        Transport broken = sender.willConnect();
+        Transport replacement = sender.willConnect();
+        MimeMessage failed = message();
+        MimeMessage sent = message();
+        Mockito.doThrow(new MessagingException("Connection reset"))
+                .when(broken).sendMessage(Mockito.eq(failed),
+                Mockito.any(Address[].class));
+
+        MailSendException exception = sendFailing(failed, sent);
+
+        Assert.assertEquals(1, exception.getFailedMessages().size());
+        Assert.assertTrue(exception.getFailedMessages().containsKey(failed));
+        Assert.assertEquals(2, sender.connects);
+        Mockito.verify(broken).close();
+        Mockito.verify(replacement).sendMessage(Mockito.eq(sent),
+                Mockito.any(Address[].class));
+    }
+
+
+    /**
+     * This is a test method that tests that all messages which were not
+     * sent yet are failed when the server can not be connected.
+     *
+     * @throws MessagingException if a message can not be created.
+     */
+    @Test
+    public void shouldFailRemainingMessagesWhenConnectFails()
+            throws MessagingException {
+        Transport transport = sender.willConnect();
+        MimeMessage sent = message();
+        MimeMessage second = message();
+        MimeMessage third = message();
+        MimeMessage fourth = message();
+
+        MailSendException exception = sendFailing(sent, second, third,
+                fourth);
+
+        Assert.assertEquals(2, sender.connects);
+        verifySent(transport, MESSAGES_BY_CONNECTION);
+        Assert.assertEquals(2, exception.getFailedMessages().size());
+        Assert.assertTrue(exception.getFailedMessages().containsKey(third));
+        Assert.assertTrue(exception.getFailedMessages()
+                .containsKey(fourth));
+        Assert.assertFalse(exception.getFailedMessages().containsKey(sent));
+    }
+
+
+    /**
+     * This method sends the messages and returns the exception
+     * of failed messages.
+     *
+     * @param messages messages to send.
+     * @return {@link MailSendException}.
+     */
+    private MailSendException sendFailing(final MimeMessage... messages) {
+        try {
+            sender.send(messages);
+        } catch (MailSendException e) {
+            return e;
+        }
+        throw new AssertionError("Messages are sent without failures");
+    }
+
+
+    /**
+     * This method checks number of messages sent by the connection.
+     *
+     * @param transport {@link Transport}.
+     * @param count     number of messages.
+     * @throws MessagingException never, it is declared by the mock.
+     */
+    private static void verifySent(final Transport transport,
+                                   final int count)
+            throws MessagingException {
+        Mockito.verify(transport, Mockito.times(count)).sendMessage(
+                Mockito.any(Message.class), Mockito.any(Address[].class));
+    }
+
+
+    /**
+     * This method creates a message with one recipient.
+     *
+     * @return {@link MimeMessage}.
+     * @throws MessagingException if the message can not be created.
+     */
+    private MimeMessage message() throws MessagingException {
+        MimeMessage message = new MimeMessage(session);
+        message.setFrom(new InternetAddress("board@example.com"));
+        message.setRecipient(Message.RecipientType.TO,
+                new InternetAddress("author@example.com"));
+        message.setSubject("Subject");
+        message.setText("Text");
+        return message;
+    }
+
+
+    /**
+     * Class {@link TestSender} is {@link PooledJavaMailSender} which
+     * connects mocked transports in the given order and fails to connect
+     * when there are no more of them.
+     */
+    private static final class TestSender extends PooledJavaMailSender {
+
+        /**
+         * Field with transports returned by the next connects.
+         */
+        private final Deque<Transport> transports = new ArrayDeque<>();
+
+        /**
+         * Field with number of connects.
+         */
+        private int connects;
+
+        /**
+         * This is constructor {@link TestSender}.
+         */
+        private TestSender() {
+            super(POOL_SIZE, MESSAGES_BY_CONNECTION, IDLE_TIMEOUT);
+        }
+
+        /**
+         * This method adds connected transport for the next connect.
+         *
+         * @return mocked {@link Transport}.
+         */
+        private Transport willConnect() {
+            Transport transport = Mockito.mock(Transport.class);
+            Mockito.when(transport.isConnected()).thenReturn(true);
+            transports.addLast(transport);
+            return transport;
+        }
+
+        /**
+         * This method returns the next transport instead of connecting
+         * to SMTP server.
+         *
+         * @return {@link Transport}.
+         * @throws MessagingException when there are no more transports.
+         */
+        @Override
+        protected Transport connectTransport() throws MessagingException {
+            connects++;
+            if (transports.isEmpty()) {
+                throw new MessagingException("Connection refused");
+            }
+            return transports.removeFirst();
+        }
+    }
+}
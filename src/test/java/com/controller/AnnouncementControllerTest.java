@@ -2,15 +2,20 @@ package com.controller;
 
 import com.config.ConfigAppTest;
 import com.constant.NumberConstant;
+import com.constant.ValidationConstants;
 import com.domain.Author;
 import com.domain.Heading;
 import com.dto.AnnouncementDto;
+import com.dto.AnnouncementPageDto;
 import com.dto.HeadingDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.exception.custom_exception.PaginationCursorException;
 import com.exception.handler.CustomExceptionHandler;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.service.AnnouncementArchiveService;
 import com.service.AnnouncementService;
+import org.hamcrest.Matchers;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -23,23 +28,31 @@ import org.mockito.MockitoAnnotations;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import javax.validation.Validator;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 
 import java.time.LocalDate;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -63,6 +76,13 @@ public class AnnouncementControllerTest {
     @Mock
     private AnnouncementService announcementService;
 
+
+    /**
+     * This is mock field {@link AnnouncementArchiveService}.
+     */
+    @Mock
+    private AnnouncementArchiveService announcementArchiveService;
+
     /**
      * This is field {@link AnnouncementController}.
      */
@@ -92,6 +112,24 @@ public class AnnouncementControllerTest {
                 .setControllerAdvice(new CustomExceptionHandler())
                 .build();
         announcementController.setValidator(validator);
+        announcementController.setAsyncReads(
+                new AsyncReads(new SyncTaskExecutor(), true));
+        announcementController.setArchiveService(announcementArchiveService);
+    }
+
+
+    /**
+     * This is method which performs the request to a read operation of
+     * {@link AsyncReads} and dispatches its asynchronous result.
+     *
+     * @param request {@link RequestBuilder}.
+     * @return {@link ResultActions} of the dispatched result.
+     * @throws Exception can throw.
+     */
+    private ResultActions performAsync(final RequestBuilder request)
+            throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        return mockMvc.perform(asyncDispatch(result));
     }
 
 
@@ -179,7 +217,7 @@ public class AnnouncementControllerTest {
                 .find(ArgumentMatchers.anyInt());
 
 
-        mockMvc.perform(get("/announcement/announcements/{id}", 1))
+        performAsync(get("/announcement/announcements/{id}", 1))
                 .andDo(print())
                 .andExpect(status().isFound())
                 .andExpect(jsonPath("id").value(0))
@@ -210,7 +248,7 @@ public class AnnouncementControllerTest {
         Mockito.doReturn(null).when(announcementService)
                 .find(ArgumentMatchers.anyInt());
 
-        mockMvc.perform(get("/announcement/announcements/{id}", 1))
+        performAsync(get("/announcement/announcements/{id}", 1))
                 .andDo(print())
                 .andExpect(status().isNoContent())
                 .andReturn();
@@ -329,7 +367,7 @@ public class AnnouncementControllerTest {
         Mockito.doReturn(listOfAnnouncements).when(announcementService)
                 .getAllByHeadingId(ArgumentMatchers.anyInt());
 
-        mockMvc.perform(get("/announcement/announcements/"
+        performAsync(get("/announcement/announcements/"
                         + "{id}/get-by-heading-id",
                 1))
                 .andDo(print()).andExpect(status().isFound())
@@ -389,7 +427,7 @@ public class AnnouncementControllerTest {
         Mockito.doReturn(announcementsDto).when(announcementService)
                 .getAllByHeadingId(ArgumentMatchers.anyInt());
 
-        mockMvc.perform(get("/announcement/announcements/"
+        performAsync(get("/announcement/announcements/"
                         + "{id}/get-by-heading-id",
                 1))
                 .andDo(print())
@@ -413,7 +451,7 @@ public class AnnouncementControllerTest {
         Mockito.doReturn(listOfAnnouncements).when(announcementService)
                 .filterAllByDate(ArgumentMatchers.any(LocalDate.class));
 
-        mockMvc.perform(get("/announcement/announcements/"
+        performAsync(get("/announcement/announcements/"
                         + "filter-by?date=2020-09-14",
                 1)).andDo(print())
                 .andExpect(status().isFound())
@@ -473,7 +511,7 @@ public class AnnouncementControllerTest {
         Mockito.doReturn(announcementsDto).when(announcementService)
                 .filterAllByDate(ArgumentMatchers.any(LocalDate.class));
 
-        mockMvc.perform(
+        performAsync(
                 get("/announcement/announcements/filter-by?date=2020-07-25",
                         1))
                 .andDo(print())
@@ -498,7 +536,7 @@ public class AnnouncementControllerTest {
         Mockito.doReturn(listOfAnnouncements).when(announcementService)
                 .filterAllByRevelationText(ArgumentMatchers.anyString());
 
-        mockMvc.perform(
+        performAsync(
                 get("/announcement/announcements/"
                         + "filter-by-revelation?text=Try do something", 1))
                 .andDo(print())
@@ -560,7 +598,7 @@ public class AnnouncementControllerTest {
         Mockito.doReturn(announcementsDto).when(announcementService)
                 .filterAllByRevelationText(ArgumentMatchers.anyString());
 
-        mockMvc.perform(get("/announcement/announcements/"
+        performAsync(get("/announcement/announcements/"
                 + "filter-by-revelation?text=Try do something", 1))
                 .andDo(print())
                 .andExpect(status().isNoContent())
@@ -583,7 +621,7 @@ public class AnnouncementControllerTest {
                 .showSomeAnnouncementsPagination(ArgumentMatchers.anyInt(),
                         ArgumentMatchers.anyInt());
 
-        mockMvc.perform(get("/announcement/announcements/"
+        performAsync(get("/announcement/announcements/"
                         + "pagination?page=0&size=3",
                 1)).andDo(print()).andExpect(status().isFound())
                 .andExpect(jsonPath("$[0].id").value(0))
@@ -645,7 +683,7 @@ public class AnnouncementControllerTest {
                 .showSomeAnnouncementsPagination(ArgumentMatchers.anyInt(),
                         ArgumentMatchers.anyInt());
 
-        mockMvc.perform(get("/announcement/announcements/"
+        performAsync(get("/announcement/announcements/"
                         + "pagination?page=0&size=3",
                 1))
                 .andDo(print())
@@ -654,6 +692,210 @@ public class AnnouncementControllerTest {
     }
 
 
+    /**
+     * This is test method for testing
+     * {@link AnnouncementController#seekAnnouncements(String, int, String)}.
+     *
+     * @throws Exception can throw.
+     */
+    @Test
+    public void shouldSeekAnnouncements() throws Exception {
+
+        AnnouncementPageDto page = new AnnouncementPageDto(
+                createListOfAnnouncements(), "aTo0Mg");
+
+        Mockito.doReturn(page).when(announcementService)
+                .seekAnnouncements("aToz", NumberConstant.THREE_NUMBER, "id");
+
+        performAsync(get("/announcement/announcements/"
+                + "seek?after=aToz&size=3"))
+                .andDo(print())
+                .andExpect(status().isFound())
+                .andExpect(jsonPath("$.nextCursor").value("aTo0Mg"))
+                .andExpect(jsonPath("$.content[0].name")
+                        .value("Sell All phones"))
+                .andExpect(jsonPath("$.content[2].revelationText")
+                        .value("Try do something"))
+                .andReturn();
+    }
+
+
+    /**
+     * This is test method for testing
+     * {@link AnnouncementController#saveAll(List)} method.
+     *
+     * @throws Exception can throw.
+     */
+    @Test
+    public void shouldSaveAnnouncementsByBatch() throws Exception {
+
+        Mockito.doReturn(Arrays.asList(1, 2)).when(announcementService)
+                .saveAll(ArgumentMatchers.anyList());
+
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+
+        mockMvc.perform(post("/announcement/announcements/batch")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(mapper.writeValueAsString(Arrays.asList(
+                        createAndReturnCorrectAnnouncementDto(),
+                        createAndReturnCorrectAnnouncementDto()))))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$[1]").value(2));
+
+        mockMvc.perform(post("/announcement/announcements/batch")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(mapper.writeValueAsString(Arrays.asList(
+                        createAndReturnCorrectAnnouncementDto(),
+                        createAndReturnIncorrectAnnouncementDto()))))
+                .andDo(print())
+                .andExpect(status().isNotAcceptable());
+
+        mockMvc.perform(post("/announcement/announcements/batch")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(mapper.writeValueAsString(Arrays.asList(
+                        createAndReturnCorrectAnnouncementDto(), null))))
+                .andDo(print())
+                .andExpect(status().isNotAcceptable())
+                .andExpect(content().string(Matchers.containsString(
+                        "[1]: " + ValidationConstants
+                                .ANNOUNCEMENT_BATCH_ITEM_NULL)));
+
+        mockMvc.perform(post("/announcement/announcements/batch")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content("[]"))
+                .andDo(print())
+                .andExpect(status().isPayloadTooLarge());
+
+        Mockito.verify(announcementService, Mockito.times(1))
+                .saveAll(ArgumentMatchers.anyList());
+    }
+
+
+    /**
+     * This is test method for testing
+     * {@link AnnouncementController#getArchived(int)}.
+     *
+     * @throws Exception can throw.
+     */
+    @Test
+    public void shouldGetArchivedAnnouncement() throws Exception {
+
+        Mockito.doReturn(createAndReturnCorrectAnnouncementDto())
+                .when(announcementArchiveService).findArchived(1);
+
+        performAsync(get("/announcement/announcements/archive/1"))
+                .andDo(print())
+                .andExpect(status().isFound());
+
+        performAsync(get("/announcement/announcements/archive/2"))
+                .andDo(print())
+                .andExpect(status().isNoContent());
+    }
+
+
+    /**
+     * This is test method for testing
+     * {@link AnnouncementController#searchAnnouncements(String, int, int)}.
+     *
+     * @throws Exception can throw.
+     */
+    @Test
+    public void shouldSearchAnnouncements() throws Exception {
+
+        Mockito.doReturn(createListOfAnnouncements()).when(announcementService)
+                .searchAnnouncements("phon*", 0, NumberConstant.THREE_NUMBER);
+
+        performAsync(get("/announcement/announcements/"
+                + "search?query=phon*&size=3"))
+                .andDo(print())
+                .andExpect(status().isFound())
+                .andExpect(jsonPath("$[0].name").value("Sell All phones"))
+                .andExpect(jsonPath("$[2].revelationText")
+                        .value("Try do something"))
+                .andReturn();
+    }
+
+
+    /**
+     * This is test method for testing
+     * {@link AnnouncementController#exportAnnouncements(Integer, LocalDate,
+     * javax.servlet.http.HttpServletResponse)}.
+     *
+     * @throws Exception can throw.
+     */
+    @Test
+    public void shouldExportAnnouncements() throws Exception {
+
+        Mockito.doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(2).write(
+                    "{\"id\":1}\n{\"id\":2}\n"
+                            .getBytes(StandardCharsets.UTF_8));
+            return 2;
+        }).when(announcementService)
+                .exportAnnouncements(ArgumentMatchers.eq(1),
+                        ArgumentMatchers.isNull(), ArgumentMatchers.any());
+
+        mockMvc.perform(get("/announcement/announcements/"
+                + "export?headingId=1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content()
+                        .contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"))
+                .andReturn();
+    }
+
+
+    /**
+     * This is test method for testing
+     * {@link AnnouncementController#seekAnnouncements(String, int, String)}
+     * with broken cursor.
+     *
+     * @throws Exception can throw.
+     */
+    @Test
+    public void shouldSeekAnnouncementsWithBrokenCursor() throws Exception {
+
+        Mockito.doThrow(new PaginationCursorException("broken"))
+                .when(announcementService)
+                .seekAnnouncements(ArgumentMatchers.anyString(),
+                        ArgumentMatchers.anyInt(),
+                        ArgumentMatchers.anyString());
+
+        performAsync(get("/announcement/announcements/"
+                + "seek?after=broken"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andReturn();
+    }
+
+
+    /**
+     * This is test method for testing
+     * {@link AnnouncementController#get(int)} when all read workers
+     * are busy.
+     *
+     * @throws Exception can throw.
+     */
+    @Test
+    public void shouldRejectReadWhenReadWorkersAreBusy() throws Exception {
+
+        announcementController.setAsyncReads(new AsyncReads(task -> {
+            throw new TaskRejectedException("busy");
+        }, true));
+
+        mockMvc.perform(get("/announcement/announcements/{id}", 1))
+                .andDo(print())
+                .andExpect(status().isServiceUnavailable())
+                .andReturn();
+
+        Mockito.verifyNoInteractions(announcementService);
+    }
+
+
     /**
      * This is private method which's create List of announcementsDto which
      * will be use in the tests method.
@@ -24,11 +24,14 @@ import org.mockito.MockitoAnnotations;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import javax.validation.Validator;
@@ -91,6 +94,23 @@ public class AuthorControllerTest {
                 .setControllerAdvice(new CustomExceptionHandler())
                 .build();
         authorController.setValidator(validator);
+        authorController.setAsyncReads(
+                new AsyncReads(new SyncTaskExecutor(), true));
+    }
+
+
+    /**
+     * This is method which performs the request to a read operation of
+     * {@link AsyncReads} and dispatches its asynchronous result.
+     *
+     * @param request {@link RequestBuilder}.
+     * @return {@link ResultActions} of the dispatched result.
+     * @throws Exception can throw.
+     */
+    private ResultActions performAsync(final RequestBuilder request)
+            throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        return mockMvc.perform(asyncDispatch(result));
     }
 
 
@@ -166,7 +186,7 @@ public class AuthorControllerTest {
         Mockito.doReturn(authorDtoCorrect).when(authorService)
                 .find(ArgumentMatchers.anyInt());
 
-        mockMvc.perform(get("/author/authors/{id}", 1))
+        performAsync(get("/author/authors/{id}", 1))
                 .andDo(print())
                 .andExpect(status().isFound())
                 .andExpect(jsonPath("id").value(0))
@@ -205,7 +225,7 @@ public class AuthorControllerTest {
         Mockito.doReturn(null).when(authorService)
                 .find(ArgumentMatchers.anyInt());
 
-        mockMvc.perform(get("/author/authors/{id}", 1))
+        performAsync(get("/author/authors/{id}", 1))
                 .andDo(print())
                 .andExpect(status().isNotFound());
     }
@@ -16,11 +16,14 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 
@@ -84,6 +87,23 @@ public class HeadingControllerTest {
                 .setControllerAdvice(new CustomExceptionHandler())
                 .build();
         headingController.setValidator(validator);
+        headingController.setAsyncReads(
+                new AsyncReads(new SyncTaskExecutor(), true));
+    }
+
+
+    /**
+     * This is method which performs the request to a read operation of
+     * {@link AsyncReads} and dispatches its asynchronous result.
+     *
+     * @param request {@link RequestBuilder}.
+     * @return {@link ResultActions} of the dispatched result.
+     * @throws Exception can throw.
+     */
+    private ResultActions performAsync(final RequestBuilder request)
+            throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        return mockMvc.perform(asyncDispatch(result));
     }
 
 
@@ -154,7 +174,7 @@ public class HeadingControllerTest {
         Mockito.doReturn(car).when(headingService)
                 .find(ArgumentMatchers.anyInt());
 
-        mockMvc.perform(get("/heading/headings/{id}", 1))
+        performAsync(get("/heading/headings/{id}", 1))
                 .andDo(print())
                 .andExpect(status().isFound())
                 .andExpect(jsonPath("id").value(0))
@@ -176,7 +196,7 @@ public class HeadingControllerTest {
         Mockito.doReturn(null).when(headingService)
                 .find(ArgumentMatchers.anyInt());
 
-        mockMvc.perform(get("/heading/headings/{id}", 1))
+        performAsync(get("/heading/headings/{id}", 1))
                 .andDo(print())
                 .andExpect(status().isNoContent())
                 .andReturn();
@@ -0,0 +1,165 @@
+package com.controller;
+
+import com.config.ConfigAppTest;
+import com.domain.Author;
+import com.metrics.HibernateMetrics;
+import com.repository.AuthorRepository;
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * This is class for testing {@link InternalController}
+ * class and its methods of statistics of Hibernate.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = ConfigAppTest.class)
+@WebAppConfiguration
+@Sql(scripts = "classpath:scripts/truncate_tables/truncate_table_author.sql",
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+public class InternalControllerTest {
+
+
+    /**
+     * This is path of statistics of Hibernate.
+     */
+    private static final String HIBERNATE_STATISTICS =
+            "/internal/hibernate-statistics";
+
+
+    /**
+     * This is path of loads of {@link Author} in statistics
+     * of Hibernate.
+     */
+    private static final String AUTHOR_LOADS =
+            "$.entities[?(@.name == 'com.domain.Author')].loads";
+
+
+    /**
+     * This is field {@link InternalController}.
+     */
+    @Autowired
+    private InternalController internalController;
+
+
+    /**
+     * This is field {@link HibernateMetrics}.
+     */
+    @Autowired
+    private HibernateMetrics hibernateMetrics;
+
+
+    /**
+     * This is field {@link AuthorRepository}.
+     */
+    @Autowired
+    private AuthorRepository authorRepository;
+
+
+    /**
+     * This is field {@link EntityManagerFactory}.
+     */
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+
+    /**
+     * This is field {@link MockMvc}.
+     */
+    private MockMvc mockMvc;
+
+
+    /**
+     * This is method which configure and build {@link MockMvc} object.
+     */
+    @Before
+    public void setup() {
+        mockMvc = MockMvcBuilders.standaloneSetup(internalController)
+                .build();
+    }
+
+
+    /**
+     * This is method which turns statistics of Hibernate off after
+     * each test, as they are off by default.
+     */
+    @After
+    public void disableStatistics() {
+        hibernateMetrics.setEnabled(false);
+        hibernateMetrics.reset();
+    }
+
+
+    /**
+     * This is test method for testing that statistics of Hibernate are
+     * turned on by {@link InternalController#setHibernateStatsEnabled},
+     * count loads of {@link Author} and are cleared by
+     * {@link InternalController#resetHibernateStats()}.
+     *
+     * @throws Exception can throw.
+     */
+    @Test
+    public void shouldCountEntityLoadsAndReset() throws Exception {
+        Author author = new Author("Statistics");
+        author.setActive(true);
+        author.setLastName("Bahlay");
+        author.setPassword("11111");
+        authorRepository.save(author);
+
+        mockMvc.perform(put(HIBERNATE_STATISTICS)
+                .param("enabled", "true"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("enabled").value(true));
+        mockMvc.perform(delete(HIBERNATE_STATISTICS))
+                .andExpect(status().isNoContent());
+
+        entityManagerFactory.getCache().evict(Author.class);
+        EntityManager entityManager = entityManagerFactory
+                .createEntityManager();
+        try {
+            entityManager.find(Author.class, author.getId());
+        } finally {
+            entityManager.close();
+        }
+
+        mockMvc.perform(get(HIBERNATE_STATISTICS))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("entityLoads")
+                        .value(Matchers.greaterThan(0)))
+                .andExpect(jsonPath(AUTHOR_LOADS, Matchers.contains(
+                        Matchers.greaterThan(0))));
+
+        mockMvc.perform(delete(HIBERNATE_STATISTICS))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get(HIBERNATE_STATISTICS))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("entityLoads").value(0))
+                .andExpect(jsonPath(AUTHOR_LOADS, Matchers.contains(0)));
+    }
+}
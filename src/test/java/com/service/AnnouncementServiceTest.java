@@ -2,13 +2,18 @@ package com.service;
 
 import com.config.ConfigAppTest;
 import com.constant.NumberConstant;
+import com.constant.ValidationConstants;
 import com.domain.Announcement;
 import com.domain.Author;
 import com.domain.Heading;
+import com.domain.enums.OutboxStatus;
 import com.dto.AnnouncementDto;
 import com.dto.HeadingDto;
+import com.metrics.SqlProfile;
+import com.metrics.SqlProfiler;
 import com.repository.AnnouncementRepository;
 import com.repository.AuthorRepository;
+import com.repository.EmailOutboxRepository;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -20,11 +25,17 @@ import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.test.context.web.WebAppConfiguration;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 
 import java.time.LocalDate;
 
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -43,11 +54,24 @@ import java.util.List;
 @Sql(scripts =
         {"classpath:scripts/truncate_tables/truncate_table_announcement.sql",
                 "classpath:scripts/truncate_tables/truncate_table_author.sql",
-                "classpath:scripts/truncate_tables/truncate_table_heading.sql"},
+                "classpath:scripts/truncate_tables/truncate_table_heading.sql",
+                "classpath:scripts/truncate_tables/"
+                        + "truncate_table_email_outbox.sql",
+                "classpath:scripts/truncate_tables/"
+                        + "truncate_table_purge_checkpoint.sql",
+                "classpath:scripts/truncate_tables/"
+                        + "truncate_table_announcement_archive.sql"},
         executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 public class AnnouncementServiceTest {
 
 
+    /**
+     * This is number of announcements on the page of the test of
+     * statements of a page.
+     */
+    private static final int PAGE_SIZE = 21;
+
+
     /**
      * This is a field for injection
      * {@link AnnouncementService} in this class.
@@ -56,6 +80,14 @@ public class AnnouncementServiceTest {
     private AnnouncementService announcementService;
 
 
+    /**
+     * This is a field for injection {@link AnnouncementArchiveService}
+     * in this class.
+     */
+    @Autowired
+    private AnnouncementArchiveService announcementArchiveService;
+
+
     /**
      * This is a field for injection {@link HeadingService} in this class.
      */
@@ -85,6 +117,29 @@ public class AnnouncementServiceTest {
     private AnnouncementRepository announcementRepository;
 
 
+    /**
+     * This is a field for injection {@link EmailOutboxRepository}
+     * in this class.
+     */
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+
+    /**
+     * This is a field for injection {@link EntityManagerFactory}
+     * in this class.
+     */
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+
+    /**
+     * This is a field for injection {@link SqlProfiler} in this class.
+     */
+    @Autowired
+    private SqlProfiler sqlProfiler;
+
+
     /**
      * This is {@link org.modelmapper.ModelMapper} for mapping
      * object.
@@ -183,6 +238,227 @@ public class AnnouncementServiceTest {
     }
 
 
+    /**
+     * This is a test method that tests that
+     * {@link AnnouncementService#save(Object)} writes pending
+     * outbox row instead of sending emails.
+     */
+    @Test
+    public void shouldWritePendingOutboxRowOnSave() {
+        Assert.assertEquals(1, emailOutboxRepository
+                .countByStatus(OutboxStatus.PENDING));
+    }
+
+
+    /**
+     * This is a test method that tests that
+     * {@link AnnouncementService#searchAnnouncements(String, int, int)}
+     * finds saved announcement by a word and by a prefix.
+     */
+    @Test
+    public void shouldSearchSavedAnnouncement() {
+        compareTwoAnnouncementDto(announcementDto, announcementService
+                .searchAnnouncements("go", 0, 1).get(0));
+        compareTwoAnnouncementDto(announcementDto, announcementService
+                .searchAnnouncements("wonn*", 0, 1).get(0));
+        Assert.assertTrue(announcementService
+                .searchAnnouncements("wonn", 0, 1).isEmpty());
+    }
+
+
+    /**
+     * This is a test method that tests that
+     * {@link AnnouncementService#searchAnnouncements(String, int, int)}
+     * returns no announcements for a page beyond the results limit,
+     * even when number of the page overflows int.
+     */
+    @Test
+    public void shouldSearchNothingBeyondLastPage() {
+        Assert.assertTrue(announcementService
+                .searchAnnouncements("go", Integer.MAX_VALUE, 1).isEmpty());
+        Assert.assertTrue(announcementService
+                .searchAnnouncements("go", Integer.MAX_VALUE,
+                        ValidationConstants.SEARCH_PAGE_SIZE_MAX).isEmpty());
+        Assert.assertTrue(announcementService
+                .searchAnnouncements("go", Integer.MAX_VALUE / 2,
+                        NumberConstant.THREE_NUMBER).isEmpty());
+    }
+
+
+    /**
+     * This is a test method that tests that
+     * {@link AnnouncementService#exportAnnouncements(Integer, LocalDate,
+     * java.io.OutputStream)} writes one line per announcement.
+     *
+     * @throws IOException can throw.
+     */
+    @Test
+    public void shouldExportAnnouncementsAsLines() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Assert.assertEquals(1, announcementService
+                .exportAnnouncements(1, null, out));
+
+        String[] lines = new String(out.toByteArray(),
+                StandardCharsets.UTF_8).split("\n");
+        Assert.assertEquals(1, lines.length);
+        Assert.assertTrue(lines[0].contains("\"name\":\"Announcement\""));
+        Assert.assertEquals(0, announcementService
+                .exportAnnouncements(2, null, new ByteArrayOutputStream()));
+    }
+
+
+    /**
+     * This is a test method that tests that
+     * {@link AnnouncementService#deleteAnnouncementWhichIsNonActive()}
+     * deletes only inactive announcements and removes them from search.
+     */
+    @Test
+    public void shouldPurgeInactiveAnnouncements() {
+        Assert.assertEquals(0, announcementService
+                .deleteAnnouncementWhichIsNonActive());
+
+        announcementDto.setActive(false);
+        announcementService.update(announcementDto);
+
+        Assert.assertEquals(1, announcementService
+                .deleteAnnouncementWhichIsNonActive());
+        Assert.assertFalse(announcementRepository.findById(1).isPresent());
+        Assert.assertTrue(announcementService
+                .searchAnnouncements("go", 0, 1).isEmpty());
+        Assert.assertEquals(0, announcementService
+                .deleteAnnouncementWhichIsNonActive());
+    }
+
+
+    /**
+     * This is a test method that tests that
+     * {@link AnnouncementService#saveAll(List)} saves announcements
+     * with generated ids and pending outbox rows for them.
+     */
+    @Test
+    public void shouldSaveAnnouncementsByBatch() {
+        List<AnnouncementDto> announcements = new ArrayList<>();
+        for (String name : Arrays.asList("Batch one", "Batch two",
+                "Batch three")) {
+            announcements.add(AnnouncementDto.builder()
+                    .name(name)
+                    .revelationText(announcementDto.getRevelationText())
+                    .publicationDate(announcementDto.getPublicationDate())
+                    .active(true)
+                    .serviceCost(announcementDto.getServiceCost())
+                    .heading(announcementDto.getHeading())
+                    .author(announcementDto.getAuthor())
+                    .build());
+        }
+
+        Assert.assertEquals(Arrays.asList(2, 3, 4),
+                announcementService.saveAll(announcements));
+
+        Assert.assertEquals("Batch two",
+                announcementService.find(3).getName());
+        Assert.assertEquals(4, emailOutboxRepository
+                .countByStatus(OutboxStatus.PENDING));
+        Assert.assertEquals(3, announcementService
+                .searchAnnouncements("batch", 0, 10).size());
+    }
+
+
+    /**
+     * This is a test method that tests that
+     * {@link AnnouncementService#showSomeAnnouncementsPagination(int, int)}
+     * executes as many SQL statements for a page of many announcements
+     * as for a page of one, so there is no query per announcement.
+     */
+    @Test
+    public void shouldGetPageOfAnnouncementsWithoutQueryPerAnnouncement() {
+        List<AnnouncementDto> announcements = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE - 1; i++) {
+            announcements.add(AnnouncementDto.builder()
+                    .name("Page " + i)
+                    .revelationText(announcementDto.getRevelationText())
+                    .publicationDate(announcementDto.getPublicationDate())
+                    .active(true)
+                    .serviceCost(announcementDto.getServiceCost())
+                    .heading(announcementDto.getHeading())
+                    .author(announcementDto.getAuthor())
+                    .build());
+        }
+        announcementService.saveAll(announcements);
+        announcementService.showSomeAnnouncementsPagination(0, 1);
+
+        SqlProfile one = sqlProfiler.profile(() -> Assert.assertEquals(1,
+                announcementService.showSomeAnnouncementsPagination(0, 1)
+                        .size()));
+        SqlProfile many = sqlProfiler.profile(() -> Assert.assertEquals(
+                PAGE_SIZE, announcementService
+                        .showSomeAnnouncementsPagination(0, PAGE_SIZE)
+                        .size()));
+
+        Assert.assertTrue(one.getStatements() > 0);
+        Assert.assertEquals(one.getStatements(), many.getStatements());
+    }
+
+
+    /**
+     * This is a test method that tests that
+     * {@link AnnouncementArchiveService#archiveExpiredAnnouncements()}
+     * moves only expired announcements to the archive where they
+     * are found by id.
+     */
+    @Test
+    public void shouldArchiveExpiredAnnouncements() {
+        announcementDto.setId(0);
+        announcementDto.setName("Expired");
+        announcementDto.setPublicationDate(LocalDate.now()
+                .minusYears(1));
+        announcementService.save(announcementDto);
+
+        Assert.assertEquals(1, announcementArchiveService
+                .archiveExpiredAnnouncements());
+
+        Assert.assertNotNull(announcementService.find(1));
+        Assert.assertNull(announcementService.find(2));
+        Assert.assertNull(announcementArchiveService.findArchived(1));
+        AnnouncementDto archived = announcementArchiveService
+                .findArchived(2);
+        Assert.assertEquals("Expired", archived.getName());
+        Assert.assertEquals(1, archived.getHeading().getId());
+        Assert.assertEquals(0, announcementArchiveService
+                .archiveExpiredAnnouncements());
+    }
+
+
+    /**
+     * This is a test method that tests that a batch of
+     * {@link AnnouncementArchiveService#archiveExpiredAnnouncements()}
+     * does not evict headings from the second level cache.
+     */
+    @Test
+    public void shouldKeepCachedHeadingWhenArchiving() {
+        announcementDto.setId(0);
+        announcementDto.setName("Expired");
+        announcementDto.setPublicationDate(LocalDate.now()
+                .minusYears(1));
+        announcementService.save(announcementDto);
+        EntityManager entityManager = entityManagerFactory
+                .createEntityManager();
+        try {
+            Assert.assertNotNull(entityManager.find(Heading.class, 1));
+        } finally {
+            entityManager.close();
+        }
+        Assert.assertTrue(entityManagerFactory.getCache()
+                .contains(Heading.class, 1));
+
+        Assert.assertEquals(1, announcementArchiveService
+                .archiveExpiredAnnouncements());
+
+        Assert.assertTrue(entityManagerFactory.getCache()
+                .contains(Heading.class, 1));
+    }
+
+
     /**
      * This is a test method that tests for updating of
      * {@link AnnouncementService#update(Object)} in the database.
@@ -253,7 +529,7 @@ public class AnnouncementServiceTest {
 
         Announcement announcementOne = new Announcement(0, 0,
                 "Tomas", LocalDate.now(), "I wonna go",
-                true, serviceCost, heading, author);
+                true, serviceCost, heading, author, null);
 
         authorService.deleteAnnouncementsByAuthorId(1);
 
@@ -367,12 +643,12 @@ public class AnnouncementServiceTest {
 
         Announcement announcementOne = new Announcement(0, 0,
                 "Tomasadafefd", LocalDate.now(), "I wonna go",
-                true, serviceCost, headingOne, author);
+                true, serviceCost, headingOne, author, null);
 
 
         Announcement announcementTwo = new Announcement(0, 0,
                 "Tomasadafefd", LocalDate.now(), "I wonna go",
-                true, serviceCost, headingOne, author);
+                true, serviceCost, headingOne, author, null);
 
         final AnnouncementDto announcementDtoOne = modelMapper
                 .map(announcementOne, AnnouncementDto.class);
@@ -1,6 +1,7 @@
 package com.service;
 
 import com.config.ConfigAppTest;
+import com.dao.AuthorDao;
 import com.domain.Address;
 import com.domain.Author;
 import com.domain.Email;
@@ -9,6 +10,8 @@ import com.domain.Role;
 import com.domain.enums.ROLE;
 import com.dto.AuthorDto;
 import com.repository.AuthorRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -20,6 +23,8 @@ import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.test.context.web.WebAppConfiguration;
 
+import javax.persistence.EntityManagerFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -43,6 +48,26 @@ import java.util.stream.Collectors;
 public class AuthorServiceTest {
 
 
+    /**
+     * This is number of emails, phones and addresses of the author
+     * with many contacts.
+     */
+    private static final int CONTACTS = 20;
+
+
+    /**
+     * This is maximum number of statements of
+     * {@link AuthorDao#find(int)}, one for every fetched collection.
+     */
+    private static final int FIND_STATEMENTS = 4;
+
+
+    /**
+     * This is maximum time of {@link AuthorDao#find(int)} in milliseconds.
+     */
+    private static final long FIND_MAX_MILLIS = 500;
+
+
     /**
      * This is a field for injection {@link AuthorService} in this class.
      */
@@ -57,6 +82,21 @@ public class AuthorServiceTest {
     private AuthorRepository authorRepository;
 
 
+    /**
+     * This is a field for injection {@link AuthorDao} in this class.
+     */
+    @Autowired
+    private AuthorDao authorDao;
+
+
+    /**
+     * This is a field for injection {@link EntityManagerFactory}
+     * in this class, its statistics count statements.
+     */
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+
     /**
      * This is a field {@link Author} we use it for testing too.
      */
@@ -162,6 +202,71 @@ public class AuthorServiceTest {
     }
 
 
+    /**
+     * This is a test method that tests that {@link AuthorDao#find(int)}
+     * of the author with many contacts and without roles reads every
+     * contact once by few statements instead of the product of all
+     * collections.
+     */
+    @Test
+    public void shouldFindAuthorWithManyContactsByFewStatements() {
+        final Author many = new Author("Many");
+
+        many.setLastName("Contacts");
+
+        many.setPassword("2222222");
+
+        many.setActive(true);
+
+        for (int i = 0; i < CONTACTS; i++) {
+            many.addEmail(new Email(0, 0, "many" + i + "@mail.com", many));
+
+            many.addPhone(new Phone(0, 0,
+                    String.format("0671000%02d", i), many));
+
+            many.addAddress(new Address(0, 0, "street " + i, many));
+        }
+
+        authorDao.save(many);
+
+        authorDao.find(many.getId());
+
+        final Statistics statistics = entityManagerFactory
+                .unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+
+        statistics.setStatisticsEnabled(true);
+
+        final long start = System.nanoTime();
+
+        final Author found = authorDao.find(many.getId());
+
+        final long millis = TimeUnit.NANOSECONDS
+                .toMillis(System.nanoTime() - start);
+
+        statistics.setStatisticsEnabled(false);
+
+        Assert.assertNotNull(found);
+
+        Assert.assertEquals(CONTACTS, found.getEmails().size());
+
+        Assert.assertEquals(CONTACTS, found.getPhones().size());
+
+        Assert.assertEquals(CONTACTS, found.getAddresses().size());
+
+        Assert.assertTrue(found.getRoles().isEmpty());
+
+        Assert.assertEquals(1 + 3 * CONTACTS,
+                statistics.getEntityLoadCount());
+
+        Assert.assertTrue(statistics.getPrepareStatementCount()
+                <= FIND_STATEMENTS);
+
+        Assert.assertTrue(millis < FIND_MAX_MILLIS);
+    }
+
+
     /**
      * This is a test method that tests for updating of
      * {@link AuthorService#update(Object)} in the database.
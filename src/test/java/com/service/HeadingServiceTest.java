@@ -122,6 +122,19 @@ public class HeadingServiceTest {
     }
 
 
+    /**
+     * This is a test method that tests that deleted heading is evicted
+     * from the cache of {@link HeadingService#find(int)}.
+     */
+    @Test
+    public void shouldNotFindDeletedHeadingInCache() {
+
+        headingService.delete(1);
+
+        Assert.assertNull(headingService.find(1));
+    }
+
+
     /**
      * This is a test method that tests for deleting of
      * {@link HeadingService#deleteHeading(int)} in the database.
@@ -0,0 +1,212 @@
+package com.service;
+
+import com.config.ConfigAppTest;
+import com.domain.JobLease;
+import com.domain.JobRun;
+import com.domain.enums.JobStatus;
+import com.repository.JobLeaseRepository;
+import com.repository.JobRunRepository;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * This is a class for testing the class of the
+ * {@link JobCoordinator} and its method.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@SpringJUnitConfig(ConfigAppTest.class)
+@WebAppConfiguration
+@Sql(scripts = {
+        "classpath:scripts/truncate_tables/truncate_table_job_lease.sql",
+        "classpath:scripts/truncate_tables/truncate_table_job_run.sql"},
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+public class JobCoordinatorTest {
+
+
+    /**
+     * This is name of the job of the tests.
+     */
+    private static final String JOB = "test_job";
+
+
+    /**
+     * This is number of rows affected by the job of the tests.
+     */
+    private static final long ROWS = 7;
+
+
+    /**
+     * This is id of other node of the tests.
+     */
+    private static final String OTHER_NODE = "other-node";
+
+
+    /**
+     * This is a field for injection {@link JobCoordinator} in this class.
+     */
+    @Autowired
+    private JobCoordinator jobCoordinator;
+
+
+    /**
+     * This is a field for injection {@link JobLeaseRepository}
+     * in this class.
+     */
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+
+    /**
+     * This is a field for injection {@link JobRunRepository}
+     * in this class.
+     */
+    @Autowired
+    private JobRunRepository jobRunRepository;
+
+
+    /**
+     * This is a test method that tests that {@link JobCoordinator#run}
+     * runs the job again after the previous run and writes every run
+     * to the history.
+     */
+    @Test
+    public void shouldRunJobAndWriteHistory() {
+        jobCoordinator.register(JOB, leaseHeld -> ROWS);
+
+        Assert.assertEquals(ROWS, jobCoordinator.run(JOB));
+        Assert.assertEquals(ROWS, jobCoordinator.run(JOB));
+
+        List<JobRun> runs = jobRunRepository.findTop20ByJobOrderByIdDesc(JOB);
+        Assert.assertEquals(2, runs.size());
+        Assert.assertEquals(JobStatus.SUCCEEDED, runs.get(0).getStatus());
+        Assert.assertEquals(ROWS, runs.get(0).getRows());
+        Assert.assertNotNull(runs.get(0).getFinishedAt());
+    }
+
+
+    /**
+     * This is a test method that tests that the job is not run while
+     * other node holds its lease and is run when the lease expires.
+     */
+    @Test
+    public void shouldSkipJobWhileOtherNodeHoldsLease() {
+        jobCoordinator.register(JOB, leaseHeld -> {
+            throw new IllegalStateException("Job must not run");
+        });
+        jobLeaseRepository.save(new JobLease(JOB, OTHER_NODE,
+                LocalDateTime.now().plusDays(1)));
+
+        Assert.assertEquals(0, jobCoordinator.run(JOB));
+        Assert.assertTrue(jobRunRepository.findTop20ByJobOrderByIdDesc(JOB)
+                .isEmpty());
+
+        jobCoordinator.register(JOB, leaseHeld -> ROWS);
+        jobLeaseRepository.save(new JobLease(JOB, OTHER_NODE,
+                LocalDateTime.now().minusDays(1)));
+
+        Assert.assertEquals(ROWS, jobCoordinator.run(JOB));
+        Assert.assertNotEquals(OTHER_NODE, jobLeaseRepository
+                .findById(JOB).map(JobLease::getOwner).orElse(null));
+    }
+
+
+    /**
+     * This is a test method that tests that the job is not run by
+     * other trigger of the same node while it runs.
+     */
+    @Test
+    public void shouldSkipJobWhileItRunsOnSameNode() {
+        jobCoordinator.register(JOB, leaseHeld -> ROWS
+                + jobCoordinator.run(JOB));
+
+        Assert.assertEquals(ROWS, jobCoordinator.run(JOB));
+        Assert.assertEquals(1, jobRunRepository
+                .findTop20ByJobOrderByIdDesc(JOB).size());
+    }
+
+
+    /**
+     * This is a test method that tests that a job which throws
+     * an exception is written to the history as failed.
+     */
+    @Test
+    public void shouldWriteFailedRun() {
+        jobCoordinator.register(JOB, leaseHeld -> {
+            throw new IllegalStateException("Broken job");
+        });
+        try {
+            jobCoordinator.run(JOB);
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            Assert.assertEquals("Broken job", e.getMessage());
+        }
+
+        JobRun run = jobRunRepository.findTop20ByJobOrderByIdDesc(JOB)
+                .get(0);
+        Assert.assertEquals(JobStatus.FAILED, run.getStatus());
+        Assert.assertTrue(run.getError().contains("Broken job"));
+    }
+
+
+    /**
+     * This is a test method that tests that a job which lost its lease
+     * sees it, stops and is written to the history as lost.
+     */
+    @Test
+    public void shouldStopJobWhichLostLease() {
+        jobCoordinator.register(JOB, leaseHeld -> {
+            Assert.assertTrue(leaseHeld.getAsBoolean());
+            jobLeaseRepository.save(new JobLease(JOB, OTHER_NODE,
+                    LocalDateTime.now().plusDays(1)));
+            return leaseHeld.getAsBoolean() ? 0 : ROWS;
+        });
+
+        Assert.assertEquals(ROWS, jobCoordinator.run(JOB));
+
+        JobRun run = jobRunRepository.findTop20ByJobOrderByIdDesc(JOB)
+                .get(0);
+        Assert.assertEquals(JobStatus.LOST, run.getStatus());
+        Assert.assertEquals(OTHER_NODE, jobLeaseRepository
+                .findById(JOB).map(JobLease::getOwner).orElse(null));
+    }
+
+
+    /**
+     * This is a test method that tests that
+     * {@link JobCoordinator#resumeAbandoned()} resumes the job which
+     * run was not finished by a dead node only when its lease expired.
+     */
+    @Test
+    public void shouldResumeJobAbandonedByDeadNode() {
+        jobCoordinator.register(JOB, leaseHeld -> ROWS);
+        jobRunRepository.save(new JobRun(JOB, OTHER_NODE,
+                LocalDateTime.now().minusDays(1)));
+        jobLeaseRepository.save(new JobLease(JOB, OTHER_NODE,
+                LocalDateTime.now().plusDays(1)));
+
+        Assert.assertEquals(0, jobCoordinator.resumeAbandoned());
+
+        jobLeaseRepository.save(new JobLease(JOB, OTHER_NODE,
+                LocalDateTime.now().minusDays(1)));
+
+        Assert.assertEquals(1, jobCoordinator.resumeAbandoned());
+        List<JobRun> runs = jobRunRepository.findTop20ByJobOrderByIdDesc(JOB);
+        Assert.assertEquals(2, runs.size());
+        Assert.assertEquals(JobStatus.SUCCEEDED, runs.get(0).getStatus());
+        Assert.assertEquals(JobStatus.LOST, runs.get(1).getStatus());
+        Assert.assertEquals(0, jobCoordinator.resumeAbandoned());
+    }
+}
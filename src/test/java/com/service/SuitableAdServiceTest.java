@@ -6,6 +6,7 @@ import com.domain.Author;
 import com.domain.SuitableAd;
 import com.dto.AuthorDto;
 import com.dto.SuitableAdDto;
+import com.index.SuitableAdIndex;
 import com.repository.SuitableRepository;
 import com.service.impl.SuitableAdServiceImpl;
 import org.junit.Assert;
@@ -21,6 +22,7 @@ import org.springframework.test.context.web.WebAppConfiguration;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Collections;
 
 /**
  * This is a class for testing the class of the
@@ -64,6 +66,14 @@ public class SuitableAdServiceTest {
     private SuitableRepository suitableRepository;
 
 
+    /**
+     * This is a field for injection {@link SuitableAdIndex}
+     * in this class.
+     */
+    @Autowired
+    private SuitableAdIndex suitableAdIndex;
+
+
     /**
      * This is class {@link ModelMapper} for convert objects.
      */
@@ -186,6 +196,38 @@ public class SuitableAdServiceTest {
     }
 
 
+    /**
+     * This is a test method that tests that
+     * {@link SuitableAdServiceImpl#save(Object)} and
+     * {@link SuitableAdServiceImpl#delete(int)} change
+     * {@link SuitableAdIndex}.
+     */
+    @Test
+    public void shouldMatchSavedSuitableAdInIndex() {
+
+        suitableAdDto.setId(0);
+
+        suitableAdDto.setPriceFrom(new BigDecimal(NumberConstant.TWENTY)
+                .setScale(2, RoundingMode.UP));
+
+        suitableAdDto.setPriceTo(new BigDecimal(NumberConstant.
+                THREE_HUNDRED_AND_ELEVEN_NUMBER).setScale(2, RoundingMode.UP));
+
+        suitableAdService.save(suitableAdDto);
+
+        BigDecimal price = new BigDecimal(NumberConstant.THREE_HUNDRED);
+
+        Assert.assertEquals(Collections.singleton(1), suitableAdIndex
+                .match("suitablead create", "I WONT TO BUY", price));
+
+        suitableAdService.delete(2);
+
+        Assert.assertTrue(suitableAdIndex
+                .match("SuitableAd Create", "I wont to buy", price)
+                .isEmpty());
+    }
+
+
     /**
      * This private method which's compare two SuitableAdDto.
      *
@@ -0,0 +1,111 @@
+package com.template;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This is a class for testing the class of the
+ * {@link EmailTemplate} and its methods.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+public class EmailTemplateTest {
+
+
+    /**
+     * This is constant with variables of the templates of the tests.
+     */
+    private static final Set<String> VARIABLES = new HashSet<>(
+            Arrays.asList("name", "heading"));
+
+
+    /**
+     * This is a test method that tests that variables are replaced
+     * by their values and the text around them is kept.
+     */
+    @Test
+    public void shouldSubstituteVariables() {
+        EmailTemplate template = new EmailTemplate("test",
+                "Name: ${name}, heading: ${ heading }.", VARIABLES, false);
+
+        Assert.assertEquals("Name: Bike, heading: Sport.",
+                template.render(values("Bike", "Sport")));
+    }
+
+
+    /**
+     * This is a test method that tests that a variable without value
+     * is rendered as empty text.
+     */
+    @Test
+    public void shouldRenderMissingValueAsEmpty() {
+        EmailTemplate template = new EmailTemplate("test",
+                "${name}|${heading}|", VARIABLES, false);
+
+        Assert.assertEquals("Bike||",
+                template.render(values("Bike", null)));
+    }
+
+
+    /**
+     * This is a test method that tests that a template with
+     * unterminated variable is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectUnterminatedVariable() {
+        new EmailTemplate("test", "Name: ${name", VARIABLES, false);
+    }
+
+
+    /**
+     * This is a test method that tests that a template with unknown
+     * variable is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectUnknownVariable() {
+        new EmailTemplate("test", "Name: ${author}", VARIABLES, false);
+    }
+
+
+    /**
+     * This is a test method that tests that values are escaped in
+     * HTML template and are not escaped in plain text template.
+     */
+    @Test
+    public void shouldEscapeValuesOnlyForHtml() {
+        String source = "<p>${name}</p>";
+        Map<String, String> values = values("<b>\"Tom\" & 'Jerry'</b>",
+                null);
+
+        Assert.assertEquals("<p>&lt;b&gt;&quot;Tom&quot; &amp; "
+                        + "&#39;Jerry&#39;&lt;/b&gt;</p>",
+                new EmailTemplate("test", source, VARIABLES, true)
+                        .render(values));
+        Assert.assertEquals("<p><b>\"Tom\" & 'Jerry'</b></p>",
+                new EmailTemplate("test", source, VARIABLES, false)
+                        .render(values));
+    }
+
+
+    /**
+     * This method creates values of variables of the tests.
+     *
+     * @param name    value of name or null.
+     * @param heading value of heading or null.
+     * @return values by name of variable.
+     */
+    private static Map<String, String> values(final String name,
+                                              final String heading) {
+        Map<String, String> values = new HashMap<>();
+        values.put("name", name);
+        values.put("heading", heading);
+        return values;
+    }
+}
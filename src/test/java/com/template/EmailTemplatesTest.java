@@ -0,0 +1,122 @@
+package com.template;
+
+import com.domain.Announcement;
+import com.domain.Heading;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * This is a class for testing the class of the
+ * {@link EmailTemplates} and its methods. Templates of heading 7 and
+ * template announcement-old.html without id of heading are in the
+ * test resources.
+ *
+ * @author Yuriy Bahlay.
+ * @version 1.1.
+ */
+public class EmailTemplatesTest {
+
+
+    /**
+     * This is id of the heading which has own templates.
+     */
+    private static final int HEADING_WITH_TEMPLATES = 7;
+
+
+    /**
+     * This is id of the heading which has no own templates.
+     */
+    private static final int HEADING_WITHOUT_TEMPLATES = 3;
+
+
+    /**
+     * This is number of rendered emails kept by the tests.
+     */
+    private static final int CACHE_SIZE = 10;
+
+
+    /**
+     * This is field {@link EmailTemplates} for testing.
+     */
+    private EmailTemplates emailTemplates;
+
+
+    /**
+     * This is field {@link Announcement} for testing.
+     */
+    private Announcement announcement;
+
+
+    /**
+     * This method loads templates and creates the announcement
+     * before each test.
+     *
+     * @throws IOException if a template can not be read.
+     */
+    @Before
+    public void loadTemplatesBeforeEach() throws IOException {
+        emailTemplates = new EmailTemplates(CACHE_SIZE);
+        announcement = new Announcement("Bike <new>", LocalDate.now(),
+                "Fast & light", new BigDecimal("100.50"));
+        announcement.setId(1);
+        announcement.setHeading(new Heading(HEADING_WITH_TEMPLATES, 0,
+                "Sport"));
+    }
+
+
+    /**
+     * This is a test method that tests that templates of the heading
+     * are used and values are escaped only in the HTML body.
+     */
+    @Test
+    public void shouldRenderTemplatesOfHeading() {
+        RenderedEmail email = emailTemplates.renderNow(announcement);
+
+        Assert.assertTrue(email.getHtml().contains("<h1>Sport</h1>"));
+        Assert.assertTrue(email.getHtml().contains("Bike &lt;new&gt;"));
+        Assert.assertEquals("Sport: Bike <new>", email.getText().trim());
+    }
+
+
+    /**
+     * This is a test method that tests that the default templates are
+     * used for a heading without own templates.
+     */
+    @Test
+    public void shouldFallBackToDefaultTemplates() {
+        announcement.setHeading(new Heading(HEADING_WITHOUT_TEMPLATES, 0,
+                "Cars"));
+
+        RenderedEmail email = emailTemplates.renderNow(announcement);
+
+        Assert.assertTrue(email.getHtml().contains(
+                "revelationText: Fast &amp; light"));
+        Assert.assertTrue(email.getText().contains(
+                "revelationText: Fast & light"));
+        Assert.assertTrue(email.getText().contains("serviceCost: 100.50"));
+        Assert.assertFalse(email.getHtml().contains("Old template"));
+    }
+
+
+    /**
+     * This is a test method that tests that the cached email is
+     * rendered again when its heading is renamed.
+     */
+    @Test
+    public void shouldRenderAgainWhenHeadingIsRenamed() {
+        RenderedEmail first = emailTemplates.render(announcement);
+
+        Assert.assertSame(first, emailTemplates.render(announcement));
+
+        announcement.setHeading(new Heading(HEADING_WITH_TEMPLATES, 1,
+                "Bicycles"));
+        RenderedEmail renamed = emailTemplates.render(announcement);
+
+        Assert.assertTrue(renamed.getHtml().contains("<h1>Bicycles</h1>"));
+    }
+}
@@ -0,0 +1,5 @@
+SET @@foreign_key_checks = 0;
+
+TRUNCATE TABLE email_outbox;
+
+SET @@foreign_key_checks = 1;
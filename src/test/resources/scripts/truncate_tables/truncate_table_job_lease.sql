@@ -0,0 +1,5 @@
+SET @@foreign_key_checks = 0;
+
+TRUNCATE TABLE job_leases;
+
+SET @@foreign_key_checks = 1;
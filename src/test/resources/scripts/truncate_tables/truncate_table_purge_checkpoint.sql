@@ -0,0 +1,5 @@
+SET @@foreign_key_checks = 0;
+
+TRUNCATE TABLE purge_checkpoints;
+
+SET @@foreign_key_checks = 1;